@@ -0,0 +1,289 @@
+package org.delcom.app.configs;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.delcom.app.entities.CashFlow;
+import org.delcom.app.entities.Todo;
+import org.delcom.app.entities.User;
+import org.delcom.app.utils.JsonByteWriter;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+/**
+ * Serializer ApiResponse tanpa refleksi untuk payload Todo, CashFlow, dan
+ * User beserta Map, List, dan nilai sederhana di dalamnya. JSON ditulis
+ * langsung ke output stream response; nama field, status, dan message
+ * disimpan sebagai byte yang sudah di-encode.
+ *
+ * <p>
+ * Payload lain diteruskan ke converter JSON bawaan (delegate). Isi JSON sama
+ * dengan hasil delegate, hanya urutan field objek yang bisa berbeda.
+ */
+public class ApiResponseHttpMessageConverter extends AbstractHttpMessageConverter<ApiResponse<?>> {
+    static final int BUFFER_SIZE = 8 * 1024;
+    static final int BUFFER_POOL_SIZE = 64;
+
+    // Message dinamis (misalnya berisi index) tidak ikut disimpan setelah batas ini
+    static final int MAX_ENCODED_STRINGS = 512;
+
+    private static final byte[] STATUS = "\"status\":".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] MESSAGE = "\"message\":".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] DATA = "\"data\":".getBytes(StandardCharsets.US_ASCII);
+
+    // Awal objek entity beserta field pertamanya
+    private static final byte[] FIELD_ID = "{\"id\":".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] FIELD_USER_ID = ",\"userId\":".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] FIELD_TITLE = ",\"title\":".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] FIELD_DESCRIPTION = ",\"description\":".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] FIELD_FINISHED = ",\"finished\":".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] FIELD_COVER = ",\"cover\":".getBytes(StandardCharsets.US_ASCII);
+
+    private static final byte[] FIELD_TYPE = ",\"type\":".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] FIELD_AMOUNT = ",\"amount\":".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] FIELD_DATE = ",\"date\":".getBytes(StandardCharsets.US_ASCII);
+
+    private static final byte[] FIELD_CREATED_AT = ",\"createdAt\":".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] FIELD_UPDATED_AT = ",\"updatedAt\":".getBytes(StandardCharsets.US_ASCII);
+
+    private final HttpMessageConverter<Object> delegate;
+    private final ArrayBlockingQueue<byte[]> buffers = new ArrayBlockingQueue<>(BUFFER_POOL_SIZE);
+    private final Map<String, byte[]> encodedStrings = new ConcurrentHashMap<>();
+
+    /**
+     * @param delegate converter JSON untuk payload yang tidak dikenal
+     */
+    @SuppressWarnings("unchecked")
+    public ApiResponseHttpMessageConverter(HttpMessageConverter<?> delegate) {
+        super(MediaType.APPLICATION_JSON);
+        this.delegate = (HttpMessageConverter<Object>) delegate;
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return ApiResponse.class == clazz;
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected ApiResponse<?> readInternal(Class<? extends ApiResponse<?>> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("ApiResponse hanya untuk response", inputMessage);
+    }
+
+    @Override
+    protected void writeInternal(ApiResponse<?> response, HttpOutputMessage outputMessage) throws IOException {
+        if (!isSupported(response.getData())) {
+            delegate.write(response, outputMessage.getHeaders().getContentType(), outputMessage);
+            return;
+        }
+
+        byte[] buffer = buffers.poll();
+        if (buffer == null) {
+            buffer = new byte[BUFFER_SIZE];
+        }
+        try {
+            JsonByteWriter writer = new JsonByteWriter(outputMessage.getBody(), buffer);
+            writeResponse(writer, response);
+            writer.flush();
+        } finally {
+            buffers.offer(buffer);
+        }
+    }
+
+    // Field null dilewati sesuai @JsonInclude(NON_NULL) pada ApiResponse
+    private void writeResponse(JsonByteWriter writer, ApiResponse<?> response) throws IOException {
+        char separator = '{';
+        if (response.getStatus() != null) {
+            writer.writeAscii(separator);
+            writer.writeRaw(STATUS);
+            writer.writeRaw(encoded(response.getStatus()));
+            separator = ',';
+        }
+        if (response.getMessage() != null) {
+            writer.writeAscii(separator);
+            writer.writeRaw(MESSAGE);
+            writer.writeRaw(encoded(response.getMessage()));
+            separator = ',';
+        }
+        if (response.getData() != null) {
+            writer.writeAscii(separator);
+            writer.writeRaw(DATA);
+            writeValue(writer, response.getData());
+            separator = ',';
+        }
+        if (separator == '{') {
+            writer.writeAscii('{');
+        }
+        writer.writeAscii('}');
+    }
+
+    private void writeValue(JsonByteWriter writer, Object value) throws IOException {
+        switch (value) {
+            case null -> writer.writeNull();
+            case String text -> writer.writeString(text);
+            case UUID uuid -> writer.writeUuid(uuid);
+            case Boolean bool -> writer.writeBoolean(bool);
+            case Integer number -> writer.writeNumber(number);
+            case Long number -> writer.writeNumber(number);
+            case BigDecimal number -> writer.writeNumber(number);
+            case LocalDateTime dateTime -> writer.writeDateTime(dateTime);
+            case Todo todo -> writeTodo(writer, todo);
+            case CashFlow cashFlow -> writeCashFlow(writer, cashFlow);
+            case User user -> writeUser(writer, user);
+            case Map<?, ?> map -> {
+                char separator = '{';
+                for (Map.Entry<?, ?> entry : map.entrySet()) {
+                    writer.writeAscii(separator);
+                    writer.writeRaw(encoded((String) entry.getKey()));
+                    writer.writeAscii(':');
+                    writeValue(writer, entry.getValue());
+                    separator = ',';
+                }
+                if (separator == '{') {
+                    writer.writeAscii('{');
+                }
+                writer.writeAscii('}');
+            }
+            default -> {
+                // Collection, sudah dipastikan oleh isSupported
+                char separator = '[';
+                for (Object item : (Collection<?>) value) {
+                    writer.writeAscii(separator);
+                    writeValue(writer, item);
+                    separator = ',';
+                }
+                if (separator == '[') {
+                    writer.writeAscii('[');
+                }
+                writer.writeAscii(']');
+            }
+        }
+    }
+
+    private static void writeTodo(JsonByteWriter writer, Todo todo) throws IOException {
+        writer.writeRaw(FIELD_ID);
+        writer.writeUuid(todo.getId());
+        writer.writeRaw(FIELD_USER_ID);
+        writer.writeUuid(todo.getUserId());
+        writer.writeRaw(FIELD_TITLE);
+        writer.writeString(todo.getTitle());
+        writer.writeRaw(FIELD_DESCRIPTION);
+        writer.writeString(todo.getDescription());
+        writer.writeRaw(FIELD_FINISHED);
+        writer.writeBoolean(todo.isFinished());
+        writer.writeRaw(FIELD_COVER);
+        writer.writeString(todo.getCover());
+        writer.writeRaw(FIELD_CREATED_AT);
+        writer.writeDateTime(todo.getCreatedAt());
+        writer.writeRaw(FIELD_UPDATED_AT);
+        writer.writeDateTime(todo.getUpdatedAt());
+        writer.writeAscii('}');
+    }
+
+    private static void writeCashFlow(JsonByteWriter writer, CashFlow cashFlow) throws IOException {
+        writer.writeRaw(FIELD_ID);
+        writer.writeUuid(cashFlow.getId());
+        writer.writeRaw(FIELD_USER_ID);
+        writer.writeUuid(cashFlow.getUserId());
+        writer.writeRaw(FIELD_TYPE);
+        writer.writeString(cashFlow.getType());
+        writer.writeRaw(FIELD_AMOUNT);
+        writer.writeNumber(cashFlow.getAmount());
+        writer.writeRaw(FIELD_DESCRIPTION);
+        writer.writeString(cashFlow.getDescription());
+        writer.writeRaw(FIELD_DATE);
+        writer.writeDateTime(cashFlow.getDate());
+        writer.writeRaw(FIELD_CREATED_AT);
+        writer.writeDateTime(cashFlow.getCreatedAt());
+        writer.writeRaw(FIELD_UPDATED_AT);
+        writer.writeDateTime(cashFlow.getUpdatedAt());
+        writer.writeAscii('}');
+    }
+
+    // User memakai @JsonInclude(NON_NULL); password selalu null karena dicek di isSupported
+    private void writeUser(JsonByteWriter writer, User user) throws IOException {
+        char separator = '{';
+        separator = writeUserField(writer, separator, "id", user.getId());
+        separator = writeUserField(writer, separator, "name", user.getName());
+        separator = writeUserField(writer, separator, "email", user.getEmail());
+        separator = writeUserField(writer, separator, "createdAt", user.getCreatedAt());
+        separator = writeUserField(writer, separator, "updatedAt", user.getUpdatedAt());
+        if (separator == '{') {
+            writer.writeAscii('{');
+        }
+        writer.writeAscii('}');
+    }
+
+    private char writeUserField(JsonByteWriter writer, char separator, String name, Object value) throws IOException {
+        if (value == null) {
+            return separator;
+        }
+        writer.writeAscii(separator);
+        writer.writeRaw(encoded(name));
+        writer.writeAscii(':');
+        writeValue(writer, value);
+        return ',';
+    }
+
+    /**
+     * Cek apakah seluruh isi data bisa ditulis tanpa delegate
+     */
+    static boolean isSupported(Object value) {
+        return switch (value) {
+            case null -> true;
+            case String _, UUID _, Boolean _, Integer _, Long _, BigDecimal _, LocalDateTime _ -> true;
+            // Subclass entity (misalnya proxy Hibernate) diserahkan ke delegate
+            case Todo todo -> todo.getClass() == Todo.class;
+            case CashFlow cashFlow -> cashFlow.getClass() == CashFlow.class;
+            // Password tidak pernah ditulis oleh converter ini
+            case User user -> user.getClass() == User.class && user.getPassword() == null;
+            case Map<?, ?> map -> isSupportedMap(map);
+            case Collection<?> collection -> isSupportedCollection(collection);
+            default -> false;
+        };
+    }
+
+    private static boolean isSupportedMap(Map<?, ?> map) {
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            if (!(entry.getKey() instanceof String) || !isSupported(entry.getValue())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isSupportedCollection(Collection<?> collection) {
+        for (Object item : collection) {
+            if (!isSupported(item)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private byte[] encoded(String value) throws IOException {
+        byte[] bytes = encodedStrings.get(value);
+        if (bytes == null) {
+            bytes = JsonByteWriter.encodeString(value);
+            if (encodedStrings.size() < MAX_ENCODED_STRINGS) {
+                encodedStrings.put(value, bytes);
+            }
+        }
+        return bytes;
+    }
+}
@@ -0,0 +1,17 @@
+package org.delcom.app.configs;
+
+import org.delcom.app.utils.JwtUtil;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Memasang secret JWT dari konfigurasi saat aplikasi dimulai. Aplikasi gagal
+ * start jika app.jwt.secret tidak diisi atau terlalu pendek.
+ */
+@Configuration
+public class JwtConfig {
+
+    public JwtConfig(@Value("${app.jwt.secret}") String secret) {
+        JwtUtil.configure(secret);
+    }
+}
@@ -0,0 +1,66 @@
+package org.delcom.app.configs;
+
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Membuat index GIN pg_trgm untuk pencarian ILIKE '%keyword%' pada todo dan
+ * cash flow. Index ini tidak bisa dideklarasikan lewat anotasi JPA sehingga
+ * dibuat saat aplikasi siap. Jika gagal (misalnya user database tidak boleh
+ * membuat extension), pencarian tetap berjalan tanpa index.
+ *
+ * <p>
+ * Index dibuat dengan CONCURRENTLY agar insert/update/delete tetap berjalan
+ * selama pembuatan index pada tabel besar. Perintah ini tidak boleh berada di
+ * dalam transaksi, sehingga dijalankan lewat JdbcTemplate (autocommit).
+ */
+@Component
+public class SearchIndexInitializer {
+    private static final Logger logger = LoggerFactory.getLogger(SearchIndexInitializer.class);
+
+    static final List<String> STATEMENTS = List.of(
+            "CREATE EXTENSION IF NOT EXISTS pg_trgm",
+            "CREATE INDEX CONCURRENTLY IF NOT EXISTS ix_todos_title_trgm ON todos USING gin (title gin_trgm_ops)",
+            "CREATE INDEX CONCURRENTLY IF NOT EXISTS ix_todos_description_trgm ON todos "
+                    + "USING gin (description gin_trgm_ops)",
+            "CREATE INDEX CONCURRENTLY IF NOT EXISTS ix_cash_flows_description_trgm ON cash_flows "
+                    + "USING gin (description gin_trgm_ops)",
+            "CREATE INDEX CONCURRENTLY IF NOT EXISTS ix_cash_flows_type_trgm ON cash_flows "
+                    + "USING gin (type gin_trgm_ops)");
+
+    // Pembuatan CONCURRENTLY yang gagal meninggalkan index INVALID yang akan dilewati oleh IF NOT EXISTS
+    static final String INVALID_INDEXES_QUERY = "SELECT c.relname FROM pg_index i "
+            + "JOIN pg_class c ON c.oid = i.indexrelid WHERE NOT i.indisvalid AND c.relname IN "
+            + "('ix_todos_title_trgm', 'ix_todos_description_trgm', 'ix_cash_flows_description_trgm', "
+            + "'ix_cash_flows_type_trgm')";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public SearchIndexInitializer(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void createIndexes() {
+        try {
+            for (String invalidIndex : jdbcTemplate.queryForList(INVALID_INDEXES_QUERY, String.class)) {
+                logger.warn("Index pencarian {} tidak valid, dibuat ulang", invalidIndex);
+                jdbcTemplate.execute("DROP INDEX CONCURRENTLY IF EXISTS " + invalidIndex);
+            }
+            for (String statement : STATEMENTS) {
+                jdbcTemplate.execute(statement);
+            }
+        } catch (DataAccessException e) {
+            logger.warn("Gagal membuat index pencarian, pencarian berjalan tanpa index: {}", e.getMessage());
+            return;
+        }
+        logger.info("Index pencarian pg_trgm siap");
+    }
+}
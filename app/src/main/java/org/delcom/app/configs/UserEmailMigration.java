@@ -0,0 +1,61 @@
+package org.delcom.app.configs;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Menormalisasi email user yang tersimpan sebelum email disimpan dalam huruf
+ * kecil, lalu membuat unique index pada lower(email) sehingga email yang hanya
+ * berbeda huruf besar/kecil tidak bisa terdaftar dua kali, termasuk lewat
+ * instance versi lama. Pencarian user berdasarkan email memakai index ini.
+ *
+ * <p>
+ * Jika ada beberapa akun dengan email yang sama tanpa membedakan huruf
+ * besar/kecil, akun paling lama tetap memakai email tersebut. Email akun lain
+ * diberi akhiran ".duplikat-{id}" sehingga tidak bisa dipakai login sampai
+ * diperbaiki secara manual.
+ */
+@Component
+public class UserEmailMigration {
+    private static final Logger logger = LoggerFactory.getLogger(UserEmailMigration.class);
+
+    static final String INDEX_EXISTS_QUERY = "SELECT EXISTS (SELECT 1 FROM pg_indexes "
+            + "WHERE tablename = 'users' AND indexname = 'ux_users_email_lower')";
+
+    static final String RENAME_DUPLICATES = "UPDATE users u SET email = lower(trim(u.email)) || '.duplikat-' || u.id "
+            + "WHERE EXISTS (SELECT 1 FROM users o WHERE lower(trim(o.email)) = lower(trim(u.email)) "
+            + "AND (o.created_at, o.id) < (u.created_at, u.id))";
+
+    static final String NORMALIZE_EMAILS = "UPDATE users SET email = lower(trim(email)) "
+            + "WHERE email <> lower(trim(email))";
+
+    static final String CREATE_INDEX = "CREATE UNIQUE INDEX IF NOT EXISTS ux_users_email_lower ON users (lower(email))";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public UserEmailMigration(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void migrate() {
+        if (Boolean.TRUE.equals(jdbcTemplate.queryForObject(INDEX_EXISTS_QUERY, Boolean.class))) {
+            return;
+        }
+
+        int duplicates = jdbcTemplate.update(RENAME_DUPLICATES);
+        if (duplicates > 0) {
+            logger.warn("{} akun memakai email yang sama dengan akun lain (beda huruf besar/kecil), "
+                    + "email akun tersebut diberi akhiran .duplikat-<id>", duplicates);
+        }
+        int normalized = jdbcTemplate.update(NORMALIZE_EMAILS);
+        jdbcTemplate.execute(CREATE_INDEX);
+        logger.info("Email {} user dinormalisasi, unique index ux_users_email_lower siap", normalized);
+    }
+}
@@ -0,0 +1,55 @@
+package org.delcom.app.configs;
+
+import java.util.List;
+
+import org.delcom.app.interceptors.AuthInterceptor;
+import org.delcom.app.interceptors.DbConcurrencyInterceptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class WebMvcConfig implements WebMvcConfigurer {
+
+    @Autowired
+    private AuthInterceptor authInterceptor;
+
+    @Autowired
+    private DbConcurrencyInterceptor dbConcurrencyInterceptor;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        // Didaftarkan lebih dulu karena validasi token juga melakukan query ke database.
+        // Endpoint yang menunggu hashing BCrypt (sudah dibatasi pool PasswordHashService)
+        // dan export yang streaming lama tidak memakai slot agar tidak menahan request lain
+        registry.addInterceptor(dbConcurrencyInterceptor)
+                .addPathPatterns("/api/**")
+                .excludePathPatterns("/api/auth/**")
+                .excludePathPatterns("/api/users/me/password")
+                .excludePathPatterns("/api/cashflows/export");
+
+        registry.addInterceptor(authInterceptor)
+                .addPathPatterns("/api/**") // Terapkan ke semua endpoint /api
+                .excludePathPatterns("/api/auth/**") // Kecuali endpoint auth
+                .excludePathPatterns("/api/public/**"); // Dan endpoint public
+    }
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        // Converter JSON bawaan tetap dipakai untuk payload ApiResponse yang tidak dikenal
+        HttpMessageConverter<?> jsonConverter = null;
+        for (HttpMessageConverter<?> converter : converters) {
+            if (converter.canWrite(ApiResponse.class, MediaType.APPLICATION_JSON)) {
+                jsonConverter = converter;
+                break;
+            }
+        }
+        if (jsonConverter != null) {
+            // Paling depan agar dipilih sebelum converter JSON bawaan
+            converters.add(0, new ApiResponseHttpMessageConverter(jsonConverter));
+        }
+    }
+}
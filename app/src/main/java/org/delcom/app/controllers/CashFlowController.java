@@ -0,0 +1,392 @@
+package org.delcom.app.controllers;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.delcom.app.configs.ApiResponse;
+import org.delcom.app.configs.AuthContext;
+import org.delcom.app.entities.CashFlow;
+import org.delcom.app.entities.CashFlowBucket;
+import org.delcom.app.entities.CashFlowSummary;
+import org.delcom.app.entities.User;
+import org.delcom.app.services.CashFlowService;
+import org.delcom.app.utils.CursorPage;
+import org.delcom.app.utils.ExportUtil;
+import org.delcom.app.utils.MoneyUtil;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.bind.annotation.PutMapping;
+
+import jakarta.servlet.http.HttpServletResponse;
+
+@RestController
+@RequestMapping("/api/cashflows")
+public class CashFlowController {
+    public static final int MAX_BULK_SIZE = 10_000;
+    public static final List<String> ANALYTICS_INTERVALS = List.of("day", "week", "month");
+
+    private final CashFlowService cashFlowService;
+
+    @Autowired
+    protected AuthContext authContext;
+
+    public CashFlowController(CashFlowService cashFlowService) {
+        this.cashFlowService = cashFlowService;
+    }
+
+    /**
+     * Validasi data cash flow dari request
+     *
+     * @return pesan kesalahan, atau null jika data valid
+     */
+    static String validateCashFlow(CashFlow reqCashFlow) {
+        if (reqCashFlow == null) {
+            return "Data cash flow tidak valid";
+        } else if (reqCashFlow.getType() == null || reqCashFlow.getType().isEmpty()) {
+            return "Data type tidak valid";
+        } else if (!reqCashFlow.getType().equals("INCOME") && !reqCashFlow.getType().equals("EXPENSE")) {
+            return "Data type harus INCOME atau EXPENSE";
+        } else if (!MoneyUtil.isValidAmount(reqCashFlow.getAmount())) {
+            return "Data amount tidak valid";
+        } else if (reqCashFlow.getDescription() == null || reqCashFlow.getDescription().isEmpty()) {
+            return "Data description tidak valid";
+        } else if (reqCashFlow.getDate() == null) {
+            return "Data date tidak valid";
+        }
+        return null;
+    }
+
+    // Menambahkan cash flow baru
+    // -------------------------------
+    @PostMapping
+    public ResponseEntity<ApiResponse<Map<String, UUID>>> createCashFlow(@RequestBody CashFlow reqCashFlow) {
+
+        String validationError = validateCashFlow(reqCashFlow);
+        if (validationError != null) {
+            return ResponseEntity.badRequest().body(new ApiResponse<>("fail", validationError, null));
+        }
+
+        // Validasi autentikasi
+        if (!authContext.isAuthenticated()) {
+            return ResponseEntity.status(403).body(new ApiResponse<>("fail", "User tidak terautentikasi", null));
+        }
+        User authUser = authContext.getAuthUser();
+
+        CashFlow newCashFlow = cashFlowService.createCashFlow(authUser.getId(), reqCashFlow.getType(), 
+                reqCashFlow.getAmount(), reqCashFlow.getDescription(), reqCashFlow.getDate());
+        return ResponseEntity.ok(new ApiResponse<Map<String, UUID>>(
+                "success",
+                "Cash flow berhasil dibuat",
+                Map.of("id", newCashFlow.getId())));
+    }
+
+    // Menambahkan banyak cash flow sekaligus
+    // -------------------------------
+    @PostMapping("/bulk")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> createCashFlows(@RequestBody List<CashFlow> reqCashFlows) {
+        if (reqCashFlows == null || reqCashFlows.isEmpty()) {
+            return ResponseEntity.badRequest().body(new ApiResponse<>("fail", "Data cash flow tidak boleh kosong", null));
+        } else if (reqCashFlows.size() > MAX_BULK_SIZE) {
+            return ResponseEntity.badRequest().body(new ApiResponse<>("fail",
+                    "Maksimal " + MAX_BULK_SIZE + " cash flow per request", null));
+        }
+
+        // Validasi autentikasi
+        if (!authContext.isAuthenticated()) {
+            return ResponseEntity.status(403).body(new ApiResponse<>("fail", "User tidak terautentikasi", null));
+        }
+        User authUser = authContext.getAuthUser();
+
+        // Baris yang tidak valid dilaporkan per index, baris lainnya tetap disimpan
+        List<CashFlow> validCashFlows = new ArrayList<>(reqCashFlows.size());
+        List<Map<String, Object>> failures = new ArrayList<>();
+        for (int i = 0; i < reqCashFlows.size(); i++) {
+            CashFlow reqCashFlow = reqCashFlows.get(i);
+            String validationError = validateCashFlow(reqCashFlow);
+            if (validationError != null) {
+                failures.add(Map.of("index", i, "message", validationError));
+            } else {
+                validCashFlows.add(reqCashFlow);
+            }
+        }
+
+        int inserted;
+        try {
+            inserted = validCashFlows.isEmpty() ? 0
+                    : cashFlowService.createCashFlows(authUser.getId(), validCashFlows);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(new ApiResponse<>("fail", e.getMessage(), null));
+        }
+
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("inserted", inserted);
+        data.put("failed", failures);
+        if (inserted == 0) {
+            return ResponseEntity.badRequest().body(new ApiResponse<>("fail", "Tidak ada cash flow yang valid", data));
+        }
+        return ResponseEntity.ok(new ApiResponse<>(
+                "success",
+                "Cash flow berhasil dibuat",
+                data));
+    }
+
+    // Mendapatkan semua cash flow dengan opsi pencarian
+    // -------------------------------
+    @GetMapping
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getAllCashFlows(
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) String type,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false, defaultValue = "desc") String sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        // Validasi autentikasi
+        if (!authContext.isAuthenticated()) {
+            return ResponseEntity.status(403).body(new ApiResponse<>("fail", "User tidak terautentikasi", null));
+        }
+        User authUser = authContext.getAuthUser();
+
+        if (type != null && !type.equals("INCOME") && !type.equals("EXPENSE")) {
+            return ResponseEntity.badRequest().body(new ApiResponse<>("fail", "Data type harus INCOME atau EXPENSE", null));
+        } else if (!sort.equals("asc") && !sort.equals("desc")) {
+            return ResponseEntity.badRequest().body(new ApiResponse<>("fail", "Data sort harus asc atau desc", null));
+        } else if (from != null && to != null && from.isAfter(to)) {
+            return ResponseEntity.badRequest().body(new ApiResponse<>("fail", "Data from tidak boleh setelah to", null));
+        }
+
+        // Data diambil per halaman dengan cursor. Hasil pencarian diurutkan berdasarkan
+        // relevansi sehingga filter type, from, to, dan sort tidak dipakai.
+        boolean searching = search != null && !search.trim().isEmpty();
+        CursorPage<CashFlow> page;
+        try {
+            page = searching
+                    ? cashFlowService.searchCashFlows(authUser.getId(), search, cursor, limit)
+                    : cashFlowService.getCashFlowsPage(authUser.getId(), type, from, to, sort.equals("asc"),
+                            cursor, limit);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(new ApiResponse<>("fail", "Data cursor tidak valid", null));
+        }
+
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("cashflows", page.items());
+        if (page.nextCursor() != null) {
+            data.put("nextCursor", page.nextCursor());
+        }
+        return ResponseEntity.ok(new ApiResponse<>(
+                "success",
+                "Daftar cash flow berhasil diambil",
+                data));
+    }
+
+    // Mendapatkan ringkasan cash flow (total dan per bulan)
+    // -------------------------------
+    @GetMapping("/summary")
+    public ResponseEntity<ApiResponse<CashFlowSummary>> getSummary(
+            @RequestParam(required = false) YearMonth from,
+            @RequestParam(required = false) YearMonth to) {
+        // Validasi autentikasi
+        if (!authContext.isAuthenticated()) {
+            return ResponseEntity.status(403).body(new ApiResponse<>("fail", "User tidak terautentikasi", null));
+        }
+        User authUser = authContext.getAuthUser();
+
+        if (from != null && to != null && from.isAfter(to)) {
+            return ResponseEntity.badRequest().body(new ApiResponse<>("fail", "Data from tidak boleh setelah to", null));
+        }
+
+        CashFlowSummary summary = cashFlowService.getSummary(authUser.getId(), from, to);
+        return ResponseEntity.ok(new ApiResponse<>(
+                "success",
+                "Ringkasan cash flow berhasil diambil",
+                summary));
+    }
+
+    // Mendapatkan total pemasukan dan pengeluaran per hari/minggu/bulan
+    // -------------------------------
+    @GetMapping("/analytics")
+    public ResponseEntity<ApiResponse<Map<String, List<CashFlowBucket>>>> getAnalytics(
+            @RequestParam(required = false, defaultValue = "month") String interval,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        // Validasi autentikasi
+        if (!authContext.isAuthenticated()) {
+            return ResponseEntity.status(403).body(new ApiResponse<>("fail", "User tidak terautentikasi", null));
+        }
+        User authUser = authContext.getAuthUser();
+
+        if (!ANALYTICS_INTERVALS.contains(interval)) {
+            return ResponseEntity.badRequest().body(new ApiResponse<>("fail", "Data interval harus day, week, atau month", null));
+        } else if (!from.isBefore(to)) {
+            return ResponseEntity.badRequest().body(new ApiResponse<>("fail", "Data from harus sebelum to", null));
+        }
+
+        List<CashFlowBucket> buckets = cashFlowService.getAnalytics(authUser.getId(), interval, from, to);
+        return ResponseEntity.ok(new ApiResponse<>(
+                "success",
+                "Analitik cash flow berhasil diambil",
+                Map.of("buckets", buckets)));
+    }
+
+    // Export seluruh cash flow dalam format NDJSON atau CSV
+    // -------------------------------
+    @GetMapping("/export")
+    // Seluruh response (termasuk pesan kesalahan) ditulis langsung ke HttpServletResponse
+    public void exportCashFlows(
+            @RequestParam(required = false, defaultValue = "ndjson") String format,
+            HttpServletResponse response) throws IOException {
+        // Validasi autentikasi
+        if (!authContext.isAuthenticated()) {
+            sendErrorResponse(response, 403, "User tidak terautentikasi");
+            return;
+        }
+        User authUser = authContext.getAuthUser();
+
+        boolean csv = format.equals("csv");
+        if (!csv && !format.equals("ndjson")) {
+            sendErrorResponse(response, 400, "Data format harus ndjson atau csv");
+            return;
+        }
+
+        // Data ditulis langsung ke response baris per baris, tanpa ApiResponse
+        if (csv) {
+            response.setContentType("text/csv");
+            response.setHeader("Content-Disposition", "attachment; filename=\"cashflows.csv\"");
+        } else {
+            response.setContentType("application/x-ndjson");
+        }
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+
+        Writer writer = new BufferedWriter(new OutputStreamWriter(response.getOutputStream(), StandardCharsets.UTF_8));
+        if (csv) {
+            writer.write("id,type,amount,description,date,createdAt,updatedAt\n");
+        }
+        try {
+            cashFlowService.exportCashFlows(authUser.getId(), cashFlow -> {
+                try {
+                    writer.write(csv ? toCsvLine(cashFlow) : toNdjsonLine(cashFlow));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        writer.flush();
+    }
+
+    private static void sendErrorResponse(HttpServletResponse response, int status, String message)
+            throws IOException {
+        response.setStatus(status);
+        response.setContentType("application/json");
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.getWriter().write("{\"status\":\"fail\",\"message\":" + ExportUtil.jsonString(message) + "}");
+    }
+
+    private static String toNdjsonLine(CashFlow cashFlow) {
+        return "{\"id\":\"" + cashFlow.getId()
+                + "\",\"type\":" + ExportUtil.jsonString(cashFlow.getType())
+                + ",\"amount\":" + cashFlow.getAmount().toPlainString()
+                + ",\"description\":" + ExportUtil.jsonString(cashFlow.getDescription())
+                + ",\"date\":\"" + cashFlow.getDate()
+                + "\",\"createdAt\":\"" + cashFlow.getCreatedAt()
+                + "\",\"updatedAt\":\"" + cashFlow.getUpdatedAt() + "\"}\n";
+    }
+
+    private static String toCsvLine(CashFlow cashFlow) {
+        return cashFlow.getId()
+                + "," + ExportUtil.csvField(cashFlow.getType())
+                + "," + cashFlow.getAmount().toPlainString()
+                + "," + ExportUtil.csvField(cashFlow.getDescription())
+                + "," + cashFlow.getDate()
+                + "," + cashFlow.getCreatedAt()
+                + "," + cashFlow.getUpdatedAt() + "\n";
+    }
+
+    // Mendapatkan cash flow berdasarkan ID
+    // -------------------------------
+    @GetMapping("/{id}")
+    public ResponseEntity<ApiResponse<Map<String, CashFlow>>> getCashFlowById(@PathVariable UUID id) {
+        // Validasi autentikasi
+        if (!authContext.isAuthenticated()) {
+            return ResponseEntity.status(403).body(new ApiResponse<>("fail", "User tidak terautentikasi", null));
+        }
+        User authUser = authContext.getAuthUser();
+
+        CashFlow cashFlow = cashFlowService.getCashFlowById(authUser.getId(), id);
+        if (cashFlow == null) {
+            return ResponseEntity.status(404).body(new ApiResponse<>("fail", "Data cash flow tidak ditemukan", null));
+        }
+
+        return ResponseEntity.ok(new ApiResponse<>(
+                "success",
+                "Data cash flow berhasil diambil",
+                Map.of("cashflow", cashFlow)));
+    }
+
+    // Memperbarui cash flow berdasarkan ID
+    // -------------------------------
+    @PutMapping("/{id}")
+    public ResponseEntity<ApiResponse<CashFlow>> updateCashFlow(@PathVariable UUID id, @RequestBody CashFlow reqCashFlow) {
+
+        String validationError = validateCashFlow(reqCashFlow);
+        if (validationError != null) {
+            return ResponseEntity.badRequest().body(new ApiResponse<>("fail", validationError, null));
+        }
+
+        // Validasi autentikasi
+        if (!authContext.isAuthenticated()) {
+            return ResponseEntity.status(403).body(new ApiResponse<>("fail", "User tidak terautentikasi", null));
+        }
+        User authUser = authContext.getAuthUser();
+
+        boolean status = cashFlowService.updateCashFlow(authUser.getId(), id, reqCashFlow.getType(),
+                reqCashFlow.getAmount(), reqCashFlow.getDescription(), reqCashFlow.getDate());
+        if (!status) {
+            return ResponseEntity.status(404).body(new ApiResponse<>("fail", "Data cash flow tidak ditemukan", null));
+        }
+
+        return ResponseEntity.ok(new ApiResponse<>("success", "Data cash flow berhasil diperbarui", null));
+    }
+
+    // Menghapus cash flow berdasarkan ID
+    // -------------------------------
+    @DeleteMapping("/{id}")
+    public ResponseEntity<ApiResponse<String>> deleteCashFlow(@PathVariable UUID id) {
+        // Validasi autentikasi
+        if (!authContext.isAuthenticated()) {
+            return ResponseEntity.status(403).body(new ApiResponse<>("fail", "User tidak terautentikasi", null));
+        }
+        User authUser = authContext.getAuthUser();
+
+        boolean status = cashFlowService.deleteCashFlow(authUser.getId(), id);
+        if (!status) {
+            return ResponseEntity.status(404).body(new ApiResponse<>("fail", "Data cash flow tidak ditemukan", null));
+        }
+
+        return ResponseEntity.ok(new ApiResponse<>(
+                "success",
+                "Data cash flow berhasil dihapus",
+                null));
+    }
+}
\ No newline at end of file
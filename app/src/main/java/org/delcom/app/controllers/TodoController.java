@@ -1,14 +1,17 @@
 package org.delcom.app.controllers;
 
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
 import org.delcom.app.configs.ApiResponse;
 import org.delcom.app.configs.AuthContext;
+import org.delcom.app.dto.TodoBatchOperation;
 import org.delcom.app.entities.Todo;
 import org.delcom.app.entities.User;
 import org.delcom.app.services.TodoService;
+import org.delcom.app.utils.CursorPage;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -24,6 +27,8 @@ import org.springframework.web.bind.annotation.PutMapping;
 @RestController
 @RequestMapping("/api/todos")
 public class TodoController {
+    public static final int MAX_BATCH_SIZE = 1000;
+
     private final TodoService todoService;
 
     @Autowired
@@ -57,22 +62,100 @@ public class TodoController {
                 Map.of("id", newTodo.getId())));
     }
 
+    // Menerapkan banyak operasi create/update/delete sekaligus
+    // -------------------------------
+    @PostMapping("/batch")
+    public ResponseEntity<ApiResponse<TodoBatchOperation.Result>> applyBatch(
+            @RequestBody List<TodoBatchOperation> operations) {
+        if (operations == null || operations.isEmpty()) {
+            return ResponseEntity.badRequest().body(new ApiResponse<>("fail", "Data operasi tidak boleh kosong", null));
+        } else if (operations.size() > MAX_BATCH_SIZE) {
+            return ResponseEntity.badRequest().body(new ApiResponse<>("fail",
+                    "Maksimal " + MAX_BATCH_SIZE + " operasi per request", null));
+        }
+
+        // Semua operasi harus valid karena batch dijalankan dalam satu transaksi
+        for (int i = 0; i < operations.size(); i++) {
+            String validationError = validateOperation(operations.get(i));
+            if (validationError != null) {
+                return ResponseEntity.badRequest().body(new ApiResponse<>("fail",
+                        "Operasi ke-" + i + ": " + validationError, null));
+            }
+        }
+
+        // Validasi autentikasi
+        if (!authContext.isAuthenticated()) {
+            return ResponseEntity.status(403).body(new ApiResponse<>("fail", "User tidak terautentikasi", null));
+        }
+        User authUser = authContext.getAuthUser();
+
+        TodoBatchOperation.Result result = todoService.applyBatch(authUser.getId(), operations);
+        return ResponseEntity.ok(new ApiResponse<>(
+                "success",
+                "Batch todo berhasil diterapkan",
+                result));
+    }
+
+    private static String validateOperation(TodoBatchOperation operation) {
+        if (operation == null || operation.op() == null) {
+            return "Data op tidak valid";
+        }
+        switch (operation.op()) {
+            case TodoBatchOperation.CREATE, TodoBatchOperation.UPDATE -> {
+                boolean update = operation.op().equals(TodoBatchOperation.UPDATE);
+                if (update && operation.id() == null) {
+                    return "Data id tidak valid";
+                } else if (operation.title() == null || operation.title().isEmpty()) {
+                    return "Data title tidak valid";
+                } else if (operation.description() == null || operation.description().isEmpty()) {
+                    return "Data description tidak valid";
+                } else if (update && operation.finished() == null) {
+                    return "Data finished tidak valid";
+                }
+                return null;
+            }
+            case TodoBatchOperation.DELETE -> {
+                return operation.id() == null ? "Data id tidak valid" : null;
+            }
+            default -> {
+                return "Data op harus create, update, atau delete";
+            }
+        }
+    }
+
     // Mendapatkan semua todo dengan opsi pencarian
     // -------------------------------
     @GetMapping
-    public ResponseEntity<ApiResponse<Map<String, List<Todo>>>> getAllTodos(
-            @RequestParam(required = false) String search) {
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getAllTodos(
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
         // Validasi autentikasi
         if (!authContext.isAuthenticated()) {
             return ResponseEntity.status(403).body(new ApiResponse<>("fail", "User tidak terautentikasi", null));
         }
         User authUser = authContext.getAuthUser();
 
-        List<Todo> todos = todoService.getAllTodos(authUser.getId(), search);
+        // Data diambil per halaman dengan cursor, hasil pencarian diurutkan berdasarkan relevansi
+        boolean searching = search != null && !search.trim().isEmpty();
+        CursorPage<Todo> page;
+        try {
+            page = searching
+                    ? todoService.searchTodos(authUser.getId(), search, cursor, limit)
+                    : todoService.getTodosPage(authUser.getId(), cursor, limit);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(new ApiResponse<>("fail", "Data cursor tidak valid", null));
+        }
+
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("todos", page.items());
+        if (page.nextCursor() != null) {
+            data.put("nextCursor", page.nextCursor());
+        }
         return ResponseEntity.ok(new ApiResponse<>(
                 "success",
                 "Daftar todo berhasil diambil",
-                Map.of("todos", todos)));
+                data));
     }
 
     // Mendapatkan todo berdasarkan ID
@@ -115,9 +198,9 @@ public class TodoController {
         }
         User authUser = authContext.getAuthUser();
 
-        Todo updatedTodo = todoService.updateTodo(authUser.getId(), id, reqTodo.getTitle(), reqTodo.getDescription(),
+        boolean status = todoService.updateTodo(authUser.getId(), id, reqTodo.getTitle(), reqTodo.getDescription(),
                 reqTodo.isFinished());
-        if (updatedTodo == null) {
+        if (!status) {
             return ResponseEntity.status(404).body(new ApiResponse<>("fail", "Data todo tidak ditemukan", null));
         }
 
@@ -2,17 +2,19 @@ package org.delcom.app.controllers;
 
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.RejectedExecutionException;
 
 import org.delcom.app.configs.ApiResponse;
 import org.delcom.app.configs.AuthContext;
 import org.delcom.app.entities.AuthToken;
 import org.delcom.app.entities.User;
 import org.delcom.app.services.AuthTokenService;
+import org.delcom.app.services.PasswordHashService;
 import org.delcom.app.services.UserService;
 import org.delcom.app.utils.JwtUtil;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.web.bind.annotation.*;
 
 @RestController
@@ -20,10 +22,13 @@ import org.springframework.web.bind.annotation.*;
 public class UserController {
     private final UserService userService;
     private final AuthTokenService authTokenService;
+    private final PasswordHashService passwordHashService;
 
-    public UserController(UserService userService, AuthTokenService authTokenService) {
+    public UserController(UserService userService, AuthTokenService authTokenService,
+            PasswordHashService passwordHashService) {
         this.userService = userService;
         this.authTokenService = authTokenService;
+        this.passwordHashService = passwordHashService;
     }
 
     @Autowired
@@ -41,21 +46,26 @@ public class UserController {
             return ResponseEntity.badRequest().body(new ApiResponse<>("fail", "Data password tidak valid", null));
         }
 
-        // Cek apakah email sudah terdaftar
-        User existingUser = userService.getUserByEmail(reqUser.getEmail());
-        if (existingUser != null) {
+        String hashPassword;
+        try {
+            hashPassword = passwordHashService.encode(reqUser.getPassword());
+        } catch (RejectedExecutionException e) {
+            return tooManyRequests();
+        }
+
+        // Unique index pada email menolak pendaftaran ganda dalam satu INSERT
+        User createdUser;
+        try {
+            createdUser = userService.createUser(
+                    reqUser.getName(),
+                    reqUser.getEmail(),
+                    hashPassword);
+        } catch (DataIntegrityViolationException e) {
             return ResponseEntity.badRequest()
                     .body(new ApiResponse<>("fail", "Pengguna sudah terdaftar dengan email ini",
                             null));
         }
 
-        String hashPassword = new BCryptPasswordEncoder().encode(reqUser.getPassword());
-
-        User createdUser = userService.createUser(
-                reqUser.getName(),
-                reqUser.getEmail(),
-                hashPassword);
-
         return ResponseEntity.ok().body(new ApiResponse<>(
                 "success",
                 "Berhasil melakukan pendaftaran",
@@ -74,25 +84,38 @@ public class UserController {
 
         User existingUser = userService.getUserByEmail(reqUser.getEmail());
         if (existingUser == null) {
+            // Tetap lakukan hashing agar waktu respons tidak membocorkan email yang terdaftar
+            try {
+                passwordHashService.matchesDummy(reqUser.getPassword());
+            } catch (RejectedExecutionException e) {
+                return tooManyRequests();
+            }
             return ResponseEntity.badRequest().body(new ApiResponse<>("fail", "Email atau password salah", null));
         }
 
-        boolean isPasswordMatch = new BCryptPasswordEncoder()
-                .matches(reqUser.getPassword(), existingUser.getPassword());
+        boolean isPasswordMatch;
+        try {
+            isPasswordMatch = passwordHashService.matches(reqUser.getPassword(), existingUser.getPassword());
+        } catch (RejectedExecutionException e) {
+            return tooManyRequests();
+        }
         if (!isPasswordMatch) {
             return ResponseEntity.badRequest().body(new ApiResponse<>("fail", "Email atau password salah", null));
         }
 
-        String jwtToken = JwtUtil.generateToken(existingUser.getId());
-
-        // Hapus token lama jika ada
-        AuthToken existingAuthToken = authTokenService.findUserToken(existingUser.getId(), jwtToken);
-        if (existingAuthToken != null) {
-            authTokenService.deleteAuthToken(existingUser.getId());
+        // Perbarui hash jika work factor BCrypt sudah dinaikkan
+        if (passwordHashService.needsUpgrade(existingUser.getPassword())) {
+            try {
+                userService.updatePassword(existingUser.getId(), passwordHashService.encode(reqUser.getPassword()));
+            } catch (RejectedExecutionException e) {
+                // Dicoba lagi pada login berikutnya
+            }
         }
 
+        String jwtToken = JwtUtil.generateToken(existingUser.getId());
+
         AuthToken authToken = new AuthToken(existingUser.getId(), jwtToken);
-        var createdAuthToken = authTokenService.createAuthToken(authToken);
+        AuthToken createdAuthToken = authTokenService.createAuthToken(authToken);
         if (createdAuthToken == null) {
             return ResponseEntity.status(500).body(new ApiResponse<>("error", "Gagal membuat token autentikasi", null));
         }
@@ -135,15 +158,24 @@ public class UserController {
             return ResponseEntity.badRequest().body(new ApiResponse<>("fail", "Data email tidak valid", null));
         }
 
-        User updatedUser = userService.updateUser(
-                authUser.getId(),
-                reqUser.getName(),
-                reqUser.getEmail());
+        User updatedUser;
+        try {
+            updatedUser = userService.updateUser(
+                    authUser.getId(),
+                    reqUser.getName(),
+                    reqUser.getEmail());
+        } catch (DataIntegrityViolationException e) {
+            return ResponseEntity.badRequest()
+                    .body(new ApiResponse<>("fail", "Pengguna sudah terdaftar dengan email ini", null));
+        }
         if (updatedUser == null) {
             ApiResponse<User> response = new ApiResponse<>("fail", "User tidak ditemukan", null);
             return ResponseEntity.status(404).body(response);
         }
 
+        // Data principal yang di-cache sudah tidak sesuai
+        authTokenService.evictAuthPrincipal(authUser.getId());
+
         ApiResponse<User> response = new ApiResponse<>("success", "User berhasil diupdate", null);
         return ResponseEntity.ok(response);
     }
@@ -170,15 +202,20 @@ public class UserController {
                     .body(new ApiResponse<>("fail", "Password lama dan baru wajib diisi", null));
         }
 
-        // Validasi password lama
-        boolean isPasswordMatch = new BCryptPasswordEncoder()
-                .matches(oldPassword, authUser.getPassword());
-        if (!isPasswordMatch) {
-            return ResponseEntity.badRequest().body(new ApiResponse<>("fail", "Konfirmasi password tidak cocok", null));
+        // Validasi password lama dan hash password baru
+        String hashPassword;
+        try {
+            boolean isPasswordMatch = passwordHashService.matches(oldPassword, authUser.getPassword());
+            if (!isPasswordMatch) {
+                return ResponseEntity.badRequest()
+                        .body(new ApiResponse<>("fail", "Konfirmasi password tidak cocok", null));
+            }
+            hashPassword = passwordHashService.encode(newPassword);
+        } catch (RejectedExecutionException e) {
+            return tooManyRequests();
         }
 
         // Update password baru
-        String hashPassword = new BCryptPasswordEncoder().encode(newPassword);
         User updatedUser = userService.updatePassword(authUser.getId(), hashPassword);
         if (updatedUser == null) {
             ApiResponse<Void> response = new ApiResponse<>("fail", "User tidak ditemukan", null);
@@ -191,4 +228,8 @@ public class UserController {
         return ResponseEntity.ok(new ApiResponse<>("success", "Password berhasil diupdate", null));
     }
 
+    private <T> ResponseEntity<ApiResponse<T>> tooManyRequests() {
+        return ResponseEntity.status(429)
+                .body(new ApiResponse<>("fail", "Server sedang sibuk, silakan coba lagi", null));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,33 @@
+package org.delcom.app.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Satu operasi pada request batch todo
+ *
+ * @param op       jenis operasi: create, update, atau delete
+ * @param id       id todo untuk update dan delete
+ * @param finished status selesai untuk update
+ */
+public record TodoBatchOperation(
+        String op,
+        UUID id,
+        String title,
+        String description,
+        Boolean finished) {
+
+    public static final String CREATE = "create";
+    public static final String UPDATE = "update";
+    public static final String DELETE = "delete";
+
+    /**
+     * Hasil penerapan satu batch operasi
+     *
+     * @param created id todo baru sesuai urutan operasi create
+     * @param updated jumlah todo yang diperbarui
+     * @param deleted jumlah todo yang dihapus
+     */
+    public record Result(List<UUID> created, int updated, int deleted) {
+    }
+}
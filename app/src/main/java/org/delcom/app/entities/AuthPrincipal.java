@@ -0,0 +1,29 @@
+package org.delcom.app.entities;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Proyeksi read-only dari user yang terautentikasi. Diisi langsung dari query
+ * join auth_tokens dan users sehingga tidak ada entity User yang dikelola
+ * persistence context.
+ */
+public record AuthPrincipal(
+        UUID id,
+        String name,
+        String email,
+        String password,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt) {
+
+    /**
+     * Buat salinan User (detached) untuk disimpan di AuthContext
+     */
+    public User toUser() {
+        User user = new User(name, email, password);
+        user.setId(id);
+        user.setCreatedAt(createdAt);
+        user.setUpdatedAt(updatedAt);
+        return user;
+    }
+}
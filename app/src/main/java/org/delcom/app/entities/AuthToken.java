@@ -3,22 +3,32 @@ package org.delcom.app.entities;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
+import org.delcom.app.utils.JwtUtil;
+
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 
 import jakarta.persistence.*;
 
 @Entity
-@Table(name = "auth_tokens")
+@Table(name = "auth_tokens", indexes = {
+        @Index(name = "ux_auth_tokens_token_hash", columnList = "token_hash", unique = true),
+        @Index(name = "ix_auth_tokens_user_id_token_hash", columnList = "user_id, token_hash"),
+        @Index(name = "ix_auth_tokens_created_at_id", columnList = "created_at, id")
+})
 @JsonPropertyOrder({ "id", "token", "userId", "createdAt" })
 public class AuthToken {
     @Id
-    @GeneratedValue(generator = "UUID")
+    @UuidV7
     @Column(name = "id", updatable = false, nullable = false, columnDefinition = "uuid")
     private UUID id;
 
-    @Column(name = "token", nullable = false, columnDefinition = "TEXT")
+    // Token mentah tidak disimpan, yang disimpan hanya digest SHA-256
+    @Transient
     private String token;
 
+    @Column(name = "token_hash", nullable = false, length = 64, columnDefinition = "char(64)")
+    private String tokenHash;
+
     @Column(name = "user_id", nullable = false)
     private UUID userId;
 
@@ -30,7 +40,7 @@ public class AuthToken {
 
     public AuthToken(UUID userId, String token) {
         this.userId = userId;
-        this.token = token;
+        setToken(token);
         this.createdAt = LocalDateTime.now();
     }
 
@@ -48,6 +58,11 @@ public class AuthToken {
 
     public void setToken(String token) {
         this.token = token;
+        this.tokenHash = token == null ? null : JwtUtil.hashToken(token);
+    }
+
+    public String getTokenHash() {
+        return tokenHash;
     }
 
     public UUID getUserId() {
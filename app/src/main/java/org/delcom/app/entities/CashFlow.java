@@ -2,15 +2,18 @@ package org.delcom.app.entities;
 
 import jakarta.persistence.*;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
-@Table(name = "cash_flows")
+@Table(name = "cash_flows", indexes = {
+        @Index(name = "ix_cash_flows_user_id_date_id", columnList = "user_id, date, id")
+})
 public class CashFlow {
 
     @Id
-    @GeneratedValue(generator = "UUID")
+    @UuidV7
     @Column(name = "id", updatable = false, nullable = false, columnDefinition = "uuid")
     private UUID id;
 
@@ -20,8 +23,8 @@ public class CashFlow {
     @Column(name = "type", nullable = false)
     private String type; // "INCOME" atau "EXPENSE"
 
-    @Column(name = "amount", nullable = false)
-    private Double amount;
+    @Column(name = "amount", nullable = false, precision = 19, scale = 2)
+    private BigDecimal amount;
 
     @Column(name = "description", nullable = false)
     private String description;
@@ -39,7 +42,7 @@ public class CashFlow {
     public CashFlow() {
     }
 
-    public CashFlow(UUID userId, String type, Double amount, String description, LocalDateTime date) {
+    public CashFlow(UUID userId, String type, BigDecimal amount, String description, LocalDateTime date) {
         this.userId = userId;
         this.type = type;
         this.amount = amount;
@@ -72,11 +75,11 @@ public class CashFlow {
         this.type = type;
     }
 
-    public Double getAmount() {
+    public BigDecimal getAmount() {
         return amount;
     }
 
-    public void setAmount(Double amount) {
+    public void setAmount(BigDecimal amount) {
         this.amount = amount;
     }
 
@@ -100,10 +103,18 @@ public class CashFlow {
         return createdAt;
     }
 
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
     public LocalDateTime getUpdatedAt() {
         return updatedAt;
     }
 
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
     // ======= @PrePersist & @PreUpdate =======
     @PrePersist
     protected void onCreate() {
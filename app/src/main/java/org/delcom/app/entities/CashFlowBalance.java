@@ -0,0 +1,68 @@
+package org.delcom.app.entities;
+
+import jakarta.persistence.*;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import org.delcom.app.utils.MoneyUtil;
+
+/**
+ * Total pemasukan dan pengeluaran per user dalam satuan terkecil (sen).
+ * Diperbarui secara inkremental setiap kali cash flow ditambah, diubah, atau
+ * dihapus. Baris baru dari delta langsung terverifikasi (backfilled = true)
+ * kecuali user sudah punya cash flow dari versi aplikasi lama; baris seperti
+ * itu menunggu totalnya dihitung ulang dari tabel cash_flows oleh backfill.
+ */
+@Entity
+@Table(name = "cash_flow_balances")
+public class CashFlowBalance {
+
+    @Id
+    @Column(name = "user_id", nullable = false, columnDefinition = "uuid")
+    private UUID userId;
+
+    @Column(name = "total_income_minor", nullable = false)
+    private long totalIncomeMinor;
+
+    @Column(name = "total_expense_minor", nullable = false)
+    private long totalExpenseMinor;
+
+    @Column(name = "backfilled", nullable = false, columnDefinition = "boolean not null default false")
+    private boolean backfilled;
+
+    // Constructor
+    public CashFlowBalance() {
+    }
+
+    public CashFlowBalance(UUID userId, long totalIncomeMinor, long totalExpenseMinor) {
+        this.userId = userId;
+        this.totalIncomeMinor = totalIncomeMinor;
+        this.totalExpenseMinor = totalExpenseMinor;
+    }
+
+    // Getter
+    public UUID getUserId() {
+        return userId;
+    }
+
+    public long getTotalIncomeMinor() {
+        return totalIncomeMinor;
+    }
+
+    public long getTotalExpenseMinor() {
+        return totalExpenseMinor;
+    }
+
+    public BigDecimal getTotalIncome() {
+        return MoneyUtil.fromMinorUnits(totalIncomeMinor);
+    }
+
+    public BigDecimal getTotalExpense() {
+        return MoneyUtil.fromMinorUnits(totalExpenseMinor);
+    }
+
+    public boolean isBackfilled() {
+        return backfilled;
+    }
+}
@@ -0,0 +1,15 @@
+package org.delcom.app.entities;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Total pemasukan dan pengeluaran dalam satu periode (hari, minggu, atau bulan)
+ *
+ * @param period tanggal awal periode
+ */
+public record CashFlowBucket(
+        LocalDate period,
+        BigDecimal totalIncome,
+        BigDecimal totalExpense) {
+}
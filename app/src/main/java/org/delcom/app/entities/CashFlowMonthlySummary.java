@@ -0,0 +1,82 @@
+package org.delcom.app.entities;
+
+import jakarta.persistence.*;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import org.delcom.app.utils.MoneyUtil;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+/**
+ * Total pemasukan dan pengeluaran per user per bulan dalam satuan terkecil
+ * (sen). Kolom month berisi tanggal pertama dari bulan tersebut.
+ */
+@Entity
+@IdClass(CashFlowMonthlySummary.Key.class)
+@Table(name = "cash_flow_monthly_summaries")
+public class CashFlowMonthlySummary {
+
+    public record Key(UUID userId, LocalDate month) implements Serializable {
+    }
+
+    @Id
+    @JsonIgnore
+    @Column(name = "user_id", nullable = false, columnDefinition = "uuid")
+    private UUID userId;
+
+    @Id
+    @Column(name = "month", nullable = false)
+    private LocalDate month;
+
+    @JsonIgnore
+    @Column(name = "total_income_minor", nullable = false)
+    private long totalIncomeMinor;
+
+    @JsonIgnore
+    @Column(name = "total_expense_minor", nullable = false)
+    private long totalExpenseMinor;
+
+    // Constructor
+    public CashFlowMonthlySummary() {
+    }
+
+    public CashFlowMonthlySummary(UUID userId, LocalDate month, long totalIncomeMinor, long totalExpenseMinor) {
+        this.userId = userId;
+        this.month = month;
+        this.totalIncomeMinor = totalIncomeMinor;
+        this.totalExpenseMinor = totalExpenseMinor;
+    }
+
+    // Getter
+    public UUID getUserId() {
+        return userId;
+    }
+
+    public LocalDate getMonth() {
+        return month;
+    }
+
+    public long getTotalIncomeMinor() {
+        return totalIncomeMinor;
+    }
+
+    public long getTotalExpenseMinor() {
+        return totalExpenseMinor;
+    }
+
+    public BigDecimal getTotalIncome() {
+        return MoneyUtil.fromMinorUnits(totalIncomeMinor);
+    }
+
+    public BigDecimal getTotalExpense() {
+        return MoneyUtil.fromMinorUnits(totalExpenseMinor);
+    }
+
+    public BigDecimal getBalance() {
+        return MoneyUtil.fromMinorUnits(totalIncomeMinor - totalExpenseMinor);
+    }
+}
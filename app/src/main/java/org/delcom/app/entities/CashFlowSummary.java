@@ -0,0 +1,14 @@
+package org.delcom.app.entities;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Ringkasan cash flow user: total keseluruhan dan rincian per bulan
+ */
+public record CashFlowSummary(
+        BigDecimal totalIncome,
+        BigDecimal totalExpense,
+        BigDecimal balance,
+        List<CashFlowMonthlySummary> months) {
+}
@@ -6,11 +6,13 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
-@Table(name = "todos")
+@Table(name = "todos", indexes = {
+        @Index(name = "ix_todos_user_id_created_at_id", columnList = "user_id, created_at, id")
+})
 public class Todo {
 
     @Id
-    @GeneratedValue(generator = "UUID")
+    @UuidV7
     @Column(name = "id", updatable = false, nullable = false, columnDefinition = "uuid")
     private UUID id;
 
@@ -99,10 +101,18 @@ public class Todo {
         return createdAt;
     }
 
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
     public LocalDateTime getUpdatedAt() {
         return updatedAt;
     }
 
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
     // ======= @PrePersist & @PreUpdate =======
     @PrePersist
     protected void onCreate() {
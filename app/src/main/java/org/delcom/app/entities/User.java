@@ -9,20 +9,24 @@ import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import jakarta.persistence.*;
 
 @Entity
-@Table(name = "users")
+@Table(name = "users", indexes = {
+        @Index(name = "ux_users_email", columnList = "email", unique = true)
+})
 @JsonPropertyOrder({ "id", "name", "email", "createdAt", "updatedAt" })
 @JsonInclude(JsonInclude.Include.NON_NULL)
 public class User {
 
     // ======= Attributes =======
     @Id
-    @GeneratedValue(generator = "UUID")
+    @UuidV7
     @Column(name = "id", updatable = false, nullable = false, columnDefinition = "uuid")
     private UUID id;
 
     @Column(name = "name", nullable = false)
     private String name;
 
+    // Disimpan dalam bentuk ternormalisasi (huruf kecil); unique index ux_users_email_lower pada lower(email)
+    // dibuat oleh UserEmailMigration sehingga keunikan tetap berlaku untuk baris lama
     @Column(name = "email", nullable = false)
     private String email;
 
@@ -87,10 +91,18 @@ public class User {
         return createdAt;
     }
 
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
     public LocalDateTime getUpdatedAt() {
         return updatedAt;
     }
 
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
     // ======= @PrePersist & @PreUpdate =======
     @PrePersist
     protected void onCreate() {
@@ -0,0 +1,18 @@
+package org.delcom.app.entities;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+/**
+ * Primary key UUID versi 7 yang dibuat oleh aplikasi sebelum insert
+ * (lihat {@link org.delcom.app.utils.UuidV7Generator})
+ */
+@IdGeneratorType(UuidV7IdGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.FIELD, ElementType.METHOD })
+public @interface UuidV7 {
+}
@@ -0,0 +1,26 @@
+package org.delcom.app.entities;
+
+import java.util.EnumSet;
+
+import org.delcom.app.utils.UuidV7Generator;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+
+/**
+ * Generator Hibernate untuk field yang ditandai {@link UuidV7}
+ */
+public class UuidV7IdGenerator implements BeforeExecutionGenerator {
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue,
+            EventType eventType) {
+        return UuidV7Generator.generate();
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_ONLY;
+    }
+}
@@ -1,15 +1,16 @@
 package org.delcom.app.interceptors;
 
 import org.delcom.app.configs.AuthContext;
-import org.delcom.app.entities.AuthToken;
+import org.delcom.app.entities.AuthPrincipal;
 import org.delcom.app.entities.User;
 import org.delcom.app.services.AuthTokenService;
-import org.delcom.app.services.UserService;
 import org.delcom.app.utils.JwtUtil;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.servlet.HandlerInterceptor;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
@@ -17,6 +18,7 @@ import java.util.UUID;
 
 @Component
 public class AuthInterceptor implements HandlerInterceptor {
+    public static final String AUTH_MODE_STATELESS = "stateless";
 
     @Autowired
     protected AuthContext authContext;
@@ -24,8 +26,9 @@ public class AuthInterceptor implements HandlerInterceptor {
     @Autowired
     protected AuthTokenService authTokenService;
 
-    @Autowired
-    protected UserService userService;
+    // database (default) atau stateless
+    @Value("${app.auth.mode:database}")
+    protected String authMode = "database";
 
     @Override
     public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler)
@@ -45,6 +48,11 @@ public class AuthInterceptor implements HandlerInterceptor {
             return false;
         }
 
+        // Endpoint /api/users membutuhkan data user lengkap sehingga tetap memakai database
+        if (AUTH_MODE_STATELESS.equals(authMode) && !request.getRequestURI().startsWith("/api/users")) {
+            return preHandleStateless(token, response);
+        }
+
         // Validasi format token JWT
         if (!JwtUtil.validateToken(token, true)) {
             sendErrorResponse(response, 401, "Token autentikasi tidak valid");
@@ -58,21 +66,42 @@ public class AuthInterceptor implements HandlerInterceptor {
             return false;
         }
 
-        // Cari token di database
-        AuthToken authToken = authTokenService.findUserToken(userId, token);
-        if (authToken == null) {
+        // Cari token beserta data user dalam satu query
+        AuthPrincipal authPrincipal = authTokenService.findAuthPrincipal(userId, token);
+        if (authPrincipal == null) {
             sendErrorResponse(response, 401, "Token autentikasi sudah expired");
             return false;
         }
 
-        // Ambil data user
-        User authUser = userService.getUserById(authToken.getUserId());
-        if (authUser == null) {
-            sendErrorResponse(response, 404, "User tidak ditemukan");
+        // Set user ke auth context
+        authContext.setAuthUser(authPrincipal.toUser());
+        return true;
+    }
+
+    // Percaya signature dan masa berlaku JWT tanpa query ke database
+    private boolean preHandleStateless(String token, HttpServletResponse response) throws Exception {
+        Claims claims = JwtUtil.extractClaims(token);
+        if (claims == null) {
+            sendErrorResponse(response, 401, "Token autentikasi tidak valid");
             return false;
         }
 
-        // Set user ke auth context
+        UUID userId;
+        try {
+            userId = UUID.fromString(claims.getSubject());
+        } catch (Exception e) {
+            sendErrorResponse(response, 401, "Format token autentikasi tidak valid");
+            return false;
+        }
+
+        if (authTokenService.isRevoked(userId, claims.getIssuedAt())) {
+            sendErrorResponse(response, 401, "Token autentikasi sudah expired");
+            return false;
+        }
+
+        // Hanya id user yang tersedia pada mode stateless
+        User authUser = new User();
+        authUser.setId(userId);
         authContext.setAuthUser(authUser);
         return true;
     }
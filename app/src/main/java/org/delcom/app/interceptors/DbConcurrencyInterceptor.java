@@ -0,0 +1,85 @@
+package org.delcom.app.interceptors;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Membatasi jumlah request API yang bekerja dengan database secara bersamaan
+ * sebesar ukuran pool koneksi Hikari. Hanya aktif pada mode virtual thread:
+ * tanpa batas thread Tomcat, ribuan virtual thread akan mengantre di pool
+ * koneksi dan kehabisan connection-timeout bersamaan. Dengan semaphore,
+ * antrean terjadi sebelum handler dijalankan dan request yang menunggu
+ * terlalu lama langsung dijawab 503.
+ */
+@Component
+public class DbConcurrencyInterceptor implements HandlerInterceptor {
+    static final String PERMIT_ATTRIBUTE = DbConcurrencyInterceptor.class.getName() + ".permit";
+
+    private final boolean enabled;
+    private final Semaphore permits;
+    private final long acquireTimeoutMs;
+
+    public DbConcurrencyInterceptor(
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreadsEnabled,
+            @Value("${spring.datasource.hikari.maximum-pool-size:10}") int maxPoolSize,
+            @Value("${app.db.concurrency.acquire-timeout-ms:5000}") long acquireTimeoutMs) {
+        this.enabled = virtualThreadsEnabled;
+        this.permits = new Semaphore(maxPoolSize, true);
+        this.acquireTimeoutMs = acquireTimeoutMs;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler)
+            throws Exception {
+        if (!enabled) {
+            return true;
+        }
+
+        // Semaphore memarkir virtual thread tanpa menahan carrier thread
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        if (!acquired) {
+            sendErrorResponse(response, 503, "Server sedang sibuk, silakan coba lagi");
+            return false;
+        }
+
+        request.setAttribute(PERMIT_ATTRIBUTE, Boolean.TRUE);
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+            Exception ex) {
+        if (request.getAttribute(PERMIT_ATTRIBUTE) != null) {
+            request.removeAttribute(PERMIT_ATTRIBUTE);
+            permits.release();
+        }
+    }
+
+    public int availablePermits() {
+        return permits.availablePermits();
+    }
+
+    private void sendErrorResponse(HttpServletResponse response, int status, String message) throws Exception {
+        response.setStatus(status);
+        response.setContentType("application/json");
+        response.setCharacterEncoding("UTF-8");
+
+        String jsonResponse = String.format(
+                "{\"status\":\"error\",\"message\":\"%s\",\"data\":null}",
+                message);
+        response.getWriter().write(jsonResponse);
+    }
+}
@@ -0,0 +1,37 @@
+package org.delcom.app.repositories;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.delcom.app.entities.AuthPrincipal;
+import org.delcom.app.entities.AuthToken;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface AuthTokenRepository extends JpaRepository<AuthToken, UUID> {
+    @Query("SELECT at FROM AuthToken at WHERE at.userId = ?1 AND at.tokenHash = ?2")
+    AuthToken findUserToken(UUID userId, String tokenHash);
+
+    @Query("SELECT new org.delcom.app.entities.AuthPrincipal(u.id, u.name, u.email, u.password, u.createdAt, u.updatedAt) "
+            + "FROM AuthToken at JOIN User u ON u.id = at.userId WHERE at.userId = ?1 AND at.tokenHash = ?2")
+    AuthPrincipal findAuthPrincipal(UUID userId, String tokenHash);
+
+    @Query("SELECT at FROM AuthToken at WHERE at.createdAt < :cutoff ORDER BY at.createdAt, at.id")
+    List<AuthToken> findExpiredTokens(LocalDateTime cutoff, Pageable pageable);
+
+    @Query("SELECT at FROM AuthToken at WHERE at.createdAt < :cutoff AND (at.createdAt > :lastCreatedAt "
+            + "OR (at.createdAt = :lastCreatedAt AND at.id > :lastId)) ORDER BY at.createdAt, at.id")
+    List<AuthToken> findExpiredTokensAfter(LocalDateTime cutoff, LocalDateTime lastCreatedAt, UUID lastId,
+            Pageable pageable);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM AuthToken at WHERE at.userId = ?1")
+    void deleteByUserId(UUID userId);
+}
@@ -0,0 +1,69 @@
+package org.delcom.app.repositories;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.delcom.app.entities.CashFlowBalance;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface CashFlowBalanceRepository extends JpaRepository<CashFlowBalance, UUID> {
+    // Baris yang sudah ada cukup ditambah delta. Baris baru langsung terverifikasi jika delta
+    // sama dengan total di cash_flows (cash flow pertama user); jika tidak, user punya cash
+    // flow dari versi aplikasi lama dan baris menunggu backfill. Subquery total hanya
+    // dijalankan saat baris belum ada.
+    @Modifying
+    @Query(value = "WITH updated AS (UPDATE cash_flow_balances SET "
+            + "total_income_minor = total_income_minor + :incomeMinor, "
+            + "total_expense_minor = total_expense_minor + :expenseMinor WHERE user_id = :userId RETURNING user_id) "
+            + "INSERT INTO cash_flow_balances (user_id, total_income_minor, total_expense_minor, backfilled) "
+            + "SELECT :userId, :incomeMinor, :expenseMinor, "
+            + "(SELECT COALESCE(SUM(amount) FILTER (WHERE type = 'INCOME'), 0) * 100 = :incomeMinor "
+            + "AND COALESCE(SUM(amount) FILTER (WHERE type = 'EXPENSE'), 0) * 100 = :expenseMinor "
+            + "FROM cash_flows WHERE user_id = :userId) "
+            + "WHERE NOT EXISTS (SELECT 1 FROM updated) ON CONFLICT (user_id) DO UPDATE SET "
+            + "total_income_minor = cash_flow_balances.total_income_minor + EXCLUDED.total_income_minor, "
+            + "total_expense_minor = cash_flow_balances.total_expense_minor + EXCLUDED.total_expense_minor",
+            nativeQuery = true)
+    void addDelta(UUID userId, long incomeMinor, long expenseMinor);
+
+    // User yang agregatnya belum dihitung ulang dari cash_flows: baris yang belum terverifikasi,
+    // atau punya cash flow tanpa baris agregat (ditulis versi aplikasi lama)
+    String PENDING_BACKFILL_USERS = "SELECT user_id FROM cash_flow_balances WHERE NOT backfilled "
+            + "UNION SELECT cf.user_id FROM cash_flows cf WHERE NOT EXISTS "
+            + "(SELECT 1 FROM cash_flow_balances b WHERE b.user_id = cf.user_id)";
+
+    @Query(value = "SELECT EXISTS (" + PENDING_BACKFILL_USERS + ")", nativeQuery = true)
+    boolean existsPendingBackfill();
+
+    // Buat baris kosong untuk user yang punya cash flow tanpa agregat agar bisa dikunci
+    @Modifying
+    @Query(value = "INSERT INTO cash_flow_balances (user_id, total_income_minor, total_expense_minor, backfilled) "
+            + "SELECT DISTINCT cf.user_id, 0, 0, false FROM cash_flows cf WHERE NOT EXISTS "
+            + "(SELECT 1 FROM cash_flow_balances b WHERE b.user_id = cf.user_id) "
+            + "ON CONFLICT (user_id) DO NOTHING", nativeQuery = true)
+    int insertMissingForBackfill();
+
+    // Mengunci baris user yang belum terverifikasi; addDelta untuk user tersebut menunggu sampai backfill selesai
+    @Query(value = "SELECT user_id FROM cash_flow_balances WHERE NOT backfilled FOR UPDATE", nativeQuery = true)
+    List<UUID> lockPendingBackfill();
+
+    // Total ditimpa (bukan ditambah) sehingga delta yang sudah tersimpan tidak dihitung dua kali
+    @Modifying
+    @Query(value = "INSERT INTO cash_flow_balances (user_id, total_income_minor, total_expense_minor, backfilled) "
+            + "SELECT user_id, CAST(COALESCE(SUM(amount) FILTER (WHERE type = 'INCOME'), 0) * 100 AS bigint), "
+            + "CAST(COALESCE(SUM(amount) FILTER (WHERE type = 'EXPENSE'), 0) * 100 AS bigint), true "
+            + "FROM cash_flows WHERE user_id IN (:userIds) GROUP BY user_id "
+            + "ON CONFLICT (user_id) DO UPDATE SET total_income_minor = EXCLUDED.total_income_minor, "
+            + "total_expense_minor = EXCLUDED.total_expense_minor, backfilled = true", nativeQuery = true)
+    int rebuildFromCashFlows(List<UUID> userIds);
+
+    // Sisa baris yang belum terverifikasi adalah user tanpa cash flow
+    @Modifying
+    @Query(value = "UPDATE cash_flow_balances SET total_income_minor = 0, total_expense_minor = 0, "
+            + "backfilled = true WHERE user_id IN (:userIds) AND NOT backfilled", nativeQuery = true)
+    int resetWithoutCashFlows(List<UUID> userIds);
+}
@@ -0,0 +1,113 @@
+package org.delcom.app.repositories;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import org.delcom.app.entities.CashFlow;
+import org.delcom.app.entities.CashFlowBucket;
+import org.delcom.app.utils.MoneyUtil;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Akses cash flow lewat JDBC langsung untuk operasi yang tidak cocok dengan
+ * JPA, misalnya membaca seluruh riwayat tanpa memuatnya ke heap.
+ */
+@Repository
+public class CashFlowJdbcRepository {
+    public static final int FETCH_SIZE = 500;
+    public static final int BATCH_SIZE = 1000;
+
+    private static final String SELECT_BY_USER_ID = "SELECT id, user_id, type, amount, description, date, "
+            + "created_at, updated_at FROM cash_flows WHERE user_id = ? ORDER BY date, id";
+
+    private static final String INSERT = "INSERT INTO cash_flows (id, user_id, type, amount, description, date, "
+            + "created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String AGGREGATE_BY_INTERVAL = "SELECT CAST(date_trunc(?, date) AS date) AS period, "
+            + "CAST(COALESCE(SUM(amount) FILTER (WHERE type = 'INCOME'), 0) * 100 AS bigint) AS total_income_minor, "
+            + "CAST(COALESCE(SUM(amount) FILTER (WHERE type = 'EXPENSE'), 0) * 100 AS bigint) AS total_expense_minor "
+            + "FROM cash_flows WHERE user_id = ? AND date >= ? AND date < ? GROUP BY period ORDER BY period";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public CashFlowJdbcRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Kirim setiap cash flow milik user ke consumer satu per satu. Memakai
+     * cursor forward-only dengan fetch size tetap, sehingga PostgreSQL hanya
+     * mengirim FETCH_SIZE baris setiap kali. Harus dipanggil di dalam
+     * transaksi, karena tanpa transaksi driver PostgreSQL membaca semua baris
+     * sekaligus.
+     */
+    public void streamByUserId(UUID userId, Consumer<CashFlow> consumer) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(SELECT_BY_USER_ID,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(FETCH_SIZE);
+            statement.setObject(1, userId);
+            return statement;
+        }, (RowCallbackHandler) resultSet -> consumer.accept(mapCashFlow(resultSet)));
+    }
+
+    /**
+     * Simpan banyak cash flow dengan JDBC batch per BATCH_SIZE baris. Id dan
+     * timestamp harus sudah diisi oleh pemanggil.
+     *
+     * @return jumlah baris yang disimpan
+     */
+    public int insertBatch(List<CashFlow> cashFlows) {
+        jdbcTemplate.batchUpdate(INSERT, cashFlows, BATCH_SIZE, (statement, cashFlow) -> {
+            statement.setObject(1, cashFlow.getId());
+            statement.setObject(2, cashFlow.getUserId());
+            statement.setString(3, cashFlow.getType());
+            statement.setBigDecimal(4, cashFlow.getAmount());
+            statement.setString(5, cashFlow.getDescription());
+            statement.setTimestamp(6, Timestamp.valueOf(cashFlow.getDate()));
+            statement.setTimestamp(7, Timestamp.valueOf(cashFlow.getCreatedAt()));
+            statement.setTimestamp(8, Timestamp.valueOf(cashFlow.getUpdatedAt()));
+        });
+        return cashFlows.size();
+    }
+
+    /**
+     * Hitung total pemasukan dan pengeluaran per periode di database
+     * (GROUP BY date_trunc), memakai index (user_id, date, id)
+     *
+     * @param interval day, week, atau month
+     * @param from     batas bawah date (inklusif)
+     * @param to       batas atas date (eksklusif)
+     */
+    public List<CashFlowBucket> aggregateByInterval(UUID userId, String interval, LocalDateTime from,
+            LocalDateTime to) {
+        return jdbcTemplate.query(AGGREGATE_BY_INTERVAL,
+                (resultSet, rowNum) -> new CashFlowBucket(
+                        resultSet.getObject("period", LocalDate.class),
+                        MoneyUtil.fromMinorUnits(resultSet.getLong("total_income_minor")),
+                        MoneyUtil.fromMinorUnits(resultSet.getLong("total_expense_minor"))),
+                interval, userId, Timestamp.valueOf(from), Timestamp.valueOf(to));
+    }
+
+    static CashFlow mapCashFlow(ResultSet resultSet) throws SQLException {
+        CashFlow cashFlow = new CashFlow(
+                resultSet.getObject("user_id", UUID.class),
+                resultSet.getString("type"),
+                resultSet.getBigDecimal("amount"),
+                resultSet.getString("description"),
+                resultSet.getTimestamp("date").toLocalDateTime());
+        cashFlow.setId(resultSet.getObject("id", UUID.class));
+        cashFlow.setCreatedAt(resultSet.getTimestamp("created_at").toLocalDateTime());
+        cashFlow.setUpdatedAt(resultSet.getTimestamp("updated_at").toLocalDateTime());
+        return cashFlow;
+    }
+}
@@ -0,0 +1,42 @@
+package org.delcom.app.repositories;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import org.delcom.app.entities.CashFlowMonthlySummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface CashFlowMonthlySummaryRepository
+        extends JpaRepository<CashFlowMonthlySummary, CashFlowMonthlySummary.Key> {
+    @Query("SELECT s FROM CashFlowMonthlySummary s WHERE s.userId = :userId "
+            + "AND s.month >= :from AND s.month <= :to ORDER BY s.month")
+    List<CashFlowMonthlySummary> findByUserIdAndMonthBetween(UUID userId, LocalDate from, LocalDate to);
+
+    @Modifying
+    @Query(value = "INSERT INTO cash_flow_monthly_summaries (user_id, month, total_income_minor, "
+            + "total_expense_minor) VALUES (:userId, :month, :incomeMinor, :expenseMinor) "
+            + "ON CONFLICT (user_id, month) DO UPDATE SET "
+            + "total_income_minor = cash_flow_monthly_summaries.total_income_minor + EXCLUDED.total_income_minor, "
+            + "total_expense_minor = cash_flow_monthly_summaries.total_expense_minor + EXCLUDED.total_expense_minor",
+            nativeQuery = true)
+    void addDelta(UUID userId, LocalDate month, long incomeMinor, long expenseMinor);
+
+    @Modifying
+    @Query(value = "DELETE FROM cash_flow_monthly_summaries WHERE user_id IN (:userIds)", nativeQuery = true)
+    int deleteByUserIds(List<UUID> userIds);
+
+    // Dijalankan setelah deleteByUserIds dan sebelum agregat total ditandai backfilled
+    @Modifying
+    @Query(value = "INSERT INTO cash_flow_monthly_summaries (user_id, month, total_income_minor, "
+            + "total_expense_minor) SELECT user_id, CAST(date_trunc('month', date) AS date), "
+            + "CAST(COALESCE(SUM(amount) FILTER (WHERE type = 'INCOME'), 0) * 100 AS bigint), "
+            + "CAST(COALESCE(SUM(amount) FILTER (WHERE type = 'EXPENSE'), 0) * 100 AS bigint) FROM cash_flows "
+            + "WHERE user_id IN (:userIds) GROUP BY user_id, CAST(date_trunc('month', date) AS date)",
+            nativeQuery = true)
+    int rebuildFromCashFlows(List<UUID> userIds);
+}
@@ -0,0 +1,80 @@
+package org.delcom.app.repositories;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.delcom.app.entities.CashFlow;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface CashFlowRepository extends JpaRepository<CashFlow, UUID> {
+    /**
+     * Nilai cash flow sebelum diubah atau dihapus, dipakai untuk mengoreksi
+     * agregat ringkasan
+     */
+    interface PreviousValues {
+        String getType();
+
+        BigDecimal getAmount();
+
+        LocalDateTime getDate();
+    }
+
+    // Pencarian memakai index GIN pg_trgm pada description dan type (lihat SearchIndexInitializer).
+    // Urutan bukan skor similarity trigram: cash flow yang cocok pada description ditampilkan lebih dulu,
+    // lalu yang terbaru (sama dengan urutan pencarian in-memory di CashFlowService).
+    @Query(value = "SELECT c.* FROM cash_flows c WHERE c.user_id = :userId "
+            + "AND (c.description ILIKE :pattern ESCAPE '!' OR c.type ILIKE :pattern ESCAPE '!') "
+            + "ORDER BY (c.description ILIKE :pattern ESCAPE '!') DESC, c.date DESC, c.id DESC "
+            + "LIMIT :limit OFFSET :offset", nativeQuery = true)
+    List<CashFlow> searchByKeyword(UUID userId, String pattern, int limit, int offset);
+
+    @Query("SELECT c FROM CashFlow c WHERE c.userId = :userId")
+    List<CashFlow> findAllByUserId(UUID userId);
+
+    @Query("SELECT c FROM CashFlow c WHERE c.userId = :userId AND c.type IN :types "
+            + "AND c.date >= :from AND c.date <= :to ORDER BY c.date DESC, c.id DESC")
+    List<CashFlow> findPageDesc(UUID userId, Collection<String> types, LocalDateTime from, LocalDateTime to,
+            Pageable pageable);
+
+    @Query("SELECT c FROM CashFlow c WHERE c.userId = :userId AND c.type IN :types "
+            + "AND c.date >= :from AND c.date <= :to "
+            + "AND (c.date < :date OR (c.date = :date AND c.id < :id)) ORDER BY c.date DESC, c.id DESC")
+    List<CashFlow> findPageDescAfter(UUID userId, Collection<String> types, LocalDateTime from, LocalDateTime to,
+            LocalDateTime date, UUID id, Pageable pageable);
+
+    @Query("SELECT c FROM CashFlow c WHERE c.userId = :userId AND c.type IN :types "
+            + "AND c.date >= :from AND c.date <= :to ORDER BY c.date ASC, c.id ASC")
+    List<CashFlow> findPageAsc(UUID userId, Collection<String> types, LocalDateTime from, LocalDateTime to,
+            Pageable pageable);
+
+    @Query("SELECT c FROM CashFlow c WHERE c.userId = :userId AND c.type IN :types "
+            + "AND c.date >= :from AND c.date <= :to "
+            + "AND (c.date > :date OR (c.date = :date AND c.id > :id)) ORDER BY c.date ASC, c.id ASC")
+    List<CashFlow> findPageAscAfter(UUID userId, Collection<String> types, LocalDateTime from, LocalDateTime to,
+            LocalDateTime date, UUID id, Pageable pageable);
+
+    @Query("SELECT c FROM CashFlow c WHERE c.id = :id AND c.userId = :userId")
+    Optional<CashFlow> findByUserIdAndId(UUID userId, UUID id);
+
+    // Update dan delete satu cash flow dalam satu statement sekaligus mengembalikan nilai lama.
+    // Kosong berarti cash flow tidak ditemukan. Harus dipanggil di dalam transaksi.
+    @Query(value = "WITH previous AS (SELECT id, type, amount, date FROM cash_flows "
+            + "WHERE id = :id AND user_id = :userId FOR UPDATE) "
+            + "UPDATE cash_flows c SET type = :type, amount = :amount, description = :description, "
+            + "date = :date, updated_at = :updatedAt FROM previous p WHERE c.id = p.id "
+            + "RETURNING p.type AS type, p.amount AS amount, p.date AS date", nativeQuery = true)
+    Optional<PreviousValues> updateByUserIdAndId(UUID userId, UUID id, String type, BigDecimal amount,
+            String description, LocalDateTime date, LocalDateTime updatedAt);
+
+    @Query(value = "DELETE FROM cash_flows WHERE id = :id AND user_id = :userId "
+            + "RETURNING type, amount, date", nativeQuery = true)
+    Optional<PreviousValues> deleteByUserIdAndId(UUID userId, UUID id);
+}
\ No newline at end of file
@@ -0,0 +1,73 @@
+package org.delcom.app.repositories;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.delcom.app.dto.TodoBatchOperation;
+import org.delcom.app.entities.Todo;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Operasi todo lewat JDBC batch, dipakai oleh endpoint batch agar banyak
+ * perubahan dikirim ke database tanpa load-then-save per baris.
+ */
+@Repository
+public class TodoJdbcRepository {
+    public static final int BATCH_SIZE = 500;
+
+    private static final String INSERT = "INSERT INTO todos (id, user_id, title, description, is_finished, "
+            + "created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String UPDATE = "UPDATE todos SET title = ?, description = ?, is_finished = ?, "
+            + "updated_at = ? WHERE id = ? AND user_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public TodoJdbcRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Simpan banyak todo dengan JDBC batch. Id dan timestamp harus sudah
+     * diisi oleh pemanggil.
+     */
+    public void insertBatch(List<Todo> todos) {
+        jdbcTemplate.batchUpdate(INSERT, todos, BATCH_SIZE, (statement, todo) -> {
+            statement.setObject(1, todo.getId());
+            statement.setObject(2, todo.getUserId());
+            statement.setString(3, todo.getTitle());
+            statement.setString(4, todo.getDescription());
+            statement.setBoolean(5, todo.isFinished());
+            statement.setTimestamp(6, Timestamp.valueOf(todo.getCreatedAt()));
+            statement.setTimestamp(7, Timestamp.valueOf(todo.getUpdatedAt()));
+        });
+    }
+
+    /**
+     * Perbarui banyak todo milik user dengan JDBC batch. Baris milik user lain
+     * tidak ikut berubah karena filter user_id.
+     *
+     * @return jumlah todo yang diperbarui
+     */
+    public int updateBatch(UUID userId, List<TodoBatchOperation> operations, LocalDateTime updatedAt) {
+        int[][] counts = jdbcTemplate.batchUpdate(UPDATE, operations, BATCH_SIZE, (statement, operation) -> {
+            statement.setString(1, operation.title());
+            statement.setString(2, operation.description());
+            statement.setBoolean(3, operation.finished());
+            statement.setTimestamp(4, Timestamp.valueOf(updatedAt));
+            statement.setObject(5, operation.id());
+            statement.setObject(6, userId);
+        });
+
+        int updated = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                updated += count;
+            }
+        }
+        return updated;
+    }
+}
@@ -0,0 +1,54 @@
+package org.delcom.app.repositories;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.delcom.app.entities.Todo;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface TodoRepository extends JpaRepository<Todo, UUID> {
+    // Pencarian memakai index GIN pg_trgm pada title dan description (lihat SearchIndexInitializer).
+    // Urutan bukan skor similarity trigram: todo yang cocok pada title ditampilkan lebih dulu, lalu yang
+    // terbaru (sama dengan urutan pencarian in-memory di TodoService).
+    @Query(value = "SELECT t.* FROM todos t WHERE t.user_id = :userId "
+            + "AND (t.title ILIKE :pattern ESCAPE '!' OR t.description ILIKE :pattern ESCAPE '!') "
+            + "ORDER BY (t.title ILIKE :pattern ESCAPE '!') DESC, t.created_at DESC, t.id DESC "
+            + "LIMIT :limit OFFSET :offset", nativeQuery = true)
+    List<Todo> searchByKeyword(UUID userId, String pattern, int limit, int offset);
+
+    @Query("SELECT t FROM Todo t WHERE t.userId = :userId")
+    List<Todo> findAllByUserId(UUID userId);
+
+    @Query("SELECT t FROM Todo t WHERE t.userId = :userId ORDER BY t.createdAt DESC, t.id DESC")
+    List<Todo> findPageByUserId(UUID userId, Pageable pageable);
+
+    @Query("SELECT t FROM Todo t WHERE t.userId = :userId AND (t.createdAt < :createdAt "
+            + "OR (t.createdAt = :createdAt AND t.id < :id)) ORDER BY t.createdAt DESC, t.id DESC")
+    List<Todo> findPageByUserIdAfter(UUID userId, LocalDateTime createdAt, UUID id, Pageable pageable);
+
+    @Query("SELECT t FROM Todo t WHERE t.id = :id AND t.userId = :userId")
+    Optional<Todo> findByUserIdAndId(UUID userId, UUID id);
+
+    // Update dan delete satu todo dalam satu statement, 0 berarti todo tidak ditemukan
+    @Modifying
+    @Query("UPDATE Todo t SET t.title = :title, t.description = :description, t.isFinished = :isFinished, "
+            + "t.updatedAt = :updatedAt WHERE t.id = :id AND t.userId = :userId")
+    int updateByUserIdAndId(UUID userId, UUID id, String title, String description, Boolean isFinished,
+            LocalDateTime updatedAt);
+
+    @Modifying
+    @Query("DELETE FROM Todo t WHERE t.id = :id AND t.userId = :userId")
+    int deleteByUserIdAndId(UUID userId, UUID id);
+
+    @Modifying
+    @Query("DELETE FROM Todo t WHERE t.userId = :userId AND t.id IN :ids")
+    int deleteAllByUserIdAndIdIn(UUID userId, Collection<UUID> ids);
+}
\ No newline at end of file
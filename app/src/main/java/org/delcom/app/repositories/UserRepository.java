@@ -5,9 +5,12 @@ import java.util.UUID;
 
 import org.delcom.app.entities.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, UUID> {
-    Optional<User> findFirstByEmail(String email);
+    // Memakai unique index ux_users_email_lower, email harus sudah dinormalisasi (huruf kecil)
+    @Query("SELECT u FROM User u WHERE lower(u.email) = :email")
+    Optional<User> findByNormalizedEmail(String email);
 }
\ No newline at end of file
@@ -0,0 +1,100 @@
+package org.delcom.app.services;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.delcom.app.entities.AuthToken;
+import org.delcom.app.repositories.AuthTokenRepository;
+import org.delcom.app.utils.JwtUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Menghapus auth token yang sudah melewati masa berlaku JWT secara berkala.
+ * Penghapusan dilakukan per batch (keyset pada created_at, id) dan setiap
+ * batch berjalan di transaksi sendiri agar lock tidak ditahan lama.
+ */
+@Component
+public class AuthTokenReaper {
+    private static final Logger logger = LoggerFactory.getLogger(AuthTokenReaper.class);
+
+    private final AuthTokenRepository authTokenRepository;
+
+    @Value("${app.auth.reaper.batch-size:500}")
+    protected int batchSize = 500;
+
+    private final AtomicLong rowsReaped = new AtomicLong();
+    private final AtomicLong batchesRun = new AtomicLong();
+    private final AtomicLong totalBatchNanos = new AtomicLong();
+    private volatile long lastBatchNanos;
+
+    public AuthTokenReaper(AuthTokenRepository authTokenRepository) {
+        this.authTokenRepository = authTokenRepository;
+    }
+
+    @Scheduled(initialDelayString = "${app.auth.reaper.initial-delay-ms:60000}",
+            fixedDelayString = "${app.auth.reaper.interval-ms:600000}")
+    public int reapExpiredTokens() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(Duration.ofMillis(JwtUtil.getExpirationTime()));
+
+        int reaped = 0;
+        LocalDateTime lastCreatedAt = null;
+        UUID lastId = null;
+        while (true) {
+            long start = System.nanoTime();
+
+            List<AuthToken> batch = lastCreatedAt == null
+                    ? authTokenRepository.findExpiredTokens(cutoff, PageRequest.of(0, batchSize))
+                    : authTokenRepository.findExpiredTokensAfter(cutoff, lastCreatedAt, lastId,
+                            PageRequest.of(0, batchSize));
+            if (batch.isEmpty()) {
+                break;
+            }
+
+            authTokenRepository.deleteAllByIdInBatch(batch.stream().map(AuthToken::getId).toList());
+
+            long elapsed = System.nanoTime() - start;
+            lastBatchNanos = elapsed;
+            totalBatchNanos.addAndGet(elapsed);
+            batchesRun.incrementAndGet();
+            rowsReaped.addAndGet(batch.size());
+            reaped += batch.size();
+
+            AuthToken last = batch.get(batch.size() - 1);
+            lastCreatedAt = last.getCreatedAt();
+            lastId = last.getId();
+            if (batch.size() < batchSize) {
+                break;
+            }
+        }
+
+        if (reaped > 0) {
+            logger.info("Menghapus {} auth token expired (total {}, {} batch, batch terakhir {} ms)",
+                    reaped, rowsReaped.get(), batchesRun.get(), lastBatchNanos / 1_000_000);
+        }
+        return reaped;
+    }
+
+    public long getRowsReaped() {
+        return rowsReaped.get();
+    }
+
+    public long getBatchesRun() {
+        return batchesRun.get();
+    }
+
+    public long getLastBatchNanos() {
+        return lastBatchNanos;
+    }
+
+    public long getTotalBatchNanos() {
+        return totalBatchNanos.get();
+    }
+}
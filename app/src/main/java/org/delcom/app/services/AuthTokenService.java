@@ -0,0 +1,144 @@
+package org.delcom.app.services;
+
+import java.util.Date;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.delcom.app.entities.AuthPrincipal;
+import org.delcom.app.entities.AuthToken;
+import org.delcom.app.repositories.AuthTokenRepository;
+import org.delcom.app.utils.JwtUtil;
+import org.delcom.app.utils.LruCache;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Service
+public class AuthTokenService {
+    private static final int PRINCIPAL_CACHE_SIZE = 10_000;
+
+    // Token yang dicabut di instance lain masih bisa diterima dari cache selama interval ini
+    static final long PRINCIPAL_CACHE_TTL_MS = 30 * 1000L;
+
+    private final AuthTokenRepository authTokenRepository;
+    private final long principalCacheTtlMs;
+
+    // Cache principal dari token yang sudah terverifikasi, key = hash token, berlaku paling lama
+    // principalCacheTtlMs dan tidak melewati masa berlaku JWT
+    private final LruCache<String, AuthPrincipal> principalCache = new LruCache<>(PRINCIPAL_CACHE_SIZE);
+
+    // Naik setiap kali principal di-evict; hasil query yang dimulai sebelum eviction tidak disimpan
+    private long evictionGeneration;
+    private final Object principalCacheLock = new Object();
+
+    // Daftar pencabutan untuk mode stateless: userId -> token yang terbit sebelum detik ini dicabut.
+    // Hanya berlaku di instance ini; instance lain tetap menerima token hingga JWT expired.
+    private final Map<UUID, Long> revokedBefore = new ConcurrentHashMap<>();
+
+    @Autowired
+    public AuthTokenService(AuthTokenRepository authTokenRepository) {
+        this(authTokenRepository, PRINCIPAL_CACHE_TTL_MS);
+    }
+
+    AuthTokenService(AuthTokenRepository authTokenRepository, long principalCacheTtlMs) {
+        this.authTokenRepository = authTokenRepository;
+        this.principalCacheTtlMs = principalCacheTtlMs;
+    }
+
+    @Transactional(readOnly = true)
+    public AuthToken findUserToken(UUID userId, String token) {
+        return authTokenRepository.findUserToken(userId, JwtUtil.hashToken(token));
+    }
+
+    /**
+     * Validasi token dan ambil data user dalam satu query join
+     *
+     * @return principal atau null jika token tidak terdaftar
+     */
+    // Tanpa @Transactional agar cache hit tidak perlu mengambil koneksi database
+    public AuthPrincipal findAuthPrincipal(UUID userId, String token) {
+        String tokenHash = JwtUtil.hashToken(token);
+        AuthPrincipal cachedPrincipal = principalCache.get(tokenHash);
+        if (cachedPrincipal != null && cachedPrincipal.id().equals(userId)) {
+            return cachedPrincipal;
+        }
+
+        long generation;
+        synchronized (principalCacheLock) {
+            generation = evictionGeneration;
+        }
+
+        AuthPrincipal authPrincipal = authTokenRepository.findAuthPrincipal(userId, tokenHash);
+        if (authPrincipal != null) {
+            Date expiration = JwtUtil.extractExpiration(token);
+            if (expiration != null) {
+                synchronized (principalCacheLock) {
+                    // Token bisa saja dicabut selama query berjalan
+                    if (generation == evictionGeneration) {
+                        principalCache.put(tokenHash, authPrincipal,
+                                Math.min(expiration.getTime(), System.currentTimeMillis() + principalCacheTtlMs));
+                    }
+                }
+            }
+        }
+        return authPrincipal;
+    }
+
+    @Transactional
+    public AuthToken createAuthToken(AuthToken authToken) {
+        return authTokenRepository.save(authToken);
+    }
+
+    @Transactional
+    public void deleteAuthToken(UUID userId) {
+        authTokenRepository.deleteByUserId(userId);
+        evictAuthPrincipal(userId);
+        revokeTokensIssuedBefore(userId, System.currentTimeMillis());
+
+        // Evict ulang setelah commit agar request paralel tidak menyimpan kembali token lama
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictAuthPrincipal(userId);
+                }
+            });
+        }
+    }
+
+    /**
+     * Cek apakah token sudah dicabut melalui logout / perubahan password
+     *
+     * @param issuedAt waktu terbit token (claim iat)
+     */
+    public boolean isRevoked(UUID userId, Date issuedAt) {
+        Long revokedAt = revokedBefore.get(userId);
+        if (revokedAt == null) {
+            return false;
+        }
+        // Claim iat berpresisi detik (dibulatkan ke bawah). Token yang terbit di detik yang
+        // sama dengan pencabutan tetap diterima agar login ulang setelah logout tidak ditolak.
+        return issuedAt == null || issuedAt.getTime() < revokedAt;
+    }
+
+    void revokeTokensIssuedBefore(UUID userId, long now) {
+        revokedBefore.put(userId, now / 1000 * 1000);
+
+        // Entri yang lebih lama dari masa berlaku JWT tidak diperlukan lagi
+        long oldestRelevant = now - JwtUtil.getExpirationTime();
+        revokedBefore.values().removeIf(revokedAt -> revokedAt < oldestRelevant);
+    }
+
+    /**
+     * Hapus principal user dari cache, dipanggil setelah data user berubah
+     */
+    public void evictAuthPrincipal(UUID userId) {
+        synchronized (principalCacheLock) {
+            evictionGeneration++;
+            principalCache.removeIf(authPrincipal -> userId.equals(authPrincipal.id()));
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package org.delcom.app.services;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import org.delcom.app.utils.CacheInvalidation;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Mendengarkan notifikasi Postgres (LISTEN/NOTIFY) dari modul reaktif dan
+ * membuang cache todo, cash flow, analitik, serta index pencarian yang
+ * terpengaruh. NOTIFY baru dikirim Postgres setelah transaksi penulis
+ * di-commit, sehingga cache tidak dibuang untuk perubahan yang di-rollback.
+ *
+ * <p>
+ * Listener memakai koneksi JDBC tersendiri di luar pool Hikari karena koneksi
+ * ini terus terbuka selama aplikasi berjalan. Notifikasi yang terlewat selama
+ * koneksi terputus tidak dikirim ulang; cache tersebut tetap kedaluwarsa
+ * sesuai TTL masing-masing.
+ */
+@Component
+public class CacheInvalidationListener {
+    private static final Logger logger = LoggerFactory.getLogger(CacheInvalidationListener.class);
+
+    static final int POLL_TIMEOUT_MS = 5000;
+    static final long RECONNECT_DELAY_MS = 5000;
+
+    interface ConnectionFactory {
+        Connection open() throws SQLException;
+    }
+
+    private final TodoService todoService;
+    private final CashFlowService cashFlowService;
+    final ConnectionFactory connectionFactory;
+    private final boolean enabled;
+    private final long reconnectDelayMs;
+
+    private volatile boolean running;
+    private volatile Thread worker;
+
+    @Autowired
+    public CacheInvalidationListener(TodoService todoService, CashFlowService cashFlowService,
+            @Value("${spring.datasource.url}") String url,
+            @Value("${spring.datasource.username}") String username,
+            @Value("${spring.datasource.password}") String password,
+            @Value("${app.cache.invalidation.listen:true}") boolean enabled) {
+        this(todoService, cashFlowService, () -> DriverManager.getConnection(url, username, password), enabled,
+                RECONNECT_DELAY_MS);
+    }
+
+    CacheInvalidationListener(TodoService todoService, CashFlowService cashFlowService,
+            ConnectionFactory connectionFactory, boolean enabled, long reconnectDelayMs) {
+        this.todoService = todoService;
+        this.cashFlowService = cashFlowService;
+        this.connectionFactory = connectionFactory;
+        this.enabled = enabled;
+        this.reconnectDelayMs = reconnectDelayMs;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            logger.info("Listener invalidasi cache dinonaktifkan");
+            return;
+        }
+        running = true;
+        Thread thread = new Thread(this::run, "cache-invalidation-listener");
+        thread.setDaemon(true);
+        worker = thread;
+        thread.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        Thread thread = worker;
+        if (thread != null) {
+            thread.interrupt();
+        }
+    }
+
+    /**
+     * Buang cache sesuai isi notifikasi. Pesan yang tidak dikenali dicatat
+     * lalu diabaikan.
+     */
+    void handle(String payload) {
+        CacheInvalidation invalidation;
+        try {
+            invalidation = CacheInvalidation.decode(payload);
+        } catch (IllegalArgumentException e) {
+            logger.warn("Mengabaikan pesan invalidasi cache: {}", payload);
+            return;
+        }
+
+        switch (invalidation.kind()) {
+            case CacheInvalidation.TODO -> todoService.evictExternalChange(invalidation.userId(), invalidation.id());
+            case CacheInvalidation.CASH_FLOW ->
+                cashFlowService.evictExternalChange(invalidation.userId(), invalidation.id());
+            default -> logger.warn("Mengabaikan invalidasi cache dengan jenis {}", invalidation.kind());
+        }
+    }
+
+    private void run() {
+        while (running) {
+            try (Connection connection = connectionFactory.open()) {
+                listen(connection);
+            } catch (SQLException e) {
+                logger.warn("Listener invalidasi cache terputus, mencoba lagi dalam {} ms: {}", reconnectDelayMs,
+                        e.getMessage());
+                try {
+                    Thread.sleep(reconnectDelayMs);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private void listen(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("LISTEN " + CacheInvalidation.CHANNEL);
+        }
+        logger.info("Mendengarkan invalidasi cache pada channel {}", CacheInvalidation.CHANNEL);
+
+        PGConnection pgConnection = connection.unwrap(PGConnection.class);
+        while (running) {
+            PGNotification[] notifications = pgConnection.getNotifications(POLL_TIMEOUT_MS);
+            if (notifications == null) {
+                continue;
+            }
+            for (PGNotification notification : notifications) {
+                handle(notification.getParameter());
+            }
+        }
+    }
+}
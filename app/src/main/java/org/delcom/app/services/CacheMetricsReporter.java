@@ -0,0 +1,53 @@
+package org.delcom.app.services;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.delcom.app.utils.LruCache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Mencatat statistik hit, miss, dan eviction cache in-memory ke log secara
+ * berkala.
+ */
+@Component
+public class CacheMetricsReporter {
+    private static final Logger logger = LoggerFactory.getLogger(CacheMetricsReporter.class);
+
+    private final TodoService todoService;
+    private final CashFlowService cashFlowService;
+    private final CashFlowSummaryService cashFlowSummaryService;
+
+    public CacheMetricsReporter(TodoService todoService, CashFlowService cashFlowService,
+            CashFlowSummaryService cashFlowSummaryService) {
+        this.todoService = todoService;
+        this.cashFlowService = cashFlowService;
+        this.cashFlowSummaryService = cashFlowSummaryService;
+    }
+
+    /**
+     * Statistik semua cache berdasarkan nama cache
+     */
+    public Map<String, LruCache.Stats> getStats() {
+        Map<String, LruCache.Stats> stats = new LinkedHashMap<>();
+        stats.put("todos", todoService.getTodoCacheStats());
+        stats.put("cashFlows", cashFlowService.getCashFlowCacheStats());
+        stats.put("cashFlowAnalytics", cashFlowSummaryService.getAnalyticsCacheStats());
+        return stats;
+    }
+
+    @Scheduled(initialDelayString = "${app.cache.metrics.interval-ms:300000}",
+            fixedDelayString = "${app.cache.metrics.interval-ms:300000}")
+    public void logStats() {
+        for (Map.Entry<String, LruCache.Stats> entry : getStats().entrySet()) {
+            LruCache.Stats stats = entry.getValue();
+            long lookups = stats.hits() + stats.misses();
+            logger.info("Cache {}: hit={}, miss={}, hit rate={}%, eviction={}, size={}",
+                    entry.getKey(), stats.hits(), stats.misses(),
+                    lookups == 0 ? 0 : stats.hits() * 100 / lookups, stats.evictions(), stats.size());
+        }
+    }
+}
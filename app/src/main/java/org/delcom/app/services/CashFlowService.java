@@ -0,0 +1,326 @@
+package org.delcom.app.services;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import org.delcom.app.entities.CashFlow;
+import org.delcom.app.entities.CashFlowBucket;
+import org.delcom.app.entities.CashFlowSummary;
+import org.delcom.app.repositories.CashFlowJdbcRepository;
+import org.delcom.app.repositories.CashFlowRepository;
+import org.delcom.app.utils.CursorPage;
+import org.delcom.app.utils.InvertedIndex;
+import org.delcom.app.utils.KeysetCursor;
+import org.delcom.app.utils.LruCache;
+import org.delcom.app.utils.OffsetCursor;
+import org.delcom.app.utils.SearchUtil;
+import org.delcom.app.utils.TransactionUtil;
+import org.delcom.app.utils.UuidV7Generator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+public class CashFlowService {
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+    public static final int MAX_SEARCH_RESULTS = 500;
+    public static final List<String> TYPES = List.of("INCOME", "EXPENSE");
+
+    // Batas rentang tanggal jika filter from/to tidak diisi (masih dalam rentang timestamp PostgreSQL)
+    private static final LocalDateTime MIN_DATE = LocalDateTime.of(1, 1, 1, 0, 0);
+    private static final LocalDateTime MAX_DATE = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+
+    // Batas memori index pencarian in-memory
+    static final int SEARCH_INDEX_SHARDS = 16;
+    static final int SEARCH_INDEX_MAX_USERS = 1000;
+    static final int SEARCH_INDEX_MAX_CASH_FLOWS_PER_USER = 5000;
+
+    // Index hanya diperbarui oleh perubahan di instance ini; perubahan dari instance lain
+    // (atau modul reactive) terlihat paling lambat setelah TTL ini
+    static final long SEARCH_INDEX_TTL_MS = 30 * 1000L;
+
+    // Cache cash flow per id untuk pembacaan berulang
+    static final int CASH_FLOW_CACHE_SIZE = 10_000;
+    static final long CASH_FLOW_CACHE_TTL_MS = 60 * 1000L;
+
+    private final CashFlowRepository cashFlowRepository;
+    private final CashFlowJdbcRepository cashFlowJdbcRepository;
+    private final CashFlowSummaryService cashFlowSummaryService;
+
+    // Null jika pencarian in-memory tidak diaktifkan
+    private final InvertedIndex<CashFlow> searchIndex;
+
+    // Menyimpan salinan cash flow; pemanggil selalu menerima salinan sendiri
+    private final LruCache<UUID, CashFlow> cashFlowCache = new LruCache<>(CASH_FLOW_CACHE_SIZE);
+
+    // Naik setiap kali cash flow di-evict; hasil query yang dimulai sebelum eviction tidak disimpan
+    private long evictionGeneration;
+    private final Object cashFlowCacheLock = new Object();
+
+    public CashFlowService(CashFlowRepository cashFlowRepository, CashFlowJdbcRepository cashFlowJdbcRepository,
+            CashFlowSummaryService cashFlowSummaryService,
+            @Value("${app.search.in-memory.enabled:false}") boolean inMemorySearchEnabled) {
+        this.cashFlowRepository = cashFlowRepository;
+        this.cashFlowJdbcRepository = cashFlowJdbcRepository;
+        this.cashFlowSummaryService = cashFlowSummaryService;
+        this.searchIndex = inMemorySearchEnabled
+                ? new InvertedIndex<>(SEARCH_INDEX_SHARDS, SEARCH_INDEX_MAX_USERS,
+                        SEARCH_INDEX_MAX_CASH_FLOWS_PER_USER, SEARCH_INDEX_TTL_MS, CashFlow::getId,
+                        cashFlow -> new String[] { cashFlow.getDescription(), cashFlow.getType() })
+                : null;
+    }
+
+    @Transactional
+    public CashFlow createCashFlow(UUID userId, String type, BigDecimal amount, String description, LocalDateTime date) {
+        CashFlow cashFlow = new CashFlow(userId, type, amount, description, date);
+        CashFlow savedCashFlow = cashFlowRepository.save(cashFlow);
+        cashFlowSummaryService.add(userId, type, amount, date);
+        if (searchIndex != null) {
+            TransactionUtil.runAfterCommit(() -> searchIndex.put(userId, savedCashFlow));
+        }
+        return savedCashFlow;
+    }
+
+    /**
+     * Simpan banyak cash flow milik user dalam satu transaksi dengan JDBC
+     * batch. Data diasumsikan sudah divalidasi oleh pemanggil.
+     *
+     * @return jumlah cash flow yang disimpan
+     * @throws IllegalArgumentException jika total nominal melebihi batas, tidak ada baris yang disimpan
+     */
+    @Transactional
+    public int createCashFlows(UUID userId, List<CashFlow> cashFlows) {
+        LocalDateTime now = LocalDateTime.now();
+        List<CashFlow> rows = new ArrayList<>(cashFlows.size());
+        for (CashFlow reqCashFlow : cashFlows) {
+            CashFlow cashFlow = new CashFlow(userId, reqCashFlow.getType(), reqCashFlow.getAmount(),
+                    reqCashFlow.getDescription(), reqCashFlow.getDate());
+            cashFlow.setId(UuidV7Generator.generate());
+            cashFlow.setCreatedAt(now);
+            cashFlow.setUpdatedAt(now);
+            rows.add(cashFlow);
+        }
+        int inserted = cashFlowJdbcRepository.insertBatch(rows);
+        cashFlowSummaryService.addAll(userId, rows);
+        if (searchIndex != null) {
+            TransactionUtil.runAfterCommit(() -> searchIndex.invalidate(userId));
+        }
+        return inserted;
+    }
+
+    /**
+     * Cari cash flow milik user berdasarkan keyword pada description atau
+     * type. Hasil diurutkan berdasarkan relevansi lalu dipaginasi dengan
+     * offset, maksimal MAX_SEARCH_RESULTS hasil. Jika pencarian in-memory
+     * aktif, pencarian dilayani dari index tanpa query ke database.
+     *
+     * @param cursor cursor dari halaman sebelumnya, null untuk halaman pertama
+     * @param limit  jumlah item per halaman, dibatasi MAX_PAGE_SIZE
+     * @throws IllegalArgumentException jika cursor tidak valid
+     */
+    public CursorPage<CashFlow> searchCashFlows(UUID userId, String search, String cursor, Integer limit) {
+        int offset = cursor == null || cursor.isBlank() ? 0 : OffsetCursor.decode(cursor).offset();
+        if (offset >= MAX_SEARCH_RESULTS) {
+            throw new IllegalArgumentException("Cursor tidak valid");
+        }
+        int pageSize = limit == null || limit <= 0 ? DEFAULT_PAGE_SIZE : Math.min(limit, MAX_PAGE_SIZE);
+        pageSize = Math.min(pageSize, MAX_SEARCH_RESULTS - offset);
+
+        String keyword = search.trim();
+        List<CashFlow> matches = searchIndex == null ? null
+                : searchIndex.search(userId, keyword, max -> cashFlowRepository.findPageDesc(userId, TYPES,
+                        MIN_DATE, MAX_DATE, PageRequest.of(0, max)));
+        if (matches != null) {
+            // Urutan sama dengan query database: cocok pada description lebih dulu, lalu yang terbaru
+            String needle = keyword.toLowerCase(Locale.ROOT);
+            matches.sort(Comparator
+                    .comparing((CashFlow cashFlow) -> !cashFlow.getDescription().toLowerCase(Locale.ROOT)
+                            .contains(needle))
+                    .thenComparing(CashFlow::getDate, Comparator.reverseOrder())
+                    .thenComparing(CashFlow::getId, Comparator.reverseOrder()));
+            int end = Math.min(matches.size(), offset + pageSize + 1);
+            return CursorPage.ofOffset(matches.subList(Math.min(offset, end), end), pageSize, offset,
+                    MAX_SEARCH_RESULTS);
+        }
+
+        List<CashFlow> cashFlows = cashFlowRepository.searchByKeyword(userId,
+                SearchUtil.containsPattern(keyword), pageSize + 1, offset);
+        return CursorPage.ofOffset(cashFlows, pageSize, offset, MAX_SEARCH_RESULTS);
+    }
+
+    /**
+     * Ambil cash flow milik user per halaman, diurutkan berdasarkan (date, id)
+     *
+     * @param type      filter INCOME/EXPENSE, null untuk semua tipe
+     * @param from      batas bawah date (inklusif), boleh null
+     * @param to        batas atas date (inklusif), boleh null
+     * @param ascending true untuk urutan terlama lebih dulu
+     * @param cursor    cursor dari halaman sebelumnya, null untuk halaman pertama
+     * @param limit     jumlah item per halaman, dibatasi MAX_PAGE_SIZE
+     * @throws IllegalArgumentException jika cursor tidak valid
+     */
+    public CursorPage<CashFlow> getCashFlowsPage(UUID userId, String type, LocalDateTime from, LocalDateTime to,
+            boolean ascending, String cursor, Integer limit) {
+        int pageSize = limit == null || limit <= 0 ? DEFAULT_PAGE_SIZE : Math.min(limit, MAX_PAGE_SIZE);
+        PageRequest pageRequest = PageRequest.of(0, pageSize + 1);
+        List<String> types = type == null ? TYPES : List.of(type);
+        LocalDateTime lower = from == null ? MIN_DATE : from;
+        LocalDateTime upper = to == null ? MAX_DATE : to;
+
+        List<CashFlow> cashFlows;
+        if (cursor == null || cursor.isBlank()) {
+            cashFlows = ascending
+                    ? cashFlowRepository.findPageAsc(userId, types, lower, upper, pageRequest)
+                    : cashFlowRepository.findPageDesc(userId, types, lower, upper, pageRequest);
+        } else {
+            KeysetCursor after = KeysetCursor.decode(cursor);
+            cashFlows = ascending
+                    ? cashFlowRepository.findPageAscAfter(userId, types, lower, upper,
+                            after.position(), after.id(), pageRequest)
+                    : cashFlowRepository.findPageDescAfter(userId, types, lower, upper,
+                            after.position(), after.id(), pageRequest);
+        }
+        return CursorPage.of(cashFlows, pageSize, cashFlow -> new KeysetCursor(cashFlow.getDate(), cashFlow.getId()));
+    }
+
+    /**
+     * Kirim seluruh cash flow milik user ke consumer secara streaming,
+     * diurutkan berdasarkan (date, id). Transaksi read-only diperlukan agar
+     * driver PostgreSQL membaca hasil query per fetch size.
+     */
+    @Transactional(readOnly = true)
+    public void exportCashFlows(UUID userId, Consumer<CashFlow> consumer) {
+        cashFlowJdbcRepository.streamByUserId(userId, consumer);
+    }
+
+    public CashFlowSummary getSummary(UUID userId, YearMonth from, YearMonth to) {
+        return cashFlowSummaryService.getSummary(userId, from, to);
+    }
+
+    public List<CashFlowBucket> getAnalytics(UUID userId, String interval, LocalDateTime from, LocalDateTime to) {
+        return cashFlowSummaryService.getAnalytics(userId, interval, from, to);
+    }
+
+    public CashFlow getCashFlowById(UUID userId, UUID id) {
+        CashFlow cached = cashFlowCache.get(id);
+        if (cached != null) {
+            return cached.getUserId().equals(userId) ? copyOf(cached) : null;
+        }
+
+        long generation;
+        synchronized (cashFlowCacheLock) {
+            generation = evictionGeneration;
+        }
+
+        CashFlow cashFlow = cashFlowRepository.findByUserIdAndId(userId, id).orElse(null);
+        if (cashFlow != null) {
+            synchronized (cashFlowCacheLock) {
+                // Cash flow bisa saja diubah atau dihapus selama query berjalan
+                if (generation == evictionGeneration) {
+                    cashFlowCache.put(id, copyOf(cashFlow), System.currentTimeMillis() + CASH_FLOW_CACHE_TTL_MS);
+                }
+            }
+        }
+        return cashFlow;
+    }
+
+    public LruCache.Stats getCashFlowCacheStats() {
+        return cashFlowCache.stats();
+    }
+
+    /**
+     * Buang cash flow dari cache, index pencarian, dan cache analitik user
+     * setelah cash flow diubah di luar instance ini, misalnya oleh modul reaktif
+     */
+    public void evictExternalChange(UUID userId, UUID id) {
+        removeFromCache(id);
+        cashFlowSummaryService.evictAnalytics(userId);
+        if (searchIndex != null) {
+            searchIndex.invalidate(userId);
+        }
+    }
+
+    /**
+     * Ubah cash flow milik user dengan satu statement UPDATE bersyarat. Nilai
+     * lama dikembalikan oleh statement yang sama untuk mengoreksi ringkasan.
+     *
+     * @return false jika cash flow tidak ditemukan
+     */
+    @Transactional
+    public boolean updateCashFlow(UUID userId, UUID id, String type, BigDecimal amount, String description,
+            LocalDateTime date) {
+        // Native update tidak memicu @PreUpdate sehingga updatedAt diisi di sini
+        LocalDateTime now = LocalDateTime.now();
+        CashFlowRepository.PreviousValues previous = cashFlowRepository
+                .updateByUserIdAndId(userId, id, type, amount, description, date, now).orElse(null);
+        if (previous == null) {
+            return false;
+        }
+
+        cashFlowSummaryService.subtract(userId, previous.getType(), previous.getAmount(), previous.getDate());
+        cashFlowSummaryService.add(userId, type, amount, date);
+        evictCashFlow(id);
+        if (searchIndex != null) {
+            TransactionUtil.runAfterCommit(() -> searchIndex.update(userId, id, old -> {
+                CashFlow cashFlow = new CashFlow(userId, type, amount, description, date);
+                cashFlow.setId(id);
+                cashFlow.setCreatedAt(old.getCreatedAt());
+                cashFlow.setUpdatedAt(now);
+                return cashFlow;
+            }));
+        }
+        return true;
+    }
+
+    /**
+     * Hapus cash flow milik user dengan satu statement DELETE bersyarat
+     *
+     * @return false jika cash flow tidak ditemukan
+     */
+    @Transactional
+    public boolean deleteCashFlow(UUID userId, UUID id) {
+        CashFlowRepository.PreviousValues previous = cashFlowRepository.deleteByUserIdAndId(userId, id)
+                .orElse(null);
+        if (previous == null) {
+            return false;
+        }
+
+        evictCashFlow(id);
+        cashFlowSummaryService.subtract(userId, previous.getType(), previous.getAmount(), previous.getDate());
+        if (searchIndex != null) {
+            TransactionUtil.runAfterCommit(() -> searchIndex.remove(userId, id));
+        }
+        return true;
+    }
+
+    // Hapus dari cache sekarang dan setelah commit agar request paralel tidak menyimpan kembali data lama
+    private void evictCashFlow(UUID id) {
+        removeFromCache(id);
+        TransactionUtil.runAfterCommit(() -> removeFromCache(id));
+    }
+
+    private void removeFromCache(UUID id) {
+        synchronized (cashFlowCacheLock) {
+            evictionGeneration++;
+            cashFlowCache.remove(id);
+        }
+    }
+
+    private static CashFlow copyOf(CashFlow source) {
+        CashFlow cashFlow = new CashFlow(source.getUserId(), source.getType(), source.getAmount(),
+                source.getDescription(), source.getDate());
+        cashFlow.setId(source.getId());
+        cashFlow.setCreatedAt(source.getCreatedAt());
+        cashFlow.setUpdatedAt(source.getUpdatedAt());
+        return cashFlow;
+    }
+}
@@ -0,0 +1,231 @@
+package org.delcom.app.services;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+
+import org.delcom.app.entities.CashFlow;
+import org.delcom.app.entities.CashFlowBalance;
+import org.delcom.app.entities.CashFlowBucket;
+import org.delcom.app.entities.CashFlowMonthlySummary;
+import org.delcom.app.entities.CashFlowSummary;
+import org.delcom.app.repositories.CashFlowBalanceRepository;
+import org.delcom.app.repositories.CashFlowJdbcRepository;
+import org.delcom.app.repositories.CashFlowMonthlySummaryRepository;
+import org.delcom.app.utils.LruCache;
+import org.delcom.app.utils.MoneyUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Mengelola agregat cash flow per user (total dan per bulan) serta analitik
+ * per periode. Perubahan diterapkan sebagai delta lewat upsert, dan harus
+ * dipanggil di dalam transaksi yang sama dengan perubahan cash flow-nya.
+ */
+@Service
+public class CashFlowSummaryService {
+    private static final Logger logger = LoggerFactory.getLogger(CashFlowSummaryService.class);
+
+    private static final LocalDate MIN_MONTH = LocalDate.of(1, 1, 1);
+    private static final LocalDate MAX_MONTH = LocalDate.of(9999, 12, 1);
+
+    private static final int ANALYTICS_CACHE_SIZE = 1000;
+    private static final long ANALYTICS_CACHE_TTL_MS = 10 * 60 * 1000L;
+
+    // Jumlah user per query backfill, menjaga jumlah parameter IN tetap kecil
+    static final int BACKFILL_BATCH_SIZE = 1000;
+
+    // Hasil analitik untuk rentang yang sudah lewat, dihapus setiap kali cash flow user berubah
+    private record CachedAnalytics(UUID userId, List<CashFlowBucket> buckets) {
+    }
+
+    private final LruCache<String, CachedAnalytics> analyticsCache = new LruCache<>(ANALYTICS_CACHE_SIZE);
+
+    private final CashFlowJdbcRepository cashFlowJdbcRepository;
+    private final CashFlowBalanceRepository cashFlowBalanceRepository;
+    private final CashFlowMonthlySummaryRepository cashFlowMonthlySummaryRepository;
+
+    public CashFlowSummaryService(CashFlowJdbcRepository cashFlowJdbcRepository,
+            CashFlowBalanceRepository cashFlowBalanceRepository,
+            CashFlowMonthlySummaryRepository cashFlowMonthlySummaryRepository) {
+        this.cashFlowJdbcRepository = cashFlowJdbcRepository;
+        this.cashFlowBalanceRepository = cashFlowBalanceRepository;
+        this.cashFlowMonthlySummaryRepository = cashFlowMonthlySummaryRepository;
+    }
+
+    /**
+     * Tambahkan satu cash flow ke agregat milik user
+     */
+    public void add(UUID userId, String type, BigDecimal amount, LocalDateTime date) {
+        applyDelta(userId, type, MoneyUtil.toMinorUnits(amount), date);
+    }
+
+    /**
+     * Keluarkan satu cash flow dari agregat milik user
+     */
+    public void subtract(UUID userId, String type, BigDecimal amount, LocalDateTime date) {
+        applyDelta(userId, type, -MoneyUtil.toMinorUnits(amount), date);
+    }
+
+    /**
+     * Tambahkan banyak cash flow sekaligus. Delta digabung per bulan sehingga
+     * jumlah upsert sebanding dengan jumlah bulan, bukan jumlah baris.
+     * Penjumlahan memakai akumulator long (sen), satu long[2] per bulan.
+     *
+     * @throws IllegalArgumentException jika total nominal melebihi batas long
+     */
+    public void addAll(UUID userId, List<CashFlow> cashFlows) {
+        Map<LocalDate, long[]> months = new TreeMap<>();
+        long income = 0;
+        long expense = 0;
+        try {
+            for (CashFlow cashFlow : cashFlows) {
+                long amount = MoneyUtil.toMinorUnits(cashFlow.getAmount());
+                long[] totals = months.computeIfAbsent(monthOf(cashFlow.getDate()), month -> new long[2]);
+                if (isIncome(cashFlow.getType())) {
+                    totals[0] = Math.addExact(totals[0], amount);
+                    income = Math.addExact(income, amount);
+                } else {
+                    totals[1] = Math.addExact(totals[1], amount);
+                    expense = Math.addExact(expense, amount);
+                }
+            }
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("Total nominal cash flow melebihi batas", e);
+        }
+
+        // Agregat total lebih dulu, urutan penguncian sama dengan backfill
+        cashFlowBalanceRepository.addDelta(userId, income, expense);
+        for (Map.Entry<LocalDate, long[]> entry : months.entrySet()) {
+            cashFlowMonthlySummaryRepository.addDelta(userId, entry.getKey(), entry.getValue()[0],
+                    entry.getValue()[1]);
+        }
+        evictAnalytics(userId);
+    }
+
+    /**
+     * Ambil ringkasan cash flow user
+     *
+     * @param from bulan awal rincian (inklusif), boleh null
+     * @param to   bulan akhir rincian (inklusif), boleh null
+     */
+    @Transactional(readOnly = true)
+    public CashFlowSummary getSummary(UUID userId, YearMonth from, YearMonth to) {
+        CashFlowBalance balance = cashFlowBalanceRepository.findById(userId)
+                .orElseGet(() -> new CashFlowBalance(userId, 0, 0));
+        List<CashFlowMonthlySummary> months = cashFlowMonthlySummaryRepository.findByUserIdAndMonthBetween(userId,
+                from == null ? MIN_MONTH : from.atDay(1),
+                to == null ? MAX_MONTH : to.atDay(1));
+        return new CashFlowSummary(balance.getTotalIncome(), balance.getTotalExpense(),
+                MoneyUtil.fromMinorUnits(balance.getTotalIncomeMinor() - balance.getTotalExpenseMinor()), months);
+    }
+
+    /**
+     * Ambil total pemasukan dan pengeluaran per periode. Rentang yang sudah
+     * lewat disimpan di cache sampai ada perubahan cash flow milik user.
+     *
+     * @param interval day, week, atau month
+     * @param from     batas bawah date (inklusif)
+     * @param to       batas atas date (eksklusif)
+     */
+    public List<CashFlowBucket> getAnalytics(UUID userId, String interval, LocalDateTime from, LocalDateTime to) {
+        long now = System.currentTimeMillis();
+        boolean closedRange = to.isBefore(LocalDateTime.now());
+        String cacheKey = userId + "|" + interval + "|" + from + "|" + to;
+        if (closedRange) {
+            CachedAnalytics cached = analyticsCache.get(cacheKey);
+            if (cached != null) {
+                return cached.buckets();
+            }
+        }
+
+        List<CashFlowBucket> buckets = cashFlowJdbcRepository.aggregateByInterval(userId, interval, from, to);
+        if (closedRange) {
+            analyticsCache.put(cacheKey, new CachedAnalytics(userId, List.copyOf(buckets)),
+                    now + ANALYTICS_CACHE_TTL_MS);
+        }
+        return buckets;
+    }
+
+    public LruCache.Stats getAnalyticsCacheStats() {
+        return analyticsCache.stats();
+    }
+
+    /**
+     * Hapus hasil analitik user dari cache. Data lama (back-dated) bisa
+     * ditambah atau diubah kapan saja, sehingga periode yang sudah lewat pun
+     * bisa berubah.
+     */
+    public void evictAnalytics(UUID userId) {
+        analyticsCache.removeIf(cached -> userId.equals(cached.userId()));
+
+        // Evict ulang setelah commit agar request paralel tidak menyimpan kembali hasil lama
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    analyticsCache.removeIf(cached -> userId.equals(cached.userId()));
+                }
+            });
+        }
+    }
+
+    /**
+     * Hitung ulang agregat dari tabel cash_flows untuk user yang belum
+     * terverifikasi, misalnya saat pertama kali fitur ini dijalankan pada
+     * database lama atau setelah instance versi lama menulis cash flow.
+     * Pengecekan awal tanpa kunci sehingga start biasa tidak menahan penulisan
+     * cash flow. Jika ada, hanya baris agregat user yang bersangkutan yang
+     * dikunci; penulisan cash flow user tersebut menunggu di addDelta dan
+     * deltanya ditambahkan di atas hasil backfill.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void backfill() {
+        if (!cashFlowBalanceRepository.existsPendingBackfill()) {
+            return;
+        }
+
+        cashFlowBalanceRepository.insertMissingForBackfill();
+        List<UUID> userIds = cashFlowBalanceRepository.lockPendingBackfill();
+        int months = 0;
+        for (int start = 0; start < userIds.size(); start += BACKFILL_BATCH_SIZE) {
+            List<UUID> batch = userIds.subList(start, Math.min(start + BACKFILL_BATCH_SIZE, userIds.size()));
+            cashFlowMonthlySummaryRepository.deleteByUserIds(batch);
+            months += cashFlowMonthlySummaryRepository.rebuildFromCashFlows(batch);
+            cashFlowBalanceRepository.rebuildFromCashFlows(batch);
+            cashFlowBalanceRepository.resetWithoutCashFlows(batch);
+        }
+        if (!userIds.isEmpty()) {
+            logger.info("Ringkasan cash flow dibuat ulang untuk {} user ({} bulan)", userIds.size(), months);
+        }
+    }
+
+    private void applyDelta(UUID userId, String type, long amountMinor, LocalDateTime date) {
+        long income = isIncome(type) ? amountMinor : 0;
+        long expense = isIncome(type) ? 0 : amountMinor;
+        // Agregat total lebih dulu, urutan penguncian sama dengan backfill
+        cashFlowBalanceRepository.addDelta(userId, income, expense);
+        cashFlowMonthlySummaryRepository.addDelta(userId, monthOf(date), income, expense);
+        evictAnalytics(userId);
+    }
+
+    private static boolean isIncome(String type) {
+        return "INCOME".equals(type);
+    }
+
+    private static LocalDate monthOf(LocalDateTime date) {
+        return date.toLocalDate().withDayOfMonth(1);
+    }
+}
@@ -0,0 +1,99 @@
+package org.delcom.app.services;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Hash dan verifikasi password BCrypt pada thread pool terpisah yang dibatasi.
+ * Saat antrean penuh, pemanggil langsung mendapat RejectedExecutionException
+ * sehingga worker Tomcat tidak habis untuk hashing.
+ */
+@Service
+public class PasswordHashService {
+    private final BCryptPasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+
+    // Hash dummy dengan work factor yang sama untuk menyamakan waktu respons
+    private final String dummyHash;
+
+    public PasswordHashService(
+            @Value("${app.security.bcrypt.strength:10}") int strength,
+            @Value("${app.security.bcrypt.pool-size:0}") int poolSize,
+            @Value("${app.security.bcrypt.queue-capacity:64}") int queueCapacity) {
+        int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadCount = new AtomicInteger();
+
+        this.passwordEncoder = new BCryptPasswordEncoder(strength);
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "bcrypt-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.dummyHash = passwordEncoder.encode("dummy-password");
+    }
+
+    /**
+     * Hash password
+     *
+     * @throws RejectedExecutionException jika antrean hashing penuh
+     */
+    public String encode(String rawPassword) {
+        return execute(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    /**
+     * Cocokkan password dengan hash
+     *
+     * @throws RejectedExecutionException jika antrean hashing penuh
+     */
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return execute(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * Lakukan pencocokan terhadap hash dummy dengan biaya yang sama seperti
+     * pencocokan sungguhan, dipakai saat email tidak terdaftar
+     *
+     * @throws RejectedExecutionException jika antrean hashing penuh
+     */
+    public void matchesDummy(String rawPassword) {
+        execute(() -> passwordEncoder.matches(rawPassword, dummyHash));
+    }
+
+    /**
+     * Cek apakah hash dibuat dengan work factor yang lebih rendah dari konfigurasi
+     */
+    public boolean needsUpgrade(String encodedPassword) {
+        return passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private <T> T execute(Callable<T> task) {
+        try {
+            return executor.submit(task).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Proses hashing password terputus", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Proses hashing password gagal", e.getCause());
+        }
+    }
+}
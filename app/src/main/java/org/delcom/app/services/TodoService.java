@@ -0,0 +1,287 @@
+package org.delcom.app.services;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+
+import org.delcom.app.dto.TodoBatchOperation;
+import org.delcom.app.entities.Todo;
+import org.delcom.app.repositories.TodoJdbcRepository;
+import org.delcom.app.repositories.TodoRepository;
+import org.delcom.app.utils.CursorPage;
+import org.delcom.app.utils.InvertedIndex;
+import org.delcom.app.utils.KeysetCursor;
+import org.delcom.app.utils.LruCache;
+import org.delcom.app.utils.OffsetCursor;
+import org.delcom.app.utils.SearchUtil;
+import org.delcom.app.utils.TransactionUtil;
+import org.delcom.app.utils.UuidV7Generator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+public class TodoService {
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+    public static final int MAX_SEARCH_RESULTS = 500;
+
+    // Batas memori index pencarian in-memory
+    static final int SEARCH_INDEX_SHARDS = 16;
+    static final int SEARCH_INDEX_MAX_USERS = 1000;
+    static final int SEARCH_INDEX_MAX_TODOS_PER_USER = 5000;
+
+    // Index hanya diperbarui oleh perubahan di instance ini; perubahan dari instance lain
+    // (atau modul reactive) terlihat paling lambat setelah TTL ini
+    static final long SEARCH_INDEX_TTL_MS = 30 * 1000L;
+
+    // Cache todo per id untuk pembacaan berulang
+    static final int TODO_CACHE_SIZE = 10_000;
+    static final long TODO_CACHE_TTL_MS = 60 * 1000L;
+
+    private final TodoRepository todoRepository;
+    private final TodoJdbcRepository todoJdbcRepository;
+
+    // Null jika pencarian in-memory tidak diaktifkan
+    private final InvertedIndex<Todo> searchIndex;
+
+    // Menyimpan salinan todo; pemanggil selalu menerima salinan sendiri
+    private final LruCache<UUID, Todo> todoCache = new LruCache<>(TODO_CACHE_SIZE);
+
+    // Naik setiap kali todo di-evict; hasil query yang dimulai sebelum eviction tidak disimpan
+    private long evictionGeneration;
+    private final Object todoCacheLock = new Object();
+
+    public TodoService(TodoRepository todoRepository, TodoJdbcRepository todoJdbcRepository,
+            @Value("${app.search.in-memory.enabled:false}") boolean inMemorySearchEnabled) {
+        this.todoRepository = todoRepository;
+        this.todoJdbcRepository = todoJdbcRepository;
+        this.searchIndex = inMemorySearchEnabled
+                ? new InvertedIndex<>(SEARCH_INDEX_SHARDS, SEARCH_INDEX_MAX_USERS, SEARCH_INDEX_MAX_TODOS_PER_USER,
+                        SEARCH_INDEX_TTL_MS, Todo::getId, todo -> new String[] { todo.getTitle(), todo.getDescription() })
+                : null;
+    }
+
+    @Transactional
+    public Todo createTodo(UUID userId, String title, String description) {
+        Todo todo = new Todo(userId, title, description, false);
+        Todo savedTodo = todoRepository.save(todo);
+        if (searchIndex != null) {
+            TransactionUtil.runAfterCommit(() -> searchIndex.put(userId, savedTodo));
+        }
+        return savedTodo;
+    }
+
+    /**
+     * Cari todo milik user berdasarkan keyword pada title atau description.
+     * Hasil diurutkan berdasarkan relevansi lalu dipaginasi dengan offset,
+     * maksimal MAX_SEARCH_RESULTS hasil. Jika pencarian in-memory aktif,
+     * pencarian dilayani dari index tanpa query ke database.
+     *
+     * @param cursor cursor dari halaman sebelumnya, null untuk halaman pertama
+     * @param limit  jumlah item per halaman, dibatasi MAX_PAGE_SIZE
+     * @throws IllegalArgumentException jika cursor tidak valid
+     */
+    public CursorPage<Todo> searchTodos(UUID userId, String search, String cursor, Integer limit) {
+        int offset = cursor == null || cursor.isBlank() ? 0 : OffsetCursor.decode(cursor).offset();
+        if (offset >= MAX_SEARCH_RESULTS) {
+            throw new IllegalArgumentException("Cursor tidak valid");
+        }
+        int pageSize = limit == null || limit <= 0 ? DEFAULT_PAGE_SIZE : Math.min(limit, MAX_PAGE_SIZE);
+        pageSize = Math.min(pageSize, MAX_SEARCH_RESULTS - offset);
+
+        String keyword = search.trim();
+        List<Todo> matches = searchIndex == null ? null
+                : searchIndex.search(userId, keyword,
+                        max -> todoRepository.findPageByUserId(userId, PageRequest.of(0, max)));
+        if (matches != null) {
+            // Urutan sama dengan query database: cocok pada title lebih dulu, lalu yang terbaru
+            String needle = keyword.toLowerCase(Locale.ROOT);
+            matches.sort(Comparator
+                    .comparing((Todo todo) -> !todo.getTitle().toLowerCase(Locale.ROOT).contains(needle))
+                    .thenComparing(Todo::getCreatedAt, Comparator.reverseOrder())
+                    .thenComparing(Todo::getId, Comparator.reverseOrder()));
+            int end = Math.min(matches.size(), offset + pageSize + 1);
+            return CursorPage.ofOffset(matches.subList(Math.min(offset, end), end), pageSize, offset,
+                    MAX_SEARCH_RESULTS);
+        }
+
+        List<Todo> todos = todoRepository.searchByKeyword(userId, SearchUtil.containsPattern(keyword),
+                pageSize + 1, offset);
+        return CursorPage.ofOffset(todos, pageSize, offset, MAX_SEARCH_RESULTS);
+    }
+
+    /**
+     * Ambil todo milik user per halaman, diurutkan dari yang terbaru
+     *
+     * @param cursor cursor dari halaman sebelumnya, null untuk halaman pertama
+     * @param limit  jumlah item per halaman, dibatasi MAX_PAGE_SIZE
+     * @throws IllegalArgumentException jika cursor tidak valid
+     */
+    public CursorPage<Todo> getTodosPage(UUID userId, String cursor, Integer limit) {
+        int pageSize = limit == null || limit <= 0 ? DEFAULT_PAGE_SIZE : Math.min(limit, MAX_PAGE_SIZE);
+        PageRequest pageRequest = PageRequest.of(0, pageSize + 1);
+
+        List<Todo> todos;
+        if (cursor == null || cursor.isBlank()) {
+            todos = todoRepository.findPageByUserId(userId, pageRequest);
+        } else {
+            KeysetCursor after = KeysetCursor.decode(cursor);
+            todos = todoRepository.findPageByUserIdAfter(userId, after.position(), after.id(), pageRequest);
+        }
+        return CursorPage.of(todos, pageSize, todo -> new KeysetCursor(todo.getCreatedAt(), todo.getId()));
+    }
+
+    public Todo getTodoById(UUID userId, UUID id) {
+        Todo cached = todoCache.get(id);
+        if (cached != null) {
+            return cached.getUserId().equals(userId) ? copyOf(cached) : null;
+        }
+
+        long generation;
+        synchronized (todoCacheLock) {
+            generation = evictionGeneration;
+        }
+
+        Todo todo = todoRepository.findByUserIdAndId(userId, id).orElse(null);
+        if (todo != null) {
+            synchronized (todoCacheLock) {
+                // Todo bisa saja diubah atau dihapus selama query berjalan
+                if (generation == evictionGeneration) {
+                    todoCache.put(id, copyOf(todo), System.currentTimeMillis() + TODO_CACHE_TTL_MS);
+                }
+            }
+        }
+        return todo;
+    }
+
+    public LruCache.Stats getTodoCacheStats() {
+        return todoCache.stats();
+    }
+
+    /**
+     * Buang todo dari cache dan index pencarian user setelah todo diubah di
+     * luar instance ini, misalnya oleh modul reaktif
+     */
+    public void evictExternalChange(UUID userId, UUID id) {
+        removeFromCache(id);
+        if (searchIndex != null) {
+            searchIndex.invalidate(userId);
+        }
+    }
+
+    /**
+     * Ubah todo milik user dengan satu statement UPDATE bersyarat
+     *
+     * @return false jika todo tidak ditemukan
+     */
+    @Transactional
+    public boolean updateTodo(UUID userId, UUID id, String title, String description, Boolean isFinished) {
+        // Bulk update tidak memicu @PreUpdate sehingga updatedAt diisi di sini
+        LocalDateTime now = LocalDateTime.now();
+        if (todoRepository.updateByUserIdAndId(userId, id, title, description, isFinished, now) == 0) {
+            return false;
+        }
+
+        evictTodo(id);
+        if (searchIndex != null) {
+            TransactionUtil.runAfterCommit(() -> searchIndex.update(userId, id, previous -> {
+                Todo todo = new Todo(userId, title, description, isFinished);
+                todo.setId(id);
+                todo.setCover(previous.getCover());
+                todo.setCreatedAt(previous.getCreatedAt());
+                todo.setUpdatedAt(now);
+                return todo;
+            }));
+        }
+        return true;
+    }
+
+    /**
+     * Hapus todo milik user dengan satu statement DELETE bersyarat
+     *
+     * @return false jika todo tidak ditemukan
+     */
+    @Transactional
+    public boolean deleteTodo(UUID userId, UUID id) {
+        if (todoRepository.deleteByUserIdAndId(userId, id) == 0) {
+            return false;
+        }
+
+        evictTodo(id);
+        if (searchIndex != null) {
+            TransactionUtil.runAfterCommit(() -> searchIndex.remove(userId, id));
+        }
+        return true;
+    }
+
+    /**
+     * Terapkan banyak operasi create, update, dan delete milik user dalam satu
+     * transaksi. Operasi dikelompokkan per jenis dan masing-masing dijalankan
+     * sebagai satu batch SQL. Operasi diasumsikan sudah divalidasi.
+     */
+    @Transactional
+    public TodoBatchOperation.Result applyBatch(UUID userId, List<TodoBatchOperation> operations) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Todo> creates = new ArrayList<>();
+        List<TodoBatchOperation> updates = new ArrayList<>();
+        List<UUID> deleteIds = new ArrayList<>();
+
+        for (TodoBatchOperation operation : operations) {
+            if (operation.id() != null) {
+                evictTodo(operation.id());
+            }
+            switch (operation.op()) {
+                case TodoBatchOperation.CREATE -> {
+                    Todo todo = new Todo(userId, operation.title(), operation.description(), false);
+                    todo.setId(UuidV7Generator.generate());
+                    todo.setCreatedAt(now);
+                    todo.setUpdatedAt(now);
+                    creates.add(todo);
+                }
+                case TodoBatchOperation.UPDATE -> updates.add(operation);
+                default -> deleteIds.add(operation.id());
+            }
+        }
+
+        List<UUID> createdIds = new ArrayList<>(creates.size());
+        if (!creates.isEmpty()) {
+            todoJdbcRepository.insertBatch(creates);
+            for (Todo todo : creates) {
+                createdIds.add(todo.getId());
+            }
+        }
+        int updated = updates.isEmpty() ? 0 : todoJdbcRepository.updateBatch(userId, updates, now);
+        int deleted = deleteIds.isEmpty() ? 0 : todoRepository.deleteAllByUserIdAndIdIn(userId, deleteIds);
+        if (searchIndex != null) {
+            TransactionUtil.runAfterCommit(() -> searchIndex.invalidate(userId));
+        }
+        return new TodoBatchOperation.Result(createdIds, updated, deleted);
+    }
+
+    // Hapus dari cache sekarang dan setelah commit agar request paralel tidak menyimpan kembali data lama
+    private void evictTodo(UUID id) {
+        removeFromCache(id);
+        TransactionUtil.runAfterCommit(() -> removeFromCache(id));
+    }
+
+    private void removeFromCache(UUID id) {
+        synchronized (todoCacheLock) {
+            evictionGeneration++;
+            todoCache.remove(id);
+        }
+    }
+
+    private static Todo copyOf(Todo source) {
+        Todo todo = new Todo(source.getUserId(), source.getTitle(), source.getDescription(), source.isFinished());
+        todo.setId(source.getId());
+        todo.setCover(source.getCover());
+        todo.setCreatedAt(source.getCreatedAt());
+        todo.setUpdatedAt(source.getUpdatedAt());
+        return todo;
+    }
+}
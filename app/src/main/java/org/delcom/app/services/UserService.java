@@ -1,9 +1,11 @@
 package org.delcom.app.services;
 
+import java.util.Locale;
 import java.util.UUID;
 
 import org.delcom.app.entities.User;
 import org.delcom.app.repositories.UserRepository;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -15,29 +17,42 @@ public class UserService {
         this.userRepository = userRepository;
     }
 
+    /**
+     * Simpan user baru dengan satu INSERT
+     *
+     * @throws DataIntegrityViolationException jika email sudah terdaftar
+     */
     @Transactional
     public User createUser(String name, String email, String password) {
-        User user = new User(name, email, password);
-        return userRepository.save(user);
+        String normalizedEmail = normalizeEmail(email);
+        User user = new User(name, normalizedEmail, password);
+        return userRepository.saveAndFlush(user);
     }
 
+    // Selalu dicek ke database (unique index email) karena user bisa terdaftar lewat instance lain
     public User getUserByEmail(String email) {
-        return userRepository.findFirstByEmail(email).orElse(null);
+        return userRepository.findByNormalizedEmail(normalizeEmail(email)).orElse(null);
     }
 
     public User getUserById(UUID id) {
         return userRepository.findById(id).orElse(null);
     }
 
+    /**
+     * Perbarui nama dan email user
+     *
+     * @throws DataIntegrityViolationException jika email sudah dipakai user lain
+     */
     @Transactional
     public User updateUser(UUID id, String name, String email) {
         User user = userRepository.findById(id).orElse(null);
         if (user == null) {
             return null;
         }
+        String normalizedEmail = normalizeEmail(email);
         user.setName(name);
-        user.setEmail(email);
-        return userRepository.save(user);
+        user.setEmail(normalizedEmail);
+        return userRepository.saveAndFlush(user);
     }
 
     @Transactional
@@ -50,4 +65,7 @@ public class UserService {
         return userRepository.save(user);
     }
 
-}
\ No newline at end of file
+    private static String normalizeEmail(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+}
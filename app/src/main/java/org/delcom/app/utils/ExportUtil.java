@@ -0,0 +1,53 @@
+package org.delcom.app.utils;
+
+/**
+ * Helper escape untuk export data dalam format NDJSON dan CSV
+ */
+public final class ExportUtil {
+
+    private ExportUtil() {
+    }
+
+    /**
+     * Escape string menjadi literal JSON, termasuk tanda kutip pembuka dan penutup
+     */
+    public static String jsonString(String value) {
+        if (value == null) {
+            return "null";
+        }
+        StringBuilder builder = new StringBuilder(value.length() + 2).append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> builder.append("\\\"");
+                case '\\' -> builder.append("\\\\");
+                case '\n' -> builder.append("\\n");
+                case '\r' -> builder.append("\\r");
+                case '\t' -> builder.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        builder.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        builder.append(c);
+                    }
+                }
+            }
+        }
+        return builder.append('"').toString();
+    }
+
+    /**
+     * Escape satu field CSV (RFC 4180): field yang berisi koma, tanda kutip,
+     * atau baris baru dibungkus tanda kutip
+     */
+    public static String csvField(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0
+                && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
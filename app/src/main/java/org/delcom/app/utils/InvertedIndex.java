@@ -0,0 +1,282 @@
+package org.delcom.app.utils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.UnaryOperator;
+
+/**
+ * Inverted index in-memory per user untuk pencarian substring tanpa
+ * membedakan huruf besar/kecil. Setiap field dipecah menjadi trigram; kandidat
+ * diambil dari posting list trigram keyword lalu dicek ulang dengan contains
+ * sehingga hasilnya sama dengan ILIKE '%keyword%'.
+ *
+ * <p>
+ * User dibagi ke beberapa shard yang masing-masing memiliki lock dan LRU
+ * sendiri. Index user dibangun ulang dari loader saat belum ada di memori.
+ * User dengan dokumen lebih dari maxDocsPerUser tidak diindeks dan
+ * {@link #search} mengembalikan null agar pemanggil memakai database.
+ *
+ * <p>
+ * Index hanya diperbarui oleh perubahan di instance ini. Perubahan dari
+ * instance lain terlihat setelah index user kedaluwarsa (ttlMillis sejak
+ * dibangun) dan dibangun ulang dari loader.
+ *
+ * @param <D> tipe dokumen
+ */
+public class InvertedIndex<D> {
+    static final int GRAM_SIZE = 3;
+
+    private final Shard<D>[] shards;
+    private final int maxDocsPerUser;
+    private final long ttlMillis;
+    private final Function<D, UUID> idOf;
+    private final Function<D, String[]> fieldsOf;
+
+    /**
+     * @param shardCount     jumlah shard
+     * @param maxUsers       jumlah user yang disimpan di memori (dibagi rata ke semua shard)
+     * @param maxDocsPerUser batas dokumen per user yang masih diindeks
+     * @param ttlMillis      masa berlaku index user sejak dibangun
+     * @param idOf           pengambil id dokumen
+     * @param fieldsOf       pengambil field teks yang dicari
+     */
+    @SuppressWarnings("unchecked")
+    public InvertedIndex(int shardCount, int maxUsers, int maxDocsPerUser, long ttlMillis, Function<D, UUID> idOf,
+            Function<D, String[]> fieldsOf) {
+        int maxUsersPerShard = Math.max(1, maxUsers / shardCount);
+        this.shards = new Shard[shardCount];
+        for (int i = 0; i < shardCount; i++) {
+            shards[i] = new Shard<>(maxUsersPerShard);
+        }
+        this.maxDocsPerUser = maxDocsPerUser;
+        this.ttlMillis = ttlMillis;
+        this.idOf = idOf;
+        this.fieldsOf = fieldsOf;
+    }
+
+    /**
+     * Cari dokumen user yang salah satu field-nya mengandung keyword. Urutan
+     * hasil tidak ditentukan.
+     *
+     * @param loader pemuat dokumen user jika index belum ada, menerima batas jumlah baris
+     * @return dokumen yang cocok, atau null jika user tidak bisa diindeks
+     */
+    public List<D> search(UUID userId, String keyword, IntFunction<List<D>> loader) {
+        String needle = keyword.toLowerCase(Locale.ROOT);
+        Shard<D> shard = shardOf(userId);
+        long version;
+        synchronized (shard) {
+            UserIndex<D> userIndex = shard.users.get(userId);
+            if (userIndex != null && userIndex.expiresAt > System.currentTimeMillis()) {
+                return userIndex.oversized ? null : userIndex.search(needle);
+            }
+            shard.users.remove(userId);
+            version = shard.version;
+        }
+
+        // Bangun index di luar lock, lalu simpan hanya jika tidak ada perubahan selama dimuat
+        long expiresAt = System.currentTimeMillis() + ttlMillis;
+        List<D> docs = loader.apply(maxDocsPerUser + 1);
+        UserIndex<D> userIndex = new UserIndex<>(expiresAt);
+        if (docs.size() > maxDocsPerUser) {
+            userIndex.oversized = true;
+        } else {
+            for (D doc : docs) {
+                userIndex.put(idOf.apply(doc), doc, fieldsOf.apply(doc));
+            }
+        }
+        synchronized (shard) {
+            if (shard.version == version) {
+                shard.users.put(userId, userIndex);
+            }
+        }
+        return userIndex.oversized ? null : userIndex.search(needle);
+    }
+
+    /**
+     * Tambah atau ganti dokumen pada index user yang sedang dimuat
+     */
+    public void put(UUID userId, D doc) {
+        Shard<D> shard = shardOf(userId);
+        synchronized (shard) {
+            shard.version++;
+            UserIndex<D> userIndex = shard.users.get(userId);
+            if (userIndex == null || userIndex.oversized) {
+                return;
+            }
+            UUID id = idOf.apply(doc);
+            if (!userIndex.docs.containsKey(id) && userIndex.docs.size() >= maxDocsPerUser) {
+                userIndex.markOversized();
+                return;
+            }
+            userIndex.put(id, doc, fieldsOf.apply(doc));
+        }
+    }
+
+    /**
+     * Ganti dokumen yang sudah ada di index user yang sedang dimuat dengan
+     * hasil change, misalnya saat perubahan disimpan tanpa memuat ulang
+     * seluruh baris dari database
+     */
+    public void update(UUID userId, UUID docId, UnaryOperator<D> change) {
+        Shard<D> shard = shardOf(userId);
+        synchronized (shard) {
+            shard.version++;
+            UserIndex<D> userIndex = shard.users.get(userId);
+            if (userIndex == null || !userIndex.docs.containsKey(docId)) {
+                return;
+            }
+            D doc = change.apply(userIndex.docs.get(docId));
+            userIndex.put(docId, doc, fieldsOf.apply(doc));
+        }
+    }
+
+    /**
+     * Hapus dokumen dari index user yang sedang dimuat
+     */
+    public void remove(UUID userId, UUID docId) {
+        Shard<D> shard = shardOf(userId);
+        synchronized (shard) {
+            shard.version++;
+            UserIndex<D> userIndex = shard.users.get(userId);
+            if (userIndex != null) {
+                userIndex.remove(docId);
+            }
+        }
+    }
+
+    /**
+     * Buang index user, misalnya setelah perubahan massal. Index dibangun
+     * ulang pada pencarian berikutnya.
+     */
+    public void invalidate(UUID userId) {
+        Shard<D> shard = shardOf(userId);
+        synchronized (shard) {
+            shard.version++;
+            shard.users.remove(userId);
+        }
+    }
+
+    /**
+     * Jumlah user yang index-nya sedang dimuat
+     */
+    public int size() {
+        int size = 0;
+        for (Shard<D> shard : shards) {
+            synchronized (shard) {
+                size += shard.users.size();
+            }
+        }
+        return size;
+    }
+
+    private Shard<D> shardOf(UUID userId) {
+        return shards[Math.floorMod(userId.hashCode(), shards.length)];
+    }
+
+    static Set<String> grams(String text) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM_SIZE <= text.length(); i++) {
+            grams.add(text.substring(i, i + GRAM_SIZE));
+        }
+        return grams;
+    }
+
+    private static final class Shard<D> {
+        private final LinkedHashMap<UUID, UserIndex<D>> users;
+        private long version;
+
+        private Shard(int maxUsers) {
+            this.users = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<UUID, UserIndex<D>> eldest) {
+                    return size() > maxUsers;
+                }
+            };
+        }
+    }
+
+    private static final class UserIndex<D> {
+        private final Map<UUID, D> docs = new HashMap<>();
+        private final Map<UUID, String[]> texts = new HashMap<>();
+        private final Map<String, Set<UUID>> postings = new HashMap<>();
+        private final long expiresAt;
+        private boolean oversized;
+
+        private UserIndex(long expiresAt) {
+            this.expiresAt = expiresAt;
+        }
+
+        private void put(UUID id, D doc, String[] fields) {
+            remove(id);
+            String[] lowered = new String[fields.length];
+            for (int i = 0; i < fields.length; i++) {
+                lowered[i] = fields[i] == null ? "" : fields[i].toLowerCase(Locale.ROOT);
+                for (String gram : grams(lowered[i])) {
+                    postings.computeIfAbsent(gram, key -> new HashSet<>()).add(id);
+                }
+            }
+            docs.put(id, doc);
+            texts.put(id, lowered);
+        }
+
+        private void remove(UUID id) {
+            String[] lowered = texts.remove(id);
+            if (lowered == null) {
+                return;
+            }
+            docs.remove(id);
+            for (String text : lowered) {
+                for (String gram : grams(text)) {
+                    Set<UUID> ids = postings.get(gram);
+                    ids.remove(id);
+                    if (ids.isEmpty()) {
+                        postings.remove(gram);
+                    }
+                }
+            }
+        }
+
+        private void markOversized() {
+            oversized = true;
+            docs.clear();
+            texts.clear();
+            postings.clear();
+        }
+
+        private List<D> search(String needle) {
+            // Keyword pendek tidak memiliki trigram sehingga semua dokumen menjadi kandidat
+            Collection<UUID> candidates = docs.keySet();
+            for (String gram : grams(needle)) {
+                Set<UUID> ids = postings.get(gram);
+                if (ids == null) {
+                    return new ArrayList<>();
+                }
+                if (ids.size() < candidates.size()) {
+                    candidates = ids;
+                }
+            }
+
+            List<D> matches = new ArrayList<>();
+            for (UUID id : candidates) {
+                for (String text : texts.get(id)) {
+                    if (text.contains(needle)) {
+                        matches.add(docs.get(id));
+                        break;
+                    }
+                }
+            }
+            return matches;
+        }
+    }
+}
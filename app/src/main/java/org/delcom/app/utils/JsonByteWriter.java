@@ -0,0 +1,302 @@
+package org.delcom.app.utils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.UUID;
+
+/**
+ * Penulis token JSON dalam UTF-8 langsung ke OutputStream lewat buffer byte
+ * milik pemanggil, tanpa String perantara untuk UUID, angka, dan tanggal.
+ * Format nilai sama dengan Jackson: tanggal ISO-8601 (selalu dengan detik)
+ * dan BigDecimal memakai toString().
+ *
+ * <p>
+ * Tidak thread-safe; satu instance untuk satu response.
+ */
+public final class JsonByteWriter {
+    public static final int MIN_BUFFER_SIZE = 64;
+
+    private static final byte[] LOWER_HEX = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] UPPER_HEX = "0123456789ABCDEF".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] NULL = "null".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] TRUE = "true".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] FALSE = "false".getBytes(StandardCharsets.US_ASCII);
+
+    private final OutputStream out;
+    private final byte[] buffer;
+    private int position;
+
+    /**
+     * @param buffer buffer kerja, minimal MIN_BUFFER_SIZE byte, boleh dipakai ulang setelah flush
+     */
+    public JsonByteWriter(OutputStream out, byte[] buffer) {
+        if (buffer.length < MIN_BUFFER_SIZE) {
+            throw new IllegalArgumentException("Buffer minimal " + MIN_BUFFER_SIZE + " byte");
+        }
+        this.out = out;
+        this.buffer = buffer;
+    }
+
+    /**
+     * Encode string menjadi literal JSON (termasuk tanda kutip) dalam UTF-8,
+     * untuk disimpan dan ditulis ulang dengan {@link #writeRaw}
+     */
+    public static byte[] encodeString(String value) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(value.length() + 2);
+        JsonByteWriter writer = new JsonByteWriter(bytes, new byte[MIN_BUFFER_SIZE]);
+        writer.writeString(value);
+        writer.flush();
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Tulis byte yang sudah di-encode apa adanya
+     */
+    public void writeRaw(byte[] bytes) throws IOException {
+        if (bytes.length > buffer.length - position) {
+            flushBuffer();
+            if (bytes.length > buffer.length) {
+                out.write(bytes);
+                return;
+            }
+        }
+        System.arraycopy(bytes, 0, buffer, position, bytes.length);
+        position += bytes.length;
+    }
+
+    /**
+     * Tulis satu karakter ASCII, misalnya tanda baca JSON
+     */
+    public void writeAscii(char c) throws IOException {
+        ensure(1);
+        buffer[position++] = (byte) c;
+    }
+
+    public void writeNull() throws IOException {
+        writeRaw(NULL);
+    }
+
+    public void writeBoolean(Boolean value) throws IOException {
+        writeRaw(value == null ? NULL : value ? TRUE : FALSE);
+    }
+
+    public void writeNumber(long value) throws IOException {
+        if (value == Long.MIN_VALUE) {
+            writeAsciiText(Long.toString(value));
+            return;
+        }
+        ensure(20);
+        if (value < 0) {
+            buffer[position++] = '-';
+            value = -value;
+        }
+        int end = position + digitCount(value);
+        for (int i = end - 1; i >= position; i--) {
+            buffer[i] = (byte) ('0' + value % 10);
+            value /= 10;
+        }
+        position = end;
+    }
+
+    public void writeNumber(BigDecimal value) throws IOException {
+        if (value == null) {
+            writeNull();
+            return;
+        }
+        // toString() disimpan di dalam BigDecimal sehingga penulisan berikutnya tidak mengalokasi ulang
+        writeAsciiText(value.toString());
+    }
+
+    public void writeUuid(UUID value) throws IOException {
+        if (value == null) {
+            writeNull();
+            return;
+        }
+        ensure(38);
+        long msb = value.getMostSignificantBits();
+        long lsb = value.getLeastSignificantBits();
+        buffer[position++] = '"';
+        writeHex(msb >>> 32, 8);
+        buffer[position++] = '-';
+        writeHex(msb >>> 16, 4);
+        buffer[position++] = '-';
+        writeHex(msb, 4);
+        buffer[position++] = '-';
+        writeHex(lsb >>> 48, 4);
+        buffer[position++] = '-';
+        writeHex(lsb, 12);
+        buffer[position++] = '"';
+    }
+
+    public void writeDateTime(LocalDateTime value) throws IOException {
+        if (value == null) {
+            writeNull();
+            return;
+        }
+        int year = value.getYear();
+        if (year < 0 || year > 9999) {
+            // Tahun di luar 4 digit memakai tanda +/- sesuai ISO-8601
+            writeAscii('"');
+            writeAsciiText(DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(value));
+            writeAscii('"');
+            return;
+        }
+
+        ensure(31);
+        buffer[position++] = '"';
+        writePadded(year, 4);
+        buffer[position++] = '-';
+        writePadded(value.getMonthValue(), 2);
+        buffer[position++] = '-';
+        writePadded(value.getDayOfMonth(), 2);
+        buffer[position++] = 'T';
+        writePadded(value.getHour(), 2);
+        buffer[position++] = ':';
+        writePadded(value.getMinute(), 2);
+        buffer[position++] = ':';
+        writePadded(value.getSecond(), 2);
+        int nano = value.getNano();
+        if (nano > 0) {
+            // Pecahan detik tanpa nol di belakang, sama dengan ISO_LOCAL_DATE_TIME
+            int digits = 9;
+            while (nano % 10 == 0) {
+                nano /= 10;
+                digits--;
+            }
+            buffer[position++] = '.';
+            writePadded(nano, digits);
+        }
+        buffer[position++] = '"';
+    }
+
+    /**
+     * Tulis string sebagai literal JSON dengan escape yang sama seperti Jackson
+     */
+    public void writeString(String value) throws IOException {
+        if (value == null) {
+            writeNull();
+            return;
+        }
+        writeAscii('"');
+        int length = value.length();
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            ensure(6);
+            if (c >= 0x80) {
+                i = writeNonAscii(value, i, c);
+            } else if (c == '"' || c == '\\') {
+                buffer[position++] = '\\';
+                buffer[position++] = (byte) c;
+            } else if (c >= 0x20) {
+                buffer[position++] = (byte) c;
+            } else {
+                writeControl(c);
+            }
+        }
+        writeAscii('"');
+    }
+
+    /**
+     * Kirim isi buffer ke OutputStream
+     */
+    public void flush() throws IOException {
+        flushBuffer();
+        out.flush();
+    }
+
+    private void writeControl(char c) {
+        buffer[position++] = '\\';
+        switch (c) {
+            case '\n' -> buffer[position++] = 'n';
+            case '\r' -> buffer[position++] = 'r';
+            case '\t' -> buffer[position++] = 't';
+            case '\b' -> buffer[position++] = 'b';
+            case '\f' -> buffer[position++] = 'f';
+            default -> {
+                buffer[position++] = 'u';
+                buffer[position++] = '0';
+                buffer[position++] = '0';
+                buffer[position++] = UPPER_HEX[c >> 4];
+                buffer[position++] = UPPER_HEX[c & 0xF];
+            }
+        }
+    }
+
+    // Encode UTF-8, mengembalikan index karakter terakhir yang dipakai
+    private int writeNonAscii(String value, int index, char c) {
+        if (c < 0x800) {
+            buffer[position++] = (byte) (0xC0 | (c >> 6));
+            buffer[position++] = (byte) (0x80 | (c & 0x3F));
+            return index;
+        }
+        if (!Character.isSurrogate(c)) {
+            buffer[position++] = (byte) (0xE0 | (c >> 12));
+            buffer[position++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+            buffer[position++] = (byte) (0x80 | (c & 0x3F));
+            return index;
+        }
+        if (Character.isHighSurrogate(c) && index + 1 < value.length()
+                && Character.isLowSurrogate(value.charAt(index + 1))) {
+            int codePoint = Character.toCodePoint(c, value.charAt(index + 1));
+            buffer[position++] = (byte) (0xF0 | (codePoint >> 18));
+            buffer[position++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+            buffer[position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+            buffer[position++] = (byte) (0x80 | (codePoint & 0x3F));
+            return index + 1;
+        }
+        // Surrogate tanpa pasangan diganti '?', sama dengan String.getBytes(UTF_8)
+        buffer[position++] = '?';
+        return index;
+    }
+
+    private void writeAsciiText(String text) throws IOException {
+        int length = text.length();
+        for (int i = 0; i < length; i++) {
+            if (position == buffer.length) {
+                flushBuffer();
+            }
+            buffer[position++] = (byte) text.charAt(i);
+        }
+    }
+
+    private void writeHex(long value, int digits) {
+        for (int shift = (digits - 1) * 4; shift >= 0; shift -= 4) {
+            buffer[position++] = LOWER_HEX[(int) (value >>> shift) & 0xF];
+        }
+    }
+
+    private void writePadded(int value, int digits) {
+        for (int i = position + digits - 1; i >= position; i--) {
+            buffer[i] = (byte) ('0' + value % 10);
+            value /= 10;
+        }
+        position += digits;
+    }
+
+    private static int digitCount(long value) {
+        int digits = 1;
+        while (value >= 10) {
+            value /= 10;
+            digits++;
+        }
+        return digits;
+    }
+
+    private void ensure(int bytes) throws IOException {
+        if (position + bytes > buffer.length) {
+            flushBuffer();
+        }
+    }
+
+    private void flushBuffer() throws IOException {
+        if (position > 0) {
+            out.write(buffer, 0, position);
+            position = 0;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package org.delcom.app.utils;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Helper untuk menjalankan aksi setelah transaksi yang sedang berjalan
+ * berhasil di-commit, misalnya memperbarui state in-memory yang tidak boleh
+ * ikut berubah jika transaksi di-rollback.
+ */
+public final class TransactionUtil {
+
+    private TransactionUtil() {
+    }
+
+    /**
+     * Jalankan aksi setelah commit, atau langsung jika tidak ada transaksi
+     */
+    public static void runAfterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
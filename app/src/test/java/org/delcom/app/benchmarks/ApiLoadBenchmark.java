@@ -0,0 +1,136 @@
+package org.delcom.app.benchmarks;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Uji beban GET /api/todos dan /api/cashflows dengan 1k-10k koneksi
+ * bersamaan terhadap aplikasi yang sudah berjalan. Bandingkan hasilnya antara
+ * spring.threads.virtual.enabled=false dan true; pada mode virtual thread
+ * request yang ditolak DbConcurrencyInterceptor dihitung sebagai 503.
+ *
+ * Menjalankan: mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=org.delcom.app.benchmarks.ApiLoadBenchmark
+ * -Dexec.args="http://localhost:8080 10 1000,2000,5000,10000"
+ */
+public class ApiLoadBenchmark {
+    private static final Pattern AUTH_TOKEN = Pattern.compile("\"authToken\"\\s*:\\s*\"([^\"]+)\"");
+    private static final int SEED_ROWS = 20;
+
+    public static void main(String[] args) throws Exception {
+        String baseUrl = args.length > 0 ? args[0] : "http://localhost:8080";
+        int durationSeconds = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+        String levels = args.length > 2 ? args[2] : "1000,2000,5000,10000";
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(10))
+                    .executor(executor)
+                    .build();
+
+            String token = login(client, baseUrl);
+            seed(client, baseUrl, token);
+
+            System.out.printf("%-16s %8s %12s %10s %8s %8s%n", "endpoint", "conns", "req/s", "avg ms", "503",
+                    "error");
+            for (String path : List.of("/api/todos", "/api/cashflows")) {
+                for (String level : levels.split(",")) {
+                    run(client, executor, baseUrl + path, token, Integer.parseInt(level.trim()), durationSeconds,
+                            path);
+                }
+            }
+        }
+    }
+
+    private static void run(HttpClient client, ExecutorService executor, String url, String token,
+            int connections, int durationSeconds, String label) throws Exception {
+        LongAdder ok = new LongAdder();
+        LongAdder rejected = new LongAdder();
+        LongAdder errors = new LongAdder();
+        LongAdder latencyNanos = new LongAdder();
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url))
+                .header("Authorization", "Bearer " + token)
+                .timeout(Duration.ofSeconds(30))
+                .GET()
+                .build();
+
+        long deadline = System.nanoTime() + durationSeconds * 1_000_000_000L;
+        List<Future<?>> workers = new ArrayList<>(connections);
+        for (int i = 0; i < connections; i++) {
+            workers.add(executor.submit(() -> {
+                while (System.nanoTime() < deadline) {
+                    long start = System.nanoTime();
+                    try {
+                        int status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                        if (status == 200) {
+                            ok.increment();
+                            latencyNanos.add(System.nanoTime() - start);
+                        } else if (status == 503) {
+                            rejected.increment();
+                        } else {
+                            errors.increment();
+                        }
+                    } catch (Exception e) {
+                        errors.increment();
+                    }
+                }
+            }));
+        }
+        for (Future<?> worker : workers) {
+            worker.get();
+        }
+
+        long count = ok.sum();
+        System.out.printf("%-16s %8d %12.1f %10.2f %8d %8d%n", label, connections,
+                count / (double) durationSeconds,
+                count == 0 ? 0.0 : latencyNanos.sum() / (double) count / 1_000_000.0,
+                rejected.sum(), errors.sum());
+    }
+
+    private static String login(HttpClient client, String baseUrl) throws Exception {
+        String email = "load-" + UUID.randomUUID() + "@example.com";
+        post(client, baseUrl + "/api/auth/register", null,
+                "{\"name\":\"Load Test\",\"email\":\"" + email + "\",\"password\":\"password\"}");
+        String body = post(client, baseUrl + "/api/auth/login", null,
+                "{\"email\":\"" + email + "\",\"password\":\"password\"}");
+
+        Matcher matcher = AUTH_TOKEN.matcher(body);
+        if (!matcher.find()) {
+            throw new IllegalStateException("Login gagal: " + body);
+        }
+        return matcher.group(1);
+    }
+
+    private static void seed(HttpClient client, String baseUrl, String token) throws Exception {
+        for (int i = 0; i < SEED_ROWS; i++) {
+            post(client, baseUrl + "/api/todos", token,
+                    "{\"title\":\"Todo " + i + "\",\"description\":\"Data uji beban\"}");
+            post(client, baseUrl + "/api/cashflows", token,
+                    "{\"type\":\"" + (i % 2 == 0 ? "INCOME" : "EXPENSE") + "\",\"amount\":" + (1000 + i)
+                            + ",\"description\":\"Cash flow " + i + "\",\"date\":\"2025-01-01T10:00:00\"}");
+        }
+    }
+
+    private static String post(HttpClient client, String url, String token, String json) throws Exception {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(url))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json));
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return client.send(builder.build(), HttpResponse.BodyHandlers.ofString()).body();
+    }
+}
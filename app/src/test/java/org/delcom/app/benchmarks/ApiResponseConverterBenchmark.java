@@ -0,0 +1,141 @@
+package org.delcom.app.benchmarks;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.delcom.app.configs.ApiResponse;
+import org.delcom.app.configs.ApiResponseHttpMessageConverter;
+import org.delcom.app.entities.CashFlow;
+import org.delcom.app.utils.KeysetCursor;
+import org.delcom.app.utils.UuidV7Generator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.JacksonJsonHttpMessageConverter;
+
+/**
+ * Membandingkan penulisan response GET /api/cashflows (satu halaman 20 cash
+ * flow) lewat converter Jackson dengan ApiResponseHttpMessageConverter.
+ * Response dibuat ulang di setiap operasi seperti di controller, lalu ditulis
+ * ke output yang membuang byte.
+ *
+ * Alokasi per response dibaca dari baris gc.alloc.rate.norm (byte/op) hasil
+ * GCProfiler.
+ *
+ * Menjalankan: mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=org.delcom.app.benchmarks.ApiResponseConverterBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ApiResponseConverterBenchmark {
+    private static final int PAGE_SIZE = 20;
+
+    private JacksonJsonHttpMessageConverter jacksonConverter;
+    private ApiResponseHttpMessageConverter apiResponseConverter;
+    private List<CashFlow> cashFlows;
+    private String nextCursor;
+
+    @Setup
+    public void setup() {
+        jacksonConverter = new JacksonJsonHttpMessageConverter();
+        apiResponseConverter = new ApiResponseHttpMessageConverter(jacksonConverter);
+
+        UUID userId = UUID.randomUUID();
+        LocalDateTime date = LocalDateTime.of(2025, 1, 1, 8, 0);
+        cashFlows = new ArrayList<>();
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            boolean income = i % 3 == 0;
+            CashFlow cashFlow = new CashFlow(userId, income ? "INCOME" : "EXPENSE",
+                    new BigDecimal(income ? "2500000.00" : "35000.50"),
+                    income ? "Gaji bulanan" : "Belanja kebutuhan harian ke-" + i, date.plusDays(i));
+            cashFlow.setId(UuidV7Generator.generate());
+            cashFlow.setCreatedAt(date.plusDays(i).plusMinutes(5));
+            cashFlow.setUpdatedAt(date.plusDays(i).plusMinutes(5));
+            cashFlows.add(cashFlow);
+        }
+        CashFlow last = cashFlows.get(PAGE_SIZE - 1);
+        nextCursor = new KeysetCursor(last.getDate(), last.getId()).encode();
+    }
+
+    @Benchmark
+    public void writeJacksonBaseline(Blackhole blackhole) throws IOException {
+        jacksonConverter.write(buildResponse(), MediaType.APPLICATION_JSON, new DiscardingOutputMessage(blackhole));
+    }
+
+    @Benchmark
+    public void writeApiResponseConverter(Blackhole blackhole) throws IOException {
+        apiResponseConverter.write(buildResponse(), MediaType.APPLICATION_JSON,
+                new DiscardingOutputMessage(blackhole));
+    }
+
+    // Sama dengan CashFlowController.getAllCashFlows
+    private ApiResponse<Map<String, Object>> buildResponse() {
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("cashflows", cashFlows);
+        data.put("nextCursor", nextCursor);
+        return new ApiResponse<>("success", "Daftar cash flow berhasil diambil", data);
+    }
+
+    private static final class DiscardingOutputMessage implements HttpOutputMessage {
+        private final HttpHeaders headers = new HttpHeaders();
+        private final OutputStream body;
+
+        private DiscardingOutputMessage(Blackhole blackhole) {
+            this.body = new OutputStream() {
+                @Override
+                public void write(int b) {
+                    blackhole.consume(b);
+                }
+
+                @Override
+                public void write(byte[] b, int off, int len) {
+                    blackhole.consume(b);
+                    blackhole.consume(len);
+                }
+            };
+        }
+
+        @Override
+        public OutputStream getBody() {
+            return body;
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder()
+                .include(ApiResponseConverterBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
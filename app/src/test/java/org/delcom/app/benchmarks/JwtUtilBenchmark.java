@@ -0,0 +1,84 @@
+package org.delcom.app.benchmarks;
+
+import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.delcom.app.utils.JwtUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+
+/**
+ * Membandingkan throughput JwtUtil (parser yang dipakai ulang) dengan cara
+ * lama yang membuat parser dan builder baru di setiap pemanggilan.
+ *
+ * Menjalankan: mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=org.delcom.app.benchmarks.JwtUtilBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtUtilBenchmark {
+
+    private UUID userId;
+    private String token;
+
+    @Setup
+    public void setup() {
+        userId = UUID.randomUUID();
+        token = JwtUtil.generateToken(userId);
+    }
+
+    @Benchmark
+    public String generateTokenBaseline() {
+        return Jwts.builder()
+                .id(UUID.randomUUID().toString())
+                .subject(userId.toString())
+                .issuedAt(new Date())
+                .expiration(new Date(System.currentTimeMillis() + JwtUtil.getExpirationTime()))
+                .signWith(JwtUtil.getKey())
+                .compact();
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return JwtUtil.generateToken(userId);
+    }
+
+    @Benchmark
+    public UUID extractUserIdBaseline() {
+        Claims claims = Jwts.parser()
+                .verifyWith(JwtUtil.getKey())
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+        return UUID.fromString(claims.getSubject());
+    }
+
+    @Benchmark
+    public UUID extractUserId() {
+        return JwtUtil.extractUserId(token);
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder()
+                .include(JwtUtilBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,163 @@
+package org.delcom.app.configs;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.delcom.app.entities.CashFlow;
+import org.delcom.app.entities.Todo;
+import org.delcom.app.entities.User;
+import org.delcom.app.utils.KeysetCursor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.json.JacksonJsonHttpMessageConverter;
+import org.springframework.mock.http.MockHttpInputMessage;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import tools.jackson.databind.json.JsonMapper;
+
+public class ApiResponseHttpMessageConverterTests {
+
+    @Test
+    @DisplayName("Berbagai pengujian ApiResponseHttpMessageConverter")
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    public void testVariousApiResponseHttpMessageConverter() throws Exception {
+        JacksonJsonHttpMessageConverter jackson = new JacksonJsonHttpMessageConverter();
+        ApiResponseHttpMessageConverter converter = new ApiResponseHttpMessageConverter(jackson);
+        JsonMapper mapper = JsonMapper.builder().build();
+
+        UUID userId = UUID.randomUUID();
+        LocalDateTime date = LocalDateTime.of(2025, 1, 15, 10, 0);
+
+        Todo todo = new Todo(userId, "Belajar \"Spring\" Boot", "Baris 1\nBaris 2 — café", false);
+        todo.setId(UUID.randomUUID());
+        todo.setCreatedAt(date);
+        todo.setUpdatedAt(date.plusNanos(123_000_000));
+
+        CashFlow income = new CashFlow(userId, "INCOME", new BigDecimal("1500000.50"), "Gaji", date);
+        income.setId(UUID.randomUUID());
+        income.setCreatedAt(date);
+        income.setUpdatedAt(date);
+        CashFlow expense = new CashFlow(userId, "EXPENSE", new BigDecimal("20.00"), "Makan siang", date.plusDays(1));
+        expense.setId(UUID.randomUUID());
+
+        User user = new User("Test User", "testuser@example.com", null);
+        user.setId(userId);
+
+        // Hanya menulis ApiResponse dalam format JSON
+        {
+            assertEquals(true, converter.canWrite(ApiResponse.class, MediaType.APPLICATION_JSON));
+            assertEquals(false, converter.canWrite(String.class, MediaType.APPLICATION_JSON));
+            assertEquals(false, converter.canRead(ApiResponse.class, MediaType.APPLICATION_JSON));
+            assertThrows(HttpMessageNotReadableException.class,
+                    () -> converter.read((Class) ApiResponse.class, new MockHttpInputMessage(new byte[0])));
+        }
+
+        // Isi JSON sama dengan converter Jackson untuk payload Todo, CashFlow, dan User
+        {
+            Map<String, Object> page = new LinkedHashMap<>();
+            page.put("cashflows", List.of(income, expense));
+            page.put("nextCursor", new KeysetCursor(date, expense.getId()).encode());
+
+            Map<String, Object> values = new LinkedHashMap<>();
+            values.put("count", 3);
+            values.put("total", 1234567890123L);
+            values.put("amount", new BigDecimal("99.99"));
+            values.put("finished", true);
+            values.put("date", date);
+            values.put("id", userId);
+            values.put("items", Arrays.asList("a", null));
+            values.put("empty", Map.of());
+            values.put("none", List.of());
+
+            List<ApiResponse<?>> responses = List.of(
+                    new ApiResponse<>("success", "Data todo berhasil diambil", Map.of("todo", todo)),
+                    new ApiResponse<>("success", "Daftar cash flow berhasil diambil", page),
+                    new ApiResponse<>("success", "Berhasil mendapatkan info user", Map.of("user", user)),
+                    new ApiResponse<>("success", "User kosong", Map.of("user", new User())),
+                    new ApiResponse<>("success", "Todo berhasil dibuat", Map.of("id", todo.getId())),
+                    new ApiResponse<>("success", "Nilai sederhana", values),
+                    new ApiResponse<>("fail", "Data title tidak valid", null),
+                    new ApiResponse<>(null, "Tanpa status", null),
+                    new ApiResponse<>(null, null, List.of(todo)),
+                    new ApiResponse<>(null, null, null));
+
+            for (ApiResponse<?> response : responses) {
+                MockHttpOutputMessage expected = new MockHttpOutputMessage();
+                jackson.write(response, MediaType.APPLICATION_JSON, expected);
+                MockHttpOutputMessage actual = new MockHttpOutputMessage();
+                converter.write(response, MediaType.APPLICATION_JSON, actual);
+
+                assertEquals(MediaType.APPLICATION_JSON, actual.getHeaders().getContentType());
+                assertEquals(mapper.readTree(expected.getBodyAsString(StandardCharsets.UTF_8)),
+                        mapper.readTree(actual.getBodyAsString(StandardCharsets.UTF_8)));
+            }
+        }
+
+        // Response lebih besar dari buffer dan message dinamis melebihi batas cache
+        {
+            List<Todo> todos = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                todos.add(todo);
+            }
+            for (int i = 0; i <= ApiResponseHttpMessageConverter.MAX_ENCODED_STRINGS; i++) {
+                ApiResponse<?> response = new ApiResponse<>("fail", "Operasi ke-" + i + ": Data op tidak valid",
+                        Map.of("todos", todos));
+                MockHttpOutputMessage expected = new MockHttpOutputMessage();
+                jackson.write(response, MediaType.APPLICATION_JSON, expected);
+                MockHttpOutputMessage actual = new MockHttpOutputMessage();
+                converter.write(response, MediaType.APPLICATION_JSON, actual);
+                assertEquals(mapper.readTree(expected.getBodyAsString(StandardCharsets.UTF_8)),
+                        mapper.readTree(actual.getBodyAsString(StandardCharsets.UTF_8)));
+            }
+        }
+
+        // Payload yang tidak dikenal diteruskan ke delegate
+        {
+            HttpMessageConverter<Object> delegate = Mockito.mock(HttpMessageConverter.class);
+            ApiResponseHttpMessageConverter delegating = new ApiResponseHttpMessageConverter(delegate);
+
+            ApiResponse<Double> unsupported = new ApiResponse<>("success", "Angka pecahan", 1.5);
+            MockHttpOutputMessage message = new MockHttpOutputMessage();
+            delegating.write(unsupported, MediaType.APPLICATION_JSON, message);
+            verify(delegate).write(eq(unsupported), eq(MediaType.APPLICATION_JSON), eq(message));
+
+            ApiResponse<String> supported = new ApiResponse<>("success", "Teks", "data");
+            delegating.write(supported, MediaType.APPLICATION_JSON, new MockHttpOutputMessage());
+            verify(delegate, never()).write(eq(supported), any(), any());
+        }
+
+        // Pengecekan payload yang bisa ditulis sendiri
+        {
+            User withPassword = new User("Test User", "testuser@example.com", "hash");
+            assertEquals(false, ApiResponseHttpMessageConverter.isSupported(withPassword));
+            assertEquals(false, ApiResponseHttpMessageConverter.isSupported(new Todo() {
+            }));
+            assertEquals(false, ApiResponseHttpMessageConverter.isSupported(new CashFlow() {
+            }));
+            assertEquals(false, ApiResponseHttpMessageConverter.isSupported(new User() {
+            }));
+            assertEquals(false, ApiResponseHttpMessageConverter.isSupported(Map.of(1, "satu")));
+            assertEquals(false, ApiResponseHttpMessageConverter.isSupported(Map.of("nilai", 1.5)));
+            assertEquals(false, ApiResponseHttpMessageConverter.isSupported(List.of("a", 1.5)));
+            assertEquals(true, ApiResponseHttpMessageConverter.isSupported(List.of(todo, income, user)));
+        }
+    }
+}
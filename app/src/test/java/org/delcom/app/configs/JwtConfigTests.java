@@ -0,0 +1,39 @@
+package org.delcom.app.configs;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import org.delcom.app.utils.JwtUtil;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+
+public class JwtConfigTests {
+
+    @Test
+    @DisplayName("Pengujian JwtConfig memasang secret dari konfigurasi")
+    public void testVariousJwtConfig() {
+        UUID userId = UUID.randomUUID();
+        String secret = "secret-pengujian-jwt-config-yang-panjangnya-cukup";
+
+        // Token yang ditandatangani dengan secret konfigurasi diterima
+        {
+            new JwtConfig(secret);
+            String token = Jwts.builder()
+                    .subject(userId.toString())
+                    .signWith(Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8)), Jwts.SIG.HS384)
+                    .compact();
+            assertEquals(userId, JwtUtil.extractUserId(token));
+        }
+
+        // Secret terlalu pendek ditolak saat start
+        {
+            assertThrows(IllegalArgumentException.class, () -> new JwtConfig("pendek"));
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package org.delcom.app.configs;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.mockito.Mockito;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+public class SearchIndexInitializerTests {
+    @Test
+    @DisplayName("Pengujian pembuatan index pencarian")
+    void testSearchIndexInitializer() throws Exception {
+        // Semua index berhasil dibuat
+        {
+            JdbcTemplate jdbcTemplate = Mockito.mock(JdbcTemplate.class);
+            new SearchIndexInitializer(jdbcTemplate).createIndexes();
+
+            for (String statement : SearchIndexInitializer.STATEMENTS) {
+                verify(jdbcTemplate).execute(statement);
+            }
+
+            // Index dibuat tanpa mengunci penulisan ke tabel
+            List<String> indexStatements = SearchIndexInitializer.STATEMENTS.subList(1,
+                    SearchIndexInitializer.STATEMENTS.size());
+            for (String statement : indexStatements) {
+                assertTrue(statement.startsWith("CREATE INDEX CONCURRENTLY IF NOT EXISTS "));
+            }
+        }
+
+        // Index INVALID dari pembuatan sebelumnya yang gagal dihapus lalu dibuat ulang
+        {
+            JdbcTemplate jdbcTemplate = Mockito.mock(JdbcTemplate.class);
+            when(jdbcTemplate.queryForList(SearchIndexInitializer.INVALID_INDEXES_QUERY, String.class))
+                    .thenReturn(List.of("ix_todos_title_trgm"));
+            new SearchIndexInitializer(jdbcTemplate).createIndexes();
+
+            InOrder inOrder = Mockito.inOrder(jdbcTemplate);
+            inOrder.verify(jdbcTemplate).execute("DROP INDEX CONCURRENTLY IF EXISTS ix_todos_title_trgm");
+            inOrder.verify(jdbcTemplate).execute(SearchIndexInitializer.STATEMENTS.get(1));
+        }
+
+        // Extension gagal dibuat, index tidak dilanjutkan
+        {
+            JdbcTemplate jdbcTemplate = Mockito.mock(JdbcTemplate.class);
+            doThrow(new DataAccessResourceFailureException("permission denied"))
+                    .when(jdbcTemplate).execute(SearchIndexInitializer.STATEMENTS.get(0));
+            new SearchIndexInitializer(jdbcTemplate).createIndexes();
+
+            verify(jdbcTemplate).execute(anyString());
+            verify(jdbcTemplate, never()).execute(SearchIndexInitializer.STATEMENTS.get(1));
+        }
+    }
+}
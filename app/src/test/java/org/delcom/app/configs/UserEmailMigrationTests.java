@@ -0,0 +1,54 @@
+package org.delcom.app.configs;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.mockito.Mockito;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+public class UserEmailMigrationTests {
+    @Test
+    @DisplayName("Pengujian normalisasi email user dan unique index lower(email)")
+    void testUserEmailMigration() throws Exception {
+        // Index sudah ada, data tidak disentuh lagi
+        {
+            JdbcTemplate jdbcTemplate = Mockito.mock(JdbcTemplate.class);
+            when(jdbcTemplate.queryForObject(UserEmailMigration.INDEX_EXISTS_QUERY, Boolean.class))
+                    .thenReturn(true);
+            new UserEmailMigration(jdbcTemplate).migrate();
+
+            verify(jdbcTemplate, never()).update(anyString());
+            verify(jdbcTemplate, never()).execute(anyString());
+        }
+
+        // Duplikat diberi akhiran lebih dulu, lalu email dinormalisasi sebelum index dibuat
+        {
+            JdbcTemplate jdbcTemplate = Mockito.mock(JdbcTemplate.class);
+            when(jdbcTemplate.queryForObject(UserEmailMigration.INDEX_EXISTS_QUERY, Boolean.class))
+                    .thenReturn(false);
+            when(jdbcTemplate.update(UserEmailMigration.RENAME_DUPLICATES)).thenReturn(1);
+            when(jdbcTemplate.update(UserEmailMigration.NORMALIZE_EMAILS)).thenReturn(3);
+            new UserEmailMigration(jdbcTemplate).migrate();
+
+            InOrder inOrder = Mockito.inOrder(jdbcTemplate);
+            inOrder.verify(jdbcTemplate).update(UserEmailMigration.RENAME_DUPLICATES);
+            inOrder.verify(jdbcTemplate).update(UserEmailMigration.NORMALIZE_EMAILS);
+            inOrder.verify(jdbcTemplate).execute(UserEmailMigration.CREATE_INDEX);
+        }
+
+        // Tanpa duplikat, index tetap dibuat
+        {
+            JdbcTemplate jdbcTemplate = Mockito.mock(JdbcTemplate.class);
+            when(jdbcTemplate.queryForObject(UserEmailMigration.INDEX_EXISTS_QUERY, Boolean.class))
+                    .thenReturn(null);
+            new UserEmailMigration(jdbcTemplate).migrate();
+
+            verify(jdbcTemplate).execute(UserEmailMigration.CREATE_INDEX);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package org.delcom.app.configs;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.delcom.app.interceptors.AuthInterceptor;
+import org.delcom.app.interceptors.DbConcurrencyInterceptor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.handler.MappedInterceptor;
+import org.springframework.web.util.ServletRequestPathUtils;
+
+public class WebMvcConfigTests {
+
+    // Membuka daftar interceptor yang didaftarkan
+    private static class TestInterceptorRegistry extends InterceptorRegistry {
+        List<Object> interceptors() {
+            return getInterceptors();
+        }
+    }
+
+    @Test
+    @DisplayName("Pengujian pendaftaran interceptor WebMvcConfig")
+    public void testVariousWebMvcConfig() throws Exception {
+        DbConcurrencyInterceptor dbConcurrencyInterceptor = new DbConcurrencyInterceptor(true, 1, 0);
+        WebMvcConfig config = new WebMvcConfig();
+        ReflectionTestUtils.setField(config, "authInterceptor", Mockito.mock(AuthInterceptor.class));
+        ReflectionTestUtils.setField(config, "dbConcurrencyInterceptor", dbConcurrencyInterceptor);
+
+        TestInterceptorRegistry registry = new TestInterceptorRegistry();
+        config.addInterceptors(registry);
+        MappedInterceptor dbConcurrency = registry.interceptors().stream()
+                .map(MappedInterceptor.class::cast)
+                .filter(interceptor -> interceptor.getInterceptor() == dbConcurrencyInterceptor)
+                .findFirst()
+                .orElseThrow();
+
+        // Login, register, ganti password, dan export tidak memakai slot
+        {
+            for (String path : List.of("/api/auth/login", "/api/auth/register", "/api/users/me/password",
+                    "/api/cashflows/export")) {
+                MockHttpServletRequest request = new MockHttpServletRequest("POST", path);
+                ServletRequestPathUtils.parseAndCache(request);
+                assertEquals(false, dbConcurrency.matches(request), path);
+
+                // Sama seperti DispatcherServlet, interceptor hanya dijalankan jika path cocok
+                if (dbConcurrency.matches(request)) {
+                    dbConcurrency.preHandle(request, new MockHttpServletResponse(), null);
+                }
+            }
+            assertEquals(1, dbConcurrencyInterceptor.availablePermits());
+        }
+
+        // Endpoint API lain tetap memakai slot
+        {
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/todos");
+            ServletRequestPathUtils.parseAndCache(request);
+            assertTrue(dbConcurrency.matches(request));
+
+            assertTrue(dbConcurrency.preHandle(request, new MockHttpServletResponse(), null));
+            assertEquals(0, dbConcurrencyInterceptor.availablePermits());
+            dbConcurrency.afterCompletion(request, new MockHttpServletResponse(), null, null);
+            assertEquals(1, dbConcurrencyInterceptor.availablePermits());
+        }
+    }
+}
@@ -0,0 +1,666 @@
+package org.delcom.app.controllers;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import org.delcom.app.configs.AuthContext;
+import org.delcom.app.entities.CashFlow;
+import org.delcom.app.entities.CashFlowBucket;
+import org.delcom.app.entities.CashFlowSummary;
+import org.delcom.app.entities.User;
+import org.delcom.app.services.CashFlowService;
+import org.delcom.app.utils.CursorPage;
+import org.delcom.app.utils.MoneyUtil;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponse;
+
+public class CashFlowControllerTests {
+    @Test
+    @DisplayName("Pengujian untuk controller CashFlow")
+    void testCashFlowController() throws Exception {
+        // Buat random UUID
+        UUID userId = UUID.randomUUID();
+        UUID cashFlowId = UUID.randomUUID();
+        UUID nonexistentCashFlowId = UUID.randomUUID();
+        LocalDateTime date = LocalDateTime.now();
+
+        // Membuat dummy data
+        CashFlow cashFlow = new CashFlow(userId, "INCOME", new BigDecimal("50000"), "Uang saku", date);
+        cashFlow.setId(cashFlowId);
+
+        // Membuat mock ServiceRepository
+        CashFlowService cashFlowService = Mockito.mock(CashFlowService.class);
+
+        // Atur perilaku mock
+        when(cashFlowService.createCashFlow(any(UUID.class), any(String.class), any(BigDecimal.class), 
+                any(String.class), any(LocalDateTime.class))).thenReturn(cashFlow);
+
+        // Membuat instance controller
+        CashFlowController cashFlowController = new CashFlowController(cashFlowService);
+        assert (cashFlowController != null);
+
+        cashFlowController.authContext = new AuthContext();
+        User authUser = new User("Test User", "testuser@example.com");
+        authUser.setId(userId);
+
+        // Menguji method createCashFlow
+        {
+            cashFlowController.authContext.setAuthUser(authUser);
+            
+            // Data tidak valid - Type
+            {
+                // Type Null
+                CashFlow invalidCashFlow1 = new CashFlow(userId, null, new BigDecimal("50000"), "Deskripsi valid", date);
+                var result1 = cashFlowController.createCashFlow(invalidCashFlow1);
+                assert (result1 != null);
+                assert (result1.getStatusCode().is4xxClientError());
+                assert (result1.getBody().getStatus().equals("fail"));
+
+                // Type Kosong
+                CashFlow invalidCashFlow2 = new CashFlow(userId, "", new BigDecimal("50000"), "Deskripsi valid", date);
+                var result2 = cashFlowController.createCashFlow(invalidCashFlow2);
+                assert (result2 != null);
+                assert (result2.getStatusCode().is4xxClientError());
+                assert (result2.getBody().getStatus().equals("fail"));
+
+                // Type Invalid (bukan INCOME atau EXPENSE)
+                CashFlow invalidCashFlow3 = new CashFlow(userId, "INVALID", new BigDecimal("50000"), "Deskripsi valid", date);
+                var result3 = cashFlowController.createCashFlow(invalidCashFlow3);
+                assert (result3 != null);
+                assert (result3.getStatusCode().is4xxClientError());
+                assert (result3.getBody().getStatus().equals("fail"));
+                
+                // ✅ Type Valid = "EXPENSE" (untuk cover branch yang missed)
+                CashFlow validTypeExpense = new CashFlow(userId, "EXPENSE", new BigDecimal("30000"), "Belanja bulanan", date);
+                var result4 = cashFlowController.createCashFlow(validTypeExpense);
+                assert (result4 != null);
+                assert (result4.getBody().getStatus().equals("success"));
+            }
+
+            // Data tidak valid - Amount
+            {
+                // Amount Null
+                CashFlow invalidCashFlow1 = new CashFlow(userId, "INCOME", null, "Deskripsi valid", date);
+                var result1 = cashFlowController.createCashFlow(invalidCashFlow1);
+                assert (result1 != null);
+                assert (result1.getStatusCode().is4xxClientError());
+                assert (result1.getBody().getStatus().equals("fail"));
+
+                // Amount = 0
+                CashFlow invalidCashFlow2 = new CashFlow(userId, "INCOME", new BigDecimal("0"), "Deskripsi valid", date);
+                var result2 = cashFlowController.createCashFlow(invalidCashFlow2);
+                assert (result2 != null);
+                assert (result2.getStatusCode().is4xxClientError());
+                assert (result2.getBody().getStatus().equals("fail"));
+
+                // Amount < 0
+                CashFlow invalidCashFlow3 = new CashFlow(userId, "INCOME", new BigDecimal("-1000"), "Deskripsi valid", date);
+                var result3 = cashFlowController.createCashFlow(invalidCashFlow3);
+                assert (result3 != null);
+                assert (result3.getStatusCode().is4xxClientError());
+                assert (result3.getBody().getStatus().equals("fail"));
+
+                // Amount lebih dari 2 angka desimal
+                CashFlow invalidCashFlow4 = new CashFlow(userId, "INCOME", new BigDecimal("10.005"), "Deskripsi valid", date);
+                var result4 = cashFlowController.createCashFlow(invalidCashFlow4);
+                assert (result4.getStatusCode().is4xxClientError());
+                assert (result4.getBody().getStatus().equals("fail"));
+
+                // Amount melebihi batas maksimal
+                CashFlow invalidCashFlow5 = new CashFlow(userId, "INCOME",
+                        MoneyUtil.MAX_AMOUNT.add(BigDecimal.ONE), "Deskripsi valid", date);
+                var result5 = cashFlowController.createCashFlow(invalidCashFlow5);
+                assert (result5.getStatusCode().is4xxClientError());
+                assert (result5.getBody().getStatus().equals("fail"));
+            }
+
+            // Data tidak valid - Description
+            {
+                // Description Null
+                CashFlow invalidCashFlow1 = new CashFlow(userId, "INCOME", new BigDecimal("50000"), null, date);
+                var result1 = cashFlowController.createCashFlow(invalidCashFlow1);
+                assert (result1 != null);
+                assert (result1.getStatusCode().is4xxClientError());
+                assert (result1.getBody().getStatus().equals("fail"));
+
+                // Description Kosong
+                CashFlow invalidCashFlow2 = new CashFlow(userId, "INCOME", new BigDecimal("50000"), "", date);
+                var result2 = cashFlowController.createCashFlow(invalidCashFlow2);
+                assert (result2 != null);
+                assert (result2.getStatusCode().is4xxClientError());
+                assert (result2.getBody().getStatus().equals("fail"));
+            }
+
+            // Data tidak valid - Date
+            {
+                // Date Null
+                CashFlow invalidCashFlow = new CashFlow(userId, "INCOME", new BigDecimal("50000"), "Deskripsi valid", null);
+                var result = cashFlowController.createCashFlow(invalidCashFlow);
+                assert (result != null);
+                assert (result.getStatusCode().is4xxClientError());
+                assert (result.getBody().getStatus().equals("fail"));
+            }
+
+            // Tidak terautentikasi untuk menambahkan cashFlow
+            {
+                cashFlowController.authContext.setAuthUser(null);
+
+                var result = cashFlowController.createCashFlow(cashFlow);
+                assert (result != null);
+                assert (result.getStatusCode().is4xxClientError());
+                assert (result.getBody().getStatus().equals("fail"));
+            }
+
+            // Berhasil menambahkan cashFlow
+            {
+                cashFlowController.authContext.setAuthUser(authUser);
+                var result = cashFlowController.createCashFlow(cashFlow);
+                assert (result != null);
+                assert (result.getBody().getStatus().equals("success"));
+            }
+        }
+
+        // Menguji method getAllCashFlows
+        {
+            // Tidak terautentikasi untuk getAllCashFlows
+            {
+                cashFlowController.authContext.setAuthUser(null);
+
+                var result = cashFlowController.getAllCashFlows(null, null, null, null, "desc", null, null);
+                assert (result != null);
+                assert (result.getStatusCode().is4xxClientError());
+                assert (result.getBody().getStatus().equals("fail"));
+            }
+
+            cashFlowController.authContext.setAuthUser(authUser);
+
+            // Menguji getAllCashFlows dengan search
+            {
+                List<CashFlow> dummyResponse = List.of(cashFlow);
+                when(cashFlowService.searchCashFlows(userId, "saku", null, null))
+                        .thenReturn(new CursorPage<>(dummyResponse, "cursor-pencarian"));
+                var result = cashFlowController.getAllCashFlows("saku", null, null, null, "desc", null, null);
+                assert (result != null);
+                assert (result.getBody().getStatus().equals("success"));
+                assert (result.getBody().getData().get("cashflows").equals(dummyResponse));
+                assert (result.getBody().getData().get("nextCursor").equals("cursor-pencarian"));
+            }
+
+            // Filter atau urutan tidak valid
+            {
+                LocalDateTime now = LocalDateTime.now();
+                var result = cashFlowController.getAllCashFlows(null, "LAINNYA", null, null, "desc", null, null);
+                assert (result.getStatusCode().is4xxClientError());
+                assert (result.getBody().getStatus().equals("fail"));
+
+                result = cashFlowController.getAllCashFlows("  ", null, null, null, "acak", null, null);
+                assert (result.getStatusCode().is4xxClientError());
+
+                result = cashFlowController.getAllCashFlows(null, null, now, now.minusDays(1), "desc", null, null);
+                assert (result.getStatusCode().is4xxClientError());
+            }
+
+            // Menguji getAllCashFlows tanpa search (per halaman)
+            {
+                LocalDateTime now = LocalDateTime.now();
+                when(cashFlowService.getCashFlowsPage(userId, "INCOME", null, now, false, null, 1))
+                        .thenReturn(new CursorPage<>(List.of(cashFlow), "cursor-berikutnya"));
+                var result = cashFlowController.getAllCashFlows(null, "INCOME", null, now, "desc", null, 1);
+                assert (result.getBody().getStatus().equals("success"));
+                assert (result.getBody().getData().get("nextCursor").equals("cursor-berikutnya"));
+
+                // Halaman terakhir tidak memiliki nextCursor
+                when(cashFlowService.getCashFlowsPage(userId, "EXPENSE", now.minusDays(1), now, true,
+                        "cursor-berikutnya", 1)).thenReturn(new CursorPage<>(List.of(cashFlow), null));
+                result = cashFlowController.getAllCashFlows(null, "EXPENSE", now.minusDays(1), now, "asc",
+                        "cursor-berikutnya", 1);
+                assert (result.getBody().getStatus().equals("success"));
+                assert (!result.getBody().getData().containsKey("nextCursor"));
+
+                // Hanya from yang diisi
+                when(cashFlowService.getCashFlowsPage(userId, null, now, null, false, null, null))
+                        .thenReturn(new CursorPage<>(List.of(), null));
+                result = cashFlowController.getAllCashFlows(null, null, now, null, "desc", null, null);
+                assert (result.getBody().getStatus().equals("success"));
+            }
+
+            // Menguji getAllCashFlows dengan cursor tidak valid
+            {
+                when(cashFlowService.getCashFlowsPage(userId, null, null, null, false, "bukan-cursor", null))
+                        .thenThrow(new IllegalArgumentException("Cursor tidak valid"));
+                var result = cashFlowController.getAllCashFlows(null, null, null, null, "desc", "bukan-cursor", null);
+                assert (result.getStatusCode().is4xxClientError());
+                assert (result.getBody().getStatus().equals("fail"));
+            }
+        }
+
+        // Menguji method createCashFlows (bulk)
+        {
+            CashFlow invalidCashFlow = new CashFlow(userId, "LAINNYA", new BigDecimal("1000"), "Tidak valid", date);
+
+            // Data kosong atau terlalu banyak
+            {
+                var result = cashFlowController.createCashFlows(null);
+                assert (result.getStatusCode().is4xxClientError());
+                result = cashFlowController.createCashFlows(List.of());
+                assert (result.getStatusCode().is4xxClientError());
+
+                List<CashFlow> tooMany = java.util.Collections.nCopies(CashFlowController.MAX_BULK_SIZE + 1, cashFlow);
+                result = cashFlowController.createCashFlows(tooMany);
+                assert (result.getStatusCode().is4xxClientError());
+                assert (result.getBody().getStatus().equals("fail"));
+            }
+
+            // Tidak terautentikasi
+            {
+                cashFlowController.authContext.setAuthUser(null);
+
+                var result = cashFlowController.createCashFlows(List.of(cashFlow));
+                assert (result.getStatusCode().is4xxClientError());
+                assert (result.getBody().getStatus().equals("fail"));
+            }
+
+            cashFlowController.authContext.setAuthUser(authUser);
+
+            // Semua baris tidak valid
+            {
+                var result = cashFlowController.createCashFlows(java.util.Arrays.asList(invalidCashFlow, null));
+                assert (result.getStatusCode().is4xxClientError());
+                assert (result.getBody().getData().get("inserted").equals(0));
+                assert (((List<?>) result.getBody().getData().get("failed")).size() == 2);
+            }
+
+            // Sebagian baris valid disimpan, baris lainnya dilaporkan
+            {
+                when(cashFlowService.createCashFlows(userId, List.of(cashFlow))).thenReturn(1);
+                var result = cashFlowController.createCashFlows(List.of(cashFlow, invalidCashFlow));
+                assert (result.getBody().getStatus().equals("success"));
+                assert (result.getBody().getData().get("inserted").equals(1));
+
+                List<?> failed = (List<?>) result.getBody().getData().get("failed");
+                assert (failed.size() == 1);
+                assert (((Map<?, ?>) failed.get(0)).get("index").equals(1));
+                assert (((Map<?, ?>) failed.get(0)).get("message").equals("Data type harus INCOME atau EXPENSE"));
+            }
+
+            // Total nominal melebihi batas, seluruh batch ditolak sebagai data tidak valid
+            {
+                when(cashFlowService.createCashFlows(userId, List.of(cashFlow)))
+                        .thenThrow(new IllegalArgumentException("Total nominal cash flow melebihi batas"));
+                var result = cashFlowController.createCashFlows(List.of(cashFlow));
+                assert (result.getStatusCode().is4xxClientError());
+                assert (result.getBody().getStatus().equals("fail"));
+                assert (result.getBody().getMessage().equals("Total nominal cash flow melebihi batas"));
+            }
+        }
+
+        // Menguji method getSummary
+        {
+            // Tidak terautentikasi untuk getSummary
+            {
+                cashFlowController.authContext.setAuthUser(null);
+
+                var result = cashFlowController.getSummary(null, null);
+                assert (result.getStatusCode().is4xxClientError());
+                assert (result.getBody().getStatus().equals("fail"));
+            }
+
+            cashFlowController.authContext.setAuthUser(authUser);
+
+            // Rentang bulan tidak valid
+            {
+                var result = cashFlowController.getSummary(YearMonth.of(2025, 2), YearMonth.of(2025, 1));
+                assert (result.getStatusCode().is4xxClientError());
+                assert (result.getBody().getStatus().equals("fail"));
+            }
+
+            // Berhasil mengambil ringkasan
+            {
+                CashFlowSummary summary = new CashFlowSummary(new BigDecimal("50000.00"), new BigDecimal("20000.00"),
+                        new BigDecimal("30000.00"), List.of());
+                when(cashFlowService.getSummary(userId, null, null)).thenReturn(summary);
+                var result = cashFlowController.getSummary(null, null);
+                assert (result.getBody().getStatus().equals("success"));
+                assert (result.getBody().getData().equals(summary));
+
+                when(cashFlowService.getSummary(userId, YearMonth.of(2025, 1), null)).thenReturn(summary);
+                result = cashFlowController.getSummary(YearMonth.of(2025, 1), null);
+                assert (result.getBody().getStatus().equals("success"));
+
+                when(cashFlowService.getSummary(userId, YearMonth.of(2025, 1), YearMonth.of(2025, 3)))
+                        .thenReturn(summary);
+                result = cashFlowController.getSummary(YearMonth.of(2025, 1), YearMonth.of(2025, 3));
+                assert (result.getBody().getStatus().equals("success"));
+            }
+        }
+
+        // Menguji method getAnalytics
+        {
+            LocalDateTime from = LocalDateTime.of(2025, 1, 1, 0, 0);
+            LocalDateTime to = LocalDateTime.of(2025, 4, 1, 0, 0);
+
+            // Tidak terautentikasi untuk getAnalytics
+            {
+                cashFlowController.authContext.setAuthUser(null);
+
+                var result = cashFlowController.getAnalytics("month", from, to);
+                assert (result.getStatusCode().is4xxClientError());
+                assert (result.getBody().getStatus().equals("fail"));
+            }
+
+            cashFlowController.authContext.setAuthUser(authUser);
+
+            // Interval atau rentang tidak valid
+            {
+                var result = cashFlowController.getAnalytics("year", from, to);
+                assert (result.getStatusCode().is4xxClientError());
+                assert (result.getBody().getStatus().equals("fail"));
+
+                result = cashFlowController.getAnalytics("month", to, from);
+                assert (result.getStatusCode().is4xxClientError());
+                result = cashFlowController.getAnalytics("month", from, from);
+                assert (result.getStatusCode().is4xxClientError());
+            }
+
+            // Berhasil mengambil analitik
+            {
+                List<CashFlowBucket> buckets = List.of(
+                        new CashFlowBucket(java.time.LocalDate.of(2025, 1, 1), new BigDecimal("50000.00"),
+                                new BigDecimal("20000.00")));
+                when(cashFlowService.getAnalytics(userId, "week", from, to)).thenReturn(buckets);
+                var result = cashFlowController.getAnalytics("week", from, to);
+                assert (result.getBody().getStatus().equals("success"));
+                assert (result.getBody().getData().get("buckets").equals(buckets));
+            }
+        }
+
+        // Menguji method exportCashFlows
+        {
+            CashFlow exportedCashFlow = new CashFlow(userId, "EXPENSE", new BigDecimal("12500.50"), "Makan \"siang\", kantin", date);
+            exportedCashFlow.setId(cashFlowId);
+            exportedCashFlow.setCreatedAt(date);
+            exportedCashFlow.setUpdatedAt(date);
+            Mockito.doAnswer(invocation -> {
+                Consumer<CashFlow> consumer = invocation.getArgument(1);
+                consumer.accept(exportedCashFlow);
+                return null;
+            }).when(cashFlowService).exportCashFlows(eq(userId), any());
+
+            // Tidak terautentikasi untuk exportCashFlows
+            {
+                cashFlowController.authContext.setAuthUser(null);
+
+                MockHttpServletResponse response = new MockHttpServletResponse();
+                cashFlowController.exportCashFlows("ndjson", response);
+                assert (response.getStatus() == 403);
+                assert (response.getContentType().startsWith("application/json"));
+                assert (response.getContentAsString()
+                        .equals("{\"status\":\"fail\",\"message\":\"User tidak terautentikasi\"}"));
+            }
+
+            cashFlowController.authContext.setAuthUser(authUser);
+
+            // Format tidak valid
+            {
+                MockHttpServletResponse response = new MockHttpServletResponse();
+                cashFlowController.exportCashFlows("xml", response);
+                assert (response.getStatus() == 400);
+                assert (response.getContentAsString()
+                        .equals("{\"status\":\"fail\",\"message\":\"Data format harus ndjson atau csv\"}"));
+            }
+
+            // Export NDJSON
+            {
+                MockHttpServletResponse response = new MockHttpServletResponse();
+                cashFlowController.exportCashFlows("ndjson", response);
+                assert (response.getStatus() == 200);
+                assert (response.getContentType().startsWith("application/x-ndjson"));
+                assert (response.getContentAsString().equals("{\"id\":\"" + cashFlowId
+                        + "\",\"type\":\"EXPENSE\",\"amount\":12500.50"
+                        + ",\"description\":\"Makan \\\"siang\\\", kantin\""
+                        + ",\"date\":\"" + date + "\",\"createdAt\":\"" + date
+                        + "\",\"updatedAt\":\"" + date + "\"}\n"));
+            }
+
+            // Export CSV
+            {
+                MockHttpServletResponse response = new MockHttpServletResponse();
+                cashFlowController.exportCashFlows("csv", response);
+                assert (response.getContentType().startsWith("text/csv"));
+                assert (response.getHeader("Content-Disposition").contains("cashflows.csv"));
+                assert (response.getContentAsString().equals(
+                        "id,type,amount,description,date,createdAt,updatedAt\n"
+                                + cashFlowId + ",EXPENSE,12500.50,\"Makan \"\"siang\"\", kantin\","
+                                + date + "," + date + "," + date + "\n"));
+            }
+
+            // Koneksi client terputus saat menulis
+            {
+                exportedCashFlow.setDescription("x".repeat(10_000));
+                HttpServletResponse response = Mockito.mock(HttpServletResponse.class);
+                when(response.getOutputStream()).thenReturn(new ServletOutputStream() {
+                    @Override
+                    public void write(int b) throws IOException {
+                        throw new IOException("Broken pipe");
+                    }
+
+                    @Override
+                    public boolean isReady() {
+                        return true;
+                    }
+
+                    @Override
+                    public void setWriteListener(WriteListener writeListener) {
+                    }
+                });
+
+                try {
+                    cashFlowController.exportCashFlows("ndjson", response);
+                    assert (false);
+                } catch (IOException e) {
+                    assert (e.getMessage().equals("Broken pipe"));
+                }
+            }
+        }
+
+        // Menguji method getCashFlowById
+        {
+            // Tidak terautentikasi untuk getCashFlowById
+            {
+                cashFlowController.authContext.setAuthUser(null);
+
+                var result = cashFlowController.getCashFlowById(cashFlowId);
+                assert (result != null);
+                assert (result.getStatusCode().is4xxClientError());
+                assert (result.getBody().getStatus().equals("fail"));
+            }
+
+            cashFlowController.authContext.setAuthUser(authUser);
+
+            // Menguji getCashFlowById dengan ID yang ada
+            {
+                when(cashFlowService.getCashFlowById(any(UUID.class), any(UUID.class))).thenReturn(cashFlow);
+                var result = cashFlowController.getCashFlowById(cashFlowId);
+                assert (result != null);
+                assert (result.getBody().getStatus().equals("success"));
+                assert (result.getBody().getData().get("cashflow").getId().equals(cashFlowId));
+            }
+
+            // Menguji getCashFlowById dengan ID yang tidak ada
+            {
+                when(cashFlowService.getCashFlowById(any(UUID.class), any(UUID.class))).thenReturn(null);
+                var result = cashFlowController.getCashFlowById(nonexistentCashFlowId);
+                assert (result != null);
+                assert (result.getBody().getStatus().equals("fail"));
+            }
+        }
+
+        // Menguji method updateCashFlow
+        {
+            cashFlowController.authContext.setAuthUser(authUser);
+            
+            // Data tidak valid - Type
+            {
+                // Type Null
+                CashFlow invalidCashFlow1 = new CashFlow(userId, null, new BigDecimal("50000"), "Deskripsi valid", date);
+                var result1 = cashFlowController.updateCashFlow(cashFlowId, invalidCashFlow1);
+                assert (result1 != null);
+                assert (result1.getStatusCode().is4xxClientError());
+                assert (result1.getBody().getStatus().equals("fail"));
+
+                // Type Kosong
+                CashFlow invalidCashFlow2 = new CashFlow(userId, "", new BigDecimal("50000"), "Deskripsi valid", date);
+                var result2 = cashFlowController.updateCashFlow(cashFlowId, invalidCashFlow2);
+                assert (result2 != null);
+                assert (result2.getStatusCode().is4xxClientError());
+                assert (result2.getBody().getStatus().equals("fail"));
+
+                // Type Invalid
+                CashFlow invalidCashFlow3 = new CashFlow(userId, "INVALID", new BigDecimal("50000"), "Deskripsi valid", date);
+                var result3 = cashFlowController.updateCashFlow(cashFlowId, invalidCashFlow3);
+                assert (result3 != null);
+                assert (result3.getStatusCode().is4xxClientError());
+                assert (result3.getBody().getStatus().equals("fail"));
+                
+                // ✅ Type Valid = "INCOME" (untuk cover branch yang missed)
+                CashFlow validTypeIncome = new CashFlow(userId, "INCOME", new BigDecimal("100000"), "Gaji", date);
+                validTypeIncome.setId(cashFlowId);
+                when(cashFlowService.updateCashFlow(any(UUID.class), any(UUID.class), any(String.class), 
+                        any(BigDecimal.class), any(String.class), any(LocalDateTime.class)))
+                        .thenReturn(true);
+                var result4 = cashFlowController.updateCashFlow(cashFlowId, validTypeIncome);
+                assert (result4 != null);
+                assert (result4.getBody().getStatus().equals("success"));
+            }
+
+            // Data tidak valid - Amount
+            {
+                // Amount Null
+                CashFlow invalidCashFlow1 = new CashFlow(userId, "INCOME", null, "Deskripsi valid", date);
+                var result1 = cashFlowController.updateCashFlow(cashFlowId, invalidCashFlow1);
+                assert (result1 != null);
+                assert (result1.getStatusCode().is4xxClientError());
+                assert (result1.getBody().getStatus().equals("fail"));
+
+                // Amount = 0
+                CashFlow invalidCashFlow2 = new CashFlow(userId, "INCOME", new BigDecimal("0"), "Deskripsi valid", date);
+                var result2 = cashFlowController.updateCashFlow(cashFlowId, invalidCashFlow2);
+                assert (result2 != null);
+                assert (result2.getStatusCode().is4xxClientError());
+                assert (result2.getBody().getStatus().equals("fail"));
+            }
+
+            // Data tidak valid - Description
+            {
+                // Description Null
+                CashFlow invalidCashFlow1 = new CashFlow(userId, "INCOME", new BigDecimal("50000"), null, date);
+                var result1 = cashFlowController.updateCashFlow(cashFlowId, invalidCashFlow1);
+                assert (result1 != null);
+                assert (result1.getStatusCode().is4xxClientError());
+                assert (result1.getBody().getStatus().equals("fail"));
+
+                // Description Kosong
+                CashFlow invalidCashFlow2 = new CashFlow(userId, "INCOME", new BigDecimal("50000"), "", date);
+                var result2 = cashFlowController.updateCashFlow(cashFlowId, invalidCashFlow2);
+                assert (result2 != null);
+                assert (result2.getStatusCode().is4xxClientError());
+                assert (result2.getBody().getStatus().equals("fail"));
+            }
+
+            // Data tidak valid - Date
+            {
+                // Date Null
+                CashFlow invalidCashFlow = new CashFlow(userId, "INCOME", new BigDecimal("50000"), "Deskripsi valid", null);
+                var result = cashFlowController.updateCashFlow(cashFlowId, invalidCashFlow);
+                assert (result != null);
+                assert (result.getStatusCode().is4xxClientError());
+                assert (result.getBody().getStatus().equals("fail"));
+            }
+
+            // Tidak terautentikasi untuk updateCashFlow
+            {
+                cashFlowController.authContext.setAuthUser(null);
+
+                var result = cashFlowController.updateCashFlow(cashFlowId, cashFlow);
+                assert (result != null);
+                assert (result.getStatusCode().is4xxClientError());
+                assert (result.getBody().getStatus().equals("fail"));
+            }
+
+            cashFlowController.authContext.setAuthUser(authUser);
+
+            // Memperbarui cashFlow dengan ID tidak ada
+            {
+                when(cashFlowService.updateCashFlow(any(UUID.class), any(UUID.class), any(String.class), 
+                        any(BigDecimal.class), any(String.class), any(LocalDateTime.class)))
+                        .thenReturn(false);
+                CashFlow updatedCashFlow = new CashFlow(userId, "EXPENSE", new BigDecimal("75000"), "Bayar tagihan", date);
+                updatedCashFlow.setId(nonexistentCashFlowId);
+
+                var result = cashFlowController.updateCashFlow(nonexistentCashFlowId, updatedCashFlow);
+                assert (result != null);
+                assert (result.getBody().getStatus().equals("fail"));
+            }
+
+            // Memperbarui cashFlow dengan ID ada
+            {
+                CashFlow updatedCashFlow = new CashFlow(userId, "EXPENSE", new BigDecimal("75000"), "Bayar tagihan", date);
+                updatedCashFlow.setId(cashFlowId);
+                when(cashFlowService.updateCashFlow(any(UUID.class), any(UUID.class), any(String.class), 
+                        any(BigDecimal.class), any(String.class), any(LocalDateTime.class)))
+                        .thenReturn(true);
+
+                var result = cashFlowController.updateCashFlow(cashFlowId, updatedCashFlow);
+                assert (result != null);
+                assert (result.getBody().getStatus().equals("success"));
+            }
+        }
+
+        // Menguji method deleteCashFlow
+        {
+            // Tidak terautentikasi untuk deleteCashFlow
+            {
+                cashFlowController.authContext.setAuthUser(null);
+
+                var result = cashFlowController.deleteCashFlow(cashFlowId);
+                assert (result != null);
+                assert (result.getStatusCode().is4xxClientError());
+                assert (result.getBody().getStatus().equals("fail"));
+            }
+
+            cashFlowController.authContext.setAuthUser(authUser);
+
+            // Menguji deleteCashFlow dengan ID yang tidak ada
+            {
+                when(cashFlowService.deleteCashFlow(any(UUID.class), any(UUID.class))).thenReturn(false);
+                var result = cashFlowController.deleteCashFlow(nonexistentCashFlowId);
+                assert (result != null);
+                assert (result.getBody().getStatus().equals("fail"));
+            }
+
+            // Menguji deleteCashFlow dengan ID yang ada
+            {
+                when(cashFlowService.deleteCashFlow(any(UUID.class), any(UUID.class))).thenReturn(true);
+                var result = cashFlowController.deleteCashFlow(cashFlowId);
+                assert (result != null);
+                assert (result.getBody().getStatus().equals("success"));
+            }
+        }
+    }
+}
\ No newline at end of file
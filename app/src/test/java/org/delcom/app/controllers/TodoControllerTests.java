@@ -9,9 +9,11 @@ import java.util.UUID;
 
 import org.delcom.app.configs.ApiResponse;
 import org.delcom.app.configs.AuthContext;
+import org.delcom.app.dto.TodoBatchOperation;
 import org.delcom.app.entities.Todo;
 import org.delcom.app.entities.User;
 import org.delcom.app.services.TodoService;
+import org.delcom.app.utils.CursorPage;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
@@ -87,27 +89,125 @@ public class TodoControllerTests {
             }
         }
 
+        // Menguji method applyBatch
+        {
+            UUID deletedTodoId = UUID.randomUUID();
+            List<TodoBatchOperation> operations = List.of(
+                    new TodoBatchOperation("create", null, "Belajar JDBC", "Belajar batch insert", null),
+                    new TodoBatchOperation("update", todoId, "Belajar Spring Boot", "Sudah selesai", true),
+                    new TodoBatchOperation("delete", deletedTodoId, null, null, null));
+
+            // Data kosong atau terlalu banyak
+            {
+                var result = todoController.applyBatch(null);
+                assert (result.getStatusCode().is4xxClientError());
+                result = todoController.applyBatch(List.of());
+                assert (result.getStatusCode().is4xxClientError());
+                result = todoController.applyBatch(java.util.Collections.nCopies(
+                        TodoController.MAX_BATCH_SIZE + 1, operations.get(2)));
+                assert (result.getStatusCode().is4xxClientError());
+                assert (result.getBody().getStatus().equals("fail"));
+            }
+
+            // Operasi tidak valid
+            {
+                List<TodoBatchOperation> invalidOperations = java.util.Arrays.asList(
+                        null,
+                        new TodoBatchOperation(null, todoId, "Judul", "Deskripsi", true),
+                        new TodoBatchOperation("archive", todoId, null, null, null),
+                        new TodoBatchOperation("create", null, null, "Deskripsi", null),
+                        new TodoBatchOperation("create", null, "", "Deskripsi", null),
+                        new TodoBatchOperation("create", null, "Judul", null, null),
+                        new TodoBatchOperation("create", null, "Judul", "", null),
+                        new TodoBatchOperation("update", null, "Judul", "Deskripsi", true),
+                        new TodoBatchOperation("update", todoId, "Judul", "Deskripsi", null),
+                        new TodoBatchOperation("delete", null, null, null, null));
+
+                for (TodoBatchOperation invalidOperation : invalidOperations) {
+                    var result = todoController.applyBatch(java.util.Arrays.asList(operations.get(0), invalidOperation));
+                    assert (result.getStatusCode().is4xxClientError());
+                    assert (result.getBody().getStatus().equals("fail"));
+                    assert (result.getBody().getMessage().startsWith("Operasi ke-1: "));
+                }
+
+                // Pesan kesalahan memakai nama field pada payload batch
+                var result = todoController.applyBatch(java.util.Arrays.asList(
+                        new TodoBatchOperation("update", todoId, "Judul", "Deskripsi", null)));
+                assert (result.getBody().getMessage().equals("Operasi ke-0: Data finished tidak valid"));
+            }
+
+            // Tidak terautentikasi
+            {
+                todoController.authContext.setAuthUser(null);
+
+                var result = todoController.applyBatch(operations);
+                assert (result.getStatusCode().is4xxClientError());
+                assert (result.getBody().getStatus().equals("fail"));
+            }
+
+            // Berhasil menerapkan batch
+            {
+                todoController.authContext.setAuthUser(authUser);
+                TodoBatchOperation.Result batchResult = new TodoBatchOperation.Result(List.of(UUID.randomUUID()), 1, 1);
+                when(todoService.applyBatch(userId, operations)).thenReturn(batchResult);
+
+                var result = todoController.applyBatch(operations);
+                assert (result.getBody().getStatus().equals("success"));
+                assert (result.getBody().getData().equals(batchResult));
+            }
+        }
+
         // Menguji method getAllTodos
         {
             // Tidak terautentikasi untuk getAllTodos
             {
                 todoController.authContext.setAuthUser(null);
 
-                var result = todoController.getAllTodos(null);
+                var result = todoController.getAllTodos(null, null, null);
                 assert (result != null);
                 assert (result.getStatusCode().is4xxClientError());
                 assert (result.getBody().getStatus().equals("fail"));
             }
 
-            // Menguji getAllTodos dengan search null
-            {
-                todoController.authContext.setAuthUser(authUser);
+            todoController.authContext.setAuthUser(authUser);
 
+            // Menguji getAllTodos dengan search
+            {
                 List<Todo> dummyResponse = List.of(todo);
-                when(todoService.getAllTodos(any(UUID.class), any(String.class))).thenReturn(dummyResponse);
-                var result = todoController.getAllTodos(null);
+                when(todoService.searchTodos(userId, "Belajar", null, null))
+                        .thenReturn(new CursorPage<>(dummyResponse, "cursor-pencarian"));
+                var result = todoController.getAllTodos("Belajar", null, null);
                 assert (result != null);
                 assert (result.getBody().getStatus().equals("success"));
+                assert (result.getBody().getData().get("todos").equals(dummyResponse));
+                assert (result.getBody().getData().get("nextCursor").equals("cursor-pencarian"));
+            }
+
+            // Menguji getAllTodos tanpa search (per halaman)
+            {
+                when(todoService.getTodosPage(userId, null, 1))
+                        .thenReturn(new CursorPage<>(List.of(todo), "cursor-berikutnya"));
+                var result = todoController.getAllTodos(null, null, 1);
+                assert (result != null);
+                assert (result.getBody().getStatus().equals("success"));
+                assert (result.getBody().getData().get("nextCursor").equals("cursor-berikutnya"));
+
+                // Halaman terakhir tidak memiliki nextCursor
+                when(todoService.getTodosPage(userId, "cursor-berikutnya", 1))
+                        .thenReturn(new CursorPage<>(List.of(todo), null));
+                result = todoController.getAllTodos("   ", "cursor-berikutnya", 1);
+                assert (result.getBody().getStatus().equals("success"));
+                assert (!result.getBody().getData().containsKey("nextCursor"));
+            }
+
+            // Menguji getAllTodos dengan cursor tidak valid
+            {
+                when(todoService.getTodosPage(userId, "bukan-cursor", null))
+                        .thenThrow(new IllegalArgumentException("Cursor tidak valid"));
+                var result = todoController.getAllTodos(null, "bukan-cursor", null);
+                assert (result != null);
+                assert (result.getStatusCode().is4xxClientError());
+                assert (result.getBody().getStatus().equals("fail"));
             }
         }
 
@@ -168,6 +268,13 @@ public class TodoControllerTests {
                 }
             }
 
+            // Pesan validasi isFinished pada PUT tetap memakai nama field request
+            {
+                var result = todoController.updateTodo(todoId,
+                        new Todo(userId, "Judul valid", "Deskripsi valid", null));
+                assert (result.getBody().getMessage().equals("Data isFinished tidak valid"));
+            }
+
             // Tidak terautentikasi untuk updateTodo
             {
                 todoController.authContext.setAuthUser(null);
@@ -184,7 +291,7 @@ public class TodoControllerTests {
             {
                 when(todoService.updateTodo(any(UUID.class), any(UUID.class), any(String.class), any(String.class),
                         any(Boolean.class)))
-                        .thenReturn(null);
+                        .thenReturn(false);
                 Todo updatedTodo = new Todo(userId, "Belajar Spring Boot - Updated", "Deskripsi updated", true);
                 updatedTodo.setId(nonexistentTodoId);
 
@@ -199,7 +306,7 @@ public class TodoControllerTests {
                 updatedTodo.setId(todoId);
                 when(todoService.updateTodo(any(UUID.class), any(UUID.class), any(String.class), any(String.class),
                         any(Boolean.class)))
-                        .thenReturn(updatedTodo);
+                        .thenReturn(true);
 
                 var result = todoController.updateTodo(todoId, updatedTodo);
                 assert (result != null);
@@ -6,17 +6,21 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.RejectedExecutionException;
 
 import org.delcom.app.configs.ApiResponse;
 import org.delcom.app.configs.AuthContext;
 import org.delcom.app.entities.AuthToken;
 import org.delcom.app.entities.User;
 import org.delcom.app.services.AuthTokenService;
+import org.delcom.app.services.PasswordHashService;
 import org.delcom.app.services.UserService;
 import org.delcom.app.utils.JwtUtil;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 
@@ -31,7 +35,10 @@ public class UserControllerTests {
         // Mock UserService
         UserService userService = Mockito.mock(UserService.class);
 
-        UserController userController = new UserController(userService, authTokenService);
+        // PasswordHashService asli dengan pool kecil
+        PasswordHashService passwordHashService = new PasswordHashService(10, 2, 16);
+
+        UserController userController = new UserController(userService, authTokenService, passwordHashService);
         userController.authContext = new AuthContext();
 
         // Menguji method registerUser
@@ -64,7 +71,9 @@ public class UserControllerTests {
             // Email sudah terdaftar
             {
                 User existingUser = new User("Existing User", "existing@example.com", "password123");
-                Mockito.when(userService.getUserByEmail("existing@example.com")).thenReturn(existingUser);
+                Mockito.when(userService.createUser(Mockito.eq("Existing User"), Mockito.anyString(),
+                        Mockito.anyString()))
+                        .thenThrow(new DataIntegrityViolationException("duplicate key ux_users_email"));
 
                 ResponseEntity<ApiResponse<Map<String, UUID>>> result = userController.registerUser(existingUser);
                 assert (result != null);
@@ -77,7 +86,6 @@ public class UserControllerTests {
                 User newUser = new User("New User", "new@example.com", "password123");
                 newUser.setId(UUID.randomUUID());
 
-                Mockito.when(userService.getUserByEmail("new@example.com")).thenReturn(null);
                 Mockito.when(userService.createUser(Mockito.any(String.class), Mockito.any(String.class),
                         Mockito.any(String.class)))
                         .thenReturn(newUser);
@@ -158,27 +166,8 @@ public class UserControllerTests {
 
                 Mockito.when(userService.getUserByEmail("user@example.com")).thenReturn(fakeUser);
 
-                // Auth token gagal disimpan dengan terdapat token lama
+                // Auth token gagal disimpan
                 {
-                    // Hapus token lama jika ada
-                    Mockito.when(authTokenService.findUserToken(Mockito.any(UUID.class), Mockito.anyString()))
-                            .thenReturn(fakeAuthToken);
-                    Mockito.doNothing().when(authTokenService).deleteAuthToken(Mockito.any(UUID.class));
-
-                    Mockito.when(authTokenService.createAuthToken(Mockito.any(AuthToken.class))).thenReturn(null);
-
-                    ResponseEntity<ApiResponse<Map<String, String>>> result = userController
-                            .loginUser(fakeReqUser);
-                    assertTrue(result != null);
-                    assertTrue(result.getStatusCode().is5xxServerError());
-                    assertEquals(result.getBody().getStatus(), "error");
-                }
-
-                // Auth token gagal disimpan dengan tidak terdapat token lama
-                {
-                    Mockito.when(authTokenService.findUserToken(Mockito.any(UUID.class), Mockito.anyString()))
-                            .thenReturn(null);
-
                     Mockito.when(authTokenService.createAuthToken(Mockito.any(AuthToken.class))).thenReturn(null);
 
                     ResponseEntity<ApiResponse<Map<String, String>>> result = userController
@@ -188,12 +177,9 @@ public class UserControllerTests {
                     assert (result.getBody().getStatus().equals("error"));
                 }
 
-                // Berhasil login
+                // Berhasil login, token lain milik user tidak dihapus
                 {
-                    Mockito.when(authTokenService.findUserToken(Mockito.any(UUID.class),
-                            Mockito.anyString()))
-                            .thenReturn(null);
-
+                    Mockito.clearInvocations(authTokenService);
                     Mockito.when(authTokenService.createAuthToken(Mockito.any(AuthToken.class)))
                             .thenReturn(fakeAuthToken);
 
@@ -202,6 +188,31 @@ public class UserControllerTests {
                     assert (result != null);
                     assert (result.getStatusCode().is2xxSuccessful());
                     assert (result.getBody().getStatus().equals("success"));
+                    Mockito.verify(authTokenService, Mockito.never()).findUserToken(Mockito.any(UUID.class),
+                            Mockito.anyString());
+                    Mockito.verify(authTokenService, Mockito.never()).deleteAuthToken(Mockito.any(UUID.class));
+                }
+
+                // Login dua kali di waktu yang sama menghasilkan token berbeda
+                {
+                    long frozenNow = System.currentTimeMillis();
+                    try (var mockedJwtUtil = Mockito.mockStatic(JwtUtil.class, Mockito.CALLS_REAL_METHODS)) {
+                        mockedJwtUtil.when(() -> JwtUtil.generateToken(Mockito.any(UUID.class)))
+                                .thenAnswer(invocation -> JwtUtil.generateToken(invocation.getArgument(0), frozenNow));
+
+                        Mockito.clearInvocations(authTokenService);
+                        var first = userController.loginUser(fakeReqUser);
+                        var second = userController.loginUser(fakeReqUser);
+                        assertTrue(first.getStatusCode().is2xxSuccessful());
+                        assertTrue(second.getStatusCode().is2xxSuccessful());
+
+                        var savedTokens = ArgumentCaptor.forClass(AuthToken.class);
+                        Mockito.verify(authTokenService, Mockito.times(2)).createAuthToken(savedTokens.capture());
+                        assertEquals(false, savedTokens.getAllValues().get(0).getTokenHash()
+                                .equals(savedTokens.getAllValues().get(1).getTokenHash()));
+                        assertEquals(false, first.getBody().getData().get("authToken")
+                                .equals(second.getBody().getData().get("authToken")));
+                    }
                 }
 
             }
@@ -281,6 +292,20 @@ public class UserControllerTests {
                 assert (result.getBody().getStatus().equals("fail"));
             }
 
+            // Gagal update user karena email sudah dipakai user lain
+            {
+                Mockito.when(userService.updateUser(
+                        Mockito.any(UUID.class),
+                        Mockito.any(String.class),
+                        Mockito.any(String.class)))
+                        .thenThrow(new DataIntegrityViolationException("duplicate key ux_users_email"));
+
+                ResponseEntity<ApiResponse<User>> result = userController.updateUser(authUser);
+                assert (result != null);
+                assert (result.getStatusCode().is4xxClientError());
+                assert (result.getBody().getStatus().equals("fail"));
+            }
+
             // Berhasil mengupdate user
             {
                 Mockito.when(userService.updateUser(
@@ -293,6 +318,7 @@ public class UserControllerTests {
                 assert (result != null);
                 assert (result.getStatusCode().is2xxSuccessful());
                 assert (result.getBody().getStatus().equals("success"));
+                Mockito.verify(authTokenService).evictAuthPrincipal(authUser.getId());
             }
         }
 
@@ -386,5 +412,65 @@ public class UserControllerTests {
                 assert (result.getBody().getStatus().equals("success"));
             }
         }
+
+        // Menguji antrean hashing penuh dan upgrade hash
+        {
+            PasswordHashService busyPasswordHashService = Mockito.mock(PasswordHashService.class);
+            UserController busyUserController = new UserController(userService, authTokenService,
+                    busyPasswordHashService);
+            busyUserController.authContext = new AuthContext();
+
+            User reqUser = new User("User", "busy@example.com", "password123");
+            User existingUser = new User("User", "busy@example.com", "hash");
+            existingUser.setId(UUID.randomUUID());
+            Mockito.when(userService.getUserByEmail("busy@example.com")).thenReturn(existingUser);
+
+            // Antrean penuh saat registrasi, login dan ubah password
+            {
+                Mockito.when(busyPasswordHashService.encode(Mockito.anyString()))
+                        .thenThrow(new RejectedExecutionException());
+                Mockito.when(busyPasswordHashService.matches(Mockito.anyString(), Mockito.anyString()))
+                        .thenThrow(new RejectedExecutionException());
+
+                var registerResult = busyUserController
+                        .registerUser(new User("User", "busy-new@example.com", "password123"));
+                assertEquals(429, registerResult.getStatusCode().value());
+
+                var loginResult = busyUserController.loginUser(reqUser);
+                assertEquals(429, loginResult.getStatusCode().value());
+
+                Mockito.doThrow(new RejectedExecutionException()).when(busyPasswordHashService)
+                        .matchesDummy(Mockito.anyString());
+                Mockito.when(userService.getUserByEmail("unknown@example.com")).thenReturn(null);
+                var unknownLoginResult = busyUserController
+                        .loginUser(new User("unknown@example.com", "password123"));
+                assertEquals(429, unknownLoginResult.getStatusCode().value());
+
+                busyUserController.authContext.setAuthUser(existingUser);
+                var passwordResult = busyUserController.updateUserPassword(Map.of(
+                        "password", "oldpassword123",
+                        "newPassword", "newpassword123"));
+                assertEquals(429, passwordResult.getStatusCode().value());
+            }
+
+            // Hash di-upgrade saat login, kegagalan upgrade tidak menggagalkan login
+            {
+                Mockito.reset(busyPasswordHashService);
+                Mockito.when(busyPasswordHashService.matches("password123", "hash")).thenReturn(true);
+                Mockito.when(busyPasswordHashService.needsUpgrade("hash")).thenReturn(true);
+                Mockito.when(busyPasswordHashService.encode("password123")).thenReturn("new-hash");
+                Mockito.when(authTokenService.createAuthToken(Mockito.any(AuthToken.class)))
+                        .thenReturn(new AuthToken(existingUser.getId(), "token"));
+
+                var loginResult = busyUserController.loginUser(reqUser);
+                assertTrue(loginResult.getStatusCode().is2xxSuccessful());
+                Mockito.verify(userService).updatePassword(existingUser.getId(), "new-hash");
+
+                Mockito.when(busyPasswordHashService.encode("password123"))
+                        .thenThrow(new RejectedExecutionException());
+                loginResult = busyUserController.loginUser(reqUser);
+                assertTrue(loginResult.getStatusCode().is2xxSuccessful());
+            }
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,30 @@
+package org.delcom.app.entities;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class AuthPrincipalTests {
+    @Test
+    @DisplayName("Mengubah AuthPrincipal menjadi User")
+    void testMengubahAuthPrincipalMenjadiUser() throws Exception {
+        UUID userId = UUID.randomUUID();
+        LocalDateTime createdAt = LocalDateTime.of(2025, 1, 1, 8, 0);
+        LocalDateTime updatedAt = LocalDateTime.of(2025, 1, 2, 8, 0);
+
+        AuthPrincipal authPrincipal = new AuthPrincipal(userId, "Name", "email@example.com", "hash",
+                createdAt, updatedAt);
+        User user = authPrincipal.toUser();
+
+        assertEquals(userId, user.getId());
+        assertEquals("Name", user.getName());
+        assertEquals("email@example.com", user.getEmail());
+        assertEquals("hash", user.getPassword());
+        assertEquals(createdAt, user.getCreatedAt());
+        assertEquals(updatedAt, user.getUpdatedAt());
+    }
+}
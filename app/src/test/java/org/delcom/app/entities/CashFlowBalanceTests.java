@@ -0,0 +1,36 @@
+package org.delcom.app.entities;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class CashFlowBalanceTests {
+    @Test
+    @DisplayName("Membuat instance dari kelas CashFlowBalance")
+    void testMembuatInstanceCashFlowBalance() throws Exception {
+        UUID userId = UUID.randomUUID();
+
+        // CashFlowBalance dengan nilai
+        {
+            CashFlowBalance balance = new CashFlowBalance(userId, 15000050L, 5000000L);
+
+            assert (balance.getUserId().equals(userId));
+            assert (balance.getTotalIncomeMinor() == 15000050L);
+            assert (balance.getTotalExpenseMinor() == 5000000L);
+            assert (balance.getTotalIncome().equals(new BigDecimal("150000.50")));
+            assert (balance.getTotalExpense().equals(new BigDecimal("50000.00")));
+        }
+
+        // CashFlowBalance dengan nilai default
+        {
+            CashFlowBalance balance = new CashFlowBalance();
+
+            assert (balance.getUserId() == null);
+            assert (balance.getTotalIncomeMinor() == 0);
+            assert (balance.getTotalExpenseMinor() == 0);
+            assert (!balance.isBackfilled());
+        }
+    }
+}
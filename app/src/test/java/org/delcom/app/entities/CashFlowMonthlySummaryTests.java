@@ -0,0 +1,44 @@
+package org.delcom.app.entities;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class CashFlowMonthlySummaryTests {
+    @Test
+    @DisplayName("Membuat instance dari kelas CashFlowMonthlySummary")
+    void testMembuatInstanceCashFlowMonthlySummary() throws Exception {
+        UUID userId = UUID.randomUUID();
+        LocalDate month = LocalDate.of(2025, 1, 1);
+
+        // CashFlowMonthlySummary dengan nilai
+        {
+            CashFlowMonthlySummary summary = new CashFlowMonthlySummary(userId, month, 15000050L, 5000000L);
+
+            assert (summary.getUserId().equals(userId));
+            assert (summary.getMonth().equals(month));
+            assert (summary.getTotalIncomeMinor() == 15000050L);
+            assert (summary.getTotalExpenseMinor() == 5000000L);
+            assert (summary.getTotalIncome().equals(new BigDecimal("150000.50")));
+            assert (summary.getTotalExpense().equals(new BigDecimal("50000.00")));
+            assert (summary.getBalance().equals(new BigDecimal("100000.50")));
+        }
+
+        // CashFlowMonthlySummary dengan nilai default
+        {
+            CashFlowMonthlySummary summary = new CashFlowMonthlySummary();
+
+            assert (summary.getUserId() == null);
+            assert (summary.getMonth() == null);
+            assert (summary.getBalance().signum() == 0);
+        }
+
+        // Key komposit dibandingkan berdasarkan nilai
+        {
+            assert (new CashFlowMonthlySummary.Key(userId, month).equals(new CashFlowMonthlySummary.Key(userId, month)));
+        }
+    }
+}
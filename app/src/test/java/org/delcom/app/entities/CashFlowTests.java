@@ -1,5 +1,6 @@
 package org.delcom.app.entities;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
@@ -15,22 +16,22 @@ public class CashFlowTests {
 
         // CashFlow tipe INCOME
         {
-            CashFlow cashFlow = new CashFlow(userId, "INCOME", 50000.0, "Uang saku", date);
+            CashFlow cashFlow = new CashFlow(userId, "INCOME", new BigDecimal("50000"), "Uang saku", date);
 
             assert (cashFlow.getUserId().equals(userId));
             assert (cashFlow.getType().equals("INCOME"));
-            assert (cashFlow.getAmount().equals(50000.0));
+            assert (cashFlow.getAmount().equals(new BigDecimal("50000")));
             assert (cashFlow.getDescription().equals("Uang saku"));
             assert (cashFlow.getDate().equals(date));
         }
 
         // CashFlow tipe EXPENSE
         {
-            CashFlow cashFlow = new CashFlow(userId, "EXPENSE", 25000.0, "Belanja", date);
+            CashFlow cashFlow = new CashFlow(userId, "EXPENSE", new BigDecimal("25000"), "Belanja", date);
 
             assert (cashFlow.getUserId().equals(userId));
             assert (cashFlow.getType().equals("EXPENSE"));
-            assert (cashFlow.getAmount().equals(25000.0));
+            assert (cashFlow.getAmount().equals(new BigDecimal("25000")));
             assert (cashFlow.getDescription().equals("Belanja"));
             assert (cashFlow.getDate().equals(date));
         }
@@ -56,7 +57,7 @@ public class CashFlowTests {
             cashFlow.setId(generatedId);
             cashFlow.setUserId(userId);
             cashFlow.setType("INCOME");
-            cashFlow.setAmount(100000.0);
+            cashFlow.setAmount(new BigDecimal("100000.50"));
             cashFlow.setDescription("Hadiah");
             cashFlow.setDate(setDate);
             cashFlow.onCreate();
@@ -65,11 +66,17 @@ public class CashFlowTests {
             assert (cashFlow.getId().equals(generatedId));
             assert (cashFlow.getUserId().equals(userId));
             assert (cashFlow.getType().equals("INCOME"));
-            assert (cashFlow.getAmount().equals(100000.0));
+            assert (cashFlow.getAmount().equals(new BigDecimal("100000.50")));
             assert (cashFlow.getDescription().equals("Hadiah"));
             assert (cashFlow.getDate().equals(setDate));
             assert (cashFlow.getCreatedAt() != null);
             assert (cashFlow.getUpdatedAt() != null);
+
+            LocalDateTime timestamp = LocalDateTime.of(2025, 1, 1, 8, 0);
+            cashFlow.setCreatedAt(timestamp);
+            cashFlow.setUpdatedAt(timestamp);
+            assert (cashFlow.getCreatedAt().equals(timestamp));
+            assert (cashFlow.getUpdatedAt().equals(timestamp));
         }
     }
 }
\ No newline at end of file
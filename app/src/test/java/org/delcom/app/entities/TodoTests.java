@@ -1,5 +1,6 @@
 package org.delcom.app.entities;
 
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 import org.junit.jupiter.api.DisplayName;
@@ -63,6 +64,12 @@ public class TodoTests {
             assert (todo.getCover().equals("/cover.png"));
             assert (todo.getCreatedAt() != null);
             assert (todo.getUpdatedAt() != null);
+
+            LocalDateTime timestamp = LocalDateTime.of(2025, 1, 1, 8, 0);
+            todo.setCreatedAt(timestamp);
+            todo.setUpdatedAt(timestamp);
+            assert (todo.getCreatedAt().equals(timestamp));
+            assert (todo.getUpdatedAt().equals(timestamp));
         }
     }
 }
\ No newline at end of file
@@ -3,6 +3,7 @@ package org.delcom.app.entities;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 import org.junit.jupiter.api.DisplayName;
@@ -56,6 +57,12 @@ public class UserTests {
             assertEquals(user.getPassword(), "Set Password");
             assertTrue(user.getCreatedAt() != null);
             assertTrue(user.getUpdatedAt() != null);
+
+            LocalDateTime timestamp = LocalDateTime.of(2025, 1, 1, 0, 0);
+            user.setCreatedAt(timestamp);
+            user.setUpdatedAt(timestamp);
+            assertEquals(timestamp, user.getCreatedAt());
+            assertEquals(timestamp, user.getUpdatedAt());
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,23 @@
+package org.delcom.app.entities;
+
+import java.util.UUID;
+
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class UuidV7IdGeneratorTests {
+    @Test
+    @DisplayName("Membuat id UUID versi 7 saat insert")
+    void testGenerateUuidV7() throws Exception {
+        UuidV7IdGenerator generator = new UuidV7IdGenerator();
+
+        UUID first = (UUID) generator.generate(null, null, null, EventType.INSERT);
+        UUID second = (UUID) generator.generate(null, null, null, EventType.INSERT);
+
+        assert (first.version() == 7);
+        assert (second.compareTo(first) > 0);
+        assert (generator.getEventTypes().equals(EventTypeSets.INSERT_ONLY));
+    }
+}
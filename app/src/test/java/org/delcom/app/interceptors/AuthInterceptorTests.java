@@ -10,10 +10,8 @@ import java.util.Date;
 import java.util.UUID;
 
 import org.delcom.app.configs.AuthContext;
-import org.delcom.app.entities.AuthToken;
-import org.delcom.app.entities.User;
+import org.delcom.app.entities.AuthPrincipal;
 import org.delcom.app.services.AuthTokenService;
-import org.delcom.app.services.UserService;
 import org.delcom.app.utils.JwtUtil;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -31,17 +29,12 @@ public class AuthInterceptorTests {
 
         UUID userId = UUID.randomUUID();
         String bearerToken = JwtUtil.generateToken(userId);
-        AuthToken authToken = new AuthToken(userId, bearerToken);
-
-        User user = new User("testuser", "testuser@example.com");
-        user.setId(userId);
+        AuthPrincipal authPrincipal = new AuthPrincipal(userId, "testuser", "testuser@example.com", "password",
+                null, null);
 
         // Mock AuthTokenService
         AuthTokenService authTokenService = Mockito.mock(AuthTokenService.class);
 
-        // Mock UserService
-        UserService userService = Mockito.mock(UserService.class);
-
         // Mock HttpServletRequest
         HttpServletRequest request = Mockito.mock(HttpServletRequest.class);
 
@@ -52,17 +45,13 @@ public class AuthInterceptorTests {
         // Instance AuthInterceptor dengan service palsu
         AuthInterceptor authInterceptor = new AuthInterceptor();
         authInterceptor.authTokenService = authTokenService;
-        authInterceptor.userService = userService;
         authInterceptor.authContext = new AuthContext();
 
         // Menguji method preHandle yang berhasil
         {
             // Mocking behavior dari authTokenService
-            when(authTokenService.findUserToken(Mockito.any(UUID.class), Mockito.anyString()))
-                    .thenReturn(authToken);
-
-            // Mocking behavior dari userService
-            when(userService.getUserById(userId)).thenReturn(user);
+            when(authTokenService.findAuthPrincipal(Mockito.any(UUID.class), Mockito.anyString()))
+                    .thenReturn(authPrincipal);
 
             // Mocking behavior dari request
             when(request.getRequestURI()).thenReturn("/api/users/me");
@@ -70,6 +59,7 @@ public class AuthInterceptorTests {
 
             boolean isPublic = authInterceptor.preHandle(request, response, null);
             assertTrue(isPublic);
+            assertEquals(userId, authInterceptor.authContext.getAuthUser().getId());
         }
 
         // Menguji method preHandle yang berhasil dengan path public
@@ -134,28 +124,50 @@ public class AuthInterceptorTests {
             when(request.getHeader("Authorization")).thenReturn("Bearer " + bearerToken);
 
             // Token tidak ditemukan di database
-            when(authTokenService.findUserToken(Mockito.any(UUID.class), Mockito.anyString()))
+            when(authTokenService.findAuthPrincipal(Mockito.any(UUID.class), Mockito.anyString()))
                     .thenReturn(null);
 
             boolean isPublic = authInterceptor.preHandle(request, response, null);
             assertEquals(false, isPublic);
         }
 
-        // Menguji method preHandle yang tidak valid dengan user tidak ditemukan
+        // Menguji method preHandle dengan mode stateless
         {
-            // Mocking behavior dari request
-            when(request.getRequestURI()).thenReturn("/api/users/me");
+            authInterceptor.authMode = AuthInterceptor.AUTH_MODE_STATELESS;
+            authInterceptor.authContext = new AuthContext();
+            when(request.getRequestURI()).thenReturn("/api/todos");
+
+            // Token valid tanpa query ke database
             when(request.getHeader("Authorization")).thenReturn("Bearer " + bearerToken);
+            when(authTokenService.isRevoked(Mockito.eq(userId), Mockito.any())).thenReturn(false);
+            assertTrue(authInterceptor.preHandle(request, response, null));
+            assertEquals(userId, authInterceptor.authContext.getAuthUser().getId());
 
-            // Mocking behavior dari authTokenService
-            when(authTokenService.findUserToken(Mockito.any(UUID.class), Mockito.anyString()))
-                    .thenReturn(authToken);
+            // Token sudah dicabut
+            when(authTokenService.isRevoked(Mockito.eq(userId), Mockito.any())).thenReturn(true);
+            assertEquals(false, authInterceptor.preHandle(request, response, null));
 
-            // User tidak ditemukan
-            when(userService.getUserById(userId)).thenReturn(null);
+            // Token tidak valid
+            when(request.getHeader("Authorization")).thenReturn("Bearer invalid_token");
+            assertEquals(false, authInterceptor.preHandle(request, response, null));
+
+            // Subject token bukan UUID
+            String invalidSubjectToken = Jwts.builder()
+                    .subject("bukan-uuid")
+                    .issuedAt(new Date())
+                    .expiration(new Date(System.currentTimeMillis() + 1000 * 60))
+                    .signWith(JwtUtil.getKey())
+                    .compact();
+            when(request.getHeader("Authorization")).thenReturn("Bearer " + invalidSubjectToken);
+            assertEquals(false, authInterceptor.preHandle(request, response, null));
 
-            boolean isPublic = authInterceptor.preHandle(request, response, null);
-            assertEquals(false, isPublic);
+            // Endpoint /api/users tetap memakai database
+            when(request.getRequestURI()).thenReturn("/api/users/me");
+            when(request.getHeader("Authorization")).thenReturn("Bearer " + bearerToken);
+            when(authTokenService.findAuthPrincipal(Mockito.any(UUID.class), Mockito.anyString()))
+                    .thenReturn(authPrincipal);
+            assertTrue(authInterceptor.preHandle(request, response, null));
+            assertEquals("testuser@example.com", authInterceptor.authContext.getAuthUser().getEmail());
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,73 @@
+package org.delcom.app.interceptors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+public class DbConcurrencyInterceptorTests {
+
+    @Test
+    @DisplayName("Pengujian DbConcurrencyInterceptor dengan berbagai skenario")
+    public void testVariousDbConcurrencyInterceptor() throws Exception {
+        HttpServletRequest request = Mockito.mock(HttpServletRequest.class);
+        HttpServletResponse response = Mockito.mock(HttpServletResponse.class);
+        StringWriter body = new StringWriter();
+        when(response.getWriter()).thenReturn(new PrintWriter(body, true));
+
+        // Mode platform thread tidak membatasi request
+        {
+            DbConcurrencyInterceptor interceptor = new DbConcurrencyInterceptor(false, 1, 0);
+            assertTrue(interceptor.preHandle(request, response, null));
+            assertTrue(interceptor.preHandle(request, response, null));
+            assertEquals(1, interceptor.availablePermits());
+        }
+
+        DbConcurrencyInterceptor interceptor = new DbConcurrencyInterceptor(true, 1, 10);
+
+        // Slot diambil saat request masuk dan dilepas setelah selesai
+        {
+            assertTrue(interceptor.preHandle(request, response, null));
+            assertEquals(0, interceptor.availablePermits());
+            Mockito.verify(request).setAttribute(DbConcurrencyInterceptor.PERMIT_ATTRIBUTE, Boolean.TRUE);
+
+            when(request.getAttribute(DbConcurrencyInterceptor.PERMIT_ATTRIBUTE)).thenReturn(Boolean.TRUE);
+            interceptor.afterCompletion(request, response, null, null);
+            assertEquals(1, interceptor.availablePermits());
+            Mockito.verify(request).removeAttribute(DbConcurrencyInterceptor.PERMIT_ATTRIBUTE);
+        }
+
+        // Request yang ditolak tidak melepas slot milik request lain
+        {
+            when(request.getAttribute(DbConcurrencyInterceptor.PERMIT_ATTRIBUTE)).thenReturn(null);
+            interceptor.afterCompletion(request, response, null, null);
+            assertEquals(1, interceptor.availablePermits());
+        }
+
+        // Semua slot terpakai sampai timeout, dijawab 503
+        {
+            assertTrue(interceptor.preHandle(request, response, null));
+            assertFalse(interceptor.preHandle(request, response, null));
+            Mockito.verify(response).setStatus(503);
+            assertTrue(body.toString().contains("\"status\":\"error\""));
+        }
+
+        // Thread diinterupsi saat menunggu slot
+        {
+            Thread.currentThread().interrupt();
+            assertFalse(interceptor.preHandle(request, response, null));
+            assertTrue(Thread.interrupted());
+            Mockito.verify(response, Mockito.times(2)).setStatus(503);
+        }
+    }
+}
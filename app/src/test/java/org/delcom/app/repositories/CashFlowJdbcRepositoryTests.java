@@ -0,0 +1,138 @@
+package org.delcom.app.repositories;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.delcom.app.entities.CashFlow;
+import org.delcom.app.entities.CashFlowBucket;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+
+public class CashFlowJdbcRepositoryTests {
+    @Test
+    @DisplayName("Pengujian untuk repository JDBC CashFlow")
+    void testCashFlowJdbcRepository() throws Exception {
+        UUID userId = UUID.randomUUID();
+        UUID cashFlowId = UUID.randomUUID();
+        LocalDateTime date = LocalDateTime.of(2025, 1, 1, 8, 0);
+
+        JdbcTemplate jdbcTemplate = Mockito.mock(JdbcTemplate.class);
+        Connection connection = Mockito.mock(Connection.class);
+        PreparedStatement statement = Mockito.mock(PreparedStatement.class);
+        ResultSet resultSet = Mockito.mock(ResultSet.class);
+
+        when(connection.prepareStatement(anyString(), anyInt(), anyInt())).thenReturn(statement);
+        when(resultSet.getObject("id", UUID.class)).thenReturn(cashFlowId);
+        when(resultSet.getObject("user_id", UUID.class)).thenReturn(userId);
+        when(resultSet.getString("type")).thenReturn("INCOME");
+        when(resultSet.getBigDecimal("amount")).thenReturn(new BigDecimal("50000.00"));
+        when(resultSet.getString("description")).thenReturn("Uang saku");
+        when(resultSet.getTimestamp("date")).thenReturn(Timestamp.valueOf(date));
+        when(resultSet.getTimestamp("created_at")).thenReturn(Timestamp.valueOf(date));
+        when(resultSet.getTimestamp("updated_at")).thenReturn(Timestamp.valueOf(date));
+
+        // JdbcTemplate dijalankan dengan statement dan satu baris hasil
+        doAnswer(invocation -> {
+            PreparedStatementCreator creator = invocation.getArgument(0);
+            RowCallbackHandler handler = invocation.getArgument(1);
+            assert (creator.createPreparedStatement(connection) == statement);
+            handler.processRow(resultSet);
+            return null;
+        }).when(jdbcTemplate).query(any(PreparedStatementCreator.class), any(RowCallbackHandler.class));
+
+        CashFlowJdbcRepository repository = new CashFlowJdbcRepository(jdbcTemplate);
+
+        // Menguji streamByUserId
+        {
+            List<CashFlow> cashFlows = new ArrayList<>();
+            repository.streamByUserId(userId, cashFlows::add);
+
+            verify(connection).prepareStatement(anyString(), Mockito.eq(ResultSet.TYPE_FORWARD_ONLY),
+                    Mockito.eq(ResultSet.CONCUR_READ_ONLY));
+            verify(statement).setFetchSize(CashFlowJdbcRepository.FETCH_SIZE);
+            verify(statement).setObject(1, userId);
+
+            assert (cashFlows.size() == 1);
+            CashFlow cashFlow = cashFlows.get(0);
+            assert (cashFlow.getId().equals(cashFlowId));
+            assert (cashFlow.getUserId().equals(userId));
+            assert (cashFlow.getType().equals("INCOME"));
+            assert (cashFlow.getAmount().equals(new BigDecimal("50000.00")));
+            assert (cashFlow.getDescription().equals("Uang saku"));
+            assert (cashFlow.getDate().equals(date));
+            assert (cashFlow.getCreatedAt().equals(date));
+            assert (cashFlow.getUpdatedAt().equals(date));
+        }
+
+        // Menguji insertBatch
+        {
+            CashFlow cashFlow = new CashFlow(userId, "EXPENSE", new BigDecimal("25000"), "Belanja", date);
+            cashFlow.setId(cashFlowId);
+            cashFlow.setCreatedAt(date);
+            cashFlow.setUpdatedAt(date);
+
+            PreparedStatement batchStatement = Mockito.mock(PreparedStatement.class);
+            doAnswer(invocation -> {
+                List<CashFlow> rows = invocation.getArgument(1);
+                ParameterizedPreparedStatementSetter<CashFlow> setter = invocation.getArgument(3);
+                for (CashFlow row : rows) {
+                    setter.setValues(batchStatement, row);
+                }
+                return new int[][] { { 1 } };
+            }).when(jdbcTemplate).batchUpdate(anyString(), Mockito.<List<CashFlow>>any(),
+                    Mockito.eq(CashFlowJdbcRepository.BATCH_SIZE), Mockito.<ParameterizedPreparedStatementSetter<CashFlow>>any());
+
+            assert (repository.insertBatch(List.of(cashFlow)) == 1);
+            verify(batchStatement).setObject(1, cashFlowId);
+            verify(batchStatement).setObject(2, userId);
+            verify(batchStatement).setString(3, "EXPENSE");
+            verify(batchStatement).setBigDecimal(4, new BigDecimal("25000"));
+            verify(batchStatement).setString(5, "Belanja");
+            verify(batchStatement, Mockito.times(3)).setTimestamp(anyInt(), Mockito.eq(Timestamp.valueOf(date)));
+        }
+    
+        // Menguji aggregateByInterval
+        {
+            LocalDateTime from = LocalDateTime.of(2025, 1, 1, 0, 0);
+            LocalDateTime to = LocalDateTime.of(2025, 2, 1, 0, 0);
+            ResultSet bucketResultSet = Mockito.mock(ResultSet.class);
+            when(bucketResultSet.getObject("period", LocalDate.class)).thenReturn(LocalDate.of(2025, 1, 1));
+            when(bucketResultSet.getLong("total_income_minor")).thenReturn(100000L);
+            when(bucketResultSet.getLong("total_expense_minor")).thenReturn(30050L);
+
+            when(jdbcTemplate.query(anyString(), Mockito.<RowMapper<CashFlowBucket>>any(), Mockito.eq("month"),
+                    Mockito.eq(userId), Mockito.eq(Timestamp.valueOf(from)), Mockito.eq(Timestamp.valueOf(to))))
+                    .thenAnswer(invocation -> {
+                        RowMapper<CashFlowBucket> rowMapper = invocation.getArgument(1);
+                        return List.of(rowMapper.mapRow(bucketResultSet, 0));
+                    });
+
+            List<CashFlowBucket> buckets = repository.aggregateByInterval(userId, "month", from, to);
+            assert (buckets.size() == 1);
+            assert (buckets.get(0).period().equals(LocalDate.of(2025, 1, 1)));
+            assert (buckets.get(0).totalIncome().equals(new BigDecimal("1000.00")));
+            assert (buckets.get(0).totalExpense().equals(new BigDecimal("300.50")));
+        }
+    }
+}
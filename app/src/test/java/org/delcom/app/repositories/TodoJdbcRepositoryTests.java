@@ -0,0 +1,78 @@
+package org.delcom.app.repositories;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.verify;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.delcom.app.dto.TodoBatchOperation;
+import org.delcom.app.entities.Todo;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+
+public class TodoJdbcRepositoryTests {
+    @Test
+    @DisplayName("Pengujian untuk repository JDBC Todo")
+    void testTodoJdbcRepository() throws Exception {
+        UUID userId = UUID.randomUUID();
+        UUID todoId = UUID.randomUUID();
+        LocalDateTime now = LocalDateTime.of(2025, 1, 1, 8, 0);
+
+        JdbcTemplate jdbcTemplate = Mockito.mock(JdbcTemplate.class);
+        PreparedStatement statement = Mockito.mock(PreparedStatement.class);
+
+        // JdbcTemplate menjalankan setter untuk setiap baris, lalu melaporkan satu baris berubah per item
+        doAnswer(invocation -> {
+            List<Object> rows = invocation.getArgument(1);
+            ParameterizedPreparedStatementSetter<Object> setter = invocation.getArgument(3);
+            int[] counts = new int[rows.size()];
+            for (int i = 0; i < rows.size(); i++) {
+                setter.setValues(statement, rows.get(i));
+                counts[i] = i == 0 ? 1 : 0;
+            }
+            return new int[][] { counts };
+        }).when(jdbcTemplate).batchUpdate(anyString(), Mockito.<List<Object>>any(),
+                Mockito.eq(TodoJdbcRepository.BATCH_SIZE), Mockito.<ParameterizedPreparedStatementSetter<Object>>any());
+
+        TodoJdbcRepository repository = new TodoJdbcRepository(jdbcTemplate);
+
+        // Menguji insertBatch
+        {
+            Todo todo = new Todo(userId, "Belajar JDBC", "Belajar batch insert", false);
+            todo.setId(todoId);
+            todo.setCreatedAt(now);
+            todo.setUpdatedAt(now);
+
+            repository.insertBatch(List.of(todo));
+            verify(statement).setObject(1, todoId);
+            verify(statement).setObject(2, userId);
+            verify(statement).setString(3, "Belajar JDBC");
+            verify(statement).setString(4, "Belajar batch insert");
+            verify(statement).setBoolean(5, false);
+        }
+
+        // Menguji updateBatch, baris yang tidak ditemukan tidak dihitung
+        {
+            List<TodoBatchOperation> operations = List.of(
+                    new TodoBatchOperation("update", todoId, "Judul baru", "Deskripsi baru", true),
+                    new TodoBatchOperation("update", UUID.randomUUID(), "Judul lain", "Deskripsi lain", false));
+
+            int updated = repository.updateBatch(userId, operations, now);
+            assert (updated == 1);
+            verify(statement).setString(1, "Judul baru");
+            verify(statement).setString(2, "Deskripsi baru");
+            verify(statement).setBoolean(3, true);
+            verify(statement).setObject(5, todoId);
+            verify(statement, Mockito.times(2)).setObject(6, userId);
+            verify(statement, Mockito.atLeastOnce()).setTimestamp(4, Timestamp.valueOf(now));
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package org.delcom.app.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.delcom.app.entities.AuthToken;
+import org.delcom.app.repositories.AuthTokenRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.data.domain.Pageable;
+
+public class AuthTokenReaperTests {
+    @Test
+    @DisplayName("Berbagai pengujian AuthTokenReaper")
+    public void testVariousAuthTokenReaper() {
+        AuthTokenRepository authTokenRepository = Mockito.mock(AuthTokenRepository.class);
+
+        AuthTokenReaper authTokenReaper = new AuthTokenReaper(authTokenRepository);
+        authTokenReaper.batchSize = 2;
+
+        AuthToken first = new AuthToken(UUID.randomUUID(), "token-1");
+        first.setId(UUID.randomUUID());
+        AuthToken second = new AuthToken(UUID.randomUUID(), "token-2");
+        second.setId(UUID.randomUUID());
+        AuthToken third = new AuthToken(UUID.randomUUID(), "token-3");
+        third.setId(UUID.randomUUID());
+
+        // Tidak ada token expired
+        {
+            Mockito.when(authTokenRepository.findExpiredTokens(Mockito.any(LocalDateTime.class),
+                    Mockito.any(Pageable.class))).thenReturn(List.of());
+
+            assertEquals(0, authTokenReaper.reapExpiredTokens());
+            assertEquals(0, authTokenReaper.getRowsReaped());
+            assertEquals(0, authTokenReaper.getBatchesRun());
+        }
+
+        // Token expired dihapus per batch dengan keyset
+        {
+            Mockito.when(authTokenRepository.findExpiredTokens(Mockito.any(LocalDateTime.class),
+                    Mockito.any(Pageable.class))).thenReturn(List.of(first, second));
+            Mockito.when(authTokenRepository.findExpiredTokensAfter(Mockito.any(LocalDateTime.class),
+                    Mockito.eq(second.getCreatedAt()), Mockito.eq(second.getId()), Mockito.any(Pageable.class)))
+                    .thenReturn(List.of(third));
+
+            assertEquals(3, authTokenReaper.reapExpiredTokens());
+            assertEquals(3, authTokenReaper.getRowsReaped());
+            assertEquals(2, authTokenReaper.getBatchesRun());
+            assertTrue(authTokenReaper.getLastBatchNanos() > 0);
+            assertTrue(authTokenReaper.getTotalBatchNanos() >= authTokenReaper.getLastBatchNanos());
+
+            Mockito.verify(authTokenRepository).deleteAllByIdInBatch(List.of(first.getId(), second.getId()));
+            Mockito.verify(authTokenRepository).deleteAllByIdInBatch(List.of(third.getId()));
+        }
+
+        // Batch penuh diikuti batch kosong
+        {
+            Mockito.when(authTokenRepository.findExpiredTokensAfter(Mockito.any(LocalDateTime.class),
+                    Mockito.eq(second.getCreatedAt()), Mockito.eq(second.getId()), Mockito.any(Pageable.class)))
+                    .thenReturn(List.of());
+
+            assertEquals(2, authTokenReaper.reapExpiredTokens());
+            assertEquals(5, authTokenReaper.getRowsReaped());
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package org.delcom.app.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Date;
+import java.util.UUID;
+
+import org.delcom.app.entities.AuthPrincipal;
+import org.delcom.app.entities.AuthToken;
+import org.delcom.app.repositories.AuthTokenRepository;
+import org.delcom.app.utils.JwtUtil;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class AuthTokenServiceTests {
+    @Test
+    @DisplayName("Berbagai pengujian AuthToken")
+    public void testVariousAuthToken() {
+        UUID userId = UUID.randomUUID();
+        AuthToken authToken = new AuthToken(userId, "token");
+
+        // Membuat user repository palsu
+        AuthTokenRepository authTokenRepository = Mockito.mock(AuthTokenRepository.class);
+
+        // Membuat instance AuthToken dengan repository palsu
+        AuthTokenService authTokenService = new AuthTokenService(authTokenRepository);
+        assertTrue(authTokenService != null);
+
+        // Menguji createAuthToken
+        {
+            Mockito.when(authTokenRepository.save(Mockito.any(AuthToken.class))).thenReturn(authToken);
+
+            AuthToken result = authTokenService.createAuthToken(authToken);
+            assertTrue(result != null);
+            assertEquals(authToken.getUserId(), result.getUserId());
+            assertEquals(authToken.getToken(), result.getToken());
+        }
+
+        // Menguji findUserToken
+        {
+            Mockito.when(authTokenRepository.findUserToken(userId, JwtUtil.hashToken("token"))).thenReturn(authToken);
+
+            AuthToken result = authTokenService.findUserToken(userId, "token");
+            assertTrue(result != null);
+            assertEquals(authToken.getUserId(), result.getUserId());
+            assertEquals(authToken.getToken(), result.getToken());
+        }
+
+        // Menguji findAuthPrincipal yang tidak ditemukan
+        {
+            Mockito.when(authTokenRepository.findAuthPrincipal(userId, JwtUtil.hashToken("unknown"))).thenReturn(null);
+
+            AuthPrincipal result = authTokenService.findAuthPrincipal(userId, "unknown");
+            assertEquals(null, result);
+        }
+
+        // Menguji findAuthPrincipal dengan token yang tidak bisa di-cache
+        {
+            AuthPrincipal authPrincipal = new AuthPrincipal(userId, "Name", "email@example.com", "hash", null, null);
+            Mockito.when(authTokenRepository.findAuthPrincipal(userId, JwtUtil.hashToken("token"))).thenReturn(authPrincipal);
+
+            assertEquals(authPrincipal, authTokenService.findAuthPrincipal(userId, "token"));
+            assertEquals(authPrincipal, authTokenService.findAuthPrincipal(userId, "token"));
+            Mockito.verify(authTokenRepository, Mockito.times(2)).findAuthPrincipal(userId, "token");
+        }
+
+        // Menguji findAuthPrincipal dengan cache
+        {
+            String jwtToken = JwtUtil.generateToken(userId);
+            String jwtTokenHash = JwtUtil.hashToken(jwtToken);
+            AuthPrincipal authPrincipal = new AuthPrincipal(userId, "Name", "email@example.com", "hash", null, null);
+            Mockito.when(authTokenRepository.findAuthPrincipal(userId, jwtTokenHash)).thenReturn(authPrincipal);
+
+            // Panggilan pertama mengambil dari database, berikutnya dari cache
+            assertEquals(authPrincipal, authTokenService.findAuthPrincipal(userId, jwtToken));
+            assertEquals(authPrincipal, authTokenService.findAuthPrincipal(userId, jwtToken));
+            Mockito.verify(authTokenRepository, Mockito.times(1)).findAuthPrincipal(userId, jwtTokenHash);
+
+            // Token milik user lain tidak boleh diambil dari cache
+            UUID otherUserId = UUID.randomUUID();
+            Mockito.when(authTokenRepository.findAuthPrincipal(otherUserId, jwtTokenHash)).thenReturn(null);
+            assertEquals(null, authTokenService.findAuthPrincipal(otherUserId, jwtToken));
+
+            // Cache dihapus setelah data user berubah
+            authTokenService.evictAuthPrincipal(userId);
+            authTokenService.findAuthPrincipal(userId, jwtToken);
+            Mockito.verify(authTokenRepository, Mockito.times(2)).findAuthPrincipal(userId, jwtTokenHash);
+
+            // Cache dihapus setelah token dihapus
+            Mockito.when(authTokenRepository.findAuthPrincipal(userId, jwtTokenHash)).thenReturn(null);
+            authTokenService.deleteAuthToken(userId);
+            assertEquals(null, authTokenService.findAuthPrincipal(userId, jwtToken));
+        }
+
+        // Cache principal dibatasi TTL sehingga pencabutan di instance lain tetap terlihat
+        {
+            AuthTokenService shortLivedService = new AuthTokenService(authTokenRepository, 0);
+            UUID shortLivedUserId = UUID.randomUUID();
+            String jwtToken = JwtUtil.generateToken(shortLivedUserId);
+            String jwtTokenHash = JwtUtil.hashToken(jwtToken);
+            AuthPrincipal authPrincipal = new AuthPrincipal(shortLivedUserId, "Name", "short@example.com", "hash",
+                    null, null);
+            Mockito.when(authTokenRepository.findAuthPrincipal(shortLivedUserId, jwtTokenHash))
+                    .thenReturn(authPrincipal)
+                    .thenReturn(null);
+
+            // Token dihapus oleh instance lain: permintaan berikutnya kembali ke database
+            assertEquals(authPrincipal, shortLivedService.findAuthPrincipal(shortLivedUserId, jwtToken));
+            assertEquals(null, shortLivedService.findAuthPrincipal(shortLivedUserId, jwtToken));
+            Mockito.verify(authTokenRepository, Mockito.times(2)).findAuthPrincipal(shortLivedUserId, jwtTokenHash);
+        }
+
+        // Principal yang dicabut saat query berjalan tidak disimpan ke cache
+        {
+            UUID racingUserId = UUID.randomUUID();
+            String jwtToken = JwtUtil.generateToken(racingUserId);
+            String jwtTokenHash = JwtUtil.hashToken(jwtToken);
+            AuthPrincipal authPrincipal = new AuthPrincipal(racingUserId, "Name", "racing@example.com", "hash", null,
+                    null);
+            Mockito.when(authTokenRepository.findAuthPrincipal(racingUserId, jwtTokenHash))
+                    .thenAnswer(invocation -> {
+                        // Logout terjadi setelah query membaca token
+                        authTokenService.deleteAuthToken(racingUserId);
+                        return authPrincipal;
+                    })
+                    .thenReturn(null);
+
+            assertEquals(authPrincipal, authTokenService.findAuthPrincipal(racingUserId, jwtToken));
+            assertEquals(null, authTokenService.findAuthPrincipal(racingUserId, jwtToken));
+            Mockito.verify(authTokenRepository, Mockito.times(2)).findAuthPrincipal(racingUserId, jwtTokenHash);
+        }
+
+        // Menguji deleteAuthToken
+        {
+            Mockito.doNothing().when(authTokenRepository).deleteByUserId(userId);
+
+            authTokenService.deleteAuthToken(userId);
+            Mockito.verify(authTokenRepository, Mockito.times(2)).deleteByUserId(userId);
+        }
+
+        // Menguji isRevoked
+        {
+            UUID otherUserId = UUID.randomUUID();
+            assertEquals(false, authTokenService.isRevoked(otherUserId, new Date()));
+
+            // Token user sudah dicabut oleh deleteAuthToken di atas
+            assertEquals(true, authTokenService.isRevoked(userId, new Date(System.currentTimeMillis() - 60_000)));
+            assertEquals(true, authTokenService.isRevoked(userId, null));
+            assertEquals(false, authTokenService.isRevoked(userId, new Date(System.currentTimeMillis() + 60_000)));
+
+            // Pencabutan dibulatkan ke detik: token dari detik sebelumnya dicabut, token yang
+            // terbit di detik yang sama (login ulang setelah logout) tetap diterima
+            long revokedAt = System.currentTimeMillis() / 1000 * 1000 + 500;
+            authTokenService.revokeTokensIssuedBefore(userId, revokedAt);
+            assertEquals(true, authTokenService.isRevoked(userId, new Date(revokedAt - 1500)));
+            assertEquals(false, authTokenService.isRevoked(userId, new Date(revokedAt - 500)));
+            assertEquals(false, authTokenService.isRevoked(userId, new Date(revokedAt + 500)));
+
+            // Logout lalu login lagi di detik yang sama: token baru tidak ikut dicabut
+            UUID reloginUserId = UUID.randomUUID();
+            String oldToken = JwtUtil.generateToken(reloginUserId);
+            Date oldIssuedAt = JwtUtil.extractClaims(oldToken).getIssuedAt();
+            authTokenService.revokeTokensIssuedBefore(reloginUserId, oldIssuedAt.getTime() + 999);
+            String newToken = JwtUtil.generateToken(reloginUserId);
+            assertEquals(false, authTokenService.isRevoked(reloginUserId, JwtUtil.extractClaims(newToken)
+                    .getIssuedAt()));
+
+            // Entri yang lebih lama dari masa berlaku JWT dibuang
+            long longAgo = System.currentTimeMillis() - JwtUtil.getExpirationTime() * 2;
+            authTokenService.revokeTokensIssuedBefore(otherUserId, longAgo);
+            authTokenService.revokeTokensIssuedBefore(userId, System.currentTimeMillis());
+            assertEquals(false, authTokenService.isRevoked(otherUserId, new Date(longAgo - 60_000)));
+        }
+
+        // Menguji deleteAuthToken di dalam transaksi
+        {
+            TransactionSynchronizationManager.initSynchronization();
+            try {
+                authTokenService.deleteAuthToken(userId);
+                assertEquals(1, TransactionSynchronizationManager.getSynchronizations().size());
+                TransactionSynchronizationManager.getSynchronizations().get(0).afterCommit();
+            } finally {
+                TransactionSynchronizationManager.clearSynchronization();
+            }
+        }
+    }
+}
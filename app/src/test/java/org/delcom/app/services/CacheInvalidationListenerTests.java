@@ -0,0 +1,124 @@
+package org.delcom.app.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.delcom.app.utils.CacheInvalidation;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.test.util.ReflectionTestUtils;
+
+public class CacheInvalidationListenerTests {
+    @Test
+    @DisplayName("Pengujian listener invalidasi cache dari modul reaktif")
+    void testCacheInvalidationListener() throws Exception {
+        UUID userId = UUID.randomUUID();
+        UUID id = UUID.randomUUID();
+        TodoService todoService = Mockito.mock(TodoService.class);
+        CashFlowService cashFlowService = Mockito.mock(CashFlowService.class);
+
+        // Menguji handle untuk setiap jenis pesan
+        {
+            CacheInvalidationListener listener = new CacheInvalidationListener(todoService, cashFlowService,
+                    () -> null, true, 0);
+            listener.handle(new CacheInvalidation(CacheInvalidation.TODO, userId, id).encode());
+            Mockito.verify(todoService).evictExternalChange(userId, id);
+
+            listener.handle(new CacheInvalidation(CacheInvalidation.CASH_FLOW, userId, id).encode());
+            Mockito.verify(cashFlowService).evictExternalChange(userId, id);
+
+            // Jenis tidak dikenal dan pesan rusak diabaikan
+            listener.handle(new CacheInvalidation("user", userId, id).encode());
+            listener.handle("bukan-pesan");
+            Mockito.verifyNoMoreInteractions(todoService, cashFlowService);
+        }
+
+        // Listener yang dinonaktifkan tidak membuka koneksi
+        {
+            AtomicInteger opened = new AtomicInteger();
+            CacheInvalidationListener listener = new CacheInvalidationListener(todoService, cashFlowService, () -> {
+                opened.incrementAndGet();
+                return null;
+            }, false, 0);
+            listener.start();
+            listener.stop();
+            assertEquals(null, ReflectionTestUtils.getField(listener, "worker"));
+            assertEquals(0, opened.get());
+        }
+
+        // Koneksi default memakai DriverManager dengan URL dari konfigurasi
+        {
+            CacheInvalidationListener listener = new CacheInvalidationListener(todoService, cashFlowService,
+                    "jdbc:bukan-driver://localhost/db", "user", "password", true);
+            assertThrows(SQLException.class, listener.connectionFactory::open);
+        }
+
+        // Menyambung ulang setelah koneksi gagal, lalu meneruskan notifikasi
+        {
+            Mockito.clearInvocations(todoService);
+            Connection connection = Mockito.mock(Connection.class);
+            Statement statement = Mockito.mock(Statement.class);
+            PGConnection pgConnection = Mockito.mock(PGConnection.class);
+            PGNotification notification = Mockito.mock(PGNotification.class);
+            when(connection.createStatement()).thenReturn(statement);
+            when(connection.unwrap(PGConnection.class)).thenReturn(pgConnection);
+            when(notification.getParameter())
+                    .thenReturn(new CacheInvalidation(CacheInvalidation.TODO, userId, id).encode());
+
+            AtomicInteger attempts = new AtomicInteger();
+            CacheInvalidationListener listener = new CacheInvalidationListener(todoService, cashFlowService, () -> {
+                if (attempts.incrementAndGet() == 1) {
+                    throw new SQLException("koneksi ditolak");
+                }
+                return connection;
+            }, true, 0);
+
+            when(pgConnection.getNotifications(CacheInvalidationListener.POLL_TIMEOUT_MS))
+                    .thenReturn(new PGNotification[] { notification })
+                    .thenReturn(null)
+                    .thenAnswer(invocation -> {
+                        listener.stop();
+                        return new PGNotification[0];
+                    });
+
+            listener.start();
+            Thread worker = (Thread) ReflectionTestUtils.getField(listener, "worker");
+            worker.join(TimeUnit.SECONDS.toMillis(5));
+
+            assertEquals(false, worker.isAlive());
+            assertEquals(2, attempts.get());
+            Mockito.verify(statement).execute("LISTEN " + CacheInvalidation.CHANNEL);
+            Mockito.verify(todoService).evictExternalChange(userId, id);
+            Mockito.verify(connection).close();
+        }
+
+        // Berhenti saat menunggu sebelum menyambung ulang
+        {
+            CountDownLatch failed = new CountDownLatch(1);
+            CacheInvalidationListener listener = new CacheInvalidationListener(todoService, cashFlowService, () -> {
+                failed.countDown();
+                throw new SQLException("koneksi ditolak");
+            }, true, TimeUnit.MINUTES.toMillis(1));
+
+            listener.start();
+            assertTrue(failed.await(5, TimeUnit.SECONDS));
+            listener.stop();
+            Thread worker = (Thread) ReflectionTestUtils.getField(listener, "worker");
+            worker.join(TimeUnit.SECONDS.toMillis(5));
+            assertEquals(false, worker.isAlive());
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package org.delcom.app.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.delcom.app.utils.LruCache;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+public class CacheMetricsReporterTests {
+    @Test
+    @DisplayName("Berbagai pengujian CacheMetricsReporter")
+    public void testVariousCacheMetricsReporter() {
+        TodoService todoService = Mockito.mock(TodoService.class);
+        CashFlowService cashFlowService = Mockito.mock(CashFlowService.class);
+        CashFlowSummaryService cashFlowSummaryService = Mockito.mock(CashFlowSummaryService.class);
+
+        LruCache.Stats todoStats = new LruCache.Stats(3, 1, 0, 2);
+        LruCache.Stats emptyStats = new LruCache.Stats(0, 0, 0, 0);
+        when(todoService.getTodoCacheStats()).thenReturn(todoStats);
+        when(cashFlowService.getCashFlowCacheStats()).thenReturn(emptyStats);
+        when(cashFlowSummaryService.getAnalyticsCacheStats()).thenReturn(emptyStats);
+
+        CacheMetricsReporter reporter = new CacheMetricsReporter(todoService, cashFlowService, cashFlowSummaryService);
+
+        // Statistik semua cache berdasarkan nama
+        {
+            var stats = reporter.getStats();
+            assertEquals(List.of("todos", "cashFlows", "cashFlowAnalytics"), List.copyOf(stats.keySet()));
+            assertEquals(todoStats, stats.get("todos"));
+        }
+
+        // Statistik dicatat ke log, termasuk cache yang belum pernah dipakai
+        {
+            reporter.logStats();
+            Mockito.verify(todoService, Mockito.times(2)).getTodoCacheStats();
+        }
+    }
+}
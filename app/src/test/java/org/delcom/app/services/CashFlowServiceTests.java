@@ -0,0 +1,437 @@
+package org.delcom.app.services;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import org.delcom.app.entities.CashFlow;
+import org.delcom.app.entities.CashFlowBucket;
+import org.delcom.app.entities.CashFlowSummary;
+import org.delcom.app.repositories.CashFlowJdbcRepository;
+import org.delcom.app.repositories.CashFlowRepository;
+import org.delcom.app.utils.KeysetCursor;
+import org.delcom.app.utils.OffsetCursor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class CashFlowServiceTests {
+    @Test
+    @DisplayName("Pengujian untuk service CashFlow")
+    void testCashFlowService() throws Exception {
+        // Buat random UUID
+        UUID userId = UUID.randomUUID();
+        UUID cashFlowId = UUID.randomUUID();
+        UUID nonexistentCashFlowId = UUID.randomUUID();
+        LocalDateTime date = LocalDateTime.now();
+
+        // Membuat dummy data
+        CashFlow cashFlow = new CashFlow(userId, "INCOME", new BigDecimal("50000"), "Uang saku", date);
+        cashFlow.setId(cashFlowId);
+
+        // Membuat mock CashFlowRepository
+        // Buat mock
+        CashFlowRepository cashFlowRepository = Mockito.mock(CashFlowRepository.class);
+
+        // Atur perilaku mock
+        when(cashFlowRepository.save(any(CashFlow.class))).thenReturn(cashFlow);
+        when(cashFlowRepository.findByUserIdAndId(userId, cashFlowId)).thenReturn(java.util.Optional.of(cashFlow));
+        when(cashFlowRepository.findByUserIdAndId(userId, nonexistentCashFlowId)).thenReturn(java.util.Optional.empty());
+        // Nilai lama yang dikembalikan statement update dan delete
+        CashFlowRepository.PreviousValues beforeUpdate = previousValues("INCOME", new BigDecimal("50000"), date);
+        CashFlowRepository.PreviousValues beforeDelete = previousValues("EXPENSE", new BigDecimal("75000"), date);
+        when(cashFlowRepository.updateByUserIdAndId(eq(userId), eq(cashFlowId), any(String.class),
+                any(BigDecimal.class), any(String.class), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(java.util.Optional.of(beforeUpdate));
+        when(cashFlowRepository.deleteByUserIdAndId(userId, cashFlowId)).thenReturn(java.util.Optional.of(beforeDelete));
+        when(cashFlowRepository.updateByUserIdAndId(eq(userId), eq(nonexistentCashFlowId), any(String.class),
+                any(BigDecimal.class), any(String.class), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(java.util.Optional.empty());
+        when(cashFlowRepository.deleteByUserIdAndId(userId, nonexistentCashFlowId))
+                .thenReturn(java.util.Optional.empty());
+
+        // Membuat instance service
+        CashFlowJdbcRepository cashFlowJdbcRepository = Mockito.mock(CashFlowJdbcRepository.class);
+        CashFlowSummaryService cashFlowSummaryService = Mockito.mock(CashFlowSummaryService.class);
+        CashFlowService cashFlowService = new CashFlowService(cashFlowRepository, cashFlowJdbcRepository,
+                cashFlowSummaryService, false);
+        assert (cashFlowService != null);
+
+        // Menguji create cashFlow
+        {
+            CashFlow createdCashFlow = cashFlowService.createCashFlow(userId, cashFlow.getType(), 
+                    cashFlow.getAmount(), cashFlow.getDescription(), cashFlow.getDate());
+            assert (createdCashFlow != null);
+            assert (createdCashFlow.getId().equals(cashFlowId));
+            assert (createdCashFlow.getType().equals(cashFlow.getType()));
+            assert (createdCashFlow.getAmount().equals(cashFlow.getAmount()));
+            assert (createdCashFlow.getDescription().equals(cashFlow.getDescription()));
+            assert (createdCashFlow.getDate().equals(cashFlow.getDate()));
+            Mockito.verify(cashFlowSummaryService).add(userId, "INCOME", new BigDecimal("50000"), date);
+        }
+
+        // Menguji searchCashFlows
+        {
+            CashFlow otherCashFlow = new CashFlow(userId, "INCOME", new BigDecimal("10000"), "Sisa uang saku", date);
+            otherCashFlow.setId(UUID.randomUUID());
+            when(cashFlowRepository.searchByKeyword(userId, "%saku%", 2, 0))
+                    .thenReturn(java.util.List.of(cashFlow, otherCashFlow));
+            when(cashFlowRepository.searchByKeyword(userId, "%saku%", CashFlowService.DEFAULT_PAGE_SIZE + 1, 1))
+                    .thenReturn(java.util.List.of(otherCashFlow));
+            when(cashFlowRepository.searchByKeyword(userId, "%saku%", 2, CashFlowService.MAX_SEARCH_RESULTS - 1))
+                    .thenReturn(java.util.List.of(cashFlow, otherCashFlow));
+
+            // Halaman pertama masih memiliki halaman berikutnya
+            var page = cashFlowService.searchCashFlows(userId, " saku ", null, 1);
+            assert (page.items().equals(java.util.List.of(cashFlow)));
+            assert (OffsetCursor.decode(page.nextCursor()).offset() == 1);
+
+            // Halaman terakhir
+            page = cashFlowService.searchCashFlows(userId, "saku", page.nextCursor(), null);
+            assert (page.items().equals(java.util.List.of(otherCashFlow)));
+            assert (page.nextCursor() == null);
+
+            // Hasil pencarian dibatasi MAX_SEARCH_RESULTS
+            page = cashFlowService.searchCashFlows(userId, "saku",
+                    new OffsetCursor(CashFlowService.MAX_SEARCH_RESULTS - 1).encode(), 0);
+            assert (page.items().size() == 1);
+            assert (page.nextCursor() == null);
+
+            page = cashFlowService.searchCashFlows(userId, "saku", "  ", 1000);
+            assert (page.items().isEmpty());
+
+            try {
+                cashFlowService.searchCashFlows(userId, "saku",
+                        new OffsetCursor(CashFlowService.MAX_SEARCH_RESULTS).encode(), null);
+                assert (false);
+            } catch (IllegalArgumentException e) {
+                assert (e.getMessage().equals("Cursor tidak valid"));
+            }
+        }
+
+        // Menguji getCashFlowsPage
+        {
+            CashFlow olderCashFlow = new CashFlow(userId, "EXPENSE", new BigDecimal("20000"), "Makan siang", date.minusDays(1));
+            olderCashFlow.setId(UUID.randomUUID());
+            KeysetCursor cursor = new KeysetCursor(date, cashFlowId);
+            LocalDateTime from = date.minusMonths(1);
+
+            when(cashFlowRepository.findPageDesc(eq(userId), eq(CashFlowService.TYPES), any(LocalDateTime.class),
+                    any(LocalDateTime.class), any(Pageable.class)))
+                    .thenReturn(java.util.List.of(cashFlow, olderCashFlow));
+            when(cashFlowRepository.findPageDescAfter(eq(userId), eq(java.util.List.of("EXPENSE")), eq(from),
+                    eq(date), eq(date), eq(cashFlowId), any(Pageable.class)))
+                    .thenReturn(java.util.List.of(olderCashFlow));
+            when(cashFlowRepository.findPageAsc(eq(userId), eq(CashFlowService.TYPES), eq(from), eq(date),
+                    any(Pageable.class))).thenReturn(java.util.List.of(olderCashFlow, cashFlow));
+            when(cashFlowRepository.findPageAscAfter(eq(userId), eq(java.util.List.of("INCOME")),
+                    any(LocalDateTime.class), any(LocalDateTime.class), eq(date), eq(cashFlowId), any(Pageable.class)))
+                    .thenReturn(java.util.List.of());
+
+            // Halaman pertama (terbaru lebih dulu) masih memiliki halaman berikutnya
+            var page = cashFlowService.getCashFlowsPage(userId, null, null, null, false, null, 1);
+            assert (page.items().size() == 1);
+            assert (page.items().get(0).getId().equals(cashFlowId));
+            assert (KeysetCursor.decode(page.nextCursor()).equals(cursor));
+
+            // Limit kosong, nol, dan berlebih memakai batas default/maksimum
+            page = cashFlowService.getCashFlowsPage(userId, null, null, null, false, " ", null);
+            assert (page.items().size() == 2);
+            assert (page.nextCursor() == null);
+            page = cashFlowService.getCashFlowsPage(userId, null, null, null, false, null, 0);
+            assert (page.items().size() == 2);
+            page = cashFlowService.getCashFlowsPage(userId, null, null, null, false, null, 1000);
+            assert (page.items().size() == 2);
+
+            // Halaman berikutnya dengan filter type dan rentang tanggal
+            page = cashFlowService.getCashFlowsPage(userId, "EXPENSE", from, date, false, cursor.encode(), 1);
+            assert (page.items().size() == 1);
+            assert (page.items().get(0).getId().equals(olderCashFlow.getId()));
+
+            // Urutan terlama lebih dulu
+            page = cashFlowService.getCashFlowsPage(userId, null, from, date, true, null, 5);
+            assert (page.items().get(0).getId().equals(olderCashFlow.getId()));
+            page = cashFlowService.getCashFlowsPage(userId, "INCOME", null, null, true, cursor.encode(), 5);
+            assert (page.items().isEmpty());
+
+            // Cursor tidak valid
+            try {
+                cashFlowService.getCashFlowsPage(userId, null, null, null, false, "bukan-cursor", 1);
+                assert (false);
+            } catch (IllegalArgumentException e) {
+                assert (e.getMessage().equals("Cursor tidak valid"));
+            }
+        }
+
+        // Menguji createCashFlows
+        {
+            when(cashFlowJdbcRepository.insertBatch(any())).thenAnswer(invocation -> {
+                java.util.List<CashFlow> rows = invocation.getArgument(0);
+                for (CashFlow row : rows) {
+                    assert (row.getId() != null);
+                    assert (row.getUserId().equals(userId));
+                    assert (row.getCreatedAt() != null);
+                    assert (row.getUpdatedAt() != null);
+                }
+                return rows.size();
+            });
+
+            CashFlow reqCashFlow = new CashFlow(null, "EXPENSE", new BigDecimal("20000"), "Makan siang", date);
+            int inserted = cashFlowService.createCashFlows(userId, java.util.List.of(cashFlow, reqCashFlow));
+            assert (inserted == 2);
+            Mockito.verify(cashFlowSummaryService).addAll(eq(userId), any());
+        }
+
+        // Menguji exportCashFlows
+        {
+            Mockito.doAnswer(invocation -> {
+                Consumer<CashFlow> consumer = invocation.getArgument(1);
+                consumer.accept(cashFlow);
+                return null;
+            }).when(cashFlowJdbcRepository).streamByUserId(eq(userId), any());
+
+            java.util.List<CashFlow> exported = new java.util.ArrayList<>();
+            cashFlowService.exportCashFlows(userId, exported::add);
+            assert (exported.size() == 1);
+            assert (exported.get(0).getId().equals(cashFlowId));
+        }
+
+        // Menguji getSummary
+        {
+            CashFlowSummary summary = new CashFlowSummary(new BigDecimal("50000.00"), BigDecimal.ZERO,
+                    new BigDecimal("50000.00"), java.util.List.of());
+            when(cashFlowSummaryService.getSummary(userId, null, null)).thenReturn(summary);
+            assert (cashFlowService.getSummary(userId, null, null).equals(summary));
+        }
+
+        // Menguji getAnalytics
+        {
+            LocalDateTime from = LocalDateTime.of(2025, 1, 1, 0, 0);
+            LocalDateTime to = LocalDateTime.of(2025, 2, 1, 0, 0);
+            java.util.List<CashFlowBucket> buckets = java.util.List.of(
+                    new CashFlowBucket(java.time.LocalDate.of(2025, 1, 1), new BigDecimal("50000.00"), BigDecimal.ZERO));
+            when(cashFlowSummaryService.getAnalytics(userId, "month", from, to)).thenReturn(buckets);
+            assert (cashFlowService.getAnalytics(userId, "month", from, to).equals(buckets));
+        }
+
+        // Menguji getCashFlowById
+        {
+            CashFlow fetchedCashFlow = cashFlowService.getCashFlowById(userId, cashFlowId);
+            assert (fetchedCashFlow != null);
+            assert (fetchedCashFlow.getId().equals(cashFlowId));
+            assert (fetchedCashFlow.getType().equals(cashFlow.getType()));
+            assert (fetchedCashFlow.getAmount().equals(cashFlow.getAmount()));
+            assert (fetchedCashFlow.getDescription().equals(cashFlow.getDescription()));
+
+            // Pembacaan berikutnya dilayani dari cache dalam bentuk salinan
+            CashFlow cachedCashFlow = cashFlowService.getCashFlowById(userId, cashFlowId);
+            assert (cachedCashFlow != fetchedCashFlow);
+            assert (cachedCashFlow.getId().equals(cashFlowId));
+            assert (cachedCashFlow.getAmount().equals(cashFlow.getAmount()));
+            assert (cachedCashFlow.getDate().equals(cashFlow.getDate()));
+            Mockito.verify(cashFlowRepository, Mockito.times(1)).findByUserIdAndId(userId, cashFlowId);
+
+            // Mengubah cash flow yang dikembalikan tidak mengubah isi cache
+            cachedCashFlow.setDescription("Diubah pemanggil");
+            assert (cashFlowService.getCashFlowById(userId, cashFlowId).getDescription()
+                    .equals(cashFlow.getDescription()));
+
+            // Cash flow di cache tidak dikembalikan untuk user lain
+            assert (cashFlowService.getCashFlowById(UUID.randomUUID(), cashFlowId) == null);
+            assert (cashFlowService.getCashFlowCacheStats().hits() == 3);
+        }
+
+        // Menguji getCashFlowById dengan ID yang tidak ada
+        {
+            CashFlow fetchedCashFlow = cashFlowService.getCashFlowById(userId, nonexistentCashFlowId);
+            assert (fetchedCashFlow == null);
+        }
+
+        // Menguji updateCashFlow
+        {
+            String updatedType = "EXPENSE";
+            BigDecimal updatedAmount = new BigDecimal("75000");
+            String updatedDescription = "Bayar tagihan listrik";
+            LocalDateTime updatedDate = LocalDateTime.now();
+
+            boolean updated = cashFlowService.updateCashFlow(userId, cashFlowId, updatedType,
+                    updatedAmount, updatedDescription, updatedDate);
+            assert (updated == true);
+
+            // Satu statement update tanpa memuat cash flow terlebih dahulu
+            Mockito.verify(cashFlowRepository, Mockito.times(1)).updateByUserIdAndId(eq(userId), eq(cashFlowId),
+                    eq(updatedType), eq(updatedAmount), eq(updatedDescription), eq(updatedDate),
+                    any(LocalDateTime.class));
+            Mockito.verify(cashFlowRepository, Mockito.times(1)).findByUserIdAndId(userId, cashFlowId);
+
+            // Ringkasan dikurangi nilai lama dan ditambah nilai baru
+            Mockito.verify(cashFlowSummaryService).subtract(userId, "INCOME", new BigDecimal("50000"), date);
+            Mockito.verify(cashFlowSummaryService).add(userId, updatedType, updatedAmount, updatedDate);
+
+            // Cache dihapus setelah update sehingga pembacaan berikutnya ke database
+            cashFlowService.getCashFlowById(userId, cashFlowId);
+            Mockito.verify(cashFlowRepository, Mockito.times(2)).findByUserIdAndId(userId, cashFlowId);
+        }
+
+        // Menguji update CashFlow dengan ID yang tidak ada
+        {
+            String updatedType = "EXPENSE";
+            BigDecimal updatedAmount = new BigDecimal("75000");
+            String updatedDescription = "Bayar tagihan listrik";
+            LocalDateTime updatedDate = LocalDateTime.now();
+
+            boolean updated = cashFlowService.updateCashFlow(userId, nonexistentCashFlowId,
+                    updatedType, updatedAmount, updatedDescription, updatedDate);
+            assert (updated == false);
+        }
+
+        // Menguji deleteCashFlow
+        {
+            boolean deleted = cashFlowService.deleteCashFlow(userId, cashFlowId);
+            assert (deleted == true);
+            Mockito.verify(cashFlowSummaryService).subtract(userId, "EXPENSE", new BigDecimal("75000"), date);
+            Mockito.verify(cashFlowRepository, Mockito.never()).deleteById(any(UUID.class));
+        }
+
+        // Menguji deleteCashFlow dengan ID yang tidak ada
+        {
+            boolean deleted = cashFlowService.deleteCashFlow(userId, nonexistentCashFlowId);
+            assert (deleted == false);
+        }
+
+        // Menguji pencarian dengan index in-memory
+        {
+            CashFlowRepository indexedRepository = Mockito.mock(CashFlowRepository.class);
+            CashFlowService indexedService = new CashFlowService(indexedRepository, cashFlowJdbcRepository,
+                    cashFlowSummaryService, true);
+
+            CashFlow descriptionMatch = new CashFlow(userId, "INCOME", new BigDecimal("15000"), "Jual pensil bekas",
+                    LocalDateTime.of(2025, 1, 1, 12, 0));
+            descriptionMatch.setId(UUID.randomUUID());
+            CashFlow typeMatch = new CashFlow(userId, "EXPENSE", new BigDecimal("30000"), "Bensin",
+                    LocalDateTime.of(2025, 1, 2, 12, 0));
+            typeMatch.setId(UUID.randomUUID());
+            CashFlow otherCashFlow = new CashFlow(userId, "INCOME", new BigDecimal("100000"), "Gaji",
+                    LocalDateTime.of(2025, 1, 3, 12, 0));
+            otherCashFlow.setId(UUID.randomUUID());
+
+            when(indexedRepository.findPageDesc(eq(userId), eq(CashFlowService.TYPES), any(LocalDateTime.class),
+                    any(LocalDateTime.class), any(Pageable.class)))
+                    .thenReturn(java.util.List.of(otherCashFlow, typeMatch, descriptionMatch));
+            when(indexedRepository.save(any(CashFlow.class))).thenAnswer(invocation -> {
+                CashFlow saved = invocation.getArgument(0);
+                if (saved.getId() == null) {
+                    saved.setId(UUID.randomUUID());
+                }
+                return saved;
+            });
+
+            // Index dibangun dari database saat pencarian pertama, cocok pada description lebih dulu
+            var page = indexedService.searchCashFlows(userId, "PENS", null, 1);
+            assert (page.items().equals(java.util.List.of(descriptionMatch)));
+            page = indexedService.searchCashFlows(userId, "pens", page.nextCursor(), null);
+            assert (page.items().equals(java.util.List.of(typeMatch)));
+            assert (page.nextCursor() == null);
+            page = indexedService.searchCashFlows(userId, "pens", new OffsetCursor(10).encode(), null);
+            assert (page.items().isEmpty());
+            Mockito.verify(indexedRepository, Mockito.never()).searchByKeyword(any(UUID.class), any(String.class),
+                    Mockito.anyInt(), Mockito.anyInt());
+
+            // Cash flow baru langsung masuk ke index
+            CashFlow createdCashFlow = indexedService.createCashFlow(userId, "INCOME", new BigDecimal("5000"),
+                    "Bonus lembur", date);
+            page = indexedService.searchCashFlows(userId, "lembur", null, null);
+            assert (page.items().equals(java.util.List.of(createdCashFlow)));
+
+            // Perubahan dalam transaksi baru masuk ke index setelah commit
+            otherCashFlow.setCreatedAt(LocalDateTime.of(2025, 1, 3, 12, 5));
+            CashFlowRepository.PreviousValues otherPrevious = previousValues(otherCashFlow.getType(),
+                    otherCashFlow.getAmount(), otherCashFlow.getDate());
+            when(indexedRepository.updateByUserIdAndId(eq(userId), eq(otherCashFlow.getId()), any(String.class),
+                    any(BigDecimal.class), any(String.class), any(LocalDateTime.class), any(LocalDateTime.class)))
+                    .thenReturn(java.util.Optional.of(otherPrevious));
+            TransactionSynchronizationManager.initSynchronization();
+            try {
+                indexedService.updateCashFlow(userId, otherCashFlow.getId(), "INCOME", new BigDecimal("100000"),
+                        "Gaji Januari", otherCashFlow.getDate());
+                assert (indexedService.searchCashFlows(userId, "januari", null, null).items().isEmpty());
+                for (TransactionSynchronization synchronization : TransactionSynchronizationManager
+                        .getSynchronizations()) {
+                    synchronization.afterCommit();
+                }
+            } finally {
+                TransactionSynchronizationManager.clearSynchronization();
+            }
+            page = indexedService.searchCashFlows(userId, "januari", null, null);
+            assert (page.items().size() == 1);
+            CashFlow indexedCashFlow = page.items().get(0);
+            assert (indexedCashFlow.getId().equals(otherCashFlow.getId()));
+            assert (indexedCashFlow.getDescription().equals("Gaji Januari"));
+            assert (indexedCashFlow.getCreatedAt().equals(otherCashFlow.getCreatedAt()));
+
+            // Cash flow yang dihapus keluar dari index
+            CashFlowRepository.PreviousValues typeMatchPrevious = previousValues(typeMatch.getType(),
+                    typeMatch.getAmount(), typeMatch.getDate());
+            when(indexedRepository.deleteByUserIdAndId(userId, typeMatch.getId()))
+                    .thenReturn(java.util.Optional.of(typeMatchPrevious));
+            assert (indexedService.deleteCashFlow(userId, typeMatch.getId()));
+            assert (indexedService.searchCashFlows(userId, "bensin", null, null).items().isEmpty());
+
+            // Bulk insert membuang index user sehingga pencarian berikutnya memuat ulang dari database
+            indexedService.createCashFlows(userId, java.util.List.of(
+                    new CashFlow(null, "EXPENSE", new BigDecimal("20000"), "Makan malam", date)));
+            indexedService.searchCashFlows(userId, "makan", null, null);
+            Mockito.verify(indexedRepository, Mockito.times(2)).findPageDesc(eq(userId), eq(CashFlowService.TYPES),
+                    any(LocalDateTime.class), any(LocalDateTime.class), any(Pageable.class));
+
+            // Perubahan dari modul reaktif juga membuang index user
+            indexedService.evictExternalChange(userId, descriptionMatch.getId());
+            indexedService.searchCashFlows(userId, "makan", null, null);
+            Mockito.verify(indexedRepository, Mockito.times(3)).findPageDesc(eq(userId), eq(CashFlowService.TYPES),
+                    any(LocalDateTime.class), any(LocalDateTime.class), any(Pageable.class));
+        }
+
+        // Menguji evictExternalChange, cash flow dan analitik dimuat ulang dari database
+        {
+            cashFlowService.getCashFlowById(userId, cashFlowId);
+            Mockito.clearInvocations(cashFlowRepository, cashFlowSummaryService);
+            cashFlowService.evictExternalChange(userId, cashFlowId);
+            assert (cashFlowService.getCashFlowById(userId, cashFlowId) != null);
+            Mockito.verify(cashFlowRepository, Mockito.times(1)).findByUserIdAndId(userId, cashFlowId);
+            Mockito.verify(cashFlowSummaryService).evictAnalytics(userId);
+        }
+
+        // Cash flow yang dihapus saat query berjalan tidak disimpan ke cache
+        {
+            CashFlowRepository racingRepository = Mockito.mock(CashFlowRepository.class);
+            CashFlowService racingService = new CashFlowService(racingRepository, cashFlowJdbcRepository,
+                    cashFlowSummaryService, false);
+            when(racingRepository.findByUserIdAndId(userId, cashFlowId)).thenAnswer(invocation -> {
+                // Delete dari request lain di-commit setelah query membaca data lama
+                racingService.evictExternalChange(userId, cashFlowId);
+                return java.util.Optional.of(cashFlow);
+            });
+
+            assert (racingService.getCashFlowById(userId, cashFlowId) == cashFlow);
+            racingService.getCashFlowById(userId, cashFlowId);
+            Mockito.verify(racingRepository, Mockito.times(2)).findByUserIdAndId(userId, cashFlowId);
+        }
+    }
+
+    private static CashFlowRepository.PreviousValues previousValues(String type, BigDecimal amount,
+            LocalDateTime date) {
+        CashFlowRepository.PreviousValues previous = Mockito.mock(CashFlowRepository.PreviousValues.class);
+        when(previous.getType()).thenReturn(type);
+        when(previous.getAmount()).thenReturn(amount);
+        when(previous.getDate()).thenReturn(date);
+        return previous;
+    }
+}
@@ -0,0 +1,213 @@
+package org.delcom.app.services;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.delcom.app.entities.CashFlow;
+import org.delcom.app.entities.CashFlowBalance;
+import org.delcom.app.entities.CashFlowBucket;
+import org.delcom.app.entities.CashFlowMonthlySummary;
+import org.delcom.app.repositories.CashFlowBalanceRepository;
+import org.delcom.app.repositories.CashFlowJdbcRepository;
+import org.delcom.app.repositories.CashFlowMonthlySummaryRepository;
+import org.delcom.app.utils.MoneyUtil;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.mockito.Mockito;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class CashFlowSummaryServiceTests {
+    @Test
+    @DisplayName("Pengujian untuk service CashFlowSummary")
+    void testCashFlowSummaryService() throws Exception {
+        UUID userId = UUID.randomUUID();
+        LocalDateTime date = LocalDateTime.of(2025, 1, 15, 10, 0);
+        LocalDate month = LocalDate.of(2025, 1, 1);
+
+        CashFlowJdbcRepository cashFlowJdbcRepository = Mockito.mock(CashFlowJdbcRepository.class);
+        CashFlowBalanceRepository cashFlowBalanceRepository = Mockito.mock(CashFlowBalanceRepository.class);
+        CashFlowMonthlySummaryRepository cashFlowMonthlySummaryRepository = Mockito
+                .mock(CashFlowMonthlySummaryRepository.class);
+
+        CashFlowSummaryService cashFlowSummaryService = new CashFlowSummaryService(cashFlowJdbcRepository,
+                cashFlowBalanceRepository, cashFlowMonthlySummaryRepository);
+
+        // Menambah dan mengurangi satu cash flow
+        {
+            cashFlowSummaryService.add(userId, "INCOME", new BigDecimal("50000.25"), date);
+
+            // Agregat total diperbarui sebelum rincian bulanan
+            InOrder inOrder = Mockito.inOrder(cashFlowBalanceRepository, cashFlowMonthlySummaryRepository);
+            inOrder.verify(cashFlowBalanceRepository).addDelta(userId, 5000025L, 0L);
+            inOrder.verify(cashFlowMonthlySummaryRepository).addDelta(userId, month, 5000025L, 0L);
+
+            cashFlowSummaryService.subtract(userId, "EXPENSE", new BigDecimal("20000"), date);
+            verify(cashFlowMonthlySummaryRepository).addDelta(userId, month, 0L, -2000000L);
+            verify(cashFlowBalanceRepository).addDelta(userId, 0L, -2000000L);
+        }
+
+        // Menambah banyak cash flow digabung per bulan
+        {
+            List<CashFlow> cashFlows = List.of(
+                    new CashFlow(userId, "INCOME", new BigDecimal("1000.10"), "Januari 1", date),
+                    new CashFlow(userId, "EXPENSE", new BigDecimal("300"), "Januari 2", date.plusDays(3)),
+                    new CashFlow(userId, "INCOME", new BigDecimal("500.20"), "Februari", date.plusMonths(1)));
+
+            cashFlowSummaryService.addAll(userId, cashFlows);
+            InOrder inOrder = Mockito.inOrder(cashFlowBalanceRepository, cashFlowMonthlySummaryRepository);
+            inOrder.verify(cashFlowBalanceRepository).addDelta(userId, 150030L, 30000L);
+            inOrder.verify(cashFlowMonthlySummaryRepository).addDelta(userId, month, 100010L, 30000L);
+            inOrder.verify(cashFlowMonthlySummaryRepository).addDelta(userId, month.plusMonths(1), 50020L, 0L);
+        }
+
+        // Total nominal yang melebihi batas long ditolak sebelum agregat diubah
+        {
+            Mockito.clearInvocations(cashFlowBalanceRepository, cashFlowMonthlySummaryRepository);
+            for (String type : new String[] { "INCOME", "EXPENSE" }) {
+                List<CashFlow> cashFlows = Collections.nCopies(10_000,
+                        new CashFlow(userId, type, MoneyUtil.MAX_AMOUNT, "Maksimal", date));
+
+                IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                        () -> cashFlowSummaryService.addAll(userId, cashFlows));
+                assert (e.getMessage().equals("Total nominal cash flow melebihi batas"));
+                assert (e.getCause() instanceof ArithmeticException);
+            }
+            verify(cashFlowBalanceRepository, never()).addDelta(any(UUID.class), Mockito.anyLong(),
+                    Mockito.anyLong());
+            verify(cashFlowMonthlySummaryRepository, never()).addDelta(any(UUID.class), any(LocalDate.class),
+                    Mockito.anyLong(), Mockito.anyLong());
+        }
+
+        // Ringkasan user yang belum memiliki cash flow
+        {
+            when(cashFlowBalanceRepository.findById(userId)).thenReturn(Optional.empty());
+            when(cashFlowMonthlySummaryRepository.findByUserIdAndMonthBetween(any(UUID.class),
+                    any(LocalDate.class), any(LocalDate.class))).thenReturn(List.of());
+
+            var summary = cashFlowSummaryService.getSummary(userId, null, null);
+            assert (summary.totalIncome().signum() == 0);
+            assert (summary.totalExpense().signum() == 0);
+            assert (summary.balance().signum() == 0);
+            assert (summary.months().isEmpty());
+        }
+
+        // Ringkasan dengan rentang bulan
+        {
+            CashFlowMonthlySummary january = new CashFlowMonthlySummary(userId, month, 100000L, 30000L);
+            when(cashFlowBalanceRepository.findById(userId))
+                    .thenReturn(Optional.of(new CashFlowBalance(userId, 150000L, 30050L)));
+            when(cashFlowMonthlySummaryRepository.findByUserIdAndMonthBetween(userId, month, month))
+                    .thenReturn(List.of(january));
+
+            var summary = cashFlowSummaryService.getSummary(userId, YearMonth.of(2025, 1), YearMonth.of(2025, 1));
+            assert (summary.totalIncome().equals(new BigDecimal("1500.00")));
+            assert (summary.totalExpense().equals(new BigDecimal("300.50")));
+            assert (summary.balance().equals(new BigDecimal("1199.50")));
+            assert (summary.months().equals(List.of(january)));
+        }
+
+        // Analitik rentang yang sudah lewat disimpan di cache
+        {
+            LocalDateTime from = LocalDateTime.of(2025, 1, 1, 0, 0);
+            LocalDateTime to = LocalDateTime.of(2025, 2, 1, 0, 0);
+            List<CashFlowBucket> buckets = List.of(new CashFlowBucket(month, new BigDecimal("1000.00"), new BigDecimal("300.00")));
+            when(cashFlowJdbcRepository.aggregateByInterval(userId, "month", from, to)).thenReturn(buckets);
+
+            assert (cashFlowSummaryService.getAnalytics(userId, "month", from, to).equals(buckets));
+            assert (cashFlowSummaryService.getAnalytics(userId, "month", from, to).equals(buckets));
+            verify(cashFlowJdbcRepository, Mockito.times(1)).aggregateByInterval(userId, "month", from, to);
+
+            // Cache user lain tidak ikut terhapus, cache user ini dihapus saat ada perubahan
+            cashFlowSummaryService.evictAnalytics(UUID.randomUUID());
+            cashFlowSummaryService.getAnalytics(userId, "month", from, to);
+            verify(cashFlowJdbcRepository, Mockito.times(1)).aggregateByInterval(userId, "month", from, to);
+
+            cashFlowSummaryService.add(userId, "INCOME", new BigDecimal("100"), date);
+            cashFlowSummaryService.getAnalytics(userId, "month", from, to);
+            verify(cashFlowJdbcRepository, Mockito.times(2)).aggregateByInterval(userId, "month", from, to);
+
+            // Cache dihapus ulang setelah transaksi commit
+            TransactionSynchronizationManager.initSynchronization();
+            try {
+                cashFlowSummaryService.evictAnalytics(userId);
+                assert (TransactionSynchronizationManager.getSynchronizations().size() == 1);
+                cashFlowSummaryService.getAnalytics(userId, "month", from, to);
+                TransactionSynchronizationManager.getSynchronizations().get(0).afterCommit();
+            } finally {
+                TransactionSynchronizationManager.clearSynchronization();
+            }
+            cashFlowSummaryService.getAnalytics(userId, "month", from, to);
+            verify(cashFlowJdbcRepository, Mockito.times(4)).aggregateByInterval(userId, "month", from, to);
+        }
+
+        // Analitik rentang yang masih berjalan tidak disimpan di cache
+        {
+            LocalDateTime from = LocalDateTime.now().minusDays(7);
+            LocalDateTime to = LocalDateTime.now().plusDays(1);
+            when(cashFlowJdbcRepository.aggregateByInterval(userId, "day", from, to)).thenReturn(List.of());
+
+            cashFlowSummaryService.getAnalytics(userId, "day", from, to);
+            cashFlowSummaryService.getAnalytics(userId, "day", from, to);
+            verify(cashFlowJdbcRepository, Mockito.times(2)).aggregateByInterval(userId, "day", from, to);
+        }
+
+        // Backfill dilewati tanpa mengunci apa pun jika semua agregat sudah terverifikasi
+        {
+            when(cashFlowBalanceRepository.existsPendingBackfill()).thenReturn(false);
+            cashFlowSummaryService.backfill();
+
+            verify(cashFlowBalanceRepository).existsPendingBackfill();
+            verify(cashFlowBalanceRepository, never()).insertMissingForBackfill();
+            verify(cashFlowBalanceRepository, never()).lockPendingBackfill();
+        }
+
+        // Tidak ada user yang tersisa setelah dikunci, misalnya sudah dikerjakan instance lain
+        {
+            when(cashFlowBalanceRepository.existsPendingBackfill()).thenReturn(true);
+            when(cashFlowBalanceRepository.lockPendingBackfill()).thenReturn(List.of());
+            cashFlowSummaryService.backfill();
+
+            verify(cashFlowMonthlySummaryRepository, never()).deleteByUserIds(any());
+            verify(cashFlowBalanceRepository, never()).rebuildFromCashFlows(any());
+        }
+
+        // Backfill dari tabel cash_flows hanya untuk user yang dikunci, dibagi per batch
+        {
+            List<UUID> userIds = new ArrayList<>();
+            for (int i = 0; i < CashFlowSummaryService.BACKFILL_BATCH_SIZE + 1; i++) {
+                userIds.add(UUID.randomUUID());
+            }
+            List<UUID> firstBatch = userIds.subList(0, CashFlowSummaryService.BACKFILL_BATCH_SIZE);
+            List<UUID> secondBatch = userIds.subList(CashFlowSummaryService.BACKFILL_BATCH_SIZE, userIds.size());
+            when(cashFlowBalanceRepository.lockPendingBackfill()).thenReturn(userIds);
+            when(cashFlowMonthlySummaryRepository.rebuildFromCashFlows(any())).thenReturn(5);
+            Mockito.clearInvocations(cashFlowBalanceRepository, cashFlowMonthlySummaryRepository);
+            cashFlowSummaryService.backfill();
+
+            InOrder inOrder = Mockito.inOrder(cashFlowBalanceRepository, cashFlowMonthlySummaryRepository);
+            inOrder.verify(cashFlowBalanceRepository).existsPendingBackfill();
+            inOrder.verify(cashFlowBalanceRepository).insertMissingForBackfill();
+            inOrder.verify(cashFlowBalanceRepository).lockPendingBackfill();
+            for (List<UUID> batch : List.of(firstBatch, secondBatch)) {
+                inOrder.verify(cashFlowMonthlySummaryRepository).deleteByUserIds(batch);
+                inOrder.verify(cashFlowMonthlySummaryRepository).rebuildFromCashFlows(batch);
+                inOrder.verify(cashFlowBalanceRepository).rebuildFromCashFlows(batch);
+                inOrder.verify(cashFlowBalanceRepository).resetWithoutCashFlows(batch);
+            }
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package org.delcom.app.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.RejectedExecutionException;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+public class PasswordHashServiceTests {
+    @Test
+    @DisplayName("Berbagai pengujian PasswordHashService")
+    public void testVariousPasswordHashService() {
+        PasswordHashService passwordHashService = new PasswordHashService(10, 2, 4);
+
+        // Hash dan cocokkan password
+        {
+            String hash = passwordHashService.encode("password123");
+            assertTrue(passwordHashService.matches("password123", hash));
+            assertEquals(false, passwordHashService.matches("salah", hash));
+            assertEquals(false, passwordHashService.needsUpgrade(hash));
+
+            // Pencocokan dummy untuk email yang tidak terdaftar
+            passwordHashService.matchesDummy("password123");
+        }
+
+        // Hash dengan work factor lebih rendah perlu diperbarui
+        {
+            String weakHash = new BCryptPasswordEncoder(4).encode("password123");
+            assertTrue(passwordHashService.needsUpgrade(weakHash));
+        }
+
+        // Hashing gagal
+        {
+            assertThrows(IllegalStateException.class, () -> passwordHashService.encode(null));
+        }
+
+        // Thread pemanggil diinterupsi
+        {
+            Thread.currentThread().interrupt();
+            assertThrows(IllegalStateException.class, () -> passwordHashService.encode("password123"));
+            assertTrue(Thread.interrupted());
+        }
+
+        // Pool default mengikuti jumlah CPU
+        {
+            PasswordHashService defaultPoolService = new PasswordHashService(4, 0, 1);
+            assertTrue(defaultPoolService.matches("abc", defaultPoolService.encode("abc")));
+            defaultPoolService.shutdown();
+        }
+
+        // Permintaan ditolak setelah pool dimatikan
+        {
+            passwordHashService.shutdown();
+            assertThrows(RejectedExecutionException.class, () -> passwordHashService.encode("password123"));
+        }
+    }
+}
@@ -0,0 +1,362 @@
+package org.delcom.app.services;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.delcom.app.dto.TodoBatchOperation;
+import org.delcom.app.entities.Todo;
+import org.delcom.app.repositories.TodoJdbcRepository;
+import org.delcom.app.repositories.TodoRepository;
+import org.delcom.app.utils.KeysetCursor;
+import org.delcom.app.utils.OffsetCursor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class TodoServiceTests {
+    @Test
+    @DisplayName("Pengujian untuk service Todo")
+    void testTodoService() throws Exception {
+        // Buat random UUID
+        UUID userId = UUID.randomUUID();
+        UUID todoId = UUID.randomUUID();
+        UUID nonexistentTodoId = UUID.randomUUID();
+
+        // Membuat dummy data
+        Todo todo = new Todo(userId, "Belajar Spring Boot", "Belajar mock repository di unit test", false);
+        todo.setId(todoId);
+
+        // Membuat mock TodoRepository
+        // Buat mock
+        TodoRepository todoRepository = Mockito.mock(TodoRepository.class);
+
+        // Atur perilaku mock
+        when(todoRepository.save(any(Todo.class))).thenReturn(todo);
+        when(todoRepository.findByUserIdAndId(userId, todoId)).thenReturn(java.util.Optional.of(todo));
+        when(todoRepository.findByUserIdAndId(userId, nonexistentTodoId)).thenReturn(java.util.Optional.empty());
+        when(todoRepository.updateByUserIdAndId(eq(userId), eq(todoId), any(String.class), any(String.class),
+                any(Boolean.class), any(LocalDateTime.class))).thenReturn(1);
+        when(todoRepository.deleteByUserIdAndId(userId, todoId)).thenReturn(1);
+
+        // Membuat instance service
+        TodoJdbcRepository todoJdbcRepository = Mockito.mock(TodoJdbcRepository.class);
+        TodoService todoService = new TodoService(todoRepository, todoJdbcRepository, false);
+        assert (todoService != null);
+
+        // Menguji create todo
+        {
+            Todo createdTodo = todoService.createTodo(userId, todo.getTitle(), todo.getDescription());
+            assert (createdTodo != null);
+            assert (createdTodo.getId().equals(todoId));
+            assert (createdTodo.getTitle().equals(todo.getTitle()));
+            assert (createdTodo.getDescription().equals(todo.getDescription()));
+        }
+
+        // Menguji searchTodos
+        {
+            Todo otherTodo = new Todo(userId, "Membaca buku", "Belajar dari buku", false);
+            otherTodo.setId(UUID.randomUUID());
+            when(todoRepository.searchByKeyword(userId, "%Belajar%", 2, 0))
+                    .thenReturn(java.util.List.of(todo, otherTodo));
+            when(todoRepository.searchByKeyword(userId, "%Belajar%", TodoService.DEFAULT_PAGE_SIZE + 1, 1))
+                    .thenReturn(java.util.List.of(otherTodo));
+            when(todoRepository.searchByKeyword(userId, "%Belajar%", 2, TodoService.MAX_SEARCH_RESULTS - 1))
+                    .thenReturn(java.util.List.of(todo, otherTodo));
+
+            // Halaman pertama masih memiliki halaman berikutnya
+            var page = todoService.searchTodos(userId, " Belajar ", null, 1);
+            assert (page.items().equals(java.util.List.of(todo)));
+            assert (OffsetCursor.decode(page.nextCursor()).offset() == 1);
+
+            // Halaman terakhir
+            page = todoService.searchTodos(userId, "Belajar", page.nextCursor(), null);
+            assert (page.items().equals(java.util.List.of(otherTodo)));
+            assert (page.nextCursor() == null);
+
+            // Hasil pencarian dibatasi MAX_SEARCH_RESULTS
+            page = todoService.searchTodos(userId, "Belajar",
+                    new OffsetCursor(TodoService.MAX_SEARCH_RESULTS - 1).encode(), 0);
+            assert (page.items().size() == 1);
+            assert (page.nextCursor() == null);
+
+            page = todoService.searchTodos(userId, "Belajar", "  ", 1000);
+            assert (page.items().isEmpty());
+
+            try {
+                todoService.searchTodos(userId, "Belajar",
+                        new OffsetCursor(TodoService.MAX_SEARCH_RESULTS).encode(), null);
+                assert (false);
+            } catch (IllegalArgumentException e) {
+                assert (e.getMessage().equals("Cursor tidak valid"));
+            }
+        }
+
+        // Menguji getTodosPage
+        {
+            Todo olderTodo = new Todo(userId, "Belajar JPA", "Belajar keyset pagination", false);
+            olderTodo.setId(UUID.randomUUID());
+            KeysetCursor cursor = new KeysetCursor(LocalDateTime.now(), todoId);
+
+            when(todoRepository.findPageByUserId(eq(userId), any(Pageable.class)))
+                    .thenReturn(java.util.List.of(todo, olderTodo));
+            when(todoRepository.findPageByUserIdAfter(eq(userId), eq(cursor.position()), eq(todoId),
+                    any(Pageable.class))).thenReturn(java.util.List.of(olderTodo));
+
+            // Halaman pertama masih memiliki halaman berikutnya
+            var page = todoService.getTodosPage(userId, null, 1);
+            assert (page.items().size() == 1);
+            assert (page.items().get(0).getId().equals(todoId));
+            assert (page.nextCursor() != null);
+
+            // Limit kosong, nol, dan berlebih memakai batas default/maksimum
+            page = todoService.getTodosPage(userId, "  ", null);
+            assert (page.items().size() == 2);
+            assert (page.nextCursor() == null);
+            page = todoService.getTodosPage(userId, null, 0);
+            assert (page.items().size() == 2);
+            page = todoService.getTodosPage(userId, null, 1000);
+            assert (page.items().size() == 2);
+
+            // Halaman berikutnya memakai cursor
+            page = todoService.getTodosPage(userId, cursor.encode(), 1);
+            assert (page.items().size() == 1);
+            assert (page.items().get(0).getId().equals(olderTodo.getId()));
+            assert (page.nextCursor() == null);
+
+            // Cursor tidak valid
+            try {
+                todoService.getTodosPage(userId, "bukan-cursor", 1);
+                assert (false);
+            } catch (IllegalArgumentException e) {
+                assert (e.getMessage().equals("Cursor tidak valid"));
+            }
+        }
+
+        // Menguji applyBatch
+        {
+            UUID deletedTodoId = UUID.randomUUID();
+            TodoBatchOperation create = new TodoBatchOperation(TodoBatchOperation.CREATE, null,
+                    "Belajar JDBC", "Belajar batch insert", null);
+            TodoBatchOperation update = new TodoBatchOperation(TodoBatchOperation.UPDATE, todoId,
+                    "Belajar Spring Boot", "Sudah selesai", true);
+            TodoBatchOperation delete = new TodoBatchOperation(TodoBatchOperation.DELETE, deletedTodoId,
+                    null, null, null);
+
+            Mockito.doAnswer(invocation -> {
+                java.util.List<Todo> rows = invocation.getArgument(0);
+                assert (rows.size() == 1);
+                assert (rows.get(0).getId() != null);
+                assert (rows.get(0).getUserId().equals(userId));
+                assert (rows.get(0).isFinished() == false);
+                assert (rows.get(0).getCreatedAt() != null);
+                return null;
+            }).when(todoJdbcRepository).insertBatch(any());
+            when(todoJdbcRepository.updateBatch(eq(userId), eq(java.util.List.of(update)), any(LocalDateTime.class)))
+                    .thenReturn(1);
+            when(todoRepository.deleteAllByUserIdAndIdIn(userId, java.util.List.of(deletedTodoId))).thenReturn(1);
+
+            // Semua jenis operasi
+            var result = todoService.applyBatch(userId, java.util.List.of(create, update, delete));
+            assert (result.created().size() == 1);
+            assert (result.updated() == 1);
+            assert (result.deleted() == 1);
+
+            // Hanya satu jenis operasi, jenis lainnya tidak menyentuh database
+            result = todoService.applyBatch(userId, java.util.List.of(delete));
+            assert (result.created().isEmpty());
+            assert (result.updated() == 0);
+            assert (result.deleted() == 1);
+            Mockito.verify(todoJdbcRepository, Mockito.times(1)).insertBatch(any());
+        }
+
+        // Menguji getTodoById
+        {
+
+            Todo fetchedTodo = todoService.getTodoById(userId, todoId);
+            assert (fetchedTodo != null);
+            assert (fetchedTodo.getId().equals(todoId));
+            assert (fetchedTodo.getTitle().equals(todo.getTitle()));
+            assert (fetchedTodo.getDescription().equals(todo.getDescription()));
+
+            // Pembacaan berikutnya dilayani dari cache dalam bentuk salinan
+            Todo cachedTodo = todoService.getTodoById(userId, todoId);
+            assert (cachedTodo != fetchedTodo);
+            assert (cachedTodo.getId().equals(todoId));
+            assert (cachedTodo.getTitle().equals(todo.getTitle()));
+            Mockito.verify(todoRepository, Mockito.times(1)).findByUserIdAndId(userId, todoId);
+
+            // Mengubah todo yang dikembalikan tidak mengubah isi cache
+            cachedTodo.setTitle("Diubah pemanggil");
+            assert (todoService.getTodoById(userId, todoId).getTitle().equals(todo.getTitle()));
+            Mockito.verify(todoRepository, Mockito.times(1)).findByUserIdAndId(userId, todoId);
+
+            // Todo di cache tidak dikembalikan untuk user lain
+            assert (todoService.getTodoById(UUID.randomUUID(), todoId) == null);
+            assert (todoService.getTodoCacheStats().hits() == 3);
+        }
+
+        // Menguji getTodoById dengan ID yang tidak ada
+        {
+            Todo fetchedTodo = todoService.getTodoById(userId, nonexistentTodoId);
+            assert (fetchedTodo == null);
+        }
+
+        // Menguji updateTodo
+        {
+            String updatedTitle = "Belajar Spring Boot Lanjutan";
+            String updatedDescription = "Belajar mock repository di unit test dengan Mockito";
+            Boolean updatedIsFinished = true;
+
+            boolean updated = todoService.updateTodo(userId, todoId, updatedTitle, updatedDescription,
+                    updatedIsFinished);
+            assert (updated == true);
+
+            // Satu statement update tanpa memuat todo terlebih dahulu
+            Mockito.verify(todoRepository, Mockito.times(1)).updateByUserIdAndId(eq(userId), eq(todoId),
+                    eq(updatedTitle), eq(updatedDescription), eq(updatedIsFinished), any(LocalDateTime.class));
+            Mockito.verify(todoRepository, Mockito.times(1)).findByUserIdAndId(userId, todoId);
+
+            // Cache dihapus setelah update sehingga pembacaan berikutnya ke database
+            todoService.getTodoById(userId, todoId);
+            Mockito.verify(todoRepository, Mockito.times(2)).findByUserIdAndId(userId, todoId);
+        }
+
+        // Menguji update Todo dengan ID yang tidak ada
+        {
+            String updatedTitle = "Belajar Spring Boot Lanjutan";
+            String updatedDescription = "Belajar mock repository di unit test dengan Mockito";
+            Boolean updatedIsFinished = true;
+
+            boolean updated = todoService.updateTodo(userId, nonexistentTodoId, updatedTitle, updatedDescription,
+                    updatedIsFinished);
+            assert (updated == false);
+        }
+
+        // Menguji deleteTodo
+        {
+            boolean deleted = todoService.deleteTodo(userId, todoId);
+            assert (deleted == true);
+            Mockito.verify(todoRepository, Mockito.never()).deleteById(any(UUID.class));
+        }
+
+        // Menguji deleteTodo dengan ID yang tidak ada
+        {
+            boolean deleted = todoService.deleteTodo(userId, nonexistentTodoId);
+            assert (deleted == false);
+        }
+
+        // Menguji pencarian dengan index in-memory
+        {
+            TodoRepository indexedRepository = Mockito.mock(TodoRepository.class);
+            TodoService indexedService = new TodoService(indexedRepository, todoJdbcRepository, true);
+
+            Todo titleMatch = new Todo(userId, "Belajar Java", "Latihan harian", false);
+            titleMatch.setId(UUID.randomUUID());
+            titleMatch.setCreatedAt(LocalDateTime.of(2025, 1, 1, 8, 0));
+            Todo descriptionMatch = new Todo(userId, "Olahraga", "Sambil belajar bahasa", false);
+            descriptionMatch.setId(UUID.randomUUID());
+            descriptionMatch.setCreatedAt(LocalDateTime.of(2025, 1, 2, 8, 0));
+            Todo otherTodo = new Todo(userId, "Membaca", "Novel", false);
+            otherTodo.setId(UUID.randomUUID());
+            otherTodo.setCreatedAt(LocalDateTime.of(2025, 1, 3, 8, 0));
+
+            when(indexedRepository.findPageByUserId(eq(userId), any(Pageable.class)))
+                    .thenReturn(java.util.List.of(otherTodo, descriptionMatch, titleMatch));
+            when(indexedRepository.save(any(Todo.class))).thenAnswer(invocation -> {
+                Todo saved = invocation.getArgument(0);
+                if (saved.getId() == null) {
+                    saved.setId(UUID.randomUUID());
+                    saved.setCreatedAt(LocalDateTime.now());
+                }
+                return saved;
+            });
+
+            // Index dibangun dari database saat pencarian pertama, cocok pada title lebih dulu
+            var page = indexedService.searchTodos(userId, "BELAJAR", null, 1);
+            assert (page.items().equals(java.util.List.of(titleMatch)));
+            page = indexedService.searchTodos(userId, "belajar", page.nextCursor(), null);
+            assert (page.items().equals(java.util.List.of(descriptionMatch)));
+            assert (page.nextCursor() == null);
+            page = indexedService.searchTodos(userId, "belajar", new OffsetCursor(10).encode(), null);
+            assert (page.items().isEmpty());
+            Mockito.verify(indexedRepository, Mockito.times(1)).findPageByUserId(eq(userId), any(Pageable.class));
+            Mockito.verify(indexedRepository, Mockito.never()).searchByKeyword(any(UUID.class), any(String.class),
+                    Mockito.anyInt(), Mockito.anyInt());
+
+            // Todo baru langsung masuk ke index
+            Todo createdTodo = indexedService.createTodo(userId, "Belajar Docker", "Container");
+            page = indexedService.searchTodos(userId, "docker", null, null);
+            assert (page.items().equals(java.util.List.of(createdTodo)));
+
+            // Perubahan dalam transaksi baru masuk ke index setelah commit
+            otherTodo.setCover("cover.png");
+            when(indexedRepository.updateByUserIdAndId(eq(userId), eq(otherTodo.getId()), any(String.class),
+                    any(String.class), any(Boolean.class), any(LocalDateTime.class))).thenReturn(1);
+            TransactionSynchronizationManager.initSynchronization();
+            try {
+                indexedService.updateTodo(userId, otherTodo.getId(), "Membaca", "Novel detektif", false);
+                assert (indexedService.searchTodos(userId, "detektif", null, null).items().isEmpty());
+                for (TransactionSynchronization synchronization : TransactionSynchronizationManager
+                        .getSynchronizations()) {
+                    synchronization.afterCommit();
+                }
+            } finally {
+                TransactionSynchronizationManager.clearSynchronization();
+            }
+            page = indexedService.searchTodos(userId, "detektif", null, null);
+            assert (page.items().size() == 1);
+            Todo indexedTodo = page.items().get(0);
+            assert (indexedTodo.getId().equals(otherTodo.getId()));
+            assert (indexedTodo.getDescription().equals("Novel detektif"));
+            assert (indexedTodo.getCover().equals("cover.png"));
+            assert (indexedTodo.getCreatedAt().equals(otherTodo.getCreatedAt()));
+
+            // Todo yang dihapus keluar dari index
+            when(indexedRepository.deleteByUserIdAndId(userId, titleMatch.getId())).thenReturn(1);
+            assert (indexedService.deleteTodo(userId, titleMatch.getId()));
+            assert (indexedService.searchTodos(userId, "java", null, null).items().isEmpty());
+
+            // Batch membuang index user sehingga pencarian berikutnya memuat ulang dari database
+            indexedService.applyBatch(userId, java.util.List.of(new TodoBatchOperation(TodoBatchOperation.DELETE,
+                    descriptionMatch.getId(), null, null, null)));
+            indexedService.searchTodos(userId, "belajar", null, null);
+            Mockito.verify(indexedRepository, Mockito.times(2)).findPageByUserId(eq(userId), any(Pageable.class));
+
+            // Perubahan dari modul reaktif juga membuang index user
+            indexedService.evictExternalChange(userId, descriptionMatch.getId());
+            indexedService.searchTodos(userId, "belajar", null, null);
+            Mockito.verify(indexedRepository, Mockito.times(3)).findPageByUserId(eq(userId), any(Pageable.class));
+        }
+
+        // Menguji evictExternalChange, todo dimuat ulang dari database
+        {
+            todoService.getTodoById(userId, todoId);
+            Mockito.clearInvocations(todoRepository);
+            todoService.evictExternalChange(userId, todoId);
+            assert (todoService.getTodoById(userId, todoId) != null);
+            Mockito.verify(todoRepository, Mockito.times(1)).findByUserIdAndId(userId, todoId);
+        }
+
+        // Todo yang diubah saat query berjalan tidak disimpan ke cache
+        {
+            TodoRepository racingRepository = Mockito.mock(TodoRepository.class);
+            TodoService racingService = new TodoService(racingRepository, todoJdbcRepository, false);
+            when(racingRepository.findByUserIdAndId(userId, todoId)).thenAnswer(invocation -> {
+                // Update dari request lain di-commit setelah query membaca data lama
+                racingService.evictExternalChange(userId, todoId);
+                return java.util.Optional.of(todo);
+            });
+
+            assert (racingService.getTodoById(userId, todoId) == todo);
+            racingService.getTodoById(userId, todoId);
+            Mockito.verify(racingRepository, Mockito.times(2)).findByUserIdAndId(userId, todoId);
+        }
+    }
+}
@@ -24,7 +24,7 @@ public class UserServiceTests {
 
         // Menguji createUser
         {
-            Mockito.when(userRepository.save(Mockito.any(User.class))).thenReturn(user);
+            Mockito.when(userRepository.saveAndFlush(Mockito.any(User.class))).thenReturn(user);
 
             User result = userService.createUser(user.getName(), user.getEmail(), user.getPassword());
             assertTrue(result != null);
@@ -33,19 +33,30 @@ public class UserServiceTests {
             assertEquals(user.getPassword(), result.getPassword());
         }
 
+        // Menguji createUser menyimpan email dalam bentuk ternormalisasi
+        {
+            userService.createUser("Upper User", "  Upper@Example.COM ", "password123");
+            Mockito.verify(userRepository).saveAndFlush(
+                    Mockito.argThat(saved -> saved.getEmail().equals("upper@example.com")));
+        }
+
         // Menguji getUserByEmail dengan email yang ada
         {
-            Mockito.when(userRepository.findFirstByEmail(user.getEmail()))
+            Mockito.when(userRepository.findByNormalizedEmail(user.getEmail()))
                     .thenReturn(java.util.Optional.of(user));
 
             User result = userService.getUserByEmail(user.getEmail());
             assertTrue(result != null);
             assertEquals(user.getEmail(), result.getEmail());
+
+            // Pencarian email tidak membedakan huruf besar/kecil
+            result = userService.getUserByEmail(" TestUser@Example.com");
+            assertTrue(result != null);
         }
 
         // Menguji getUserByEmail dengan email yang tidak ada
         {
-            Mockito.when(userRepository.findFirstByEmail("notfound@example.com"))
+            Mockito.when(userRepository.findByNormalizedEmail("notfound@example.com"))
                     .thenReturn(java.util.Optional.empty());
 
             User result = userService.getUserByEmail("notfound@example.com");
@@ -75,7 +86,7 @@ public class UserServiceTests {
         {
             Mockito.when(userRepository.findById(user.getId()))
                     .thenReturn(java.util.Optional.of(user));
-            Mockito.when(userRepository.save(Mockito.any(User.class))).thenReturn(user);
+            Mockito.when(userRepository.saveAndFlush(Mockito.any(User.class))).thenReturn(user);
 
             User result = userService.updateUser(user.getId(), "Updated Name", "updated@example.com");
             assertTrue(result != null);
@@ -109,5 +120,16 @@ public class UserServiceTests {
             User result = userService.updatePassword(java.util.UUID.randomUUID(), "newpassword123");
             assertTrue(result == null);
         }
+
+        // Email yang terdaftar lewat instance lain (tidak pernah dibuat oleh service ini) tetap ditemukan
+        {
+            User otherInstanceUser = new User("Other User", "registered@example.com", "hash");
+            Mockito.when(userRepository.findByNormalizedEmail("registered@example.com"))
+                    .thenReturn(java.util.Optional.of(otherInstanceUser));
+
+            User result = userService.getUserByEmail("Registered@Example.com");
+            assertEquals(otherInstanceUser, result);
+            Mockito.verify(userRepository).findByNormalizedEmail("registered@example.com");
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,30 @@
+package org.delcom.app.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class ExportUtilTests {
+
+    @Test
+    @DisplayName("Berbagai pengujian ExportUtil")
+    public void testVariousExportUtil() {
+        // Escape string JSON
+        {
+            assertEquals("null", ExportUtil.jsonString(null));
+            assertEquals("\"Uang saku\"", ExportUtil.jsonString("Uang saku"));
+            assertEquals("\"a\\\"b\\\\c\\nd\\re\\tf\\u0001\"", ExportUtil.jsonString("a\"b\\c\nd\re\tf\u0001"));
+        }
+
+        // Escape field CSV
+        {
+            assertEquals("", ExportUtil.csvField(null));
+            assertEquals("Uang saku", ExportUtil.csvField("Uang saku"));
+            assertEquals("\"a,b\"", ExportUtil.csvField("a,b"));
+            assertEquals("\"a \"\"b\"\"\"", ExportUtil.csvField("a \"b\""));
+            assertEquals("\"a\nb\"", ExportUtil.csvField("a\nb"));
+            assertEquals("\"a\rb\"", ExportUtil.csvField("a\rb"));
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package org.delcom.app.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class InvertedIndexTests {
+
+    private record Doc(UUID id, String title, String body) {
+    }
+
+    @Test
+    @DisplayName("Berbagai pengujian InvertedIndex")
+    public void testVariousInvertedIndex() {
+        UUID userId = UUID.randomUUID();
+        Doc java = new Doc(UUID.randomUUID(), "Belajar Java", "Latihan harian");
+        Doc olahraga = new Doc(UUID.randomUUID(), "Olahraga", "Sambil BELAJAR bahasa");
+        Doc kosong = new Doc(UUID.randomUUID(), "Membaca", null);
+        AtomicInteger loads = new AtomicInteger();
+
+        InvertedIndex<Doc> index = new InvertedIndex<>(4, 8, 3, 60_000, Doc::id,
+                doc -> new String[] { doc.title(), doc.body() });
+
+        // Trigram dari teks
+        {
+            assertEquals(Set.of("bel", "ela", "laj"), InvertedIndex.grams("belaj"));
+            assertEquals(Set.of(), InvertedIndex.grams("ab"));
+        }
+
+        // Index dibangun dari loader saat pencarian pertama, lalu dipakai ulang
+        {
+            List<Doc> result = index.search(userId, "belajar", limit -> {
+                loads.incrementAndGet();
+                assertEquals(4, limit);
+                return List.of(java, olahraga, kosong);
+            });
+            assertEquals(Set.of(java, olahraga), new HashSet<>(result));
+            assertEquals(List.of(java), index.search(userId, "JAVA", limit -> null));
+            assertEquals(1, loads.get());
+            assertEquals(1, index.size());
+        }
+
+        // Keyword pendek, trigram tidak dikenal, dan trigram ada tetapi substring tidak cocok
+        {
+            assertEquals(3, index.search(userId, "a", limit -> null).size());
+            assertEquals(List.of(), index.search(userId, "xyz", limit -> null));
+            assertEquals(List.of(), index.search(userId, "ihar", limit -> null));
+            assertEquals(List.of(kosong), index.search(userId, "membaca", limit -> null));
+        }
+
+        // Tambah, ganti, dan hapus dokumen
+        {
+            Doc javaBaru = new Doc(java.id(), "Belajar Kotlin", "Latihan harian");
+            index.put(userId, javaBaru);
+            assertEquals(List.of(), index.search(userId, "java", limit -> null));
+            assertEquals(List.of(javaBaru), index.search(userId, "kotlin", limit -> null));
+
+            // Ganti dokumen berdasarkan dokumen lama, dokumen yang tidak ada di index diabaikan
+            index.update(userId, java.id(), previous -> new Doc(previous.id(), previous.title(), "Latihan mingguan"));
+            index.update(userId, UUID.randomUUID(), previous -> previous);
+            assertEquals(List.of(), index.search(userId, "harian", limit -> null));
+            javaBaru = index.search(userId, "mingguan", limit -> null).get(0);
+            assertEquals("Belajar Kotlin", javaBaru.title());
+
+            index.remove(userId, olahraga.id());
+            index.remove(userId, UUID.randomUUID());
+            assertEquals(List.of(javaBaru), index.search(userId, "belajar", limit -> null));
+
+            // Perubahan untuk user yang belum dimuat diabaikan
+            UUID otherUserId = UUID.randomUUID();
+            index.put(otherUserId, java);
+            index.update(otherUserId, java.id(), previous -> previous);
+            index.remove(otherUserId, java.id());
+            assertEquals(1, index.size());
+        }
+
+        // Melebihi batas dokumen per user, pencarian dikembalikan ke database
+        {
+            // Mengganti dokumen yang sudah ada tetap diizinkan saat batas tercapai
+            index.put(userId, olahraga);
+            index.put(userId, olahraga);
+            assertEquals(List.of(olahraga), index.search(userId, "olahraga", limit -> null));
+
+            index.put(userId, new Doc(UUID.randomUUID(), "Tambahan", "Dokumen keempat"));
+            assertEquals(null, index.search(userId, "belajar", limit -> null));
+            index.put(userId, olahraga);
+            assertEquals(null, index.search(userId, "belajar", limit -> null));
+
+            // User yang dari awal terlalu besar tidak diindeks
+            UUID bigUserId = UUID.randomUUID();
+            List<Doc> docs = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                docs.add(new Doc(UUID.randomUUID(), "Todo " + i, "Deskripsi"));
+            }
+            assertEquals(null, index.search(bigUserId, "todo", limit -> docs));
+            assertEquals(null, index.search(bigUserId, "todo", limit -> null));
+        }
+
+        // Index dibuang lalu dibangun ulang
+        {
+            index.invalidate(userId);
+            assertEquals(List.of(java), index.search(userId, "java", limit -> List.of(java)));
+        }
+
+        // Hasil loader tidak disimpan jika ada perubahan selama dimuat
+        {
+            InvertedIndex<Doc> singleShard = new InvertedIndex<>(1, 0, 10, 60_000, Doc::id,
+                    doc -> new String[] { doc.title(), doc.body() });
+            UUID otherUserId = UUID.randomUUID();
+            List<Doc> result = singleShard.search(userId, "java", limit -> {
+                singleShard.invalidate(otherUserId);
+                return List.of(java);
+            });
+            assertEquals(List.of(java), result);
+            assertEquals(0, singleShard.size());
+
+            // Satu user per shard, user lama dibuang saat penuh
+            singleShard.search(userId, "java", limit -> List.of(java));
+            singleShard.search(otherUserId, "java", limit -> List.of());
+            assertEquals(1, singleShard.size());
+            assertEquals(List.of(), singleShard.search(otherUserId, "java", limit -> null));
+        }
+
+        // Index kedaluwarsa dibangun ulang sehingga perubahan dari instance lain terlihat
+        {
+            InvertedIndex<Doc> expiring = new InvertedIndex<>(1, 8, 10, 0, Doc::id,
+                    doc -> new String[] { doc.title(), doc.body() });
+            assertEquals(List.of(java), expiring.search(userId, "java", limit -> List.of(java)));
+            assertEquals(List.of(), expiring.search(userId, "java", limit -> List.of()));
+            assertEquals(0, expiring.size());
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package org.delcom.app.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class JsonByteWriterTests {
+
+    @Test
+    @DisplayName("Berbagai pengujian JsonByteWriter")
+    public void testVariousJsonByteWriter() throws Exception {
+        // Buffer terlalu kecil ditolak
+        {
+            assertThrows(IllegalArgumentException.class,
+                    () -> new JsonByteWriter(new ByteArrayOutputStream(), new byte[JsonByteWriter.MIN_BUFFER_SIZE - 1]));
+        }
+
+        // Escape string sama dengan Jackson, karakter non-ASCII ditulis dalam UTF-8
+        {
+            assertEquals("\"a\\\"b\\\\c\\n\\r\\t\\b\\f\\u0001\\u001F\"",
+                    new String(JsonByteWriter.encodeString("a\"b\\c\n\r\t\b\f\u0001\u001f"), StandardCharsets.UTF_8));
+            assertEquals("\"Café € 😀\"",
+                    new String(JsonByteWriter.encodeString("Café € 😀"), StandardCharsets.UTF_8));
+
+            // Surrogate tanpa pasangan diganti '?'
+            assertEquals("\"?a?\"", new String(JsonByteWriter.encodeString("\ud83da\ude00"), StandardCharsets.UTF_8));
+            assertEquals("\"?\"", new String(JsonByteWriter.encodeString("\ud83d"), StandardCharsets.UTF_8));
+        }
+
+        // Nilai sederhana dan null
+        {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            JsonByteWriter writer = new JsonByteWriter(out, new byte[JsonByteWriter.MIN_BUFFER_SIZE]);
+            writer.writeAscii('[');
+            writer.writeNumber(0);
+            writer.writeAscii(',');
+            writer.writeNumber(-1234567890123L);
+            writer.writeAscii(',');
+            writer.writeNumber(Long.MAX_VALUE);
+            writer.writeAscii(',');
+            writer.writeNumber(Long.MIN_VALUE);
+            writer.writeAscii(',');
+            writer.writeNumber(new BigDecimal("1500.50"));
+            writer.writeAscii(',');
+            writer.writeNumber((BigDecimal) null);
+            writer.writeAscii(',');
+            writer.writeBoolean(true);
+            writer.writeAscii(',');
+            writer.writeBoolean(false);
+            writer.writeAscii(',');
+            writer.writeBoolean(null);
+            writer.writeAscii(',');
+            writer.writeString(null);
+            writer.writeAscii(',');
+            writer.writeUuid(null);
+            writer.writeAscii(',');
+            writer.writeDateTime(null);
+            writer.writeAscii(']');
+            writer.flush();
+            assertEquals("[0,-1234567890123," + Long.MAX_VALUE + "," + Long.MIN_VALUE
+                    + ",1500.50,null,true,false,null,null,null,null]", out.toString(StandardCharsets.UTF_8));
+        }
+
+        // UUID dan tanggal sama dengan toString() dan ISO_LOCAL_DATE_TIME
+        {
+            UUID[] uuids = { UUID.randomUUID(), UuidV7Generator.generate(), new UUID(0, 0), new UUID(-1, -1) };
+            LocalDateTime[] dates = {
+                    LocalDateTime.of(2025, 1, 15, 10, 0),
+                    LocalDateTime.of(2025, 12, 31, 23, 59, 59, 500_000_000),
+                    LocalDateTime.of(999, 1, 1, 0, 0, 0, 123_456_789),
+                    LocalDateTime.of(2025, 6, 1, 8, 30, 15, 1000),
+                    LocalDateTime.of(10000, 1, 1, 0, 0),
+                    LocalDateTime.of(-1, 1, 1, 0, 0) };
+
+            for (UUID uuid : uuids) {
+                ByteArrayOutputStream out = new ByteArrayOutputStream();
+                JsonByteWriter writer = new JsonByteWriter(out, new byte[JsonByteWriter.MIN_BUFFER_SIZE]);
+                writer.writeUuid(uuid);
+                writer.flush();
+                assertEquals("\"" + uuid + "\"", out.toString(StandardCharsets.UTF_8));
+            }
+            for (LocalDateTime date : dates) {
+                ByteArrayOutputStream out = new ByteArrayOutputStream();
+                JsonByteWriter writer = new JsonByteWriter(out, new byte[JsonByteWriter.MIN_BUFFER_SIZE]);
+                writer.writeDateTime(date);
+                writer.flush();
+                assertEquals("\"" + DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(date) + "\"",
+                        out.toString(StandardCharsets.UTF_8));
+            }
+        }
+
+        // Output lebih besar dari buffer dikirim bertahap ke OutputStream
+        {
+            String text = "Belajar Spring Boot ".repeat(20);
+            byte[] raw = ("\"" + "x".repeat(100) + "\"").getBytes(StandardCharsets.US_ASCII);
+            BigDecimal longNumber = new BigDecimal("1" + "0".repeat(100));
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            JsonByteWriter writer = new JsonByteWriter(out, new byte[JsonByteWriter.MIN_BUFFER_SIZE]);
+            writer.writeAscii('[');
+            writer.writeString(text);
+            writer.writeAscii(',');
+            writer.writeRaw(raw);
+            writer.writeAscii(',');
+            writer.writeNumber(longNumber);
+            for (int i = 0; i < 10; i++) {
+                writer.writeAscii(',');
+                writer.writeRaw("\"0123456789\"".getBytes(StandardCharsets.US_ASCII));
+            }
+            writer.writeAscii(']');
+            writer.flush();
+            assertEquals("[\"" + text + "\"," + new String(raw, StandardCharsets.US_ASCII) + ","
+                    + longNumber + ",\"0123456789\"".repeat(10) + "]", out.toString(StandardCharsets.UTF_8));
+
+            // Flush tanpa isi buffer
+            writer.flush();
+            assertEquals(true, out.size() > JsonByteWriter.MIN_BUFFER_SIZE);
+        }
+    }
+}
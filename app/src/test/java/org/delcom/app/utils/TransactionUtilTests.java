@@ -0,0 +1,35 @@
+package org.delcom.app.utils;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class TransactionUtilTests {
+
+    @Test
+    @DisplayName("Berbagai pengujian TransactionUtil")
+    public void testVariousTransactionUtil() {
+        AtomicInteger counter = new AtomicInteger();
+
+        // Tanpa transaksi aksi langsung dijalankan
+        {
+            TransactionUtil.runAfterCommit(counter::incrementAndGet);
+            assert (counter.get() == 1);
+        }
+
+        // Dalam transaksi aksi dijalankan setelah commit
+        {
+            TransactionSynchronizationManager.initSynchronization();
+            try {
+                TransactionUtil.runAfterCommit(counter::incrementAndGet);
+                assert (counter.get() == 1);
+                TransactionSynchronizationManager.getSynchronizations().get(0).afterCommit();
+                assert (counter.get() == 2);
+            } finally {
+                TransactionSynchronizationManager.clearSynchronization();
+            }
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package org.delcom.app.utils;
+
+import java.util.UUID;
+
+/**
+ * Pesan perubahan data yang dikirim lewat NOTIFY PostgreSQL pada channel
+ * {@link #CHANNEL}, agar aplikasi lain yang memakai database yang sama
+ * membuang cache in-memory miliknya.
+ */
+public record CacheInvalidation(String kind, UUID userId, UUID id) {
+    public static final String CHANNEL = "app_cache_invalidation";
+    public static final String TODO = "todo";
+    public static final String CASH_FLOW = "cashflow";
+
+    public String encode() {
+        return kind + "|" + userId + "|" + id;
+    }
+
+    /**
+     * @throws IllegalArgumentException jika pesan tidak valid
+     */
+    public static CacheInvalidation decode(String payload) {
+        try {
+            String[] parts = payload.split("\\|", -1);
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("Jumlah bagian pesan tidak sesuai");
+            }
+            return new CacheInvalidation(parts[0], UUID.fromString(parts[1]), UUID.fromString(parts[2]));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Pesan invalidasi cache tidak valid", e);
+        }
+    }
+}
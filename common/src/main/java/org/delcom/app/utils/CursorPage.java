@@ -0,0 +1,46 @@
+package org.delcom.app.utils;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Satu halaman hasil pagination keyset atau offset
+ *
+ * @param nextCursor cursor halaman berikutnya, null jika sudah halaman terakhir
+ */
+public record CursorPage<T>(List<T> items, String nextCursor) {
+
+    /**
+     * Buat halaman dari hasil query yang mengambil pageSize + 1 baris
+     *
+     * @param rows     hasil query (maksimal pageSize + 1)
+     * @param pageSize jumlah item per halaman
+     * @param cursorOf pembuat cursor dari item terakhir
+     */
+    public static <T> CursorPage<T> of(List<T> rows, int pageSize, Function<T, KeysetCursor> cursorOf) {
+        if (rows.size() <= pageSize) {
+            return new CursorPage<>(rows, null);
+        }
+        List<T> items = rows.subList(0, pageSize);
+        return new CursorPage<>(items, cursorOf.apply(items.get(pageSize - 1)).encode());
+    }
+
+    /**
+     * Buat halaman hasil pencarian dari query offset yang mengambil
+     * pageSize + 1 baris. Halaman berikutnya tidak diberikan jika sudah
+     * mencapai maxResults.
+     *
+     * @param rows       hasil query (maksimal pageSize + 1)
+     * @param pageSize   jumlah item per halaman
+     * @param offset     offset halaman ini
+     * @param maxResults batas total hasil yang bisa dipaginasi
+     */
+    public static <T> CursorPage<T> ofOffset(List<T> rows, int pageSize, int offset, int maxResults) {
+        if (rows.size() <= pageSize) {
+            return new CursorPage<>(rows, null);
+        }
+        int nextOffset = offset + pageSize;
+        return new CursorPage<>(rows.subList(0, pageSize),
+                nextOffset < maxResults ? new OffsetCursor(nextOffset).encode() : null);
+    }
+}
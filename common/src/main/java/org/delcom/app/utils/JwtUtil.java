@@ -0,0 +1,142 @@
+package org.delcom.app.utils;
+
+import io.jsonwebtoken.*;
+import io.jsonwebtoken.security.Keys;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Date;
+import java.util.HexFormat;
+import java.util.UUID;
+
+import javax.crypto.SecretKey;
+
+public class JwtUtil {
+
+    // Panjang minimal secret untuk HS384
+    static final int MIN_SECRET_BYTES = 48;
+
+    private static final long EXPIRATION_TIME = 1000 * 60 * 60 * 2; // 2 jam
+
+    // Key dan parser diganti bersamaan agar pembaca tidak melihat pasangan yang berbeda
+    private record Signing(SecretKey key, JwtParser parser) {
+        private Signing(SecretKey key) {
+            // JwtParser immutable dan thread-safe sehingga cukup dibuat sekali per key
+            this(key, Jwts.parser().verifyWith(key).build());
+        }
+    }
+
+    // Key acak per proses sampai configure dipanggil, token hanya berlaku di proses ini
+    private static volatile Signing signing = new Signing(Jwts.SIG.HS384.key().build());
+
+    /**
+     * Pakai secret dari konfigurasi (app.jwt.secret). Aplikasi utama dan modul
+     * reaktif harus memakai secret yang sama agar token bisa dipakai di keduanya.
+     *
+     * @throws IllegalArgumentException jika secret kosong atau lebih pendek dari MIN_SECRET_BYTES
+     */
+    public static void configure(String secretKey) {
+        byte[] secret = secretKey == null ? new byte[0] : secretKey.getBytes(StandardCharsets.UTF_8);
+        if (secret.length < MIN_SECRET_BYTES) {
+            throw new IllegalArgumentException("Secret JWT minimal " + MIN_SECRET_BYTES + " byte");
+        }
+        signing = new Signing(Keys.hmacShaKeyFor(secret));
+    }
+
+    public static SecretKey getKey() {
+        return signing.key();
+    }
+
+    public static long getExpirationTime() {
+        return EXPIRATION_TIME;
+    }
+
+    public static String generateToken(UUID userId) {
+        return generateToken(userId, System.currentTimeMillis());
+    }
+
+    /**
+     * Buat token dengan waktu terbit tertentu
+     *
+     * @param now waktu terbit dalam epoch millis
+     */
+    public static String generateToken(UUID userId, long now) {
+        return Jwts.builder()
+                // Claim iat/exp berpresisi detik, jti acak membuat setiap token (dan hash-nya) unik
+                .id(UUID.randomUUID().toString())
+                .subject(userId.toString())
+                .issuedAt(new Date(now))
+                .expiration(new Date(now + EXPIRATION_TIME))
+                .signWith(signing.key(), Jwts.SIG.HS384) // tetap HS384 berapa pun panjang secret
+                .compact();
+    }
+
+    public static UUID extractUserId(String token) {
+        try {
+            Claims claims = signing.parser().parseSignedClaims(token).getPayload();
+
+            return UUID.fromString(claims.getSubject());
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    /**
+     * Verifikasi signature dan masa berlaku lalu ambil claims token
+     *
+     * @return claims atau null jika token tidak valid / sudah expired
+     */
+    public static Claims extractClaims(String token) {
+        try {
+            return signing.parser().parseSignedClaims(token).getPayload();
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    /**
+     * Ambil waktu kedaluwarsa token
+     *
+     * @return waktu expired atau null jika token tidak valid / sudah expired
+     */
+    public static Date extractExpiration(String token) {
+        try {
+            return signing.parser().parseSignedClaims(token).getPayload().getExpiration();
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    /**
+     * Hitung digest SHA-256 dari token dalam bentuk hex (64 karakter)
+     */
+    public static String hashToken(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 tidak tersedia", e);
+        }
+    }
+
+    /**
+     * Validasi token
+     * 
+     * @param token         JWT token
+     * @param ignoreExpired jika true maka token expired tetap dianggap valid
+     */
+    public static boolean validateToken(String token, boolean ignoreExpired) {
+        try {
+            signing.parser().parseSignedClaims(token);
+            return true; // valid
+        } catch (ExpiredJwtException e) {
+            if (ignoreExpired) {
+                return true; // abaikan expired
+            }
+            return false;
+        } catch (Exception e) {
+            return false; // token invalid
+        }
+    }
+}
\ No newline at end of file
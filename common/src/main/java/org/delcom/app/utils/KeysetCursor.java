@@ -0,0 +1,33 @@
+package org.delcom.app.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Posisi terakhir pada pagination keyset (kolom urutan + id). Dikirim ke
+ * client sebagai string opaque berbasis Base64 URL-safe.
+ */
+public record KeysetCursor(LocalDateTime position, UUID id) {
+
+    public String encode() {
+        String raw = position + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @throws IllegalArgumentException jika cursor tidak valid
+     */
+    public static KeysetCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf('|');
+            return new KeysetCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    UUID.fromString(raw.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Cursor tidak valid", e);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package org.delcom.app.utils;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Cache in-memory berukuran tetap dengan kebijakan LRU dan masa berlaku per
+ * entri. Seluruh operasi disinkronkan sehingga aman dipakai lintas thread.
+ * Jumlah hit, miss, dan eviction (entri yang dibuang karena cache penuh atau
+ * kedaluwarsa) dicatat untuk keperluan monitoring.
+ *
+ * @param <K> tipe kunci
+ * @param <V> tipe nilai
+ */
+public class LruCache<K, V> {
+
+    private record Entry<V>(V value, long expiresAt) {
+    }
+
+    /**
+     * Statistik cache sejak dibuat
+     */
+    public record Stats(long hits, long misses, long evictions, int size) {
+    }
+
+    private final int maxEntries;
+    private final LinkedHashMap<K, Entry<V>> entries;
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    public LruCache(int maxEntries) {
+        this.maxEntries = maxEntries;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                if (size() > LruCache.this.maxEntries) {
+                    evictions++;
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Ambil nilai dari cache
+     *
+     * @return nilai atau null jika tidak ada / sudah kedaluwarsa
+     */
+    public synchronized V get(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            misses++;
+            return null;
+        }
+        if (entry.expiresAt() <= System.currentTimeMillis()) {
+            entries.remove(key);
+            evictions++;
+            misses++;
+            return null;
+        }
+        hits++;
+        return entry.value();
+    }
+
+    /**
+     * Simpan nilai ke cache
+     *
+     * @param expiresAt waktu kedaluwarsa dalam epoch millis
+     */
+    public synchronized void put(K key, V value, long expiresAt) {
+        entries.put(key, new Entry<>(value, expiresAt));
+    }
+
+    public synchronized void remove(K key) {
+        entries.remove(key);
+    }
+
+    /**
+     * Hapus semua entri yang nilainya memenuhi predikat
+     */
+    public synchronized void removeIf(Predicate<V> predicate) {
+        Iterator<Entry<V>> iterator = entries.values().iterator();
+        while (iterator.hasNext()) {
+            if (predicate.test(iterator.next().value())) {
+                iterator.remove();
+            }
+        }
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized Stats stats() {
+        return new Stats(hits, misses, evictions, entries.size());
+    }
+}
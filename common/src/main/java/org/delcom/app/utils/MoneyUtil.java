@@ -0,0 +1,46 @@
+package org.delcom.app.utils;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Helper nilai uang. Nominal disimpan sebagai NUMERIC(19,2) di cash_flows dan
+ * sebagai long dalam satuan terkecil (sen, 2 desimal) di tabel agregat,
+ * sehingga penjumlahan cukup memakai akumulator long tanpa floating point.
+ */
+public final class MoneyUtil {
+    public static final int SCALE = 2;
+
+    // Batas nominal per transaksi, menyisakan ruang agar total per user tetap muat di long
+    public static final BigDecimal MAX_AMOUNT = new BigDecimal("9999999999999.99");
+
+    private MoneyUtil() {
+    }
+
+    /**
+     * Cek nominal cash flow: lebih dari nol, maksimal 2 desimal, dan tidak
+     * melebihi MAX_AMOUNT
+     */
+    public static boolean isValidAmount(BigDecimal amount) {
+        return amount != null
+                && amount.signum() > 0
+                && amount.compareTo(MAX_AMOUNT) <= 0
+                && amount.stripTrailingZeros().scale() <= SCALE;
+    }
+
+    /**
+     * Ubah nominal menjadi satuan terkecil, misalnya 12.34 menjadi 1234
+     *
+     * @throws ArithmeticException jika nominal memiliki lebih dari 2 desimal
+     */
+    public static long toMinorUnits(BigDecimal amount) {
+        return amount.setScale(SCALE, RoundingMode.UNNECESSARY).unscaledValue().longValueExact();
+    }
+
+    /**
+     * Ubah satuan terkecil menjadi nominal, misalnya 1234 menjadi 12.34
+     */
+    public static BigDecimal fromMinorUnits(long minorUnits) {
+        return BigDecimal.valueOf(minorUnits, SCALE);
+    }
+}
@@ -0,0 +1,37 @@
+package org.delcom.app.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Posisi pada pagination berbasis offset, dipakai untuk hasil pencarian yang
+ * diurutkan berdasarkan relevansi. Dikirim ke client sebagai string opaque
+ * berbasis Base64 URL-safe.
+ */
+public record OffsetCursor(int offset) {
+
+    public String encode() {
+        String raw = "o" + offset;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @throws IllegalArgumentException jika cursor tidak valid
+     */
+    public static OffsetCursor decode(String cursor) {
+        int offset;
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (!raw.startsWith("o")) {
+                throw new IllegalArgumentException("Prefix cursor tidak dikenal");
+            }
+            offset = Integer.parseInt(raw.substring(1));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Cursor tidak valid", e);
+        }
+        if (offset < 0) {
+            throw new IllegalArgumentException("Cursor tidak valid");
+        }
+        return new OffsetCursor(offset);
+    }
+}
@@ -0,0 +1,28 @@
+package org.delcom.app.utils;
+
+/**
+ * Helper pencarian teks dengan ILIKE. Pola dipakai bersama klausa
+ * {@code ESCAPE '!'} sehingga karakter wildcard dari input user dicari apa
+ * adanya.
+ */
+public final class SearchUtil {
+    public static final char LIKE_ESCAPE = '!';
+
+    private SearchUtil() {
+    }
+
+    /**
+     * Ubah keyword menjadi pola "mengandung", misalnya 50% menjadi %50!%%
+     */
+    public static String containsPattern(String keyword) {
+        StringBuilder pattern = new StringBuilder(keyword.length() + 2).append('%');
+        for (int i = 0; i < keyword.length(); i++) {
+            char c = keyword.charAt(i);
+            if (c == '%' || c == '_' || c == LIKE_ESCAPE) {
+                pattern.append(LIKE_ESCAPE);
+            }
+            pattern.append(c);
+        }
+        return pattern.append('%').toString();
+    }
+}
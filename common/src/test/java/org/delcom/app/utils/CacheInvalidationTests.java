@@ -0,0 +1,32 @@
+package org.delcom.app.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class CacheInvalidationTests {
+
+    @Test
+    @DisplayName("Berbagai pengujian CacheInvalidation")
+    public void testVariousCacheInvalidation() {
+        CacheInvalidation message = new CacheInvalidation(CacheInvalidation.TODO, UUID.randomUUID(),
+                UUID.randomUUID());
+
+        // Encode lalu decode menghasilkan pesan yang sama
+        {
+            assertEquals(message, CacheInvalidation.decode(message.encode()));
+        }
+
+        // Pesan tidak valid
+        {
+            assertThrows(IllegalArgumentException.class, () -> CacheInvalidation.decode(null));
+            assertThrows(IllegalArgumentException.class, () -> CacheInvalidation.decode("todo|bukan-uuid"));
+            assertThrows(IllegalArgumentException.class, () -> CacheInvalidation.decode(
+                    "todo|" + UUID.randomUUID() + "|bukan-uuid"));
+        }
+    }
+}
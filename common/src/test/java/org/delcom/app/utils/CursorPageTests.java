@@ -0,0 +1,51 @@
+package org.delcom.app.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class CursorPageTests {
+
+    @Test
+    @DisplayName("Berbagai pengujian CursorPage")
+    public void testVariousCursorPage() {
+        LocalDateTime position = LocalDateTime.of(2025, 1, 1, 0, 0);
+        UUID id = UUID.randomUUID();
+
+        // Jumlah baris tidak melebihi ukuran halaman
+        {
+            CursorPage<String> page = CursorPage.of(List.of("a", "b"), 2, item -> new KeysetCursor(position, id));
+            assertEquals(List.of("a", "b"), page.items());
+            assertEquals(null, page.nextCursor());
+        }
+
+        // Baris tambahan menandakan masih ada halaman berikutnya
+        {
+            CursorPage<String> page = CursorPage.of(List.of("a", "b", "c"), 2,
+                    item -> new KeysetCursor(position, item.equals("b") ? id : UUID.randomUUID()));
+            assertEquals(List.of("a", "b"), page.items());
+            assertEquals(new KeysetCursor(position, id), KeysetCursor.decode(page.nextCursor()));
+        }
+
+        // Halaman offset
+        {
+            CursorPage<String> page = CursorPage.ofOffset(List.of("a", "b"), 2, 0, 10);
+            assertEquals(List.of("a", "b"), page.items());
+            assertEquals(null, page.nextCursor());
+
+            page = CursorPage.ofOffset(List.of("a", "b", "c"), 2, 4, 10);
+            assertEquals(List.of("a", "b"), page.items());
+            assertEquals(new OffsetCursor(6), OffsetCursor.decode(page.nextCursor()));
+
+            // Halaman berikutnya melewati batas hasil
+            page = CursorPage.ofOffset(List.of("a", "b", "c"), 2, 8, 10);
+            assertEquals(List.of("a", "b"), page.items());
+            assertEquals(null, page.nextCursor());
+        }
+    }
+}
@@ -1,7 +1,9 @@
 package org.delcom.app.utils;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Date;
 import java.util.UUID;
 
@@ -9,6 +11,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
 
 public class JwtUtilTests {
 
@@ -70,6 +73,56 @@ public class JwtUtilTests {
             assertEquals(true, isValid);
         }
 
+        // Ambil claims dari token
+        {
+            assertEquals(userId.toString(), JwtUtil.extractClaims(token).getSubject());
+            assertEquals(null, JwtUtil.extractClaims(token + "invalid"));
+        }
+
+        // Ambil waktu expired dari token
+        {
+            Date expiration = JwtUtil.extractExpiration(token);
+            assertEquals(true, expiration.after(new Date()));
+            assertEquals(null, JwtUtil.extractExpiration(token + "invalid"));
+        }
+
+        // Hash token
+        {
+            String tokenHash = JwtUtil.hashToken(token);
+            assertEquals(64, tokenHash.length());
+            assertEquals(tokenHash, JwtUtil.hashToken(token));
+        }
+
+        // Token yang terbit di milidetik yang sama tetap berbeda
+        {
+            long now = System.currentTimeMillis();
+            String first = JwtUtil.generateToken(userId, now);
+            String second = JwtUtil.generateToken(userId, now);
+            assertEquals(false, first.equals(second));
+            assertEquals(false, JwtUtil.hashToken(first).equals(JwtUtil.hashToken(second)));
+            assertEquals(JwtUtil.extractClaims(first).getIssuedAt(), JwtUtil.extractClaims(second).getIssuedAt());
+        }
+
+        // Secret dari konfigurasi
+        {
+            assertThrows(IllegalArgumentException.class, () -> JwtUtil.configure(null));
+            assertThrows(IllegalArgumentException.class, () -> JwtUtil.configure("terlalu-pendek"));
+
+            String secret = "secret-pengujian-jwt-yang-panjangnya-minimal-48-byte";
+            JwtUtil.configure(secret);
+
+            // Token yang ditandatangani key sebelumnya tidak berlaku lagi
+            assertEquals(false, JwtUtil.validateToken(token, true));
+            assertEquals(userId, JwtUtil.extractUserId(JwtUtil.generateToken(userId)));
+
+            // Token dari aplikasi lain dengan secret yang sama tetap berlaku
+            String otherToken = Jwts.builder()
+                    .subject(userId.toString())
+                    .signWith(Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8)), Jwts.SIG.HS384)
+                    .compact();
+            assertEquals(userId, JwtUtil.extractUserId(otherToken));
+        }
+
     }
 
 }
\ No newline at end of file
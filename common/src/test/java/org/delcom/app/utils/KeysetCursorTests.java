@@ -0,0 +1,34 @@
+package org.delcom.app.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class KeysetCursorTests {
+
+    @Test
+    @DisplayName("Berbagai pengujian KeysetCursor")
+    public void testVariousKeysetCursor() {
+        KeysetCursor cursor = new KeysetCursor(LocalDateTime.of(2025, 1, 2, 3, 4, 5, 600), UUID.randomUUID());
+
+        // Encode lalu decode menghasilkan posisi yang sama
+        {
+            String encoded = cursor.encode();
+            assert (!encoded.contains("|"));
+            assertEquals(cursor, KeysetCursor.decode(encoded));
+        }
+
+        // Cursor tidak valid
+        {
+            assertThrows(IllegalArgumentException.class, () -> KeysetCursor.decode("%%%"));
+            assertThrows(IllegalArgumentException.class, () -> KeysetCursor.decode("dGFucGEtcGVtaXNhaA"));
+            assertThrows(IllegalArgumentException.class, () -> KeysetCursor.decode(
+                    new KeysetCursor(LocalDateTime.now(), null).encode()));
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package org.delcom.app.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class LruCacheTests {
+
+    @Test
+    @DisplayName("Berbagai pengujian LruCache")
+    public void testVariousLruCache() {
+        long future = System.currentTimeMillis() + 60_000;
+        LruCache<String, String> cache = new LruCache<>(2);
+
+        // Simpan dan ambil nilai
+        {
+            cache.put("a", "A", future);
+            assertEquals("A", cache.get("a"));
+            assertEquals(null, cache.get("tidak-ada"));
+        }
+
+        // Entri paling lama tidak dipakai dibuang saat penuh
+        {
+            cache.put("b", "B", future);
+            cache.get("a");
+            cache.put("c", "C", future);
+            assertEquals(2, cache.size());
+            assertEquals("A", cache.get("a"));
+            assertEquals(null, cache.get("b"));
+        }
+
+        // Entri kedaluwarsa tidak dikembalikan
+        {
+            cache.put("expired", "E", System.currentTimeMillis() - 1);
+            assertEquals(null, cache.get("expired"));
+        }
+
+        // Hapus entri
+        {
+            cache.put("a", "A", future);
+            cache.put("c", "C", future);
+            cache.remove("a");
+            assertEquals(null, cache.get("a"));
+
+            cache.put("a", "A", future);
+            cache.removeIf(value -> value.equals("C"));
+            assertEquals(null, cache.get("c"));
+            assertEquals("A", cache.get("a"));
+
+            cache.clear();
+            assertEquals(0, cache.size());
+        }
+
+        // Statistik hit, miss, dan eviction
+        {
+            LruCache<String, String> statsCache = new LruCache<>(1);
+            statsCache.put("a", "A", future);
+            statsCache.get("a");
+            statsCache.get("b");
+            statsCache.put("b", "B", future);
+            statsCache.put("c", "C", System.currentTimeMillis() - 1);
+            statsCache.get("c");
+            assertEquals(new LruCache.Stats(1, 2, 3, 0), statsCache.stats());
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package org.delcom.app.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class MoneyUtilTests {
+
+    @Test
+    @DisplayName("Berbagai pengujian MoneyUtil")
+    public void testVariousMoneyUtil() {
+        // Validasi nominal
+        {
+            assertFalse(MoneyUtil.isValidAmount(null));
+            assertFalse(MoneyUtil.isValidAmount(BigDecimal.ZERO));
+            assertFalse(MoneyUtil.isValidAmount(new BigDecimal("-0.01")));
+            assertFalse(MoneyUtil.isValidAmount(MoneyUtil.MAX_AMOUNT.add(new BigDecimal("0.01"))));
+            assertFalse(MoneyUtil.isValidAmount(new BigDecimal("10.005")));
+            assertTrue(MoneyUtil.isValidAmount(new BigDecimal("10.50")));
+            assertTrue(MoneyUtil.isValidAmount(new BigDecimal("10.5000")));
+            assertTrue(MoneyUtil.isValidAmount(MoneyUtil.MAX_AMOUNT));
+        }
+
+        // Konversi ke satuan terkecil
+        {
+            assertEquals(1234L, MoneyUtil.toMinorUnits(new BigDecimal("12.34")));
+            assertEquals(1200L, MoneyUtil.toMinorUnits(new BigDecimal("12")));
+            assertEquals(999999999999999L, MoneyUtil.toMinorUnits(MoneyUtil.MAX_AMOUNT));
+            assertThrows(ArithmeticException.class, () -> MoneyUtil.toMinorUnits(new BigDecimal("12.345")));
+        }
+
+        // Konversi dari satuan terkecil
+        {
+            assertEquals(new BigDecimal("12.34"), MoneyUtil.fromMinorUnits(1234L));
+            assertEquals(new BigDecimal("-0.05"), MoneyUtil.fromMinorUnits(-5L));
+        }
+    }
+}
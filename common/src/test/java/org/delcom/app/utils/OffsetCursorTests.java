@@ -0,0 +1,35 @@
+package org.delcom.app.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class OffsetCursorTests {
+
+    @Test
+    @DisplayName("Berbagai pengujian OffsetCursor")
+    public void testVariousOffsetCursor() {
+        // Encode lalu decode menghasilkan offset yang sama
+        {
+            assertEquals(new OffsetCursor(40), OffsetCursor.decode(new OffsetCursor(40).encode()));
+            assertEquals(new OffsetCursor(0), OffsetCursor.decode(new OffsetCursor(0).encode()));
+        }
+
+        // Cursor tidak valid
+        {
+            assertThrows(IllegalArgumentException.class, () -> OffsetCursor.decode("%%%"));
+            assertThrows(IllegalArgumentException.class, () -> OffsetCursor.decode(encode("40")));
+            assertThrows(IllegalArgumentException.class, () -> OffsetCursor.decode(encode("oabc")));
+            assertThrows(IllegalArgumentException.class, () -> OffsetCursor.decode(new OffsetCursor(-1).encode()));
+        }
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,26 @@
+package org.delcom.app.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class SearchUtilTests {
+
+    @Test
+    @DisplayName("Berbagai pengujian SearchUtil")
+    public void testVariousSearchUtil() {
+        // Pola mengandung keyword
+        {
+            assertEquals("%saku%", SearchUtil.containsPattern("saku"));
+            assertEquals("%%", SearchUtil.containsPattern(""));
+        }
+
+        // Karakter wildcard dan escape dicari apa adanya
+        {
+            assertEquals("%50!%%", SearchUtil.containsPattern("50%"));
+            assertEquals("%a!_b%", SearchUtil.containsPattern("a_b"));
+            assertEquals("%hore!!%", SearchUtil.containsPattern("hore!"));
+        }
+    }
+}
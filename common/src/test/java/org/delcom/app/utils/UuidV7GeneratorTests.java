@@ -0,0 +1,72 @@
+package org.delcom.app.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class UuidV7GeneratorTests {
+
+    @Test
+    @DisplayName("Berbagai pengujian UuidV7Generator")
+    public void testVariousUuidV7Generator() {
+        // Versi, varian, dan timestamp dari generator bersama
+        {
+            long before = System.currentTimeMillis();
+            UUID uuid = UuidV7Generator.generate();
+            assertEquals(7, uuid.version());
+            assertEquals(2, uuid.variant());
+            long millis = uuid.getMostSignificantBits() >>> 16;
+            assertTrue(millis >= before && millis <= System.currentTimeMillis());
+        }
+
+        AtomicLong clock = new AtomicLong(1_700_000_000_000L);
+        UuidV7Generator generator = new UuidV7Generator(clock::get);
+
+        // Id di milidetik yang sama tetap naik, urutan string sama dengan urutan pembuatan
+        {
+            UUID previous = generator.next();
+            for (int i = 0; i < 1000; i++) {
+                UUID next = generator.next();
+                assertTrue(next.toString().compareTo(previous.toString()) > 0);
+                assertEquals(1_700_000_000_000L, next.getMostSignificantBits() >>> 16);
+                previous = next;
+            }
+        }
+
+        // Counter habis, milidetik berikutnya dipinjam dan counter kembali ke nol
+        {
+            UUID next = generator.next();
+            int calls = 1;
+            while ((next.getMostSignificantBits() >>> 16) == 1_700_000_000_000L) {
+                next = generator.next();
+                calls++;
+            }
+            assertTrue(calls <= UuidV7Generator.COUNTER_MAX + 1);
+            assertEquals(1_700_000_000_001L, next.getMostSignificantBits() >>> 16);
+            assertEquals(0L, next.getMostSignificantBits() & UuidV7Generator.COUNTER_MAX);
+        }
+
+        // Jam mundur tidak membuat id turun
+        {
+            UUID previous = generator.next();
+            clock.set(1_600_000_000_000L);
+            UUID next = generator.next();
+            assertTrue(next.compareTo(previous) > 0);
+            assertEquals(1_700_000_000_001L, next.getMostSignificantBits() >>> 16);
+        }
+
+        // Milidetik baru memakai timestamp baru
+        {
+            clock.set(1_800_000_000_000L);
+            UUID uuid = generator.next();
+            assertEquals(1_800_000_000_000L, uuid.getMostSignificantBits() >>> 16);
+            long counter = uuid.getMostSignificantBits() & UuidV7Generator.COUNTER_MAX;
+            assertTrue(counter < (UuidV7Generator.COUNTER_MAX + 1) / 2);
+        }
+    }
+}
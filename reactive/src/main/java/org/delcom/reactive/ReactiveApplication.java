@@ -0,0 +1,23 @@
+package org.delcom.reactive;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+/**
+ * Varian non-blocking dari endpoint /api/todos dan /api/cashflows di atas
+ * WebFlux dan R2DBC. Memakai database, format token, dan amplop ApiResponse
+ * yang sama dengan aplikasi utama, sehingga token dari /api/auth/login
+ * aplikasi utama bisa langsung dipakai di sini.
+ *
+ * <p>
+ * Endpoint auth, user, batch, bulk, summary, analytics, dan export tetap
+ * dilayani aplikasi utama.
+ */
+@SpringBootApplication
+public class ReactiveApplication {
+
+	public static void main(String[] args) {
+		SpringApplication.run(ReactiveApplication.class, args);
+	}
+
+}
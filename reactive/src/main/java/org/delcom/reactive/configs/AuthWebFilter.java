@@ -0,0 +1,145 @@
+package org.delcom.reactive.configs;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import org.delcom.app.utils.JwtUtil;
+import org.delcom.app.utils.LruCache;
+import org.delcom.reactive.repositories.AuthTokenRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+
+import io.jsonwebtoken.Claims;
+import reactor.core.publisher.Mono;
+
+/**
+ * Aturan token AuthInterceptor aplikasi utama dalam bentuk WebFilter
+ * non-blocking. Id user yang lolos validasi disimpan sebagai atribut exchange
+ * {@link #AUTH_USER_ID} dan dibaca controller lewat @RequestAttribute.
+ *
+ * <p>
+ * Pada mode stateless signature dan masa berlaku JWT dicek tanpa database,
+ * lalu pencabutan (logout / ubah password menghapus token dari tabel
+ * auth_tokens) dicek ke database paling sering sekali per token per
+ * REVOCATION_CHECK_TTL_MS. Token yang dicabut bisa tetap diterima paling lama
+ * selama interval tersebut.
+ */
+@Component
+public class AuthWebFilter implements WebFilter {
+    public static final String AUTH_USER_ID = AuthWebFilter.class.getName() + ".userId";
+    public static final String AUTH_MODE_STATELESS = "stateless";
+
+    // Token yang baru dicek masih tersimpan, dipakai ulang pada mode stateless
+    static final int VERIFIED_TOKEN_CACHE_SIZE = 10_000;
+    static final long REVOCATION_CHECK_TTL_MS = 30 * 1000L;
+
+    private final AuthTokenRepository authTokenRepository;
+    private final String authMode;
+
+    // Key = hash token, value = id user pemilik token
+    private final LruCache<String, UUID> verifiedTokens = new LruCache<>(VERIFIED_TOKEN_CACHE_SIZE);
+
+    public AuthWebFilter(AuthTokenRepository authTokenRepository,
+            @Value("${app.auth.mode:database}") String authMode) {
+        this.authTokenRepository = authTokenRepository;
+        this.authMode = authMode;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        // Semua endpoint /api membutuhkan auth; login dan register hanya ada di aplikasi utama
+        String path = exchange.getRequest().getPath().value();
+        if (!path.startsWith("/api/")) {
+            return chain.filter(exchange);
+        }
+
+        // Ambil bearer token dari header
+        String token = extractToken(exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION));
+        if (token == null || token.isEmpty()) {
+            return sendErrorResponse(exchange, "Token autentikasi tidak ditemukan");
+        }
+
+        if (AUTH_MODE_STATELESS.equals(authMode)) {
+            return filterStateless(token, exchange, chain);
+        }
+
+        // Validasi format token JWT
+        if (!JwtUtil.validateToken(token, true)) {
+            return sendErrorResponse(exchange, "Token autentikasi tidak valid");
+        }
+
+        // Ekstrak userId dari token
+        UUID userId = JwtUtil.extractUserId(token);
+        if (userId == null) {
+            return sendErrorResponse(exchange, "Format token autentikasi tidak valid");
+        }
+
+        // Token harus masih tersimpan di database
+        return authTokenRepository.existsUserToken(userId, JwtUtil.hashToken(token))
+                .flatMap(found -> {
+                    if (!found) {
+                        return sendErrorResponse(exchange, "Token autentikasi sudah expired");
+                    }
+                    exchange.getAttributes().put(AUTH_USER_ID, userId);
+                    return chain.filter(exchange);
+                });
+    }
+
+    // Percaya signature dan masa berlaku JWT, pencabutan dicek ke database secara berkala
+    private Mono<Void> filterStateless(String token, ServerWebExchange exchange, WebFilterChain chain) {
+        Claims claims = JwtUtil.extractClaims(token);
+        if (claims == null) {
+            return sendErrorResponse(exchange, "Token autentikasi tidak valid");
+        }
+
+        UUID userId;
+        try {
+            userId = UUID.fromString(claims.getSubject());
+        } catch (Exception e) {
+            return sendErrorResponse(exchange, "Format token autentikasi tidak valid");
+        }
+
+        String tokenHash = JwtUtil.hashToken(token);
+        if (userId.equals(verifiedTokens.get(tokenHash))) {
+            exchange.getAttributes().put(AUTH_USER_ID, userId);
+            return chain.filter(exchange);
+        }
+
+        // Token yang sudah dicabut tidak lagi tersimpan di database
+        return authTokenRepository.existsUserToken(userId, tokenHash)
+                .flatMap(found -> {
+                    if (!found) {
+                        return sendErrorResponse(exchange, "Token autentikasi sudah expired");
+                    }
+                    verifiedTokens.put(tokenHash, userId, System.currentTimeMillis() + REVOCATION_CHECK_TTL_MS);
+                    exchange.getAttributes().put(AUTH_USER_ID, userId);
+                    return chain.filter(exchange);
+                });
+    }
+
+    private String extractToken(String rawAuthToken) {
+        if (rawAuthToken != null && rawAuthToken.startsWith("Bearer ")) {
+            return rawAuthToken.substring(7); // hapus "Bearer "
+        }
+        return null;
+    }
+
+    private Mono<Void> sendErrorResponse(ServerWebExchange exchange, String message) {
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(HttpStatus.UNAUTHORIZED);
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+
+        String jsonResponse = String.format(
+                "{\"status\":\"fail\",\"message\":\"%s\",\"data\":null}",
+                message);
+        byte[] bytes = jsonResponse.getBytes(StandardCharsets.UTF_8);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(bytes)));
+    }
+}
@@ -0,0 +1,192 @@
+package org.delcom.reactive.controllers;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import org.delcom.app.configs.ApiResponse;
+import org.delcom.app.utils.CursorPage;
+import org.delcom.app.utils.MoneyUtil;
+import org.delcom.reactive.configs.AuthWebFilter;
+import org.delcom.reactive.entities.CashFlow;
+import org.delcom.reactive.services.CashFlowService;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestAttribute;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping("/api/cashflows")
+public class CashFlowController {
+    private final CashFlowService cashFlowService;
+
+    public CashFlowController(CashFlowService cashFlowService) {
+        this.cashFlowService = cashFlowService;
+    }
+
+    /**
+     * Validasi data cash flow dari request
+     *
+     * @return pesan kesalahan, atau null jika data valid
+     */
+    static String validateCashFlow(CashFlow reqCashFlow) {
+        if (reqCashFlow == null) {
+            return "Data cash flow tidak valid";
+        } else if (reqCashFlow.getType() == null || reqCashFlow.getType().isEmpty()) {
+            return "Data type tidak valid";
+        } else if (!reqCashFlow.getType().equals("INCOME") && !reqCashFlow.getType().equals("EXPENSE")) {
+            return "Data type harus INCOME atau EXPENSE";
+        } else if (!MoneyUtil.isValidAmount(reqCashFlow.getAmount())) {
+            return "Data amount tidak valid";
+        } else if (reqCashFlow.getDescription() == null || reqCashFlow.getDescription().isEmpty()) {
+            return "Data description tidak valid";
+        } else if (reqCashFlow.getDate() == null) {
+            return "Data date tidak valid";
+        }
+        return null;
+    }
+
+    // Menambahkan cash flow baru
+    // -------------------------------
+    @PostMapping
+    public Mono<ResponseEntity<ApiResponse<Map<String, UUID>>>> createCashFlow(
+            @RequestAttribute(name = AuthWebFilter.AUTH_USER_ID, required = false) UUID authUserId,
+            @RequestBody CashFlow reqCashFlow) {
+
+        String validationError = validateCashFlow(reqCashFlow);
+        if (validationError != null) {
+            return Mono.just(ResponseEntity.badRequest().body(new ApiResponse<>("fail", validationError, null)));
+        }
+
+        // Validasi autentikasi
+        if (authUserId == null) {
+            return Mono.just(ResponseEntity.status(403).body(new ApiResponse<>("fail", "User tidak terautentikasi", null)));
+        }
+
+        return cashFlowService.createCashFlow(authUserId, reqCashFlow.getType(), reqCashFlow.getAmount(),
+                reqCashFlow.getDescription(), reqCashFlow.getDate())
+                .map(newCashFlow -> ResponseEntity.ok(new ApiResponse<Map<String, UUID>>(
+                        "success",
+                        "Cash flow berhasil dibuat",
+                        Map.of("id", newCashFlow.getId()))));
+    }
+
+    // Mendapatkan semua cash flow dengan opsi pencarian
+    // -------------------------------
+    @GetMapping
+    public Mono<ResponseEntity<ApiResponse<Map<String, Object>>>> getAllCashFlows(
+            @RequestAttribute(name = AuthWebFilter.AUTH_USER_ID, required = false) UUID authUserId,
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) String type,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false, defaultValue = "desc") String sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        // Validasi autentikasi
+        if (authUserId == null) {
+            return Mono.just(ResponseEntity.status(403).body(new ApiResponse<>("fail", "User tidak terautentikasi", null)));
+        }
+
+        if (type != null && !type.equals("INCOME") && !type.equals("EXPENSE")) {
+            return Mono.just(ResponseEntity.badRequest().body(new ApiResponse<>("fail", "Data type harus INCOME atau EXPENSE", null)));
+        } else if (!sort.equals("asc") && !sort.equals("desc")) {
+            return Mono.just(ResponseEntity.badRequest().body(new ApiResponse<>("fail", "Data sort harus asc atau desc", null)));
+        } else if (from != null && to != null && from.isAfter(to)) {
+            return Mono.just(ResponseEntity.badRequest().body(new ApiResponse<>("fail", "Data from tidak boleh setelah to", null)));
+        }
+
+        // Data diambil per halaman dengan cursor. Hasil pencarian diurutkan berdasarkan
+        // relevansi sehingga filter type, from, to, dan sort tidak dipakai.
+        boolean searching = search != null && !search.trim().isEmpty();
+        Mono<CursorPage<CashFlow>> page = searching
+                ? cashFlowService.searchCashFlows(authUserId, search, cursor, limit)
+                : cashFlowService.getCashFlowsPage(authUserId, type, from, to, sort.equals("asc"), cursor, limit);
+
+        return page
+                .map(result -> {
+                    Map<String, Object> data = new LinkedHashMap<>();
+                    data.put("cashflows", result.items());
+                    if (result.nextCursor() != null) {
+                        data.put("nextCursor", result.nextCursor());
+                    }
+                    return ResponseEntity.ok(new ApiResponse<>(
+                            "success",
+                            "Daftar cash flow berhasil diambil",
+                            data));
+                })
+                .onErrorResume(IllegalArgumentException.class, e -> Mono.just(ResponseEntity.badRequest()
+                        .body(new ApiResponse<>("fail", "Data cursor tidak valid", null))));
+    }
+
+    // Mendapatkan cash flow berdasarkan ID
+    // -------------------------------
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<ApiResponse<Map<String, CashFlow>>>> getCashFlowById(
+            @RequestAttribute(name = AuthWebFilter.AUTH_USER_ID, required = false) UUID authUserId,
+            @PathVariable UUID id) {
+        // Validasi autentikasi
+        if (authUserId == null) {
+            return Mono.just(ResponseEntity.status(403).body(new ApiResponse<>("fail", "User tidak terautentikasi", null)));
+        }
+
+        return cashFlowService.getCashFlowById(authUserId, id)
+                .map(cashFlow -> ResponseEntity.ok(new ApiResponse<>(
+                        "success",
+                        "Data cash flow berhasil diambil",
+                        Map.of("cashflow", cashFlow))))
+                .defaultIfEmpty(ResponseEntity.status(404).body(new ApiResponse<>("fail", "Data cash flow tidak ditemukan", null)));
+    }
+
+    // Memperbarui cash flow berdasarkan ID
+    // -------------------------------
+    @PutMapping("/{id}")
+    public Mono<ResponseEntity<ApiResponse<CashFlow>>> updateCashFlow(
+            @RequestAttribute(name = AuthWebFilter.AUTH_USER_ID, required = false) UUID authUserId,
+            @PathVariable UUID id, @RequestBody CashFlow reqCashFlow) {
+
+        String validationError = validateCashFlow(reqCashFlow);
+        if (validationError != null) {
+            return Mono.just(ResponseEntity.badRequest().body(new ApiResponse<>("fail", validationError, null)));
+        }
+
+        // Validasi autentikasi
+        if (authUserId == null) {
+            return Mono.just(ResponseEntity.status(403).body(new ApiResponse<>("fail", "User tidak terautentikasi", null)));
+        }
+
+        return cashFlowService.updateCashFlow(authUserId, id, reqCashFlow.getType(), reqCashFlow.getAmount(),
+                reqCashFlow.getDescription(), reqCashFlow.getDate())
+                .map(status -> status
+                        ? ResponseEntity.ok(new ApiResponse<CashFlow>("success", "Data cash flow berhasil diperbarui", null))
+                        : ResponseEntity.status(404).body(new ApiResponse<CashFlow>("fail", "Data cash flow tidak ditemukan", null)));
+    }
+
+    // Menghapus cash flow berdasarkan ID
+    // -------------------------------
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<ApiResponse<String>>> deleteCashFlow(
+            @RequestAttribute(name = AuthWebFilter.AUTH_USER_ID, required = false) UUID authUserId,
+            @PathVariable UUID id) {
+        // Validasi autentikasi
+        if (authUserId == null) {
+            return Mono.just(ResponseEntity.status(403).body(new ApiResponse<>("fail", "User tidak terautentikasi", null)));
+        }
+
+        return cashFlowService.deleteCashFlow(authUserId, id)
+                .map(status -> status
+                        ? ResponseEntity.ok(new ApiResponse<String>("success", "Data cash flow berhasil dihapus", null))
+                        : ResponseEntity.status(404).body(new ApiResponse<String>("fail", "Data cash flow tidak ditemukan", null)));
+    }
+}
@@ -0,0 +1,157 @@
+package org.delcom.reactive.controllers;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import org.delcom.app.configs.ApiResponse;
+import org.delcom.app.utils.CursorPage;
+import org.delcom.reactive.configs.AuthWebFilter;
+import org.delcom.reactive.entities.Todo;
+import org.delcom.reactive.services.TodoService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestAttribute;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping("/api/todos")
+public class TodoController {
+    private final TodoService todoService;
+
+    public TodoController(TodoService todoService) {
+        this.todoService = todoService;
+    }
+
+    // Menambahkan todo baru
+    // -------------------------------
+    @PostMapping
+    public Mono<ResponseEntity<ApiResponse<Map<String, UUID>>>> createTodo(
+            @RequestAttribute(name = AuthWebFilter.AUTH_USER_ID, required = false) UUID authUserId,
+            @RequestBody Todo reqTodo) {
+
+        if (reqTodo.getTitle() == null || reqTodo.getTitle().isEmpty()) {
+            return Mono.just(ResponseEntity.badRequest().body(new ApiResponse<>("fail", "Data title tidak valid", null)));
+        } else if (reqTodo.getDescription() == null || reqTodo.getDescription().isEmpty()) {
+            return Mono.just(ResponseEntity.badRequest().body(new ApiResponse<>("fail", "Data description tidak valid", null)));
+        }
+
+        // Validasi autentikasi
+        if (authUserId == null) {
+            return Mono.just(ResponseEntity.status(403).body(new ApiResponse<>("fail", "User tidak terautentikasi", null)));
+        }
+
+        return todoService.createTodo(authUserId, reqTodo.getTitle(), reqTodo.getDescription())
+                .map(newTodo -> ResponseEntity.ok(new ApiResponse<Map<String, UUID>>(
+                        "success",
+                        "Todo berhasil dibuat",
+                        Map.of("id", newTodo.getId()))));
+    }
+
+    // Mendapatkan semua todo dengan opsi pencarian
+    // -------------------------------
+    @GetMapping
+    public Mono<ResponseEntity<ApiResponse<Map<String, Object>>>> getAllTodos(
+            @RequestAttribute(name = AuthWebFilter.AUTH_USER_ID, required = false) UUID authUserId,
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        // Validasi autentikasi
+        if (authUserId == null) {
+            return Mono.just(ResponseEntity.status(403).body(new ApiResponse<>("fail", "User tidak terautentikasi", null)));
+        }
+
+        // Data diambil per halaman dengan cursor, hasil pencarian diurutkan berdasarkan relevansi
+        boolean searching = search != null && !search.trim().isEmpty();
+        Mono<CursorPage<Todo>> page = searching
+                ? todoService.searchTodos(authUserId, search, cursor, limit)
+                : todoService.getTodosPage(authUserId, cursor, limit);
+
+        return page
+                .map(result -> {
+                    Map<String, Object> data = new LinkedHashMap<>();
+                    data.put("todos", result.items());
+                    if (result.nextCursor() != null) {
+                        data.put("nextCursor", result.nextCursor());
+                    }
+                    return ResponseEntity.ok(new ApiResponse<>(
+                            "success",
+                            "Daftar todo berhasil diambil",
+                            data));
+                })
+                .onErrorResume(IllegalArgumentException.class, e -> Mono.just(ResponseEntity.badRequest()
+                        .body(new ApiResponse<>("fail", "Data cursor tidak valid", null))));
+    }
+
+    // Mendapatkan todo berdasarkan ID
+    // -------------------------------
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<ApiResponse<Map<String, Todo>>>> getTodoById(
+            @RequestAttribute(name = AuthWebFilter.AUTH_USER_ID, required = false) UUID authUserId,
+            @PathVariable UUID id) {
+        // Validasi autentikasi
+        if (authUserId == null) {
+            return Mono.just(ResponseEntity.status(403).body(new ApiResponse<>("fail", "User tidak terautentikasi", null)));
+        }
+
+        return todoService.getTodoById(authUserId, id)
+                .map(todo -> ResponseEntity.ok(new ApiResponse<>(
+                        "success",
+                        "Data todo berhasil diambil",
+                        Map.of("todo", todo))))
+                .defaultIfEmpty(ResponseEntity.status(404).body(new ApiResponse<>("fail", "Data todo tidak ditemukan", null)));
+    }
+
+    // Memperbarui todo berdasarkan ID
+    // -------------------------------
+    @PutMapping("/{id}")
+    public Mono<ResponseEntity<ApiResponse<Todo>>> updateTodo(
+            @RequestAttribute(name = AuthWebFilter.AUTH_USER_ID, required = false) UUID authUserId,
+            @PathVariable UUID id, @RequestBody Todo reqTodo) {
+
+        if (reqTodo.getTitle() == null || reqTodo.getTitle().isEmpty()) {
+            return Mono.just(ResponseEntity.badRequest().body(new ApiResponse<>("fail", "Data title tidak valid", null)));
+        } else if (reqTodo.getDescription() == null || reqTodo.getDescription().isEmpty()) {
+            return Mono.just(ResponseEntity.badRequest().body(new ApiResponse<>("fail", "Data description tidak valid", null)));
+        } else if (reqTodo.isFinished() == null) {
+            return Mono.just(ResponseEntity.badRequest().body(new ApiResponse<>("fail", "Data isFinished tidak valid", null)));
+        }
+
+        // Validasi autentikasi
+        if (authUserId == null) {
+            return Mono.just(ResponseEntity.status(403).body(new ApiResponse<>("fail", "User tidak terautentikasi", null)));
+        }
+
+        return todoService.updateTodo(authUserId, id, reqTodo.getTitle(), reqTodo.getDescription(),
+                reqTodo.isFinished())
+                .map(status -> status
+                        ? ResponseEntity.ok(new ApiResponse<Todo>("success", "Data todo berhasil diperbarui", null))
+                        : ResponseEntity.status(404).body(new ApiResponse<Todo>("fail", "Data todo tidak ditemukan", null)));
+    }
+
+    // Menghapus todo berdasarkan ID
+    // -------------------------------
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<ApiResponse<String>>> deleteTodo(
+            @RequestAttribute(name = AuthWebFilter.AUTH_USER_ID, required = false) UUID authUserId,
+            @PathVariable UUID id) {
+        // Validasi autentikasi
+        if (authUserId == null) {
+            return Mono.just(ResponseEntity.status(403).body(new ApiResponse<>("fail", "User tidak terautentikasi", null)));
+        }
+
+        return todoService.deleteTodo(authUserId, id)
+                .map(status -> status
+                        ? ResponseEntity.ok(new ApiResponse<String>("success", "Data todo berhasil dihapus", null))
+                        : ResponseEntity.status(404).body(new ApiResponse<String>("fail", "Data todo tidak ditemukan", null)));
+    }
+}
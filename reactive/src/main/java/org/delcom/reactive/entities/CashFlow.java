@@ -0,0 +1,106 @@
+package org.delcom.reactive.entities;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Baris tabel cash_flows dengan field dan accessor yang sama dengan entity
+ * CashFlow aplikasi utama, sehingga bentuk JSON-nya identik. Dipetakan manual
+ * oleh CashFlowRepository.
+ */
+public class CashFlow {
+
+    private UUID id;
+
+    private UUID userId;
+
+    private String type; // "INCOME" atau "EXPENSE"
+
+    private BigDecimal amount;
+
+    private String description;
+
+    private LocalDateTime date;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime updatedAt;
+
+    // Constructor
+    public CashFlow() {
+    }
+
+    public CashFlow(UUID userId, String type, BigDecimal amount, String description, LocalDateTime date) {
+        this.userId = userId;
+        this.type = type;
+        this.amount = amount;
+        this.description = description;
+        this.date = date;
+    }
+
+    // Getter & Setter
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    public UUID getUserId() {
+        return userId;
+    }
+
+    public void setUserId(UUID userId) {
+        this.userId = userId;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    public BigDecimal getAmount() {
+        return amount;
+    }
+
+    public void setAmount(BigDecimal amount) {
+        this.amount = amount;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+    public LocalDateTime getDate() {
+        return date;
+    }
+
+    public void setDate(LocalDateTime date) {
+        this.date = date;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
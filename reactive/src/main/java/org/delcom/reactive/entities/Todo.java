@@ -0,0 +1,104 @@
+package org.delcom.reactive.entities;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Baris tabel todos dengan field dan accessor yang sama dengan entity Todo
+ * aplikasi utama, sehingga bentuk JSON-nya identik. Dipetakan manual oleh
+ * TodoRepository.
+ */
+public class Todo {
+
+    private UUID id;
+
+    private UUID userId;
+
+    private String title;
+
+    private String description;
+
+    private Boolean isFinished = false;
+
+    private String cover;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime updatedAt;
+
+    // Constructor, getter, setter
+    public Todo() {
+    }
+
+    public Todo(UUID userId, String title, String description, Boolean isFinished) {
+        this.userId = userId;
+        this.title = title;
+        this.description = description;
+        this.isFinished = isFinished;
+    }
+
+    // Getter & Setter
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    public UUID getUserId() {
+        return userId;
+    }
+
+    public void setUserId(UUID userId) {
+        this.userId = userId;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+    public Boolean isFinished() {
+        return isFinished;
+    }
+
+    public void setFinished(Boolean finished) {
+        isFinished = finished;
+    }
+
+    public String getCover() {
+        return cover;
+    }
+
+    public void setCover(String cover) {
+        this.cover = cover;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
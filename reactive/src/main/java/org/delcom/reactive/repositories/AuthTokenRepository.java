@@ -0,0 +1,35 @@
+package org.delcom.reactive.repositories;
+
+import java.util.UUID;
+
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Pengecekan token di tabel auth_tokens milik aplikasi utama
+ */
+@Repository
+public class AuthTokenRepository {
+    private static final String EXISTS = "SELECT EXISTS (SELECT 1 FROM auth_tokens at JOIN users u "
+            + "ON u.id = at.user_id WHERE at.user_id = :userId AND at.token_hash = :tokenHash) AS found";
+
+    private final DatabaseClient databaseClient;
+
+    public AuthTokenRepository(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    /**
+     * Cek apakah token (dalam bentuk digest) masih tersimpan untuk user
+     * tersebut dan user-nya masih ada
+     */
+    public Mono<Boolean> existsUserToken(UUID userId, String tokenHash) {
+        return databaseClient.sql(EXISTS)
+                .bind("userId", userId)
+                .bind("tokenHash", tokenHash)
+                .map(row -> row.get("found", Boolean.class))
+                .one();
+    }
+}
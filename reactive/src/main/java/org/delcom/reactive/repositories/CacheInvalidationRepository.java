@@ -0,0 +1,34 @@
+package org.delcom.reactive.repositories;
+
+import java.util.UUID;
+
+import org.delcom.app.utils.CacheInvalidation;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Memberi tahu aplikasi utama lewat NOTIFY PostgreSQL bahwa data berubah,
+ * agar cache todo, cash flow, index pencarian, dan analitik di sana dibuang.
+ * Di dalam transaksi, notifikasi baru terkirim setelah commit.
+ */
+@Repository
+public class CacheInvalidationRepository {
+    private static final String NOTIFY = "SELECT pg_notify('" + CacheInvalidation.CHANNEL + "', :payload)";
+
+    private final DatabaseClient databaseClient;
+
+    public CacheInvalidationRepository(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    /**
+     * @param kind CacheInvalidation.TODO atau CacheInvalidation.CASH_FLOW
+     */
+    public Mono<Void> notifyChange(String kind, UUID userId, UUID id) {
+        return databaseClient.sql(NOTIFY)
+                .bind("payload", new CacheInvalidation(kind, userId, id).encode())
+                .then();
+    }
+}
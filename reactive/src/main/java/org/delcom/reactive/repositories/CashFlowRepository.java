@@ -0,0 +1,225 @@
+package org.delcom.reactive.repositories;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.UUID;
+
+import org.delcom.app.utils.KeysetCursor;
+import org.delcom.reactive.entities.CashFlow;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+
+import io.r2dbc.spi.Readable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Akses tabel cash_flows dan tabel agregatnya lewat R2DBC. Query sama dengan
+ * repository aplikasi utama sehingga memakai index yang sama dan agregat
+ * ringkasan tetap konsisten jika kedua aplikasi menulis ke database yang
+ * sama.
+ */
+@Repository
+public class CashFlowRepository {
+    private static final String COLUMNS = "id, user_id, type, amount, description, date, created_at, updated_at";
+
+    private static final String FILTER = "user_id = :userId AND type IN (:types) AND date >= :from AND date <= :to";
+
+    private static final String INSERT = "INSERT INTO cash_flows (id, user_id, type, amount, description, date, "
+            + "created_at, updated_at) VALUES (:id, :userId, :type, :amount, :description, :date, :createdAt, "
+            + ":updatedAt)";
+
+    private static final String SELECT_BY_ID = "SELECT " + COLUMNS + " FROM cash_flows "
+            + "WHERE id = :id AND user_id = :userId";
+
+    private static final String SELECT_PAGE_DESC = "SELECT " + COLUMNS + " FROM cash_flows WHERE " + FILTER
+            + " ORDER BY date DESC, id DESC LIMIT :limit";
+
+    private static final String SELECT_PAGE_DESC_AFTER = "SELECT " + COLUMNS + " FROM cash_flows WHERE " + FILTER
+            + " AND (date < :afterDate OR (date = :afterDate AND id < :afterId)) ORDER BY date DESC, id DESC "
+            + "LIMIT :limit";
+
+    private static final String SELECT_PAGE_ASC = "SELECT " + COLUMNS + " FROM cash_flows WHERE " + FILTER
+            + " ORDER BY date ASC, id ASC LIMIT :limit";
+
+    private static final String SELECT_PAGE_ASC_AFTER = "SELECT " + COLUMNS + " FROM cash_flows WHERE " + FILTER
+            + " AND (date > :afterDate OR (date = :afterDate AND id > :afterId)) ORDER BY date ASC, id ASC "
+            + "LIMIT :limit";
+
+    private static final String SEARCH = "SELECT " + COLUMNS + " FROM cash_flows WHERE user_id = :userId "
+            + "AND (description ILIKE :pattern ESCAPE '!' OR type ILIKE :pattern ESCAPE '!') "
+            + "ORDER BY (description ILIKE :pattern ESCAPE '!') DESC, date DESC, id DESC "
+            + "LIMIT :limit OFFSET :offset";
+
+    private static final String UPDATE = "WITH previous AS (SELECT id, type, amount, date FROM cash_flows "
+            + "WHERE id = :id AND user_id = :userId FOR UPDATE) "
+            + "UPDATE cash_flows c SET type = :type, amount = :amount, description = :description, "
+            + "date = :date, updated_at = :updatedAt FROM previous p WHERE c.id = p.id "
+            + "RETURNING p.type AS type, p.amount AS amount, p.date AS date";
+
+    private static final String DELETE = "DELETE FROM cash_flows WHERE id = :id AND user_id = :userId "
+            + "RETURNING type, amount, date";
+
+    private static final String ADD_MONTHLY_DELTA = "INSERT INTO cash_flow_monthly_summaries (user_id, month, "
+            + "total_income_minor, total_expense_minor) VALUES (:userId, :month, :incomeMinor, :expenseMinor) "
+            + "ON CONFLICT (user_id, month) DO UPDATE SET "
+            + "total_income_minor = cash_flow_monthly_summaries.total_income_minor + EXCLUDED.total_income_minor, "
+            + "total_expense_minor = cash_flow_monthly_summaries.total_expense_minor + EXCLUDED.total_expense_minor";
+
+    // Sama dengan CashFlowBalanceRepository.addDelta di aplikasi utama: baris baru langsung
+    // terverifikasi hanya jika delta sama dengan total di cash_flows
+    private static final String ADD_BALANCE_DELTA = "WITH updated AS (UPDATE cash_flow_balances SET "
+            + "total_income_minor = total_income_minor + :incomeMinor, "
+            + "total_expense_minor = total_expense_minor + :expenseMinor WHERE user_id = :userId RETURNING user_id) "
+            + "INSERT INTO cash_flow_balances (user_id, total_income_minor, total_expense_minor, backfilled) "
+            + "SELECT :userId, :incomeMinor, :expenseMinor, "
+            + "(SELECT COALESCE(SUM(amount) FILTER (WHERE type = 'INCOME'), 0) * 100 = :incomeMinor "
+            + "AND COALESCE(SUM(amount) FILTER (WHERE type = 'EXPENSE'), 0) * 100 = :expenseMinor "
+            + "FROM cash_flows WHERE user_id = :userId) "
+            + "WHERE NOT EXISTS (SELECT 1 FROM updated) ON CONFLICT (user_id) DO UPDATE SET "
+            + "total_income_minor = cash_flow_balances.total_income_minor + EXCLUDED.total_income_minor, "
+            + "total_expense_minor = cash_flow_balances.total_expense_minor + EXCLUDED.total_expense_minor";
+
+    /**
+     * Nilai cash flow sebelum diubah atau dihapus, dipakai untuk mengoreksi
+     * agregat ringkasan
+     */
+    public record PreviousValues(String type, BigDecimal amount, LocalDateTime date) {
+    }
+
+    private final DatabaseClient databaseClient;
+
+    public CashFlowRepository(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    /**
+     * Simpan cash flow baru. Id dan timestamp harus sudah diisi oleh pemanggil.
+     */
+    public Mono<Void> insert(CashFlow cashFlow) {
+        return databaseClient.sql(INSERT)
+                .bind("id", cashFlow.getId())
+                .bind("userId", cashFlow.getUserId())
+                .bind("type", cashFlow.getType())
+                .bind("amount", cashFlow.getAmount())
+                .bind("description", cashFlow.getDescription())
+                .bind("date", cashFlow.getDate())
+                .bind("createdAt", cashFlow.getCreatedAt())
+                .bind("updatedAt", cashFlow.getUpdatedAt())
+                .then();
+    }
+
+    public Mono<CashFlow> findByUserIdAndId(UUID userId, UUID id) {
+        return databaseClient.sql(SELECT_BY_ID)
+                .bind("id", id)
+                .bind("userId", userId)
+                .map(CashFlowRepository::mapCashFlow)
+                .one();
+    }
+
+    /**
+     * Ambil satu halaman cash flow yang diurutkan berdasarkan (date, id)
+     *
+     * @param after posisi terakhir halaman sebelumnya, null untuk halaman pertama
+     */
+    public Flux<CashFlow> findPage(UUID userId, Collection<String> types, LocalDateTime from, LocalDateTime to,
+            boolean ascending, KeysetCursor after, int limit) {
+        DatabaseClient.GenericExecuteSpec spec;
+        if (after == null) {
+            spec = databaseClient.sql(ascending ? SELECT_PAGE_ASC : SELECT_PAGE_DESC);
+        } else {
+            spec = databaseClient.sql(ascending ? SELECT_PAGE_ASC_AFTER : SELECT_PAGE_DESC_AFTER)
+                    .bind("afterDate", after.position())
+                    .bind("afterId", after.id());
+        }
+        return spec.bind("userId", userId)
+                .bind("types", types)
+                .bind("from", from)
+                .bind("to", to)
+                .bind("limit", limit)
+                .map(CashFlowRepository::mapCashFlow)
+                .all();
+    }
+
+    public Flux<CashFlow> searchByKeyword(UUID userId, String pattern, int limit, int offset) {
+        return databaseClient.sql(SEARCH)
+                .bind("userId", userId)
+                .bind("pattern", pattern)
+                .bind("limit", limit)
+                .bind("offset", offset)
+                .map(CashFlowRepository::mapCashFlow)
+                .all();
+    }
+
+    /**
+     * Ubah cash flow dalam satu statement sekaligus mengembalikan nilai lama.
+     * Harus dipanggil di dalam transaksi.
+     *
+     * @return nilai lama, kosong jika cash flow tidak ditemukan
+     */
+    public Mono<PreviousValues> updateByUserIdAndId(UUID userId, UUID id, String type, BigDecimal amount,
+            String description, LocalDateTime date, LocalDateTime updatedAt) {
+        return databaseClient.sql(UPDATE)
+                .bind("id", id)
+                .bind("userId", userId)
+                .bind("type", type)
+                .bind("amount", amount)
+                .bind("description", description)
+                .bind("date", date)
+                .bind("updatedAt", updatedAt)
+                .map(CashFlowRepository::mapPreviousValues)
+                .one();
+    }
+
+    /**
+     * Hapus cash flow sekaligus mengembalikan nilai lama
+     *
+     * @return nilai lama, kosong jika cash flow tidak ditemukan
+     */
+    public Mono<PreviousValues> deleteByUserIdAndId(UUID userId, UUID id) {
+        return databaseClient.sql(DELETE)
+                .bind("id", id)
+                .bind("userId", userId)
+                .map(CashFlowRepository::mapPreviousValues)
+                .one();
+    }
+
+    /**
+     * Tambahkan delta (dalam satuan terkecil) ke ringkasan bulanan dan saldo
+     * total milik user, sama dengan CashFlowSummaryService aplikasi utama
+     */
+    public Mono<Void> addSummaryDelta(UUID userId, LocalDate month, long incomeMinor, long expenseMinor) {
+        Mono<Long> monthly = databaseClient.sql(ADD_MONTHLY_DELTA)
+                .bind("userId", userId)
+                .bind("month", month)
+                .bind("incomeMinor", incomeMinor)
+                .bind("expenseMinor", expenseMinor)
+                .fetch()
+                .rowsUpdated();
+        Mono<Long> balance = databaseClient.sql(ADD_BALANCE_DELTA)
+                .bind("userId", userId)
+                .bind("incomeMinor", incomeMinor)
+                .bind("expenseMinor", expenseMinor)
+                .fetch()
+                .rowsUpdated();
+        // Agregat total lebih dulu, urutan penguncian sama dengan backfill di aplikasi utama
+        return balance.then(monthly).then();
+    }
+
+    static CashFlow mapCashFlow(Readable row) {
+        CashFlow cashFlow = new CashFlow(row.get("user_id", UUID.class), row.get("type", String.class),
+                row.get("amount", BigDecimal.class), row.get("description", String.class),
+                row.get("date", LocalDateTime.class));
+        cashFlow.setId(row.get("id", UUID.class));
+        cashFlow.setCreatedAt(row.get("created_at", LocalDateTime.class));
+        cashFlow.setUpdatedAt(row.get("updated_at", LocalDateTime.class));
+        return cashFlow;
+    }
+
+    static PreviousValues mapPreviousValues(Readable row) {
+        return new PreviousValues(row.get("type", String.class), row.get("amount", BigDecimal.class),
+                row.get("date", LocalDateTime.class));
+    }
+}
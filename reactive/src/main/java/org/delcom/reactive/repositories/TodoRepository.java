@@ -0,0 +1,140 @@
+package org.delcom.reactive.repositories;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.delcom.app.utils.KeysetCursor;
+import org.delcom.reactive.entities.Todo;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+
+import io.r2dbc.spi.Readable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Akses tabel todos lewat R2DBC. Query sama dengan TodoRepository aplikasi
+ * utama sehingga memakai index yang sama.
+ */
+@Repository
+public class TodoRepository {
+    private static final String COLUMNS = "id, user_id, title, description, is_finished, cover, created_at, "
+            + "updated_at";
+
+    private static final String INSERT = "INSERT INTO todos (id, user_id, title, description, is_finished, "
+            + "created_at, updated_at) VALUES (:id, :userId, :title, :description, :isFinished, :createdAt, "
+            + ":updatedAt)";
+
+    private static final String SELECT_BY_ID = "SELECT " + COLUMNS + " FROM todos "
+            + "WHERE id = :id AND user_id = :userId";
+
+    private static final String SELECT_PAGE = "SELECT " + COLUMNS + " FROM todos WHERE user_id = :userId "
+            + "ORDER BY created_at DESC, id DESC LIMIT :limit";
+
+    private static final String SELECT_PAGE_AFTER = "SELECT " + COLUMNS + " FROM todos WHERE user_id = :userId "
+            + "AND (created_at < :createdAt OR (created_at = :createdAt AND id < :id)) "
+            + "ORDER BY created_at DESC, id DESC LIMIT :limit";
+
+    private static final String SEARCH = "SELECT " + COLUMNS + " FROM todos WHERE user_id = :userId "
+            + "AND (title ILIKE :pattern ESCAPE '!' OR description ILIKE :pattern ESCAPE '!') "
+            + "ORDER BY (title ILIKE :pattern ESCAPE '!') DESC, created_at DESC, id DESC "
+            + "LIMIT :limit OFFSET :offset";
+
+    private static final String UPDATE = "UPDATE todos SET title = :title, description = :description, "
+            + "is_finished = :isFinished, updated_at = :updatedAt WHERE id = :id AND user_id = :userId";
+
+    private static final String DELETE = "DELETE FROM todos WHERE id = :id AND user_id = :userId";
+
+    private final DatabaseClient databaseClient;
+
+    public TodoRepository(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    /**
+     * Simpan todo baru. Id dan timestamp harus sudah diisi oleh pemanggil.
+     */
+    public Mono<Void> insert(Todo todo) {
+        return databaseClient.sql(INSERT)
+                .bind("id", todo.getId())
+                .bind("userId", todo.getUserId())
+                .bind("title", todo.getTitle())
+                .bind("description", todo.getDescription())
+                .bind("isFinished", todo.isFinished())
+                .bind("createdAt", todo.getCreatedAt())
+                .bind("updatedAt", todo.getUpdatedAt())
+                .then();
+    }
+
+    public Mono<Todo> findByUserIdAndId(UUID userId, UUID id) {
+        return databaseClient.sql(SELECT_BY_ID)
+                .bind("id", id)
+                .bind("userId", userId)
+                .map(TodoRepository::mapTodo)
+                .one();
+    }
+
+    /**
+     * Ambil satu halaman todo dari yang terbaru
+     *
+     * @param after posisi terakhir halaman sebelumnya, null untuk halaman pertama
+     */
+    public Flux<Todo> findPage(UUID userId, KeysetCursor after, int limit) {
+        DatabaseClient.GenericExecuteSpec spec = after == null
+                ? databaseClient.sql(SELECT_PAGE)
+                : databaseClient.sql(SELECT_PAGE_AFTER)
+                        .bind("createdAt", after.position())
+                        .bind("id", after.id());
+        return spec.bind("userId", userId)
+                .bind("limit", limit)
+                .map(TodoRepository::mapTodo)
+                .all();
+    }
+
+    public Flux<Todo> searchByKeyword(UUID userId, String pattern, int limit, int offset) {
+        return databaseClient.sql(SEARCH)
+                .bind("userId", userId)
+                .bind("pattern", pattern)
+                .bind("limit", limit)
+                .bind("offset", offset)
+                .map(TodoRepository::mapTodo)
+                .all();
+    }
+
+    /**
+     * @return jumlah baris yang diubah, 0 jika todo tidak ditemukan
+     */
+    public Mono<Long> updateByUserIdAndId(UUID userId, UUID id, String title, String description,
+            Boolean isFinished, LocalDateTime updatedAt) {
+        return databaseClient.sql(UPDATE)
+                .bind("title", title)
+                .bind("description", description)
+                .bind("isFinished", isFinished)
+                .bind("updatedAt", updatedAt)
+                .bind("id", id)
+                .bind("userId", userId)
+                .fetch()
+                .rowsUpdated();
+    }
+
+    /**
+     * @return jumlah baris yang dihapus, 0 jika todo tidak ditemukan
+     */
+    public Mono<Long> deleteByUserIdAndId(UUID userId, UUID id) {
+        return databaseClient.sql(DELETE)
+                .bind("id", id)
+                .bind("userId", userId)
+                .fetch()
+                .rowsUpdated();
+    }
+
+    static Todo mapTodo(Readable row) {
+        Todo todo = new Todo(row.get("user_id", UUID.class), row.get("title", String.class),
+                row.get("description", String.class), row.get("is_finished", Boolean.class));
+        todo.setId(row.get("id", UUID.class));
+        todo.setCover(row.get("cover", String.class));
+        todo.setCreatedAt(row.get("created_at", LocalDateTime.class));
+        todo.setUpdatedAt(row.get("updated_at", LocalDateTime.class));
+        return todo;
+    }
+}
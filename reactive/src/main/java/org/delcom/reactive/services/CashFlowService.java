@@ -0,0 +1,166 @@
+package org.delcom.reactive.services;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.delcom.app.utils.CacheInvalidation;
+import org.delcom.app.utils.CursorPage;
+import org.delcom.app.utils.KeysetCursor;
+import org.delcom.app.utils.MoneyUtil;
+import org.delcom.app.utils.OffsetCursor;
+import org.delcom.app.utils.SearchUtil;
+import org.delcom.app.utils.UuidV7Generator;
+import org.delcom.reactive.entities.CashFlow;
+import org.delcom.reactive.repositories.CacheInvalidationRepository;
+import org.delcom.reactive.repositories.CashFlowRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Operasi cash flow non-blocking. Setiap perubahan menerapkan delta ke tabel
+ * ringkasan di transaksi R2DBC yang sama, seperti CashFlowSummaryService
+ * aplikasi utama, lalu memberi tahu aplikasi utama agar cache-nya dibuang.
+ */
+@Service
+public class CashFlowService {
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+    public static final int MAX_SEARCH_RESULTS = 500;
+    public static final List<String> TYPES = List.of("INCOME", "EXPENSE");
+
+    // Batas rentang tanggal jika filter from/to tidak diisi (masih dalam rentang timestamp PostgreSQL)
+    private static final LocalDateTime MIN_DATE = LocalDateTime.of(1, 1, 1, 0, 0);
+    private static final LocalDateTime MAX_DATE = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+
+    private final CashFlowRepository cashFlowRepository;
+    private final CacheInvalidationRepository cacheInvalidationRepository;
+
+    public CashFlowService(CashFlowRepository cashFlowRepository,
+            CacheInvalidationRepository cacheInvalidationRepository) {
+        this.cashFlowRepository = cashFlowRepository;
+        this.cacheInvalidationRepository = cacheInvalidationRepository;
+    }
+
+    @Transactional
+    public Mono<CashFlow> createCashFlow(UUID userId, String type, BigDecimal amount, String description,
+            LocalDateTime date) {
+        LocalDateTime now = LocalDateTime.now();
+        CashFlow cashFlow = new CashFlow(userId, type, amount, description, date);
+        cashFlow.setId(UuidV7Generator.generate());
+        cashFlow.setCreatedAt(now);
+        cashFlow.setUpdatedAt(now);
+        return cashFlowRepository.insert(cashFlow)
+                .then(applyDelta(userId, type, MoneyUtil.toMinorUnits(amount), date))
+                .then(notifyChange(userId, cashFlow.getId()))
+                .thenReturn(cashFlow);
+    }
+
+    /**
+     * Cari cash flow milik user berdasarkan keyword pada description atau
+     * type. Hasil diurutkan berdasarkan relevansi lalu dipaginasi dengan
+     * offset, maksimal MAX_SEARCH_RESULTS hasil.
+     *
+     * @param cursor cursor dari halaman sebelumnya, null untuk halaman pertama
+     * @param limit  jumlah item per halaman, dibatasi MAX_PAGE_SIZE
+     * @return halaman cash flow, atau error IllegalArgumentException jika cursor tidak valid
+     */
+    public Mono<CursorPage<CashFlow>> searchCashFlows(UUID userId, String search, String cursor, Integer limit) {
+        return Mono.defer(() -> {
+            int offset = cursor == null || cursor.isBlank() ? 0 : OffsetCursor.decode(cursor).offset();
+            if (offset >= MAX_SEARCH_RESULTS) {
+                return Mono.error(new IllegalArgumentException("Cursor tidak valid"));
+            }
+            int pageSize = Math.min(pageSizeOf(limit), MAX_SEARCH_RESULTS - offset);
+
+            return cashFlowRepository.searchByKeyword(userId, SearchUtil.containsPattern(search.trim()),
+                    pageSize + 1, offset)
+                    .collectList()
+                    .map(cashFlows -> CursorPage.ofOffset(cashFlows, pageSize, offset, MAX_SEARCH_RESULTS));
+        });
+    }
+
+    /**
+     * Ambil cash flow milik user per halaman, diurutkan berdasarkan (date, id)
+     *
+     * @param type      filter INCOME/EXPENSE, null untuk semua tipe
+     * @param from      batas bawah date (inklusif), boleh null
+     * @param to        batas atas date (inklusif), boleh null
+     * @param ascending true untuk urutan terlama lebih dulu
+     * @param cursor    cursor dari halaman sebelumnya, null untuk halaman pertama
+     * @param limit     jumlah item per halaman, dibatasi MAX_PAGE_SIZE
+     * @return halaman cash flow, atau error IllegalArgumentException jika cursor tidak valid
+     */
+    public Mono<CursorPage<CashFlow>> getCashFlowsPage(UUID userId, String type, LocalDateTime from,
+            LocalDateTime to, boolean ascending, String cursor, Integer limit) {
+        return Mono.defer(() -> {
+            KeysetCursor after = cursor == null || cursor.isBlank() ? null : KeysetCursor.decode(cursor);
+            int pageSize = pageSizeOf(limit);
+
+            return cashFlowRepository.findPage(userId, type == null ? TYPES : List.of(type),
+                    from == null ? MIN_DATE : from, to == null ? MAX_DATE : to, ascending, after, pageSize + 1)
+                    .collectList()
+                    .map(cashFlows -> CursorPage.of(cashFlows, pageSize,
+                            cashFlow -> new KeysetCursor(cashFlow.getDate(), cashFlow.getId())));
+        });
+    }
+
+    /**
+     * @return cash flow, atau kosong jika tidak ditemukan
+     */
+    public Mono<CashFlow> getCashFlowById(UUID userId, UUID id) {
+        return cashFlowRepository.findByUserIdAndId(userId, id);
+    }
+
+    /**
+     * Ubah cash flow milik user dengan satu statement UPDATE bersyarat. Nilai
+     * lama dikembalikan oleh statement yang sama untuk mengoreksi ringkasan.
+     *
+     * @return false jika cash flow tidak ditemukan
+     */
+    @Transactional
+    public Mono<Boolean> updateCashFlow(UUID userId, UUID id, String type, BigDecimal amount, String description,
+            LocalDateTime date) {
+        return cashFlowRepository.updateByUserIdAndId(userId, id, type, amount, description, date,
+                LocalDateTime.now())
+                .flatMap(previous -> applyDelta(userId, previous.type(),
+                        -MoneyUtil.toMinorUnits(previous.amount()), previous.date())
+                        .then(applyDelta(userId, type, MoneyUtil.toMinorUnits(amount), date))
+                        .then(notifyChange(userId, id))
+                        .thenReturn(true))
+                .defaultIfEmpty(false);
+    }
+
+    /**
+     * Hapus cash flow milik user dengan satu statement DELETE bersyarat
+     *
+     * @return false jika cash flow tidak ditemukan
+     */
+    @Transactional
+    public Mono<Boolean> deleteCashFlow(UUID userId, UUID id) {
+        return cashFlowRepository.deleteByUserIdAndId(userId, id)
+                .flatMap(previous -> applyDelta(userId, previous.type(),
+                        -MoneyUtil.toMinorUnits(previous.amount()), previous.date())
+                        .then(notifyChange(userId, id))
+                        .thenReturn(true))
+                .defaultIfEmpty(false);
+    }
+
+    // Di dalam transaksi, notifikasi baru diterima aplikasi utama setelah commit
+    private Mono<Void> notifyChange(UUID userId, UUID id) {
+        return cacheInvalidationRepository.notifyChange(CacheInvalidation.CASH_FLOW, userId, id);
+    }
+
+    private Mono<Void> applyDelta(UUID userId, String type, long amountMinor, LocalDateTime date) {
+        boolean income = "INCOME".equals(type);
+        return cashFlowRepository.addSummaryDelta(userId, date.toLocalDate().withDayOfMonth(1),
+                income ? amountMinor : 0, income ? 0 : amountMinor);
+    }
+
+    private static int pageSizeOf(Integer limit) {
+        return limit == null || limit <= 0 ? DEFAULT_PAGE_SIZE : Math.min(limit, MAX_PAGE_SIZE);
+    }
+}
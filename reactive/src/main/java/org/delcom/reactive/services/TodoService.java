@@ -0,0 +1,122 @@
+package org.delcom.reactive.services;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.delcom.app.utils.CacheInvalidation;
+import org.delcom.app.utils.CursorPage;
+import org.delcom.app.utils.KeysetCursor;
+import org.delcom.app.utils.OffsetCursor;
+import org.delcom.app.utils.SearchUtil;
+import org.delcom.app.utils.UuidV7Generator;
+import org.delcom.reactive.entities.Todo;
+import org.delcom.reactive.repositories.CacheInvalidationRepository;
+import org.delcom.reactive.repositories.TodoRepository;
+import org.springframework.stereotype.Service;
+
+import reactor.core.publisher.Mono;
+
+@Service
+public class TodoService {
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+    public static final int MAX_SEARCH_RESULTS = 500;
+
+    private final TodoRepository todoRepository;
+    private final CacheInvalidationRepository cacheInvalidationRepository;
+
+    public TodoService(TodoRepository todoRepository, CacheInvalidationRepository cacheInvalidationRepository) {
+        this.todoRepository = todoRepository;
+        this.cacheInvalidationRepository = cacheInvalidationRepository;
+    }
+
+    public Mono<Todo> createTodo(UUID userId, String title, String description) {
+        LocalDateTime now = LocalDateTime.now();
+        Todo todo = new Todo(userId, title, description, false);
+        todo.setId(UuidV7Generator.generate());
+        todo.setCreatedAt(now);
+        todo.setUpdatedAt(now);
+        return todoRepository.insert(todo)
+                .then(notifyChange(userId, todo.getId()))
+                .thenReturn(todo);
+    }
+
+    /**
+     * Cari todo milik user berdasarkan keyword pada title atau description.
+     * Hasil diurutkan berdasarkan relevansi lalu dipaginasi dengan offset,
+     * maksimal MAX_SEARCH_RESULTS hasil.
+     *
+     * @param cursor cursor dari halaman sebelumnya, null untuk halaman pertama
+     * @param limit  jumlah item per halaman, dibatasi MAX_PAGE_SIZE
+     * @return halaman todo, atau error IllegalArgumentException jika cursor tidak valid
+     */
+    public Mono<CursorPage<Todo>> searchTodos(UUID userId, String search, String cursor, Integer limit) {
+        return Mono.defer(() -> {
+            int offset = cursor == null || cursor.isBlank() ? 0 : OffsetCursor.decode(cursor).offset();
+            if (offset >= MAX_SEARCH_RESULTS) {
+                return Mono.error(new IllegalArgumentException("Cursor tidak valid"));
+            }
+            int pageSize = Math.min(pageSizeOf(limit), MAX_SEARCH_RESULTS - offset);
+
+            return todoRepository.searchByKeyword(userId, SearchUtil.containsPattern(search.trim()),
+                    pageSize + 1, offset)
+                    .collectList()
+                    .map(todos -> CursorPage.ofOffset(todos, pageSize, offset, MAX_SEARCH_RESULTS));
+        });
+    }
+
+    /**
+     * Ambil todo milik user per halaman, diurutkan dari yang terbaru
+     *
+     * @param cursor cursor dari halaman sebelumnya, null untuk halaman pertama
+     * @param limit  jumlah item per halaman, dibatasi MAX_PAGE_SIZE
+     * @return halaman todo, atau error IllegalArgumentException jika cursor tidak valid
+     */
+    public Mono<CursorPage<Todo>> getTodosPage(UUID userId, String cursor, Integer limit) {
+        return Mono.defer(() -> {
+            KeysetCursor after = cursor == null || cursor.isBlank() ? null : KeysetCursor.decode(cursor);
+            int pageSize = pageSizeOf(limit);
+
+            return todoRepository.findPage(userId, after, pageSize + 1)
+                    .collectList()
+                    .map(todos -> CursorPage.of(todos, pageSize,
+                            todo -> new KeysetCursor(todo.getCreatedAt(), todo.getId())));
+        });
+    }
+
+    /**
+     * @return todo, atau kosong jika tidak ditemukan
+     */
+    public Mono<Todo> getTodoById(UUID userId, UUID id) {
+        return todoRepository.findByUserIdAndId(userId, id);
+    }
+
+    /**
+     * Ubah todo milik user dengan satu statement UPDATE bersyarat
+     *
+     * @return false jika todo tidak ditemukan
+     */
+    public Mono<Boolean> updateTodo(UUID userId, UUID id, String title, String description, Boolean isFinished) {
+        return todoRepository.updateByUserIdAndId(userId, id, title, description, isFinished, LocalDateTime.now())
+                .flatMap(count -> count > 0 ? notifyChange(userId, id).thenReturn(true) : Mono.just(false));
+    }
+
+    /**
+     * Hapus todo milik user dengan satu statement DELETE bersyarat
+     *
+     * @return false jika todo tidak ditemukan
+     */
+    public Mono<Boolean> deleteTodo(UUID userId, UUID id) {
+        return todoRepository.deleteByUserIdAndId(userId, id)
+                .flatMap(count -> count > 0 ? notifyChange(userId, id).thenReturn(true) : Mono.just(false));
+    }
+
+    // Cache aplikasi utama dibuang setelah perubahan tersimpan
+    private Mono<Void> notifyChange(UUID userId, UUID id) {
+        return cacheInvalidationRepository.notifyChange(CacheInvalidation.TODO, userId, id);
+    }
+
+    private static int pageSizeOf(Integer limit) {
+        return limit == null || limit <= 0 ? DEFAULT_PAGE_SIZE : Math.min(limit, MAX_PAGE_SIZE);
+    }
+}
@@ -0,0 +1,141 @@
+package org.delcom.reactive.configs;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.delcom.app.utils.JwtUtil;
+import org.delcom.reactive.repositories.AuthTokenRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.WebFilterChain;
+
+import io.jsonwebtoken.Jwts;
+import reactor.core.publisher.Mono;
+
+public class AuthWebFilterTests {
+
+    @Test
+    @DisplayName("Pengujian AuthWebFilter dengan berbagai skenario")
+    public void testVariousAuthWebFilter() throws Exception {
+        UUID userId = UUID.randomUUID();
+        String bearerToken = JwtUtil.generateToken(userId);
+        String invalidSubjectToken = Jwts.builder()
+                .subject("bukan-uuid")
+                .issuedAt(new Date())
+                .expiration(new Date(System.currentTimeMillis() + 1000 * 60))
+                .signWith(JwtUtil.getKey())
+                .compact();
+
+        AuthTokenRepository authTokenRepository = Mockito.mock(AuthTokenRepository.class);
+        AuthWebFilter authWebFilter = new AuthWebFilter(authTokenRepository, "database");
+
+        AtomicBoolean chained = new AtomicBoolean();
+        WebFilterChain chain = exchange -> {
+            chained.set(true);
+            return Mono.empty();
+        };
+
+        // Token valid dan masih tersimpan di database
+        {
+            when(authTokenRepository.existsUserToken(userId, JwtUtil.hashToken(bearerToken)))
+                    .thenReturn(Mono.just(true));
+            MockServerWebExchange exchange = exchange("/api/todos", "Bearer " + bearerToken);
+            chained.set(false);
+            authWebFilter.filter(exchange, chain).block();
+            assertTrue(chained.get());
+            assertEquals(userId, exchange.getAttribute(AuthWebFilter.AUTH_USER_ID));
+        }
+
+        // Endpoint di luar /api tidak membutuhkan token
+        {
+            MockServerWebExchange exchange = exchange("/error", null);
+            chained.set(false);
+            authWebFilter.filter(exchange, chain).block();
+            assertTrue(chained.get());
+            assertEquals(null, exchange.getAttribute(AuthWebFilter.AUTH_USER_ID));
+        }
+
+        // Tidak ada endpoint /api yang dikecualikan, route yang tidak ada tetap membutuhkan token
+        {
+            for (String path : new String[] { "/api/auth/login", "/api/public/info" }) {
+                MockServerWebExchange exchange = exchange(path, null);
+                chained.set(false);
+                authWebFilter.filter(exchange, chain).block();
+                assertEquals(false, chained.get());
+                assertEquals(HttpStatus.UNAUTHORIZED, exchange.getResponse().getStatusCode());
+            }
+        }
+
+        // Token tidak ditemukan atau tidak valid
+        {
+            assertUnauthorized(authWebFilter, chain, chained, null, "Token autentikasi tidak ditemukan");
+            assertUnauthorized(authWebFilter, chain, chained, "Basic abc", "Token autentikasi tidak ditemukan");
+            assertUnauthorized(authWebFilter, chain, chained, "Bearer ", "Token autentikasi tidak ditemukan");
+            assertUnauthorized(authWebFilter, chain, chained, "Bearer invalid_token", "Token autentikasi tidak valid");
+            assertUnauthorized(authWebFilter, chain, chained, "Bearer " + invalidSubjectToken,
+                    "Format token autentikasi tidak valid");
+        }
+
+        // Token tidak tersimpan di database
+        {
+            when(authTokenRepository.existsUserToken(userId, JwtUtil.hashToken(bearerToken)))
+                    .thenReturn(Mono.just(false));
+            assertUnauthorized(authWebFilter, chain, chained, "Bearer " + bearerToken,
+                    "Token autentikasi sudah expired");
+        }
+
+        // Mode stateless: pencabutan dicek ke database sekali, lalu dipakai ulang dari cache
+        {
+            AuthWebFilter statelessFilter = new AuthWebFilter(authTokenRepository, AuthWebFilter.AUTH_MODE_STATELESS);
+
+            // Token yang dicabut lewat logout di aplikasi utama ditolak
+            assertUnauthorized(statelessFilter, chain, chained, "Bearer " + bearerToken,
+                    "Token autentikasi sudah expired");
+
+            when(authTokenRepository.existsUserToken(userId, JwtUtil.hashToken(bearerToken)))
+                    .thenReturn(Mono.just(true));
+            for (int i = 0; i < 2; i++) {
+                MockServerWebExchange exchange = exchange("/api/cashflows", "Bearer " + bearerToken);
+                chained.set(false);
+                statelessFilter.filter(exchange, chain).block();
+                assertTrue(chained.get());
+                assertEquals(userId, exchange.getAttribute(AuthWebFilter.AUTH_USER_ID));
+            }
+            // 2 query sebelumnya dari mode database, 1 dari penolakan di atas, 1 untuk token yang lolos
+            Mockito.verify(authTokenRepository, Mockito.times(4))
+                    .existsUserToken(userId, JwtUtil.hashToken(bearerToken));
+
+            assertUnauthorized(statelessFilter, chain, chained, "Bearer invalid_token", "Token autentikasi tidak valid");
+            assertUnauthorized(statelessFilter, chain, chained, "Bearer " + invalidSubjectToken,
+                    "Format token autentikasi tidak valid");
+        }
+    }
+
+    private static MockServerWebExchange exchange(String path, String authorization) {
+        MockServerHttpRequest.BaseBuilder<?> request = MockServerHttpRequest.get(path);
+        if (authorization != null) {
+            request.header("Authorization", authorization);
+        }
+        return MockServerWebExchange.from(request);
+    }
+
+    private static void assertUnauthorized(AuthWebFilter authWebFilter, WebFilterChain chain, AtomicBoolean chained,
+            String authorization, String message) {
+        MockServerWebExchange exchange = exchange("/api/todos", authorization);
+        chained.set(false);
+        authWebFilter.filter(exchange, chain).block();
+        assertEquals(false, chained.get());
+        assertEquals(HttpStatus.UNAUTHORIZED, exchange.getResponse().getStatusCode());
+        assertEquals("{\"status\":\"fail\",\"message\":\"" + message + "\",\"data\":null}",
+                exchange.getResponse().getBodyAsString().block());
+    }
+}
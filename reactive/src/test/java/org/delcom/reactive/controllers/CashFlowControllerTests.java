@@ -0,0 +1,181 @@
+package org.delcom.reactive.controllers;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.delcom.app.utils.CursorPage;
+import org.delcom.reactive.entities.CashFlow;
+import org.delcom.reactive.services.CashFlowService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import reactor.core.publisher.Mono;
+
+public class CashFlowControllerTests {
+    @Test
+    @DisplayName("Pengujian untuk controller CashFlow reaktif")
+    void testCashFlowController() throws Exception {
+        UUID userId = UUID.randomUUID();
+        UUID cashFlowId = UUID.randomUUID();
+        UUID nonexistentCashFlowId = UUID.randomUUID();
+        LocalDateTime date = LocalDateTime.of(2025, 1, 15, 10, 0);
+
+        // Membuat dummy data
+        CashFlow cashFlow = new CashFlow(userId, "INCOME", new BigDecimal("150000.00"), "Gaji", date);
+        cashFlow.setId(cashFlowId);
+
+        CashFlowService cashFlowService = Mockito.mock(CashFlowService.class);
+        when(cashFlowService.createCashFlow(any(UUID.class), any(String.class), any(BigDecimal.class),
+                any(String.class), any(LocalDateTime.class))).thenReturn(Mono.just(cashFlow));
+
+        CashFlowController cashFlowController = new CashFlowController(cashFlowService);
+
+        // Menguji validasi data cash flow
+        {
+            List<CashFlow> invalidCashFlows = List.of(
+                    new CashFlow(userId, null, BigDecimal.TEN, "Deskripsi", date),
+                    new CashFlow(userId, "", BigDecimal.TEN, "Deskripsi", date),
+                    new CashFlow(userId, "TRANSFER", BigDecimal.TEN, "Deskripsi", date),
+                    new CashFlow(userId, "EXPENSE", null, "Deskripsi", date),
+                    new CashFlow(userId, "EXPENSE", BigDecimal.ZERO, "Deskripsi", date),
+                    new CashFlow(userId, "EXPENSE", BigDecimal.TEN, null, date),
+                    new CashFlow(userId, "EXPENSE", BigDecimal.TEN, "", date),
+                    new CashFlow(userId, "EXPENSE", BigDecimal.TEN, "Deskripsi", null));
+
+            assert (CashFlowController.validateCashFlow(null).equals("Data cash flow tidak valid"));
+            assert (CashFlowController.validateCashFlow(cashFlow) == null);
+            for (CashFlow invalidCashFlow : invalidCashFlows) {
+                assert (CashFlowController.validateCashFlow(invalidCashFlow) != null);
+
+                var created = cashFlowController.createCashFlow(userId, invalidCashFlow).block();
+                assert (created.getStatusCode().value() == 400);
+                var updated = cashFlowController.updateCashFlow(userId, cashFlowId, invalidCashFlow).block();
+                assert (updated.getStatusCode().value() == 400);
+            }
+        }
+
+        // Menguji method createCashFlow
+        {
+            var result = cashFlowController.createCashFlow(null, cashFlow).block();
+            assert (result.getStatusCode().value() == 403);
+
+            result = cashFlowController.createCashFlow(userId, cashFlow).block();
+            assert (result.getBody().getStatus().equals("success"));
+            assert (result.getBody().getData().get("id").equals(cashFlowId));
+        }
+
+        // Menguji method getAllCashFlows
+        {
+            // Tidak terautentikasi dan filter tidak valid
+            {
+                var result = cashFlowController.getAllCashFlows(null, null, null, null, null, "desc", null, null).block();
+                assert (result.getStatusCode().value() == 403);
+
+                result = cashFlowController.getAllCashFlows(userId, null, "TRANSFER", null, null, "desc", null, null)
+                        .block();
+                assert (result.getBody().getMessage().equals("Data type harus INCOME atau EXPENSE"));
+
+                result = cashFlowController.getAllCashFlows(userId, null, null, null, null, "acak", null, null).block();
+                assert (result.getBody().getMessage().equals("Data sort harus asc atau desc"));
+
+                result = cashFlowController.getAllCashFlows(userId, null, null, date, date.minusDays(1), "desc", null,
+                        null).block();
+                assert (result.getBody().getMessage().equals("Data from tidak boleh setelah to"));
+            }
+
+            // Dengan search
+            {
+                when(cashFlowService.searchCashFlows(userId, "Gaji", null, null))
+                        .thenReturn(Mono.just(new CursorPage<>(List.of(cashFlow), "cursor-pencarian")));
+                var result = cashFlowController.getAllCashFlows(userId, "Gaji", null, null, null, "desc", null, null)
+                        .block();
+                assert (result.getBody().getStatus().equals("success"));
+                assert (result.getBody().getData().get("cashflows").equals(List.of(cashFlow)));
+                assert (result.getBody().getData().get("nextCursor").equals("cursor-pencarian"));
+            }
+
+            // Tanpa search dengan filter, halaman terakhir tidak memiliki nextCursor
+            {
+                when(cashFlowService.getCashFlowsPage(userId, "INCOME", date, date, true, null, 5))
+                        .thenReturn(Mono.just(new CursorPage<>(List.of(cashFlow), null)));
+                var result = cashFlowController.getAllCashFlows(userId, " ", "INCOME", date, date, "asc", null, 5)
+                        .block();
+                assert (result.getBody().getStatus().equals("success"));
+                assert (!result.getBody().getData().containsKey("nextCursor"));
+
+                when(cashFlowService.getCashFlowsPage(userId, "EXPENSE", null, null, false, null, null))
+                        .thenReturn(Mono.just(new CursorPage<>(List.of(), null)));
+                result = cashFlowController.getAllCashFlows(userId, null, "EXPENSE", null, null, "desc", null, null)
+                        .block();
+                assert (result.getBody().getData().get("cashflows").equals(List.of()));
+
+                // Hanya batas bawah yang diisi
+                when(cashFlowService.getCashFlowsPage(userId, null, date, null, false, null, null))
+                        .thenReturn(Mono.just(new CursorPage<>(List.of(cashFlow), null)));
+                result = cashFlowController.getAllCashFlows(userId, null, null, date, null, "desc", null, null)
+                        .block();
+                assert (result.getBody().getData().get("cashflows").equals(List.of(cashFlow)));
+            }
+
+            // Cursor tidak valid
+            {
+                when(cashFlowService.getCashFlowsPage(userId, null, null, null, false, "bukan-cursor", null))
+                        .thenReturn(Mono.error(new IllegalArgumentException("Cursor tidak valid")));
+                var result = cashFlowController.getAllCashFlows(userId, null, null, null, null, "desc", "bukan-cursor",
+                        null).block();
+                assert (result.getStatusCode().value() == 400);
+                assert (result.getBody().getMessage().equals("Data cursor tidak valid"));
+            }
+        }
+
+        // Menguji method getCashFlowById
+        {
+            var result = cashFlowController.getCashFlowById(null, cashFlowId).block();
+            assert (result.getStatusCode().value() == 403);
+
+            when(cashFlowService.getCashFlowById(userId, cashFlowId)).thenReturn(Mono.just(cashFlow));
+            result = cashFlowController.getCashFlowById(userId, cashFlowId).block();
+            assert (result.getBody().getData().get("cashflow").getId().equals(cashFlowId));
+
+            when(cashFlowService.getCashFlowById(userId, nonexistentCashFlowId)).thenReturn(Mono.empty());
+            result = cashFlowController.getCashFlowById(userId, nonexistentCashFlowId).block();
+            assert (result.getStatusCode().value() == 404);
+        }
+
+        // Menguji method updateCashFlow
+        {
+            var result = cashFlowController.updateCashFlow(null, cashFlowId, cashFlow).block();
+            assert (result.getStatusCode().value() == 403);
+
+            when(cashFlowService.updateCashFlow(userId, nonexistentCashFlowId, "INCOME", cashFlow.getAmount(), "Gaji",
+                    date)).thenReturn(Mono.just(false));
+            result = cashFlowController.updateCashFlow(userId, nonexistentCashFlowId, cashFlow).block();
+            assert (result.getStatusCode().value() == 404);
+
+            when(cashFlowService.updateCashFlow(userId, cashFlowId, "INCOME", cashFlow.getAmount(), "Gaji", date))
+                    .thenReturn(Mono.just(true));
+            result = cashFlowController.updateCashFlow(userId, cashFlowId, cashFlow).block();
+            assert (result.getBody().getStatus().equals("success"));
+        }
+
+        // Menguji method deleteCashFlow
+        {
+            var result = cashFlowController.deleteCashFlow(null, cashFlowId).block();
+            assert (result.getStatusCode().value() == 403);
+
+            when(cashFlowService.deleteCashFlow(userId, nonexistentCashFlowId)).thenReturn(Mono.just(false));
+            result = cashFlowController.deleteCashFlow(userId, nonexistentCashFlowId).block();
+            assert (result.getStatusCode().value() == 404);
+
+            when(cashFlowService.deleteCashFlow(userId, cashFlowId)).thenReturn(Mono.just(true));
+            result = cashFlowController.deleteCashFlow(userId, cashFlowId).block();
+            assert (result.getBody().getStatus().equals("success"));
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package org.delcom.reactive.controllers;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.delcom.app.utils.CursorPage;
+import org.delcom.reactive.entities.Todo;
+import org.delcom.reactive.services.TodoService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import reactor.core.publisher.Mono;
+
+public class TodoControllerTests {
+    @Test
+    @DisplayName("Pengujian untuk controller Todo reaktif")
+    void testTodoController() throws Exception {
+        UUID userId = UUID.randomUUID();
+        UUID todoId = UUID.randomUUID();
+        UUID nonexistentTodoId = UUID.randomUUID();
+
+        // Membuat dummy data
+        Todo todo = new Todo(userId, "Belajar WebFlux", "Belajar Mono di unit test", false);
+        todo.setId(todoId);
+
+        TodoService todoService = Mockito.mock(TodoService.class);
+        when(todoService.createTodo(any(UUID.class), any(String.class), any(String.class))).thenReturn(Mono.just(todo));
+
+        TodoController todoController = new TodoController(todoService);
+
+        // Menguji method createTodo
+        {
+            // Data tidak valid
+            {
+                List<Todo> invalidTodos = List.of(
+                        new Todo(userId, null, "Deskripsi valid", false),
+                        new Todo(userId, "", "Deskripsi valid", false),
+                        new Todo(userId, "Judul valid", null, false),
+                        new Todo(userId, "Judul valid", "", false));
+
+                for (Todo itemTodo : invalidTodos) {
+                    var result = todoController.createTodo(userId, itemTodo).block();
+                    assert (result.getStatusCode().is4xxClientError());
+                    assert (result.getBody().getStatus().equals("fail"));
+                }
+            }
+
+            // Tidak terautentikasi
+            {
+                var result = todoController.createTodo(null, todo).block();
+                assert (result.getStatusCode().value() == 403);
+                assert (result.getBody().getStatus().equals("fail"));
+            }
+
+            // Berhasil menambahkan todo
+            {
+                var result = todoController.createTodo(userId, todo).block();
+                assert (result.getBody().getStatus().equals("success"));
+                assert (result.getBody().getData().get("id").equals(todoId));
+            }
+        }
+
+        // Menguji method getAllTodos
+        {
+            // Tidak terautentikasi
+            {
+                var result = todoController.getAllTodos(null, null, null, null).block();
+                assert (result.getStatusCode().value() == 403);
+            }
+
+            // Dengan search
+            {
+                when(todoService.searchTodos(userId, "Belajar", null, null))
+                        .thenReturn(Mono.just(new CursorPage<>(List.of(todo), "cursor-pencarian")));
+                var result = todoController.getAllTodos(userId, "Belajar", null, null).block();
+                assert (result.getBody().getStatus().equals("success"));
+                assert (result.getBody().getData().get("todos").equals(List.of(todo)));
+                assert (result.getBody().getData().get("nextCursor").equals("cursor-pencarian"));
+            }
+
+            // Tanpa search, halaman terakhir tidak memiliki nextCursor
+            {
+                when(todoService.getTodosPage(userId, "cursor-berikutnya", 1))
+                        .thenReturn(Mono.just(new CursorPage<>(List.of(todo), null)));
+                var result = todoController.getAllTodos(userId, "   ", "cursor-berikutnya", 1).block();
+                assert (result.getBody().getStatus().equals("success"));
+                assert (!result.getBody().getData().containsKey("nextCursor"));
+            }
+
+            // Cursor tidak valid
+            {
+                when(todoService.getTodosPage(userId, "bukan-cursor", null))
+                        .thenReturn(Mono.error(new IllegalArgumentException("Cursor tidak valid")));
+                var result = todoController.getAllTodos(userId, null, "bukan-cursor", null).block();
+                assert (result.getStatusCode().value() == 400);
+                assert (result.getBody().getMessage().equals("Data cursor tidak valid"));
+            }
+        }
+
+        // Menguji method getTodoById
+        {
+            {
+                var result = todoController.getTodoById(null, todoId).block();
+                assert (result.getStatusCode().value() == 403);
+            }
+
+            {
+                when(todoService.getTodoById(userId, todoId)).thenReturn(Mono.just(todo));
+                var result = todoController.getTodoById(userId, todoId).block();
+                assert (result.getBody().getStatus().equals("success"));
+                assert (result.getBody().getData().get("todo").getId().equals(todoId));
+            }
+
+            {
+                when(todoService.getTodoById(userId, nonexistentTodoId)).thenReturn(Mono.empty());
+                var result = todoController.getTodoById(userId, nonexistentTodoId).block();
+                assert (result.getStatusCode().value() == 404);
+                assert (result.getBody().getStatus().equals("fail"));
+            }
+        }
+
+        // Menguji method updateTodo
+        {
+            // Data tidak valid
+            {
+                List<Todo> invalidTodos = List.of(
+                        new Todo(userId, null, "Deskripsi valid", false),
+                        new Todo(userId, "", "Deskripsi valid", false),
+                        new Todo(userId, "Judul valid", null, false),
+                        new Todo(userId, "Judul valid", "", false),
+                        new Todo(userId, "Judul valid", "Deskripsi valid", null));
+
+                for (Todo itemTodo : invalidTodos) {
+                    var result = todoController.updateTodo(userId, todoId, itemTodo).block();
+                    assert (result.getStatusCode().is4xxClientError());
+                    assert (result.getBody().getStatus().equals("fail"));
+                }
+            }
+
+            // Pesan validasi isFinished sama dengan aplikasi utama
+            {
+                var result = todoController.updateTodo(userId, todoId,
+                        new Todo(userId, "Judul valid", "Deskripsi valid", null)).block();
+                assert (result.getBody().getMessage().equals("Data isFinished tidak valid"));
+            }
+
+            {
+                var result = todoController.updateTodo(null, todoId, todo).block();
+                assert (result.getStatusCode().value() == 403);
+            }
+
+            // ID tidak ada dan ID ada
+            {
+                when(todoService.updateTodo(userId, nonexistentTodoId, todo.getTitle(), todo.getDescription(), false))
+                        .thenReturn(Mono.just(false));
+                var result = todoController.updateTodo(userId, nonexistentTodoId, todo).block();
+                assert (result.getStatusCode().value() == 404);
+
+                when(todoService.updateTodo(userId, todoId, todo.getTitle(), todo.getDescription(), false))
+                        .thenReturn(Mono.just(true));
+                result = todoController.updateTodo(userId, todoId, todo).block();
+                assert (result.getBody().getStatus().equals("success"));
+            }
+        }
+
+        // Menguji method deleteTodo
+        {
+            {
+                var result = todoController.deleteTodo(null, todoId).block();
+                assert (result.getStatusCode().value() == 403);
+            }
+
+            {
+                when(todoService.deleteTodo(userId, nonexistentTodoId)).thenReturn(Mono.just(false));
+                var result = todoController.deleteTodo(userId, nonexistentTodoId).block();
+                assert (result.getStatusCode().value() == 404);
+
+                when(todoService.deleteTodo(userId, todoId)).thenReturn(Mono.just(true));
+                result = todoController.deleteTodo(userId, todoId).block();
+                assert (result.getBody().getStatus().equals("success"));
+            }
+        }
+    }
+}
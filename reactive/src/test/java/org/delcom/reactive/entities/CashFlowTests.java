@@ -0,0 +1,65 @@
+package org.delcom.reactive.entities;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class CashFlowTests {
+    @Test
+    @DisplayName("Membuat instance dari kelas CashFlow reaktif")
+    void testMembuatInstanceCashFlow() throws Exception {
+        UUID userId = UUID.randomUUID();
+        LocalDateTime date = LocalDateTime.of(2025, 1, 15, 10, 0);
+
+        // CashFlow dari constructor
+        {
+            CashFlow cashFlow = new CashFlow(userId, "INCOME", new BigDecimal("50000"), "Uang saku", date);
+
+            assert (cashFlow.getUserId().equals(userId));
+            assert (cashFlow.getType().equals("INCOME"));
+            assert (cashFlow.getAmount().equals(new BigDecimal("50000")));
+            assert (cashFlow.getDescription().equals("Uang saku"));
+            assert (cashFlow.getDate().equals(date));
+        }
+
+        // CashFlow dengan nilai default
+        {
+            CashFlow cashFlow = new CashFlow();
+
+            assert (cashFlow.getId() == null);
+            assert (cashFlow.getUserId() == null);
+            assert (cashFlow.getType() == null);
+            assert (cashFlow.getAmount() == null);
+            assert (cashFlow.getDescription() == null);
+            assert (cashFlow.getDate() == null);
+        }
+
+        // CashFlow dengan setNilai
+        {
+            CashFlow cashFlow = new CashFlow();
+            UUID generatedId = UUID.randomUUID();
+            LocalDateTime timestamp = LocalDateTime.of(2025, 1, 1, 8, 0);
+
+            cashFlow.setId(generatedId);
+            cashFlow.setUserId(userId);
+            cashFlow.setType("EXPENSE");
+            cashFlow.setAmount(new BigDecimal("100000.50"));
+            cashFlow.setDescription("Belanja");
+            cashFlow.setDate(date);
+            cashFlow.setCreatedAt(timestamp);
+            cashFlow.setUpdatedAt(timestamp);
+
+            assert (cashFlow.getId().equals(generatedId));
+            assert (cashFlow.getUserId().equals(userId));
+            assert (cashFlow.getType().equals("EXPENSE"));
+            assert (cashFlow.getAmount().equals(new BigDecimal("100000.50")));
+            assert (cashFlow.getDescription().equals("Belanja"));
+            assert (cashFlow.getDate().equals(date));
+            assert (cashFlow.getCreatedAt().equals(timestamp));
+            assert (cashFlow.getUpdatedAt().equals(timestamp));
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package org.delcom.reactive.entities;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class TodoTests {
+    @Test
+    @DisplayName("Membuat instance dari kelas Todo reaktif")
+    void testMembuatInstanceTodo() throws Exception {
+        UUID userId = UUID.randomUUID();
+
+        // Todo dari constructor
+        {
+            Todo todo = new Todo(userId, "Testing Title", "Testing Description", true);
+
+            assert (todo.getUserId().equals(userId));
+            assert (todo.getTitle().equals("Testing Title"));
+            assert (todo.getDescription().equals("Testing Description"));
+            assert (todo.isFinished() == true);
+        }
+
+        // Todo dengan nilai default
+        {
+            Todo todo = new Todo();
+
+            assert (todo.getId() == null);
+            assert (todo.getUserId() == null);
+            assert (todo.getTitle() == null);
+            assert (todo.getDescription() == null);
+            assert (todo.isFinished() == false);
+            assert (todo.getCover() == null);
+        }
+
+        // Todo dengan setNilai
+        {
+            Todo todo = new Todo();
+            UUID generatedId = UUID.randomUUID();
+            LocalDateTime timestamp = LocalDateTime.of(2025, 1, 1, 8, 0);
+            todo.setId(generatedId);
+            todo.setUserId(userId);
+            todo.setTitle("Set Title");
+            todo.setDescription("Set Description");
+            todo.setFinished(true);
+            todo.setCover("/cover.png");
+            todo.setCreatedAt(timestamp);
+            todo.setUpdatedAt(timestamp);
+
+            assert (todo.getId().equals(generatedId));
+            assert (todo.getUserId().equals(userId));
+            assert (todo.getTitle().equals("Set Title"));
+            assert (todo.getDescription().equals("Set Description"));
+            assert (todo.isFinished() == true);
+            assert (todo.getCover().equals("/cover.png"));
+            assert (todo.getCreatedAt().equals(timestamp));
+            assert (todo.getUpdatedAt().equals(timestamp));
+        }
+    }
+}
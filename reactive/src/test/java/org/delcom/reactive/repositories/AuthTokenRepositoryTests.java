@@ -0,0 +1,52 @@
+package org.delcom.reactive.repositories;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.UUID;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.RowsFetchSpec;
+
+import io.r2dbc.spi.Readable;
+import reactor.core.publisher.Mono;
+
+public class AuthTokenRepositoryTests {
+    @Test
+    @DisplayName("Pengujian untuk repository R2DBC AuthToken")
+    void testAuthTokenRepository() throws Exception {
+        UUID userId = UUID.randomUUID();
+
+        Readable row = Mockito.mock(Readable.class);
+        when(row.get("found", Boolean.class)).thenReturn(true);
+
+        DatabaseClient databaseClient = Mockito.mock(DatabaseClient.class);
+        DatabaseClient.GenericExecuteSpec spec = Mockito.mock(DatabaseClient.GenericExecuteSpec.class,
+                Mockito.RETURNS_SELF);
+        when(databaseClient.sql(anyString())).thenReturn(spec);
+        doAnswer(invocation -> {
+            Function<Readable, Object> mapper = invocation.getArgument(0);
+            RowsFetchSpec<Object> rows = Mockito.mock();
+            when(rows.one()).thenReturn(Mono.just(mapper.apply(row)));
+            return rows;
+        }).when(spec).map(Mockito.<Function<Readable, Object>>any());
+
+        AuthTokenRepository repository = new AuthTokenRepository(databaseClient);
+
+        // Token dicari berdasarkan user dan digest token
+        {
+            assertEquals(true, repository.existsUserToken(userId, "hash-token").block());
+            verify(databaseClient).sql(contains("FROM auth_tokens"));
+            verify(spec).bind("userId", userId);
+            verify(spec).bind("tokenHash", "hash-token");
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package org.delcom.reactive.repositories;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.UUID;
+
+import org.delcom.app.utils.CacheInvalidation;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import reactor.core.publisher.Mono;
+
+public class CacheInvalidationRepositoryTests {
+    @Test
+    @DisplayName("Pengujian untuk repository notifikasi invalidasi cache")
+    void testCacheInvalidationRepository() throws Exception {
+        UUID userId = UUID.randomUUID();
+        UUID todoId = UUID.randomUUID();
+
+        DatabaseClient databaseClient = Mockito.mock(DatabaseClient.class);
+        DatabaseClient.GenericExecuteSpec spec = Mockito.mock(DatabaseClient.GenericExecuteSpec.class,
+                Mockito.RETURNS_SELF);
+        when(databaseClient.sql(anyString())).thenReturn(spec);
+        when(spec.then()).thenReturn(Mono.empty());
+
+        CacheInvalidationRepository repository = new CacheInvalidationRepository(databaseClient);
+
+        // Pesan dikirim lewat pg_notify pada channel invalidasi cache
+        {
+            repository.notifyChange(CacheInvalidation.TODO, userId, todoId).block();
+            verify(databaseClient).sql("SELECT pg_notify('" + CacheInvalidation.CHANNEL + "', :payload)");
+            verify(spec).bind("payload", new CacheInvalidation(CacheInvalidation.TODO, userId, todoId).encode());
+        }
+    }
+}
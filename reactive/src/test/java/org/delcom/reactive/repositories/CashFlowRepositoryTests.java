@@ -0,0 +1,139 @@
+package org.delcom.reactive.repositories;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+
+import org.delcom.app.utils.KeysetCursor;
+import org.delcom.reactive.entities.CashFlow;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.FetchSpec;
+import org.springframework.r2dbc.core.RowsFetchSpec;
+
+import io.r2dbc.spi.Readable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public class CashFlowRepositoryTests {
+    @Test
+    @DisplayName("Pengujian untuk repository R2DBC CashFlow")
+    void testCashFlowRepository() throws Exception {
+        UUID userId = UUID.randomUUID();
+        UUID cashFlowId = UUID.randomUUID();
+        LocalDateTime date = LocalDateTime.of(2025, 1, 15, 10, 0);
+        LocalDateTime now = LocalDateTime.of(2025, 1, 16, 8, 0);
+
+        // Satu baris hasil query
+        Readable row = Mockito.mock(Readable.class);
+        when(row.get("id", UUID.class)).thenReturn(cashFlowId);
+        when(row.get("user_id", UUID.class)).thenReturn(userId);
+        when(row.get("type", String.class)).thenReturn("INCOME");
+        when(row.get("amount", BigDecimal.class)).thenReturn(new BigDecimal("1500.50"));
+        when(row.get("description", String.class)).thenReturn("Gaji");
+        when(row.get("date", LocalDateTime.class)).thenReturn(date);
+        when(row.get("created_at", LocalDateTime.class)).thenReturn(now);
+        when(row.get("updated_at", LocalDateTime.class)).thenReturn(now.plusHours(1));
+
+        // DatabaseClient memetakan baris dengan fungsi milik repository
+        DatabaseClient databaseClient = Mockito.mock(DatabaseClient.class);
+        DatabaseClient.GenericExecuteSpec spec = Mockito.mock(DatabaseClient.GenericExecuteSpec.class,
+                Mockito.RETURNS_SELF);
+        FetchSpec<Map<String, Object>> fetch = Mockito.mock();
+        when(databaseClient.sql(anyString())).thenReturn(spec);
+        when(spec.then()).thenReturn(Mono.empty());
+        when(spec.fetch()).thenReturn(fetch);
+        when(fetch.rowsUpdated()).thenReturn(Mono.just(1L));
+        doAnswer(invocation -> rowsOf(invocation.getArgument(0), row)).when(spec)
+                .map(Mockito.<Function<Readable, Object>>any());
+
+        CashFlowRepository repository = new CashFlowRepository(databaseClient);
+
+        // Menguji insert
+        {
+            CashFlow cashFlow = new CashFlow(userId, "EXPENSE", new BigDecimal("20.25"), "Makan", date);
+            cashFlow.setId(cashFlowId);
+            cashFlow.setCreatedAt(now);
+            cashFlow.setUpdatedAt(now);
+            repository.insert(cashFlow).block();
+            verify(databaseClient).sql(contains("INSERT INTO cash_flows"));
+            verify(spec).bind("amount", new BigDecimal("20.25"));
+        }
+
+        // Menguji findByUserIdAndId, semua kolom dipetakan
+        {
+            CashFlow found = repository.findByUserIdAndId(userId, cashFlowId).block();
+            assertEquals(cashFlowId, found.getId());
+            assertEquals(userId, found.getUserId());
+            assertEquals("INCOME", found.getType());
+            assertEquals(new BigDecimal("1500.50"), found.getAmount());
+            assertEquals("Gaji", found.getDescription());
+            assertEquals(date, found.getDate());
+            assertEquals(now, found.getCreatedAt());
+            assertEquals(now.plusHours(1), found.getUpdatedAt());
+        }
+
+        // Menguji findPage untuk setiap urutan, tanpa dan dengan cursor
+        {
+            LocalDateTime from = LocalDateTime.of(2025, 1, 1, 0, 0);
+            LocalDateTime to = LocalDateTime.of(2025, 1, 31, 0, 0);
+            LocalDateTime position = date.minusDays(1);
+            KeysetCursor after = new KeysetCursor(position, cashFlowId);
+
+            for (boolean ascending : new boolean[] { true, false }) {
+                assertEquals(1, repository.findPage(userId, List.of("INCOME"), from, to, ascending, null, 21)
+                        .collectList().block().size());
+                repository.findPage(userId, List.of("INCOME"), from, to, ascending, after, 21).blockLast();
+            }
+            verify(databaseClient, Mockito.times(2)).sql(contains("ORDER BY date ASC, id ASC LIMIT"));
+            verify(databaseClient, Mockito.times(2)).sql(contains("ORDER BY date DESC, id DESC LIMIT"));
+            verify(databaseClient).sql(contains("(date > :afterDate"));
+            verify(databaseClient).sql(contains("(date < :afterDate"));
+            verify(spec, Mockito.times(2)).bind("afterDate", position);
+        }
+
+        // Menguji searchByKeyword
+        {
+            assertEquals(1, repository.searchByKeyword(userId, "%gaji%", 21, 0).collectList().block().size());
+            verify(spec).bind("pattern", "%gaji%");
+        }
+
+        // Menguji update dan delete mengembalikan nilai lama
+        {
+            CashFlowRepository.PreviousValues expected = new CashFlowRepository.PreviousValues("INCOME",
+                    new BigDecimal("1500.50"), date);
+            assertEquals(expected, repository.updateByUserIdAndId(userId, cashFlowId, "EXPENSE", BigDecimal.TEN,
+                    "Koreksi", date, now).block());
+            assertEquals(expected, repository.deleteByUserIdAndId(userId, cashFlowId).block());
+        }
+
+        // Menguji addSummaryDelta, ringkasan bulanan dan saldo total diperbarui
+        {
+            repository.addSummaryDelta(userId, LocalDate.of(2025, 1, 1), 150050, 0).block();
+            verify(databaseClient).sql(contains("INSERT INTO cash_flow_monthly_summaries"));
+            verify(databaseClient).sql(contains("INSERT INTO cash_flow_balances"));
+            verify(fetch, Mockito.times(2)).rowsUpdated();
+        }
+    }
+
+    private static RowsFetchSpec<Object> rowsOf(Function<Readable, Object> mapper, Readable row) {
+        Object mapped = mapper.apply(row);
+        RowsFetchSpec<Object> rows = Mockito.mock();
+        when(rows.one()).thenReturn(Mono.just(mapped));
+        when(rows.all()).thenReturn(Flux.just(mapped));
+        return rows;
+    }
+}
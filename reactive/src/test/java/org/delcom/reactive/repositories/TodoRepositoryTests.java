@@ -0,0 +1,118 @@
+package org.delcom.reactive.repositories;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+
+import org.delcom.app.utils.KeysetCursor;
+import org.delcom.reactive.entities.Todo;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.FetchSpec;
+import org.springframework.r2dbc.core.RowsFetchSpec;
+
+import io.r2dbc.spi.Readable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public class TodoRepositoryTests {
+    @Test
+    @DisplayName("Pengujian untuk repository R2DBC Todo")
+    void testTodoRepository() throws Exception {
+        UUID userId = UUID.randomUUID();
+        UUID todoId = UUID.randomUUID();
+        LocalDateTime now = LocalDateTime.of(2025, 1, 1, 8, 0);
+
+        // Satu baris hasil query
+        Readable row = Mockito.mock(Readable.class);
+        when(row.get("id", UUID.class)).thenReturn(todoId);
+        when(row.get("user_id", UUID.class)).thenReturn(userId);
+        when(row.get("title", String.class)).thenReturn("Belajar R2DBC");
+        when(row.get("description", String.class)).thenReturn("Belajar DatabaseClient");
+        when(row.get("is_finished", Boolean.class)).thenReturn(true);
+        when(row.get("cover", String.class)).thenReturn("/cover.png");
+        when(row.get("created_at", LocalDateTime.class)).thenReturn(now);
+        when(row.get("updated_at", LocalDateTime.class)).thenReturn(now.plusHours(1));
+
+        // DatabaseClient memetakan baris dengan fungsi milik repository
+        DatabaseClient databaseClient = Mockito.mock(DatabaseClient.class);
+        DatabaseClient.GenericExecuteSpec spec = Mockito.mock(DatabaseClient.GenericExecuteSpec.class,
+                Mockito.RETURNS_SELF);
+        FetchSpec<Map<String, Object>> fetch = Mockito.mock();
+        when(databaseClient.sql(anyString())).thenReturn(spec);
+        when(spec.then()).thenReturn(Mono.empty());
+        when(spec.fetch()).thenReturn(fetch);
+        when(fetch.rowsUpdated()).thenReturn(Mono.just(1L));
+        doAnswer(invocation -> rowsOf(invocation.getArgument(0), row)).when(spec)
+                .map(Mockito.<Function<Readable, Object>>any());
+
+        TodoRepository repository = new TodoRepository(databaseClient);
+
+        // Menguji insert
+        {
+            Todo todo = new Todo(userId, "Judul", "Deskripsi", false);
+            todo.setId(todoId);
+            todo.setCreatedAt(now);
+            todo.setUpdatedAt(now);
+            repository.insert(todo).block();
+            verify(databaseClient).sql(contains("INSERT INTO todos"));
+            verify(spec).bind("id", todoId);
+            verify(spec).bind("isFinished", false);
+        }
+
+        // Menguji findByUserIdAndId, semua kolom dipetakan
+        {
+            Todo found = repository.findByUserIdAndId(userId, todoId).block();
+            assertEquals(todoId, found.getId());
+            assertEquals(userId, found.getUserId());
+            assertEquals("Belajar R2DBC", found.getTitle());
+            assertEquals("Belajar DatabaseClient", found.getDescription());
+            assertEquals(true, found.isFinished());
+            assertEquals("/cover.png", found.getCover());
+            assertEquals(now, found.getCreatedAt());
+            assertEquals(now.plusHours(1), found.getUpdatedAt());
+        }
+
+        // Menguji findPage tanpa dan dengan cursor
+        {
+            assertEquals(1, repository.findPage(userId, null, 21).collectList().block().size());
+
+            LocalDateTime position = now.minusDays(1);
+            repository.findPage(userId, new KeysetCursor(position, todoId), 21).blockLast();
+            verify(databaseClient).sql(contains("created_at < :createdAt"));
+            verify(spec).bind("createdAt", position);
+        }
+
+        // Menguji searchByKeyword
+        {
+            assertEquals(1, repository.searchByKeyword(userId, "%belajar%", 21, 0).collectList().block().size());
+            verify(spec).bind("pattern", "%belajar%");
+        }
+
+        // Menguji update dan delete mengembalikan jumlah baris
+        {
+            assertEquals(1L, repository.updateByUserIdAndId(userId, todoId, "Baru", "Deskripsi", true, now).block());
+            assertEquals(1L, repository.deleteByUserIdAndId(userId, todoId).block());
+            verify(databaseClient).sql(contains("UPDATE todos"));
+            verify(databaseClient).sql(contains("DELETE FROM todos"));
+        }
+    }
+
+    private static RowsFetchSpec<Object> rowsOf(Function<Readable, Object> mapper, Readable row) {
+        Object mapped = mapper.apply(row);
+        RowsFetchSpec<Object> rows = Mockito.mock();
+        when(rows.one()).thenReturn(Mono.just(mapped));
+        when(rows.all()).thenReturn(Flux.just(mapped));
+        return rows;
+    }
+}
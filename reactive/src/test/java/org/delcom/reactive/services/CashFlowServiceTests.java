@@ -0,0 +1,153 @@
+package org.delcom.reactive.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.delcom.app.utils.CacheInvalidation;
+import org.delcom.app.utils.CursorPage;
+import org.delcom.app.utils.KeysetCursor;
+import org.delcom.app.utils.OffsetCursor;
+import org.delcom.reactive.entities.CashFlow;
+import org.delcom.reactive.repositories.CacheInvalidationRepository;
+import org.delcom.reactive.repositories.CashFlowRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public class CashFlowServiceTests {
+    @Test
+    @DisplayName("Pengujian untuk service CashFlow reaktif")
+    void testCashFlowService() throws Exception {
+        UUID userId = UUID.randomUUID();
+        UUID cashFlowId = UUID.randomUUID();
+        LocalDateTime date = LocalDateTime.of(2025, 1, 15, 10, 0);
+        LocalDate january = LocalDate.of(2025, 1, 1);
+
+        CashFlow cashFlow = new CashFlow(userId, "INCOME", new BigDecimal("1500.50"), "Gaji", date);
+        cashFlow.setId(cashFlowId);
+
+        CashFlowRepository cashFlowRepository = Mockito.mock(CashFlowRepository.class);
+        when(cashFlowRepository.addSummaryDelta(any(UUID.class), any(LocalDate.class), Mockito.anyLong(),
+                Mockito.anyLong())).thenReturn(Mono.empty());
+        CacheInvalidationRepository cacheInvalidationRepository = Mockito.mock(CacheInvalidationRepository.class);
+        when(cacheInvalidationRepository.notifyChange(any(), any(), any())).thenReturn(Mono.empty());
+        CashFlowService cashFlowService = new CashFlowService(cashFlowRepository, cacheInvalidationRepository);
+
+        // Menguji createCashFlow, ringkasan ditambah dalam satuan terkecil
+        {
+            when(cashFlowRepository.insert(any(CashFlow.class))).thenReturn(Mono.empty());
+            CashFlow created = cashFlowService.createCashFlow(userId, "EXPENSE", new BigDecimal("20.25"), "Makan",
+                    date).block();
+            assertEquals(7, created.getId().version());
+            assertEquals(created.getCreatedAt(), created.getUpdatedAt());
+            verify(cashFlowRepository).insert(created);
+            verify(cashFlowRepository).addSummaryDelta(userId, january, 0, 2025);
+            verify(cacheInvalidationRepository).notifyChange(CacheInvalidation.CASH_FLOW, userId, created.getId());
+        }
+
+        // Menguji searchCashFlows
+        {
+            when(cashFlowRepository.searchByKeyword(userId, "%gaji%", CashFlowService.DEFAULT_PAGE_SIZE + 1, 0))
+                    .thenReturn(Flux.just(cashFlow));
+            CursorPage<CashFlow> page = cashFlowService.searchCashFlows(userId, " gaji ", null, null).block();
+            assertEquals(List.of(cashFlow), page.items());
+
+            // Cursor kosong berarti halaman pertama, limit tidak positif memakai ukuran default
+            page = cashFlowService.searchCashFlows(userId, "gaji", " ", -1).block();
+            assertEquals(List.of(cashFlow), page.items());
+
+            when(cashFlowRepository.searchByKeyword(userId, "%gaji%", 3, 20)).thenReturn(Flux.just(cashFlow,
+                    cashFlow, cashFlow));
+            page = cashFlowService.searchCashFlows(userId, "gaji", new OffsetCursor(20).encode(), 2).block();
+            assertEquals(new OffsetCursor(22).encode(), page.nextCursor());
+
+            Mono<CursorPage<CashFlow>> invalid = cashFlowService.searchCashFlows(userId, "gaji", "bukan-cursor", null);
+            assertThrows(IllegalArgumentException.class, invalid::block);
+            Mono<CursorPage<CashFlow>> tooFar = cashFlowService.searchCashFlows(userId, "gaji",
+                    new OffsetCursor(CashFlowService.MAX_SEARCH_RESULTS).encode(), null);
+            assertThrows(IllegalArgumentException.class, tooFar::block);
+        }
+
+        // Menguji getCashFlowsPage
+        {
+            // Tanpa filter memakai semua tipe dan rentang tanggal penuh
+            when(cashFlowRepository.findPage(eq(userId), eq(CashFlowService.TYPES), any(LocalDateTime.class),
+                    any(LocalDateTime.class), eq(false), eq(null), eq(2))).thenReturn(Flux.just(cashFlow, cashFlow));
+            CursorPage<CashFlow> page = cashFlowService.getCashFlowsPage(userId, null, null, null, false, null, 1)
+                    .block();
+            assertEquals(1, page.items().size());
+            assertEquals(new KeysetCursor(date, cashFlowId).encode(), page.nextCursor());
+            assertEquals(1, cashFlowService.getCashFlowsPage(userId, null, null, null, false, " ", 1).block()
+                    .items().size());
+
+            // Dengan filter dan cursor
+            KeysetCursor after = new KeysetCursor(date, cashFlowId);
+            when(cashFlowRepository.findPage(userId, List.of("INCOME"), date, date, true, after,
+                    CashFlowService.MAX_PAGE_SIZE + 1)).thenReturn(Flux.empty());
+            page = cashFlowService.getCashFlowsPage(userId, "INCOME", date, date, true, after.encode(), 1000).block();
+            assertEquals(List.of(), page.items());
+            assertEquals(null, page.nextCursor());
+
+            Mono<CursorPage<CashFlow>> invalid = cashFlowService.getCashFlowsPage(userId, null, null, null, true,
+                    "bukan-cursor", null);
+            assertThrows(IllegalArgumentException.class, invalid::block);
+        }
+
+        // Menguji getCashFlowById
+        {
+            when(cashFlowRepository.findByUserIdAndId(userId, cashFlowId)).thenReturn(Mono.just(cashFlow));
+            assertEquals(cashFlow, cashFlowService.getCashFlowById(userId, cashFlowId).block());
+        }
+
+        // Menguji updateCashFlow, nilai lama dikurangi lalu nilai baru ditambahkan
+        {
+            CashFlowRepository.PreviousValues previous = new CashFlowRepository.PreviousValues("INCOME",
+                    new BigDecimal("1500.50"), date);
+            when(cashFlowRepository.updateByUserIdAndId(eq(userId), eq(cashFlowId), eq("EXPENSE"),
+                    eq(new BigDecimal("10.00")), eq("Koreksi"), eq(date.plusMonths(1)), any(LocalDateTime.class)))
+                    .thenReturn(Mono.just(previous));
+            assertEquals(true, cashFlowService.updateCashFlow(userId, cashFlowId, "EXPENSE", new BigDecimal("10.00"),
+                    "Koreksi", date.plusMonths(1)).block());
+            verify(cashFlowRepository).addSummaryDelta(userId, january, -150050, 0);
+            verify(cashFlowRepository).addSummaryDelta(userId, january.plusMonths(1), 0, 1000);
+
+            UUID nonexistentId = UUID.randomUUID();
+            when(cashFlowRepository.updateByUserIdAndId(eq(userId), eq(nonexistentId), any(), any(), any(), any(),
+                    any())).thenReturn(Mono.empty());
+            assertEquals(false, cashFlowService.updateCashFlow(userId, nonexistentId, "EXPENSE", BigDecimal.ONE,
+                    "Koreksi", date).block());
+        }
+
+        // Menguji deleteCashFlow
+        {
+            CashFlowRepository.PreviousValues previous = new CashFlowRepository.PreviousValues("EXPENSE",
+                    new BigDecimal("99.99"), date);
+            when(cashFlowRepository.deleteByUserIdAndId(userId, cashFlowId)).thenReturn(Mono.just(previous));
+            assertEquals(true, cashFlowService.deleteCashFlow(userId, cashFlowId).block());
+            verify(cashFlowRepository).addSummaryDelta(userId, january, 0, -9999);
+
+            UUID nonexistentId = UUID.randomUUID();
+            when(cashFlowRepository.deleteByUserIdAndId(userId, nonexistentId)).thenReturn(Mono.empty());
+            assertEquals(false, cashFlowService.deleteCashFlow(userId, nonexistentId).block());
+
+            // Aplikasi utama diberi tahu sekali untuk update dan sekali untuk delete
+            verify(cacheInvalidationRepository, Mockito.times(2)).notifyChange(CacheInvalidation.CASH_FLOW, userId,
+                    cashFlowId);
+            verify(cacheInvalidationRepository, Mockito.never()).notifyChange(CacheInvalidation.CASH_FLOW, userId,
+                    nonexistentId);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package org.delcom.reactive.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.delcom.app.utils.CacheInvalidation;
+import org.delcom.app.utils.CursorPage;
+import org.delcom.app.utils.KeysetCursor;
+import org.delcom.app.utils.OffsetCursor;
+import org.delcom.reactive.entities.Todo;
+import org.delcom.reactive.repositories.CacheInvalidationRepository;
+import org.delcom.reactive.repositories.TodoRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public class TodoServiceTests {
+    @Test
+    @DisplayName("Pengujian untuk service Todo reaktif")
+    void testTodoService() throws Exception {
+        UUID userId = UUID.randomUUID();
+        UUID todoId = UUID.randomUUID();
+        LocalDateTime createdAt = LocalDateTime.of(2025, 1, 15, 10, 0);
+
+        Todo todo = new Todo(userId, "Belajar WebFlux", "Belajar R2DBC", false);
+        todo.setId(todoId);
+        todo.setCreatedAt(createdAt);
+
+        TodoRepository todoRepository = Mockito.mock(TodoRepository.class);
+        CacheInvalidationRepository cacheInvalidationRepository = Mockito.mock(CacheInvalidationRepository.class);
+        when(cacheInvalidationRepository.notifyChange(any(), any(), any())).thenReturn(Mono.empty());
+        TodoService todoService = new TodoService(todoRepository, cacheInvalidationRepository);
+
+        // Menguji createTodo, id dan timestamp diisi sebelum insert
+        {
+            when(todoRepository.insert(any(Todo.class))).thenReturn(Mono.empty());
+            Todo created = todoService.createTodo(userId, "Judul", "Deskripsi").block();
+            assertEquals(7, created.getId().version());
+            assertEquals(userId, created.getUserId());
+            assertEquals(false, created.isFinished());
+            assertEquals(created.getCreatedAt(), created.getUpdatedAt());
+            verify(todoRepository).insert(created);
+            verify(cacheInvalidationRepository).notifyChange(CacheInvalidation.TODO, userId, created.getId());
+        }
+
+        // Menguji searchTodos
+        {
+            when(todoRepository.searchByKeyword(userId, "%belajar%", TodoService.DEFAULT_PAGE_SIZE + 1, 0))
+                    .thenReturn(Flux.just(todo));
+            CursorPage<Todo> page = todoService.searchTodos(userId, " belajar ", null, null).block();
+            assertEquals(List.of(todo), page.items());
+            assertEquals(null, page.nextCursor());
+
+            // Cursor kosong berarti halaman pertama, limit tidak positif memakai ukuran default
+            page = todoService.searchTodos(userId, "belajar", " ", 0).block();
+            assertEquals(List.of(todo), page.items());
+
+            // Halaman berikutnya dibatasi MAX_SEARCH_RESULTS
+            int offset = TodoService.MAX_SEARCH_RESULTS - 2;
+            when(todoRepository.searchByKeyword(userId, "%belajar%", 3, offset)).thenReturn(Flux.just(todo, todo, todo));
+            page = todoService.searchTodos(userId, "belajar", new OffsetCursor(offset).encode(), 50).block();
+            assertEquals(2, page.items().size());
+            assertEquals(null, page.nextCursor());
+
+            // Cursor tidak valid menjadi error, bukan exception saat method dipanggil
+            Mono<CursorPage<Todo>> invalid = todoService.searchTodos(userId, "belajar", "bukan-cursor", null);
+            assertThrows(IllegalArgumentException.class, invalid::block);
+            Mono<CursorPage<Todo>> tooFar = todoService.searchTodos(userId, "belajar",
+                    new OffsetCursor(TodoService.MAX_SEARCH_RESULTS).encode(), null);
+            assertThrows(IllegalArgumentException.class, tooFar::block);
+        }
+
+        // Menguji getTodosPage
+        {
+            when(todoRepository.findPage(userId, null, 2)).thenReturn(Flux.just(todo, todo));
+            CursorPage<Todo> page = todoService.getTodosPage(userId, " ", 1).block();
+            assertEquals(1, page.items().size());
+            assertEquals(new KeysetCursor(createdAt, todoId).encode(), page.nextCursor());
+            assertEquals(1, todoService.getTodosPage(userId, null, 1).block().items().size());
+
+            KeysetCursor after = new KeysetCursor(createdAt, todoId);
+            when(todoRepository.findPage(userId, after, TodoService.MAX_PAGE_SIZE + 1)).thenReturn(Flux.empty());
+            page = todoService.getTodosPage(userId, after.encode(), 1000).block();
+            assertEquals(List.of(), page.items());
+
+            Mono<CursorPage<Todo>> invalid = todoService.getTodosPage(userId, "bukan-cursor", null);
+            assertThrows(IllegalArgumentException.class, invalid::block);
+        }
+
+        // Menguji getTodoById
+        {
+            when(todoRepository.findByUserIdAndId(userId, todoId)).thenReturn(Mono.just(todo));
+            assertEquals(todo, todoService.getTodoById(userId, todoId).block());
+        }
+
+        // Menguji updateTodo dan deleteTodo
+        {
+            when(todoRepository.updateByUserIdAndId(eq(userId), eq(todoId), eq("Baru"), eq("Deskripsi"), eq(true),
+                    any(LocalDateTime.class))).thenReturn(Mono.just(1L));
+            assertEquals(true, todoService.updateTodo(userId, todoId, "Baru", "Deskripsi", true).block());
+
+            when(todoRepository.updateByUserIdAndId(eq(userId), eq(todoId), eq("Lain"), eq("Deskripsi"), eq(true),
+                    any(LocalDateTime.class))).thenReturn(Mono.just(0L));
+            assertEquals(false, todoService.updateTodo(userId, todoId, "Lain", "Deskripsi", true).block());
+
+            when(todoRepository.deleteByUserIdAndId(userId, todoId)).thenReturn(Mono.just(1L), Mono.just(0L));
+            assertEquals(true, todoService.deleteTodo(userId, todoId).block());
+            assertEquals(false, todoService.deleteTodo(userId, todoId).block());
+
+            // Aplikasi utama hanya diberi tahu jika todo benar-benar berubah
+            verify(cacheInvalidationRepository, Mockito.times(2)).notifyChange(CacheInvalidation.TODO, userId,
+                    todoId);
+        }
+    }
+}